@@ -0,0 +1,141 @@
+package org.obidan;
+
+import java.util.Map;
+
+import org.obidan.enumeration.CardCodeEvaluator;
+import org.obidan.enumeration.EnumerationResult;
+import org.obidan.enumeration.ExhaustiveEnumerator;
+import org.obidan.enumeration.VerificationResult;
+import org.obidan.type.HandRank;
+import org.obidan.utility.ArgumentExtractor;
+
+/**
+ * Enumerates every hand of five or seven cards with each of a number of
+ * evaluators, printing the number of hands of each {@link HandRank} and the
+ * number of hands evaluated per second, and then verifies every evaluator
+ * against the first (reference) evaluator.
+ * 
+ * @author Obi-Dan
+ */
+public class ExhaustiveEnumerationRunner {
+
+	public static final String ENUMERATE_OPTION = "enumerate";
+
+	private static final int DEFAULT_NUMBER_OF_CARDS = 5;
+	private static final int MINIMUM_NUMBER_OF_CARDS = 5;
+	private static final int MAXIMUM_NUMBER_OF_CARDS = 7;
+
+	private final ArgumentExtractor argumentExtractor;
+	private final ExhaustiveEnumerator exhaustiveEnumerator;
+	private final Map<String, CardCodeEvaluator> cardCodeEvaluatorsByName;
+
+	/**
+	 * Constructs an {@link ExhaustiveEnumerationRunner}.
+	 * 
+	 * @param argumentExtractor        An {@link ArgumentExtractor}. This must never
+	 *                                 be null.
+	 * @param exhaustiveEnumerator     An {@link ExhaustiveEnumerator}. This must
+	 *                                 never be null.
+	 * @param cardCodeEvaluatorsByName The {@link Map} of {@link CardCodeEvaluator}s
+	 *                                 by display name, in the order they are run.
+	 *                                 The first is the reference evaluator the
+	 *                                 others are verified against. This must never
+	 *                                 be null, empty, or contain null values.
+	 */
+	public ExhaustiveEnumerationRunner(final ArgumentExtractor argumentExtractor,
+			final ExhaustiveEnumerator exhaustiveEnumerator,
+			final Map<String, CardCodeEvaluator> cardCodeEvaluatorsByName) {
+
+		this.argumentExtractor = argumentExtractor;
+		this.exhaustiveEnumerator = exhaustiveEnumerator;
+		this.cardCodeEvaluatorsByName = cardCodeEvaluatorsByName;
+	}
+
+	/**
+	 * Enumerates every hand of the number of cards given as the value of the
+	 * {@value #ENUMERATE_OPTION} option, which is five if no value is given.
+	 * 
+	 * @param arguments The array of arguments. This may be null and can contain
+	 *                  zero or more null, empty, or blank strings.
+	 */
+	public void run(final String[] arguments) {
+
+		final String numberOfCardsOption = this.argumentExtractor.getOption(arguments, ENUMERATE_OPTION);
+		int numberOfCards = DEFAULT_NUMBER_OF_CARDS;
+		if (numberOfCardsOption != null && !numberOfCardsOption.isEmpty()) {
+			try {
+
+				numberOfCards = Integer.parseInt(numberOfCardsOption);
+			} catch (final NumberFormatException e) {
+
+				numberOfCards = -1;
+			}
+		}
+
+		if (numberOfCards < MINIMUM_NUMBER_OF_CARDS || numberOfCards > MAXIMUM_NUMBER_OF_CARDS) {
+
+			System.out.println(new StringBuilder("The number of cards to enumerate must be 5, 6, or 7 (--")
+					.append(ENUMERATE_OPTION).append("=").append(numberOfCardsOption).append(").").toString());
+			return;
+		}
+
+		String referenceName = null;
+		for (final Map.Entry<String, CardCodeEvaluator> entry : this.cardCodeEvaluatorsByName.entrySet()) {
+			printEnumerationResult(entry.getKey(),
+					this.exhaustiveEnumerator.enumerate(numberOfCards, entry.getValue()));
+
+			if (referenceName == null) {
+				referenceName = entry.getKey();
+				continue;
+			}
+
+			printVerificationResult(referenceName, entry.getKey(), this.exhaustiveEnumerator.verify(numberOfCards,
+					this.cardCodeEvaluatorsByName.get(referenceName), entry.getValue()));
+		}
+	}
+
+	/**
+	 * Prints the number of hands of each {@link HandRank} and the throughput of an
+	 * evaluator.
+	 * 
+	 * @param name              The display name of the evaluator. This must never
+	 *                          be null.
+	 * @param enumerationResult The {@link EnumerationResult}. This must never be
+	 *                          null.
+	 */
+	private void printEnumerationResult(final String name, final EnumerationResult enumerationResult) {
+
+		System.out.println(new StringBuilder(name).append(": ").append(enumerationResult.getHandCount())
+				.append(" hands of ").append(enumerationResult.getNumberOfCards()).append(" cards in ")
+				.append(enumerationResult.getElapsedNanoseconds() / 1_000_000).append(" ms (")
+				.append(Math.round(enumerationResult.getHandsPerSecond())).append(" hands/sec)").toString());
+
+		for (final HandRank handRank : HandRank.values()) {
+			System.out.println(String.format("  %-16s %12d", handRank.getDisplay(),
+					enumerationResult.getHandCount(handRank)));
+		}
+	}
+
+	/**
+	 * Prints the outcome of verifying an evaluator against the reference
+	 * evaluator.
+	 * 
+	 * @param referenceName      The display name of the reference evaluator. This
+	 *                           must never be null.
+	 * @param candidateName      The display name of the verified evaluator. This
+	 *                           must never be null.
+	 * @param verificationResult The {@link VerificationResult}. This must never be
+	 *                           null.
+	 */
+	private void printVerificationResult(final String referenceName, final String candidateName,
+			final VerificationResult verificationResult) {
+
+		System.out.println(new StringBuilder(candidateName).append(" agrees with ").append(referenceName)
+				.append(" on ").append(verificationResult.getHandCount() - verificationResult.getMismatchCount())
+				.append(" of ").append(verificationResult.getHandCount()).append(" hands").toString());
+
+		for (final String sampleMismatch : verificationResult.getSampleMismatches()) {
+			System.out.println("  mismatch " + sampleMismatch);
+		}
+	}
+}
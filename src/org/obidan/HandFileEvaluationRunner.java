@@ -0,0 +1,160 @@
+package org.obidan;
+
+import java.io.IOException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.obidan.batch.HandFileEvaluator;
+import org.obidan.batch.HandFileFormat;
+import org.obidan.batch.HandFileResult;
+import org.obidan.type.HandRank;
+import org.obidan.utility.ArgumentExtractor;
+
+/**
+ * Evaluates every hand of a file of hands given as the first argument, writing
+ * the strength and category of each hand to an output file and printing the
+ * number of hands of each {@link HandRank} and the throughput.
+ *
+ * @author Obi-Dan
+ */
+public class HandFileEvaluationRunner {
+
+	public static final String EVALUATE_HANDS_OPTION = "evaluate-hands";
+	public static final String OUTPUT_OPTION = "output";
+
+	private static final String DEFAULT_OUTPUT_SUFFIX = ".strengths";
+	private static final double BYTES_PER_MEGABYTE = 1024.0 * 1024.0;
+
+	private final ArgumentExtractor argumentExtractor;
+	private final HandFileEvaluator handFileEvaluator;
+
+	/**
+	 * Constructs a {@link HandFileEvaluationRunner}.
+	 *
+	 * @param argumentExtractor An {@link ArgumentExtractor}. This must never be
+	 *                          null.
+	 * @param handFileEvaluator A {@link HandFileEvaluator}. This must never be
+	 *                          null.
+	 */
+	public HandFileEvaluationRunner(final ArgumentExtractor argumentExtractor,
+			final HandFileEvaluator handFileEvaluator) {
+
+		this.argumentExtractor = argumentExtractor;
+		this.handFileEvaluator = handFileEvaluator;
+	}
+
+	/**
+	 * Evaluates every hand of the file given as the first operand, in the
+	 * {@link HandFileFormat} given as the value of the
+	 * {@value #EVALUATE_HANDS_OPTION} option (text if no value is given). The
+	 * output is written to the file given as the value of the
+	 * {@value #OUTPUT_OPTION} option, or to the file of hands with
+	 * {@value #DEFAULT_OUTPUT_SUFFIX} appended.
+	 *
+	 * @param arguments The array of arguments. This may be null and can contain
+	 *                  zero or more null, empty, or blank strings.
+	 */
+	public void run(final String[] arguments) {
+
+		final String fileName = this.argumentExtractor.getFirstOperand(arguments);
+		if (fileName == null) {
+
+			System.out.println("A file of hands must be given as the first argument.");
+			return;
+		}
+
+		final String formatOption = this.argumentExtractor.getOption(arguments, EVALUATE_HANDS_OPTION);
+		HandFileFormat format = HandFileFormat.TEXT;
+		if (formatOption != null && !formatOption.isEmpty()) {
+			try {
+
+				format = HandFileFormat.valueOf(formatOption.trim().toUpperCase());
+			} catch (final IllegalArgumentException e) {
+
+				System.out.println(
+						new StringBuilder("The format of the file of hands must be text, binary, or packed (--")
+								.append(EVALUATE_HANDS_OPTION).append("=").append(formatOption).append(").")
+								.toString());
+				return;
+			}
+		}
+
+		final String outputOption = this.argumentExtractor.getOption(arguments, OUTPUT_OPTION);
+		final String outputFileName = outputOption == null || outputOption.isEmpty()
+				? fileName + DEFAULT_OUTPUT_SUFFIX
+				: outputOption;
+
+		final Path input;
+		try {
+
+			input = Paths.get(fileName);
+		} catch (final InvalidPathException e) {
+
+			System.out.println(new StringBuilder("The given file name \"").append(fileName)
+					.append("\" cannot be found.").toString());
+			return;
+		}
+
+		final Path output;
+		try {
+
+			output = Paths.get(outputFileName);
+		} catch (final InvalidPathException e) {
+
+			System.out.println(new StringBuilder("The output file name \"").append(outputFileName)
+					.append("\" is not valid.").toString());
+			return;
+		}
+
+		final HandFileResult handFileResult;
+		try {
+
+			handFileResult = this.handFileEvaluator.evaluate(input, format, output);
+		} catch (final IllegalArgumentException e) {
+
+			System.out.println(new StringBuilder("The output file \"").append(outputFileName)
+					.append("\" cannot be the given file of hands \"").append(fileName).append("\".").toString());
+			return;
+		} catch (final NoSuchFileException e) {
+
+			if (output.toString().equals(e.getFile())) {
+				System.out.println(new StringBuilder("The output file \"").append(outputFileName)
+						.append("\" cannot be created because its directory cannot be found.").toString());
+			} else {
+				System.out.println(new StringBuilder("The given file name \"").append(fileName)
+						.append("\" cannot be found.").toString());
+			}
+			return;
+		} catch (final IOException e) {
+
+			System.out.println(new StringBuilder("An error occurred when attempting to evaluate the given file name \"")
+					.append(fileName).append("\" (").append(e.getMessage()).append(").").toString());
+			return;
+		}
+
+		printHandFileResult(outputFileName, handFileResult);
+	}
+
+	/**
+	 * Prints the number of hands of each {@link HandRank} and the throughput.
+	 *
+	 * @param outputFileName The name of the output file. This must never be null.
+	 * @param handFileResult The {@link HandFileResult}. This must never be null.
+	 */
+	private void printHandFileResult(final String outputFileName, final HandFileResult handFileResult) {
+
+		System.out.println(new StringBuilder().append(handFileResult.getHandCount()).append(" hands (")
+				.append(handFileResult.getInvalidHandCount()).append(" invalid) written to ").append(outputFileName)
+				.append(" in ").append(handFileResult.getElapsedNanoseconds() / 1_000_000).append(" ms (")
+				.append(Math.round(handFileResult.getHandsPerSecond())).append(" hands/sec, ")
+				.append(Math.round(handFileResult.getBytesPerSecond() / BYTES_PER_MEGABYTE)).append(" MB/sec)")
+				.toString());
+
+		for (final HandRank handRank : HandRank.values()) {
+			System.out.println(
+					String.format("  %-16s %12d", handRank.getDisplay(), handFileResult.getHandCount(handRank)));
+		}
+	}
+}
@@ -0,0 +1,188 @@
+package org.obidan;
+
+import java.io.IOException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.obidan.history.GameRecord;
+import org.obidan.history.HandHistoryQuery;
+import org.obidan.history.HandHistoryStore;
+import org.obidan.history.SeatRecord;
+import org.obidan.io.HandOfCardsConverter;
+import org.obidan.object.Player;
+import org.obidan.output.ChannelResultSink;
+import org.obidan.output.ResultSink;
+import org.obidan.type.HandRank;
+import org.obidan.utility.ArgumentExtractor;
+
+/**
+ * Queries the {@link HandHistoryStore} in the directory given as the value of
+ * the {@value #QUERY_HISTORY_OPTION} option and prints every matching game, in
+ * UTF-8.
+ *
+ * @author Obi-Dan
+ */
+public class HandHistoryRunner {
+
+	public static final String QUERY_HISTORY_OPTION = "query-history";
+	public static final String PLAYER_OPTION = "player";
+	public static final String HAND_RANK_OPTION = "hand-rank";
+	public static final String SINCE_OPTION = "since";
+	public static final String UNTIL_OPTION = "until";
+
+	private static final char LINE_SEPARATOR = '\n';
+
+	private final ArgumentExtractor argumentExtractor;
+	private final HandOfCardsConverter handOfCardsConverter;
+
+	/**
+	 * Constructs a {@link HandHistoryRunner}.
+	 *
+	 * @param argumentExtractor    An {@link ArgumentExtractor}. This must never be
+	 *                             null.
+	 * @param handOfCardsConverter A {@link HandOfCardsConverter}. This must never
+	 *                             be null.
+	 */
+	public HandHistoryRunner(final ArgumentExtractor argumentExtractor,
+			final HandOfCardsConverter handOfCardsConverter) {
+
+		this.argumentExtractor = argumentExtractor;
+		this.handOfCardsConverter = handOfCardsConverter;
+	}
+
+	/**
+	 * Prints every game of the store which matches the options given: a seat of
+	 * the player given by the {@value #PLAYER_OPTION} option holding the
+	 * {@link HandRank} given by the {@value #HAND_RANK_OPTION} option (for
+	 * instance "straight-flush"), dealt from the {@value #SINCE_OPTION} option
+	 * and before the {@value #UNTIL_OPTION} option (each a date such as
+	 * "2024-05-01", taken as the start of the day in UTC, or an instant such as
+	 * "2024-05-01T12:00:00Z"). Each option may be left out to match every game.
+	 *
+	 * @param arguments The array of arguments. This may be null and can contain
+	 *                  zero or more null, empty, or blank strings.
+	 */
+	public void run(final String[] arguments) {
+
+		final String directoryName = this.argumentExtractor.getOption(arguments, QUERY_HISTORY_OPTION);
+		if (directoryName == null || directoryName.isEmpty()) {
+
+			System.out.println(new StringBuilder("The directory of the hand history must be given (--")
+					.append(QUERY_HISTORY_OPTION).append("=./history).").toString());
+			return;
+		}
+
+		HandHistoryQuery handHistoryQuery = HandHistoryQuery.create();
+		final String playerName = this.argumentExtractor.getOption(arguments, PLAYER_OPTION);
+		if (playerName != null) {
+			handHistoryQuery = handHistoryQuery.withPlayerName(playerName);
+		}
+
+		final String handRankOption = this.argumentExtractor.getOption(arguments, HAND_RANK_OPTION);
+		if (handRankOption != null) {
+			try {
+
+				handHistoryQuery = handHistoryQuery
+						.withHandRank(HandRank.valueOf(handRankOption.trim().replace('-', '_').toUpperCase()));
+			} catch (final IllegalArgumentException e) {
+
+				System.out.println(new StringBuilder("The hand rank is not known (--").append(HAND_RANK_OPTION)
+						.append("=").append(handRankOption).append("). For example --").append(HAND_RANK_OPTION)
+						.append("=straight-flush.").toString());
+				return;
+			}
+		}
+
+		final String sinceOption = this.argumentExtractor.getOption(arguments, SINCE_OPTION);
+		final String untilOption = this.argumentExtractor.getOption(arguments, UNTIL_OPTION);
+		try {
+
+			handHistoryQuery = handHistoryQuery.withTimes(
+					sinceOption == null ? Long.MIN_VALUE : parseTimestampMillis(sinceOption),
+					untilOption == null ? Long.MAX_VALUE : parseTimestampMillis(untilOption));
+		} catch (final DateTimeParseException e) {
+
+			System.out.println(new StringBuilder("The --").append(SINCE_OPTION).append(" and --")
+					.append(UNTIL_OPTION)
+					.append(" options must be dates or instants (for example 2024-05-01 or 2024-05-01T12:00:00Z).")
+					.toString());
+			return;
+		}
+
+		final List<GameRecord> gameRecords;
+		try (final HandHistoryStore handHistoryStore = HandHistoryStore.openReadOnly(Paths.get(directoryName),
+				ForkJoinPool.commonPool())) {
+
+			gameRecords = handHistoryStore.query(handHistoryQuery);
+		} catch (final NoSuchFileException | InvalidPathException e) {
+
+			System.out.println(new StringBuilder("The hand history \"").append(directoryName)
+					.append("\" cannot be found.").toString());
+			return;
+		} catch (final IOException e) {
+
+			System.out.println(new StringBuilder("An error occurred when attempting to read the hand history \"")
+					.append(directoryName).append("\" (").append(e.getMessage()).append(").").toString());
+			return;
+		}
+
+		// The names and suits are written as UTF-8, as the games were when played,
+		// rather than in the platform's charset.
+		try (final ResultSink resultSink = ChannelResultSink
+				.createStandardOutput(ChannelResultSink.DEFAULT_BUFFER_LENGTH, false)) {
+
+			for (final GameRecord gameRecord : gameRecords) {
+				writeGameRecord(gameRecord, resultSink);
+			}
+			resultSink.write(new StringBuilder().append(gameRecords.size())
+					.append(gameRecords.size() == 1 ? " matching game" : " matching games").append(LINE_SEPARATOR));
+		} catch (final IOException e) {
+
+			System.out.println("An error occurred when attempting to write the games to standard output.");
+		}
+	}
+
+	/**
+	 * @param value A date, taken as the start of the day in UTC, or an instant.
+	 *              This must never be null.
+	 * @return The time in milliseconds since the epoch.
+	 * @throws DateTimeParseException If the value is neither a date nor an
+	 *                                instant.
+	 */
+	private static long parseTimestampMillis(final String value) {
+
+		final String trimmedValue = value.trim();
+		if (trimmedValue.indexOf('T') < 0) {
+			return LocalDate.parse(trimmedValue).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+		}
+
+		return Instant.parse(trimmedValue).toEpochMilli();
+	}
+
+	/**
+	 * Writes a game and each of its seats as it was printed when the game was
+	 * played.
+	 *
+	 * @param gameRecord The {@link GameRecord}. This must never be null.
+	 * @param resultSink The {@link ResultSink}. This must never be null.
+	 * @throws IOException When the game cannot be written.
+	 */
+	private void writeGameRecord(final GameRecord gameRecord, final ResultSink resultSink) throws IOException {
+
+		resultSink.write(new StringBuilder("Game ").append(gameRecord.getGameId()).append(" at ")
+				.append(Instant.ofEpochMilli(gameRecord.getTimestampMillis())).append(LINE_SEPARATOR));
+		for (final SeatRecord seatRecord : gameRecord.getSeatRecords()) {
+			final Player player = Player.create(seatRecord.getPlayerName(),
+					this.handOfCardsConverter.toHandOfCards(seatRecord.getPackedHand()), seatRecord.getHandRank());
+			player.setWinningStatus(seatRecord.getWinningStatus());
+			resultSink.write(new StringBuilder(player.getDisplay()).append(LINE_SEPARATOR));
+		}
+	}
+}
@@ -2,21 +2,42 @@ package org.obidan;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.util.AbstractMap;
-import java.util.Comparator;
-import java.util.LinkedHashMap;
+import java.io.UncheckedIOException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.obidan.history.GameRecord;
+import org.obidan.history.HandHistoryStore;
+import org.obidan.history.SeatRecord;
+import org.obidan.object.Card;
 import org.obidan.object.Deck;
 import org.obidan.object.Player;
 import org.obidan.object.PlayerFactory;
+import org.obidan.object.ThreadLocalDeckProvider;
+import org.obidan.output.ChannelResultSink;
+import org.obidan.output.GameResult;
+import org.obidan.output.ResultFormat;
+import org.obidan.output.ResultFormatter;
+import org.obidan.output.ResultSink;
+import org.obidan.random.RandomSource;
+import org.obidan.random.RandomSourceFactory;
+import org.obidan.random.ReplayLog;
+import org.obidan.simulation.GameSimulator;
+import org.obidan.simulation.SimulationResult;
+import org.obidan.table.TableRunner;
 import org.obidan.type.HandRank;
 import org.obidan.type.WinningStatus;
 import org.obidan.utility.ArgumentExtractor;
-import org.obidan.utility.PlayerComparator;
 import org.obidan.utility.PlayerNamesExtractor;
+import org.obidan.utility.ShowdownResolver;
 
 /**
  * Evaluates poker hands.
@@ -25,13 +46,27 @@ import org.obidan.utility.PlayerNamesExtractor;
  */
 public class PokerHandEvaluator {
 
-	private static final short MAXIMUM_NUMBER_OF_PLAYERS = 10;
+	public static final String SEED_OPTION = "seed";
+	public static final String GAME_ID_OPTION = "game-id";
+	public static final String REPLAY_LOG_OPTION = "replay-log";
+	public static final String SIMULATE_OPTION = "simulate";
+	public static final String TABLES_OPTION = "tables";
+	public static final String HISTORY_OPTION = "history";
+	public static final String FORMAT_OPTION = "format";
+	public static final String OUTPUT_OPTION = "output";
+	public static final String ASYNC_OUTPUT_OPTION = "async-output";
+	public static final String DECKS_OPTION = "decks";
+
 	private static final int CARDS_PER_PLAYER = 5;
 
 	private final ArgumentExtractor argumentExtractor;
 	private final PlayerNamesExtractor playerNamesExtractor;
 	private final PlayerFactory playerFactory;
-	private final PlayerComparator playerComparator;
+	private final ShowdownResolver showdownResolver;
+	private final RandomSourceFactory randomSourceFactory;
+	private final ThreadLocalDeckProvider deckProvider;
+	private final GameSimulator gameSimulator;
+	private final TableRunner tableRunner;
 
 	/**
 	 * Constructs a {@link PokerHandEvaluator}.
@@ -41,29 +76,80 @@ public class PokerHandEvaluator {
 	 * @param playerNamesExtractor A {@link PlayerNamesExtractor}. This must never
 	 *                             be null.
 	 * @param playerFactory        A {@link PlayerFactory}. This must never be null.
-	 * @param playerComparator     A {@link PlayerComparator}. This must never be
+	 * @param showdownResolver     A {@link ShowdownResolver}. This must never be
 	 *                             null.
+	 * @param randomSourceFactory  The {@link RandomSourceFactory} of the
+	 *                             {@link RandomSource} each game's deck is
+	 *                             shuffled with. This must never be null.
+	 * @param deckProvider         The {@link ThreadLocalDeckProvider} each game's
+	 *                             deck is taken from. This must never be null.
+	 * @param gameSimulator        The {@link GameSimulator} games are simulated
+	 *                             with in bulk. This must never be null.
+	 * @param tableRunner          The {@link TableRunner} players are seated at
+	 *                             tables with. This must never be null.
 	 */
 	public PokerHandEvaluator(final ArgumentExtractor argumentExtractor,
 			final PlayerNamesExtractor playerNamesExtractor, final PlayerFactory playerFactory,
-			final PlayerComparator playerComparator) {
+			final ShowdownResolver showdownResolver, final RandomSourceFactory randomSourceFactory,
+			final ThreadLocalDeckProvider deckProvider, final GameSimulator gameSimulator,
+			final TableRunner tableRunner) {
 
 		this.argumentExtractor = argumentExtractor;
 		this.playerNamesExtractor = playerNamesExtractor;
 		this.playerFactory = playerFactory;
-		this.playerComparator = playerComparator;
+		this.showdownResolver = showdownResolver;
+		this.randomSourceFactory = randomSourceFactory;
+		this.deckProvider = deckProvider;
+		this.gameSimulator = gameSimulator;
+		this.tableRunner = tableRunner;
 	}
 
 	/**
 	 * Evaluates poker hands for the players whose names are in the file given as
 	 * input for the first argument.
+	 * <p>
+	 * The deck is shuffled from the seed given by the {@value #SEED_OPTION}
+	 * option, or from a random seed if none is given, so a game may be dealt again
+	 * by giving the same seed and file. If the {@value #REPLAY_LOG_OPTION} option
+	 * is given then the id of the game (the {@value #GAME_ID_OPTION} option, or
+	 * the current time in milliseconds if none is given) and its seed are
+	 * appended to the {@link ReplayLog} file it names. If the
+	 * {@value #HISTORY_OPTION} option is given then the game, with every player's
+	 * cards and result, is appended to the {@link HandHistoryStore} in the
+	 * directory it names once the game has been written.
+	 * <p>
+	 * If the {@value #SIMULATE_OPTION} option is given then, rather than one game
+	 * being played and printed, the number of games it gives are simulated across
+	 * every core and only the summary of the simulation is printed. The games of a
+	 * simulation are not kept, so the {@value #REPLAY_LOG_OPTION} and
+	 * {@value #HISTORY_OPTION} options may not be given with it, and nor may the
+	 * {@value #TABLES_OPTION} option.
+	 * <p>
+	 * If the {@value #TABLES_OPTION} option is given then every player in the file
+	 * is seated, rather than only the first ten, at tables of up to ten players
+	 * which are played concurrently. The file is read as the tables are seated,
+	 * and the tables are printed in order, each with the seed it was dealt from.
+	 * The nth table's game has the game id plus n - 1, and each table is appended
+	 * to the replay log and hand history in table order.
+	 * <p>
+	 * Each game is dealt from a single deck, or from a shoe of the number of decks
+	 * given by the {@value #DECKS_OPTION} option, which seats as many players at a
+	 * game or table as the shoe can deal a hand to (a fifth of the cards in the
+	 * shoe, so ten for a single deck). A hand dealt from a shoe may hold the same
+	 * card more than once, and so may be a five of a kind.
+	 * <p>
+	 * The games are written as text, or in the {@link ResultFormat} given by the
+	 * {@value #FORMAT_OPTION} option, through a large buffer to standard output
+	 * or to the file given by the {@value #OUTPUT_OPTION} option. If the
+	 * {@value #ASYNC_OUTPUT_OPTION} option is given then each full buffer is
+	 * written on a separate thread while the next buffer is filled.
 	 * 
 	 * @param arguments The array of arguments. This may be null and can contain
 	 *                  zero or more null, empty, or blank strings.
 	 */
 	public void evaluate(final String[] arguments) {
 
-		final String fileName = this.argumentExtractor.getFirstArgument(arguments);
+		final String fileName = this.argumentExtractor.getFirstOperand(arguments);
 		if (fileName == null) {
 
 			System.out.println(
@@ -71,6 +157,77 @@ public class PokerHandEvaluator {
 			return;
 		}
 
+		final String seedOption = this.argumentExtractor.getOption(arguments, SEED_OPTION);
+		final String gameIdOption = this.argumentExtractor.getOption(arguments, GAME_ID_OPTION);
+		final String simulateOption = this.argumentExtractor.getOption(arguments, SIMULATE_OPTION);
+		final long seed;
+		final long gameId;
+		final long numberOfGames;
+		try {
+
+			seed = seedOption == null ? ThreadLocalRandom.current().nextLong() : Long.parseLong(seedOption);
+			gameId = gameIdOption == null ? System.currentTimeMillis() : Long.parseLong(gameIdOption);
+			numberOfGames = simulateOption == null ? 0 : Long.parseLong(simulateOption);
+		} catch (final NumberFormatException e) {
+
+			System.out.println(new StringBuilder("The --").append(SEED_OPTION).append(", --")
+					.append(GAME_ID_OPTION).append(", and --").append(SIMULATE_OPTION)
+					.append(" options must be whole numbers.").toString());
+			return;
+		}
+
+		final String formatOption = this.argumentExtractor.getOption(arguments, FORMAT_OPTION);
+		final ResultFormatter resultFormatter;
+		try {
+
+			resultFormatter = (formatOption == null ? ResultFormat.TEXT
+					: ResultFormat.valueOf(formatOption.trim().toUpperCase())).getResultFormatter();
+		} catch (final IllegalArgumentException e) {
+
+			System.out.println(new StringBuilder("The output format must be one of ")
+					.append(Arrays.toString(ResultFormat.values()).toLowerCase()).append(" (--").append(FORMAT_OPTION)
+					.append("=").append(formatOption).append(").").toString());
+			return;
+		}
+
+		final String decksOption = this.argumentExtractor.getOption(arguments, DECKS_OPTION);
+		final int numberOfDecks;
+		try {
+
+			numberOfDecks = decksOption == null ? 1 : Integer.parseInt(decksOption.trim());
+		} catch (final NumberFormatException e) {
+
+			printDecksError(decksOption);
+			return;
+		}
+
+		if (numberOfDecks < 1 || numberOfDecks > Deck.MAXIMUM_NUMBER_OF_DECKS) {
+
+			printDecksError(decksOption);
+			return;
+		}
+
+		if (simulateOption != null && numberOfGames <= 0) {
+
+			System.out.println(new StringBuilder("The number of games to simulate must be positive (--")
+					.append(SIMULATE_OPTION).append("=").append(simulateOption).append(").").toString());
+			return;
+		}
+
+		if (this.argumentExtractor.getOption(arguments, TABLES_OPTION) != null) {
+
+			if (simulateOption != null) {
+
+				System.out.println(new StringBuilder("The --").append(TABLES_OPTION)
+						.append(" option is not supported with --").append(SIMULATE_OPTION)
+						.append(", which simulates the games of a single table of players.").toString());
+				return;
+			}
+
+			playTables(fileName, numberOfDecks, seed, gameId, resultFormatter, arguments);
+			return;
+		}
+
 		List<String> playerNames = null;
 		try {
 
@@ -96,80 +253,391 @@ public class PokerHandEvaluator {
 			return;
 		}
 
-		final List<String> playingPlayersNames = playerNames.stream().limit(MAXIMUM_NUMBER_OF_PLAYERS)
-				.collect(Collectors.toList());
-		final List<String> eliminatedPlayerNames = playerNames.stream().skip(MAXIMUM_NUMBER_OF_PLAYERS)
-				.collect(Collectors.toList());
+		final int maximumNumberOfPlayers = getMaximumNumberOfPlayers(numberOfDecks);
+		final List<String> playingPlayersNames = playerNames.size() <= maximumNumberOfPlayers ? playerNames
+				: playerNames.subList(0, maximumNumberOfPlayers);
 
-		if (!eliminatedPlayerNames.isEmpty()) {
+		if (playingPlayersNames.size() < playerNames.size()) {
 
-			System.out.println(new StringBuilder("The maximum allowed number of players per game is 10 and ")
-					.append(playerNames.size())
-					.append(" players were in the game. Only the first 10 players will be in the game.").toString());
+			System.out.println(new StringBuilder("The maximum allowed number of players per game is ")
+					.append(maximumNumberOfPlayers).append(" and ").append(playerNames.size())
+					.append(" players were in the game. Only the first ").append(maximumNumberOfPlayers)
+					.append(" players will be in the game.").toString());
 		}
 
-		final Deck deck = Deck.createSingleDeck();
-		deck.shuffle();
+		if (simulateOption != null) {
 
-		final List<Player> players = playingPlayersNames.stream()
-				.map(name -> this.playerFactory.create(name, deck, CARDS_PER_PLAYER)).collect(Collectors.toList());
+			if (this.argumentExtractor.getOption(arguments, HISTORY_OPTION) != null
+					|| this.argumentExtractor.getOption(arguments, REPLAY_LOG_OPTION) != null) {
+
+				System.out.println(new StringBuilder("The --").append(HISTORY_OPTION).append(" and --")
+						.append(REPLAY_LOG_OPTION).append(" options are not supported with --").append(SIMULATE_OPTION)
+						.append(", which keeps only the summary of the games it plays.").toString());
+				return;
+			}
+
+			printSimulationResult(this.gameSimulator.simulate(playingPlayersNames, CARDS_PER_PLAYER, numberOfDecks,
+					numberOfGames, seed), seed);
+			return;
+		}
 
-		determineWinningPlayers(players);
+		final String replayLogFileName = this.argumentExtractor.getOption(arguments, REPLAY_LOG_OPTION);
+		if (replayLogFileName != null) {
+			try (final ReplayLog replayLog = ReplayLog.create(replayLogFileName)) {
 
-		players.stream().forEachOrdered(player -> System.out.println(player.getDisplay()));
+				replayLog.append(gameId, seed);
+			} catch (final IOException e) {
+
+				printReplayLogError(replayLogFileName);
+				return;
+			}
+		}
+
+		final List<Player> players = playGame(playingPlayersNames, numberOfDecks, seed);
+
+		// The game is written before it is appended to the hand history, so that
+		// a game which is in the replay log is never hidden by the history.
+		try (final ResultSink resultSink = openResultSink(arguments)) {
+
+			resultSink.write(resultFormatter.getHeader());
+			final byte[] output = resultFormatter.formatBytes(GameResult.create(gameId, 0, seed, players));
+			resultSink.write(output, 0, output.length);
+		} catch (final IOException | InvalidPathException e) {
+
+			printWriteError(arguments);
+		}
+
+		final String historyDirectoryName = this.argumentExtractor.getOption(arguments, HISTORY_OPTION);
+		if (historyDirectoryName != null) {
+			try (final HandHistoryStore handHistoryStore = HandHistoryStore.open(Paths.get(historyDirectoryName),
+					ForkJoinPool.commonPool())) {
+
+				handHistoryStore.append(GameRecord.create(gameId, System.currentTimeMillis(),
+						players.stream().map(SeatRecord::create).collect(Collectors.toList())));
+			} catch (final IOException | InvalidPathException e) {
+
+				printHistoryError(historyDirectoryName);
+			} catch (final IllegalArgumentException e) {
+
+				printGameRecordError(historyDirectoryName, e);
+			}
+		}
+	}
+
+	/**
+	 * @param numberOfDecks The number of standard decks in the shoe.
+	 * @return The number of players a shoe of the number of decks can deal a hand
+	 *         to.
+	 */
+	private static int getMaximumNumberOfPlayers(final int numberOfDecks) {
+
+		return numberOfDecks * Card.NUMBER_OF_CARDS / CARDS_PER_PLAYER;
 	}
 
 	/**
-	 * This method will evaluate a {@link List} of {@link Player} to determine the
-	 * winner(s). The result will be that the {@link Player} objects in the given
-	 * {@link List} will be mutated and will have the appropriate
-	 * {@link WinningStatus}.
+	 * Prints that the number of decks is not valid.
 	 * 
-	 * @param sortedPlayers The {@link List} of {@link Player}. This must never be
-	 *                      null or contain null values.
+	 * @param decksOption The value of the {@value #DECKS_OPTION} option. This must
+	 *                    never be null.
 	 */
-	private void determineWinningPlayers(final List<Player> players) {
+	private void printDecksError(final String decksOption) {
 
-		final Map<HandRank, List<Player>> playerByHandRank = players.stream()
-				.collect(Collectors.groupingBy(Player::getHandRank));
+		System.out.println(new StringBuilder("The number of decks must be a whole number between 1 and ")
+				.append(Deck.MAXIMUM_NUMBER_OF_DECKS).append(" (--").append(DECKS_OPTION).append("=")
+				.append(decksOption).append(").").toString());
+	}
 
-		final LinkedHashMap<HandRank, List<Player>> sortedPlayerBySortedHandRank = playerByHandRank.entrySet().stream()
-				.map(entry -> new AbstractMap.SimpleEntry<>(entry.getKey(),
-						entry.getValue().stream().sorted(this.playerComparator).collect(Collectors.toList())))
-				.sorted(Map.Entry.comparingByKey(Comparator.comparingInt(HandRank::getNumericValue)))
-				.collect(Collectors.toMap(Map.Entry::getKey,
-						entry -> entry.getValue().stream().sorted(this.playerComparator).collect(Collectors.toList()),
-						(oldValue, newValue) -> oldValue, LinkedHashMap::new));
+	/**
+	 * Opens the {@link ResultSink} games are written to: the file given by the
+	 * {@value #OUTPUT_OPTION} option, or standard output.
+	 * 
+	 * @param arguments The array of arguments. This may be null and can contain
+	 *                  zero or more null, empty, or blank strings.
+	 * @return Non-null {@link ResultSink}.
+	 * @throws IOException When the file cannot be opened.
+	 */
+	private ResultSink openResultSink(final String[] arguments) throws IOException {
 
-		final List<Player> sortedPlayers = sortedPlayerBySortedHandRank.entrySet().stream().map(Map.Entry::getValue)
-				.flatMap(List::stream).collect(Collectors.toList());
+		final String outputFileName = this.argumentExtractor.getOption(arguments, OUTPUT_OPTION);
+		final boolean doubleBuffered = this.argumentExtractor.getOption(arguments, ASYNC_OUTPUT_OPTION) != null;
+		if (outputFileName == null || outputFileName.isEmpty()) {
+			return ChannelResultSink.createStandardOutput(ChannelResultSink.DEFAULT_BUFFER_LENGTH, doubleBuffered);
+		}
 
-		assignWinningStatusToPlayers(sortedPlayers);
+		return ChannelResultSink.open(Paths.get(outputFileName), ChannelResultSink.DEFAULT_BUFFER_LENGTH,
+				doubleBuffered);
 	}
 
 	/**
-	 * This method will evaluate a {@link List} of {@link Player} sorted by known
-	 * winner to loser and determine if there is more than one winner. The result
-	 * will be that the {@link Player} objects in the given {@link List} will be
-	 * mutated and will have the appropriate {@link WinningStatus}.
+	 * Prints that the games could not be written.
 	 * 
-	 * @param sortedPlayers The {@link List} of {@link Player} sorted by known
-	 *                      winner to loser. This must never be null or contain null
-	 *                      values.
+	 * @param arguments The array of arguments. This may be null and can contain
+	 *                  zero or more null, empty, or blank strings.
 	 */
-	private void assignWinningStatusToPlayers(final List<Player> sortedPlayers) {
-
-		Player firstWinningPlayer = null;
-		for (int index = 0; index < sortedPlayers.size(); index++) {
-			final Player player = sortedPlayers.get(index);
-
-			if (firstWinningPlayer == null) {
-				firstWinningPlayer = player;
-				player.setWinningStatus(WinningStatus.WON);
-			} else if (this.playerComparator.compare(firstWinningPlayer, player) == 0) {
-				firstWinningPlayer.setWinningStatus(WinningStatus.TIED);
-				player.setWinningStatus(WinningStatus.TIED);
+	private void printWriteError(final String[] arguments) {
+
+		final String outputFileName = this.argumentExtractor.getOption(arguments, OUTPUT_OPTION);
+		System.out.println(new StringBuilder("An error occurred when attempting to write the games to \"")
+				.append(outputFileName == null || outputFileName.isEmpty() ? "standard output" : outputFileName)
+				.append("\". Please try running the application again.").toString());
+	}
+
+	/**
+	 * Seats every player in a file at tables of as many players as the shoe can
+	 * deal to, plays the tables concurrently, and writes each table in order,
+	 * appending each table's game to the {@link ReplayLog} and
+	 * {@link HandHistoryStore} when their options are given.
+	 * 
+	 * @param fileName        The file name. This must never be null.
+	 * @param numberOfDecks   The number of standard decks in each table's shoe.
+	 * @param seed            The seed of the first table.
+	 * @param gameId          The game id of the first table.
+	 * @param resultFormatter The {@link ResultFormatter} of the tables. This must
+	 *                        never be null.
+	 * @param arguments       The array of arguments. This may be null and can
+	 *                        contain zero or more null, empty, or blank strings.
+	 */
+	private void playTables(final String fileName, final int numberOfDecks, final long seed, final long gameId,
+			final ResultFormatter resultFormatter, final String[] arguments) {
+
+		final String replayLogFileName = this.argumentExtractor.getOption(arguments, REPLAY_LOG_OPTION);
+		final String historyDirectoryName = this.argumentExtractor.getOption(arguments, HISTORY_OPTION);
+		try (final HandHistoryStore handHistoryStore = historyDirectoryName == null ? null
+				: HandHistoryStore.open(Paths.get(historyDirectoryName), ForkJoinPool.commonPool())) {
+
+			try (final ReplayLog replayLog = replayLogFileName == null ? null : ReplayLog.create(replayLogFileName)) {
+
+				playTables(fileName, numberOfDecks, seed, gameId, resultFormatter, replayLog, handHistoryStore,
+						arguments);
+			} catch (final IOException e) {
+
+				printReplayLogError(replayLogFileName);
 			}
+		} catch (final IOException | InvalidPathException e) {
+
+			printHistoryError(historyDirectoryName);
+		}
+	}
+
+	/**
+	 * Seats every player in a file at tables of as many players as the shoe can
+	 * deal to, plays the tables concurrently, and writes each table in order. Each
+	 * table is formatted on the thread which played it, so only copying its output
+	 * and appending its game to the replay log and hand history is done in table
+	 * order.
+	 * 
+	 * @param fileName         The file name. This must never be null.
+	 * @param numberOfDecks    The number of standard decks in each table's shoe.
+	 * @param seed             The seed of the first table.
+	 * @param gameId           The game id of the first table.
+	 * @param resultFormatter  The {@link ResultFormatter} of the tables. This must
+	 *                         never be null.
+	 * @param replayLog        The {@link ReplayLog} the id and seed of each table
+	 *                         are appended to, or null.
+	 * @param handHistoryStore The {@link HandHistoryStore} the game of each table
+	 *                         is appended to, or null.
+	 * @param arguments        The array of arguments. This may be null and can
+	 *                         contain zero or more null, empty, or blank strings.
+	 */
+	private void playTables(final String fileName, final int numberOfDecks, final long seed, final long gameId,
+			final ResultFormatter resultFormatter, final ReplayLog replayLog, final HandHistoryStore handHistoryStore,
+			final String[] arguments) {
+
+		final String replayLogFileName = this.argumentExtractor.getOption(arguments, REPLAY_LOG_OPTION);
+		final String historyDirectoryName = this.argumentExtractor.getOption(arguments, HISTORY_OPTION);
+		// The players of a table are only valid on the thread which played it, so
+		// its game is recorded there and appended when the table is written.
+		final Map<Long, GameRecord> gameRecordsByTableNumber = new ConcurrentHashMap<>();
+		final boolean[] writeFailed = new boolean[1];
+		final long numberOfTables;
+		try (final ResultSink resultSink = openResultSink(arguments);
+				final Stream<String> playerNames = this.playerNamesExtractor.streamPlayerNames(fileName)) {
+
+			resultSink.write(resultFormatter.getHeader());
+			numberOfTables = this.tableRunner.run(playerNames.iterator(), getMaximumNumberOfPlayers(numberOfDecks),
+					seed, (tableNumber, tablePlayerNames, tableSeed) -> {
+						final long tableGameId = gameId + tableNumber - 1;
+						final List<Player> players = playGame(tablePlayerNames, numberOfDecks, tableSeed);
+						if (handHistoryStore != null) {
+							gameRecordsByTableNumber.put(tableNumber, GameRecord.create(tableGameId,
+									System.currentTimeMillis(),
+									players.stream().map(SeatRecord::create).collect(Collectors.toList())));
+						}
+						return resultFormatter
+								.formatBytes(GameResult.create(tableGameId, tableNumber, tableSeed, players));
+					}, tableResult -> {
+						final long tableGameId = gameId + tableResult.getTableNumber() - 1;
+						try {
+
+							if (replayLog != null) {
+								replayLog.append(tableGameId, tableResult.getSeed());
+							}
+						} catch (final IOException e) {
+
+							printReplayLogError(replayLogFileName);
+							writeFailed[0] = true;
+							throw new UncheckedIOException(e);
+						}
+
+						try {
+
+							resultSink.write(tableResult.getOutput(), 0, tableResult.getOutput().length);
+						} catch (final IOException e) {
+
+							printWriteError(arguments);
+							writeFailed[0] = true;
+							throw new UncheckedIOException(e);
+						}
+
+						try {
+
+							if (handHistoryStore != null) {
+								handHistoryStore.append(gameRecordsByTableNumber.remove(tableResult.getTableNumber()));
+							}
+						} catch (final IOException e) {
+
+							printHistoryError(historyDirectoryName);
+							writeFailed[0] = true;
+							throw new UncheckedIOException(e);
+						} catch (final IllegalArgumentException e) {
+
+							printGameRecordError(historyDirectoryName, e);
+							writeFailed[0] = true;
+							throw e;
+						}
+					});
+		} catch (final FileNotFoundException e) {
+
+			System.out.println(new StringBuilder("The given file name \"").append(fileName)
+					.append("\" cannot be found.").toString());
+			return;
+		} catch (final IOException | InvalidPathException e) {
+
+			printWriteError(arguments);
+			return;
+		} catch (final UncheckedIOException e) {
+
+			if (writeFailed[0]) {
+				return;
+			}
+
+			System.out.println(new StringBuilder("An error occurred when attempting to read the given file name \"")
+					.append(fileName).append("\". Please try running the application again.").toString());
+			return;
+		} catch (final IllegalArgumentException e) {
+
+			// Only a game the hand history refused has already been reported.
+			if (!writeFailed[0]) {
+				throw e;
+			}
+			return;
+		}
+
+		if (numberOfTables == 0) {
+
+			System.out.println(new StringBuilder("No valid player names were found in the file (fileName=\"")
+					.append(fileName)
+					.append("\"). Valid player names consist of unicode letters, numbers, and whitespace (they may not, however, be all whitespace) along with commas, periods, and hyphens.")
+					.toString());
+		}
+	}
+
+	/**
+	 * Prints that the replay log could not be written.
+	 * 
+	 * @param replayLogFileName The file name of the replay log. This must never be
+	 *                          null.
+	 */
+	private void printReplayLogError(final String replayLogFileName) {
+
+		System.out.println(new StringBuilder("An error occurred when attempting to write to the replay log \"")
+				.append(replayLogFileName).append("\". Please try running the application again.").toString());
+	}
+
+	/**
+	 * Prints that the hand history could not be written.
+	 * 
+	 * @param historyDirectoryName The directory name of the hand history. This
+	 *                             must never be null.
+	 */
+	private void printHistoryError(final String historyDirectoryName) {
+
+		System.out.println(new StringBuilder("An error occurred when attempting to write to the hand history \"")
+				.append(historyDirectoryName).append("\". Please try running the application again.").toString());
+	}
+
+	/**
+	 * Prints that a game could not be encoded for the hand history.
+	 * 
+	 * @param historyDirectoryName The directory name of the hand history. This
+	 *                             must never be null.
+	 * @param e                    The exception which tells why. This must never
+	 *                             be null.
+	 */
+	private void printGameRecordError(final String historyDirectoryName, final IllegalArgumentException e) {
+
+		System.out.println(new StringBuilder("The game cannot be written to the hand history \"")
+				.append(historyDirectoryName).append("\". ").append(e.getMessage()).toString());
+	}
+
+	/**
+	 * Plays a game: deals each player a hand from a deck shuffled from the seed
+	 * and determines the winner(s).
+	 * 
+	 * @param playerNames   The {@link List} of player names, in seat order. This
+	 *                      must never be null or empty, and there must be enough
+	 *                      cards for every player.
+	 * @param numberOfDecks The number of standard decks in the deck.
+	 * @param seed          The seed the deck is shuffled from.
+	 * @return Non-null {@link List} of non-null {@link Player}s, in seat order,
+	 *         each with the appropriate {@link WinningStatus}. The
+	 *         {@link Player}s must not be used once the calling thread plays
+	 *         another game, since their cards are dealt from a reused deck.
+	 */
+	private List<Player> playGame(final List<String> playerNames, final int numberOfDecks, final long seed) {
+
+		final Deck deck = this.deckProvider.getDeck(numberOfDecks);
+		deck.shuffleLazily(this.randomSourceFactory.create(seed));
+
+		final List<Player> players = playerNames.stream()
+				.map(name -> this.playerFactory.create(name, deck, CARDS_PER_PLAYER)).collect(Collectors.toList());
+
+		this.showdownResolver.resolve(players);
+
+		return players;
+	}
+
+	/**
+	 * Prints the summary of a simulation: each player's wins and ties, the number
+	 * of hands of each {@link HandRank} dealt, and the throughput.
+	 * 
+	 * @param simulationResult The {@link SimulationResult}. This must never be
+	 *                         null.
+	 * @param seed             The seed of the first game of the simulation.
+	 */
+	private void printSimulationResult(final SimulationResult simulationResult, final long seed) {
+
+		final long numberOfGames = simulationResult.getNumberOfGames();
+		System.out.println(new StringBuilder("Simulated ").append(numberOfGames).append(" games in ")
+				.append(simulationResult.getElapsedNanoseconds() / 1_000_000).append(" ms (")
+				.append(Math.round(simulationResult.getGamesPerSecond())).append(" games/sec) from --")
+				.append(SEED_OPTION).append("=").append(seed).append(" (game n is dealt from the seed plus n)")
+				.toString());
+
+		final List<String> playerNames = simulationResult.getPlayerNames();
+		for (int playerIndex = 0; playerIndex < playerNames.size(); playerIndex++) {
+			final long winCount = simulationResult.getWinCount(playerIndex);
+			final long tieCount = simulationResult.getTieCount(playerIndex);
+			System.out.println(String.format("  %s: %d wins (%.2f%%), %d ties (%.2f%%)",
+					playerNames.get(playerIndex), winCount, 100.0 * winCount / numberOfGames, tieCount,
+					100.0 * tieCount / numberOfGames));
+		}
+
+		final long numberOfHands = numberOfGames * playerNames.size();
+		for (final HandRank handRank : HandRank.values()) {
+			final long handCount = simulationResult.getHandCount(handRank);
+			System.out.println(String.format("  %-16s %12d (%.4f%%)", handRank.getDisplay(), handCount,
+					100.0 * handCount / numberOfHands));
 		}
 	}
 }
\ No newline at end of file
@@ -1,20 +1,37 @@
 package org.obidan;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import org.obidan.batch.HandFileEvaluator;
+import org.obidan.enumeration.CardCodeEvaluator;
+import org.obidan.enumeration.ExhaustiveEnumerator;
+import org.obidan.handrank.FiveOfAKindHandRankEvaluator;
 import org.obidan.handrank.FlushHandRankEvaluator;
 import org.obidan.handrank.FourOfAKindHandRankEvaluator;
 import org.obidan.handrank.FullHouseHandRankEvaluator;
 import org.obidan.handrank.HighCardHandRankEvaluator;
+import org.obidan.handrank.LookupTableHandRankEvaluator;
 import org.obidan.handrank.OnePairHandRankEvaluator;
+import org.obidan.handrank.PokerHandRankEvaluator;
+import org.obidan.handrank.ScalarBatchHandStrengthEvaluator;
 import org.obidan.handrank.StraightFlushHandRankEvaluator;
 import org.obidan.handrank.StraightHandRankEvaluator;
 import org.obidan.handrank.ThreeOfAKindHandRankEvaluator;
 import org.obidan.handrank.TwoPairHandRankEvaluator;
+import org.obidan.io.HandOfCardsConverter;
 import org.obidan.object.PlayerFactory;
+import org.obidan.object.ThreadLocalDeckProvider;
+import org.obidan.random.Xoroshiro128PlusPlusRandomSource;
+import org.obidan.simulation.GameSimulator;
+import org.obidan.table.TableRunner;
 import org.obidan.utility.ArgumentExtractor;
 import org.obidan.utility.CardFaceValueGrouper;
 import org.obidan.utility.PlayerComparator;
 import org.obidan.utility.PlayerNamesExtractor;
 import org.obidan.utility.SequentialCardFinder;
+import org.obidan.utility.ShowdownResolver;
 
 /**
  * Main entry point for the poker hand evaluator.
@@ -25,23 +42,88 @@ public class PokerHandEvaluatorApplication {
 
 	/**
 	 * Evaluates poker hands for the players whose names are in the file given as
-	 * input for the first argument.
+	 * input for the first argument. If the "--enumerate" option is given then
+	 * every five card hand (or every hand of the number of cards given as the
+	 * option's value) is enumerated instead, and if the "--evaluate-hands" option
+	 * is given then every hand of the file given as the first argument is
+	 * evaluated instead. If the "--query-history" option is given then the games
+	 * of the hand history in the directory it names are queried instead.
 	 * 
 	 * @param arguments The array of arguments. This may be null and can contain
 	 *                  zero or more null, empty, or blank strings.
 	 */
 	public static void main(final String[] args) {
 
-		final PokerHandEvaluator pokerHandEvaluator = new PokerHandEvaluator(new ArgumentExtractor(),
-				new PlayerNamesExtractor(),
-				new PlayerFactory(new SequentialCardFinder(), new CardFaceValueGrouper(),
-						new StraightFlushHandRankEvaluator().then(new FourOfAKindHandRankEvaluator())
-								.then(new FullHouseHandRankEvaluator()).then(new FlushHandRankEvaluator())
-								.then(new StraightHandRankEvaluator()).then(new ThreeOfAKindHandRankEvaluator())
-								.then(new TwoPairHandRankEvaluator()).then(new OnePairHandRankEvaluator())
-								.then(new HighCardHandRankEvaluator())),
-				new PlayerComparator());
+		final ArgumentExtractor argumentExtractor = new ArgumentExtractor();
+		if (argumentExtractor.getOption(args, ExhaustiveEnumerationRunner.ENUMERATE_OPTION) != null) {
+
+			createExhaustiveEnumerationRunner(argumentExtractor).run(args);
+			return;
+		}
+
+		if (argumentExtractor.getOption(args, HandFileEvaluationRunner.EVALUATE_HANDS_OPTION) != null) {
+
+			// The chunks of the file are already evaluated in parallel, so the hands of
+			// each chunk are evaluated on the thread which parsed them.
+			new HandFileEvaluationRunner(argumentExtractor,
+					new HandFileEvaluator(new ScalarBatchHandStrengthEvaluator(new LookupTableHandRankEvaluator()),
+							ForkJoinPool.commonPool(), ForkJoinPool.commonPool().getParallelism() * 2)).run(args);
+			return;
+		}
+
+		if (argumentExtractor.getOption(args, HandHistoryRunner.QUERY_HISTORY_OPTION) != null) {
+
+			new HandHistoryRunner(argumentExtractor,
+					new HandOfCardsConverter(new SequentialCardFinder(), new CardFaceValueGrouper())).run(args);
+			return;
+		}
+
+		final ThreadLocalDeckProvider deckProvider = new ThreadLocalDeckProvider();
+		final PokerHandEvaluator pokerHandEvaluator = new PokerHandEvaluator(argumentExtractor,
+				new PlayerNamesExtractor(), new PlayerFactory(new SequentialCardFinder(),
+						new CardFaceValueGrouper(), createReferenceHandRankEvaluator()),
+				new ShowdownResolver(new PlayerComparator()), Xoroshiro128PlusPlusRandomSource::create, deckProvider,
+				new GameSimulator(new LookupTableHandRankEvaluator(), Xoroshiro128PlusPlusRandomSource::create,
+						deckProvider, ForkJoinPool.commonPool()),
+				new TableRunner(ForkJoinPool.commonPool(), ForkJoinPool.commonPool().getParallelism() * 4));
 
 		pokerHandEvaluator.evaluate(args);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * @return Non-null chain of {@link PokerHandRankEvaluator}s, one for each
+	 *         {@link org.obidan.type.HandRank}, which every other evaluator is
+	 *         verified against.
+	 */
+	public static PokerHandRankEvaluator createReferenceHandRankEvaluator() {
+
+		return new FiveOfAKindHandRankEvaluator().then(new StraightFlushHandRankEvaluator())
+				.then(new FourOfAKindHandRankEvaluator()).then(new FullHouseHandRankEvaluator())
+				.then(new FlushHandRankEvaluator()).then(new StraightHandRankEvaluator())
+				.then(new ThreeOfAKindHandRankEvaluator()).then(new TwoPairHandRankEvaluator())
+				.then(new OnePairHandRankEvaluator()).then(new HighCardHandRankEvaluator());
+	}
+
+	/**
+	 * @param argumentExtractor The {@link ArgumentExtractor}. This must never be
+	 *                          null.
+	 * @return Non-null {@link ExhaustiveEnumerationRunner} which runs the reference
+	 *         chain (for hands of more than five cards, by evaluating every five
+	 *         card subset) followed by the {@link LookupTableHandRankEvaluator} on
+	 *         every core.
+	 */
+	private static ExhaustiveEnumerationRunner createExhaustiveEnumerationRunner(
+			final ArgumentExtractor argumentExtractor) {
+
+		final LookupTableHandRankEvaluator lookupTableHandRankEvaluator = new LookupTableHandRankEvaluator();
+
+		final Map<String, CardCodeEvaluator> cardCodeEvaluatorsByName = new LinkedHashMap<>();
+		cardCodeEvaluatorsByName.put("Reference chain", CardCodeEvaluator.bestFiveCardHand(CardCodeEvaluator
+				.of(createReferenceHandRankEvaluator(), new SequentialCardFinder(), new CardFaceValueGrouper())));
+		cardCodeEvaluatorsByName.put("Lookup table",
+				(codes, numberOfCards) -> lookupTableHandRankEvaluator.evaluateHandStrength(codes, 0, numberOfCards));
+
+		return new ExhaustiveEnumerationRunner(argumentExtractor, new ExhaustiveEnumerator(ForkJoinPool.commonPool()),
+				cardCodeEvaluatorsByName);
+	}
+}
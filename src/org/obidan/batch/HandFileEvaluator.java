@@ -0,0 +1,438 @@
+package org.obidan.batch;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import org.obidan.handrank.BatchHandStrengthEvaluator;
+import org.obidan.handrank.HandStrength;
+import org.obidan.io.HandRecordFormat;
+
+/**
+ * Evaluates every hand of a file of hands and writes the {@link HandStrength}
+ * and category of each, one line per hand in the order of the file, to an
+ * output file. Each line is the hand strength and the name of its
+ * {@link org.obidan.type.HandRank} separated by a tab, or {@code -1} and
+ * {@value #INVALID_CATEGORY} if the line or record is not a valid hand.
+ * <p>
+ * The file is split into chunks on line or record boundaries. Each chunk is
+ * memory-mapped, parsed directly from its bytes into an array of card masks,
+ * and evaluated by a {@link BatchHandStrengthEvaluator} on an
+ * {@link Executor}, and the output of the chunks is written in file order with
+ * a single channel write per chunk. No more than a fixed number of chunks are
+ * evaluated but not yet written at any time, so files of any size are
+ * evaluated in bounded memory.
+ *
+ * @author Obi-Dan
+ */
+public class HandFileEvaluator {
+
+	public static final String INVALID_CATEGORY = "INVALID";
+
+	private static final int CHUNK_LENGTH = 1 << 20;
+	private static final int BOUNDARY_SCAN_LENGTH = 256;
+	private static final int MAXIMUM_OUTPUT_LINE_LENGTH = 32;
+	private static final byte LINE_FEED = '\n';
+	private static final byte[] INVALID_LINE = ("-1\t" + INVALID_CATEGORY + "\n").getBytes(StandardCharsets.US_ASCII);
+	private static final byte[][] CATEGORY_SUFFIXES = createCategorySuffixes();
+
+	/**
+	 * @return Non-null array of the bytes written after the hand strength of each
+	 *         category.
+	 */
+	private static byte[][] createCategorySuffixes() {
+
+		final byte[][] categorySuffixes = new byte[HandStrength.NUMBER_OF_CATEGORIES][];
+		for (int category = 0; category < categorySuffixes.length; category++) {
+			final String handRankName = HandStrength.getHandRank(HandStrength.create(category)).name();
+			categorySuffixes[category] = ("\t" + handRankName + "\n").getBytes(StandardCharsets.US_ASCII);
+		}
+
+		return categorySuffixes;
+	}
+
+	private final BatchHandStrengthEvaluator batchHandStrengthEvaluator;
+	private final Executor executor;
+	private final int maximumChunksInFlight;
+
+	/**
+	 * Constructs a {@link HandFileEvaluator}.
+	 *
+	 * @param batchHandStrengthEvaluator The {@link BatchHandStrengthEvaluator}
+	 *                                   the hands of each chunk are evaluated
+	 *                                   with. This must never be null.
+	 * @param executor                   The {@link Executor} the chunks are
+	 *                                   evaluated on. This must never be null.
+	 * @param maximumChunksInFlight      The largest number of chunks evaluated
+	 *                                   but not yet written. This must be
+	 *                                   positive.
+	 */
+	public HandFileEvaluator(final BatchHandStrengthEvaluator batchHandStrengthEvaluator, final Executor executor,
+			final int maximumChunksInFlight) {
+
+		this.batchHandStrengthEvaluator = batchHandStrengthEvaluator;
+		this.executor = executor;
+		this.maximumChunksInFlight = maximumChunksInFlight;
+	}
+
+	/**
+	 * Evaluates every hand of a file.
+	 *
+	 * @param input  The {@link Path} of the file of hands. This must never be
+	 *               null.
+	 * @param format The {@link HandFileFormat} of the file of hands. This must
+	 *               never be null.
+	 * @param output The {@link Path} the output is written to, which is replaced
+	 *               if it exists. This must never be null and must not be the
+	 *               file of hands.
+	 * @return Non-null {@link HandFileResult}.
+	 * @throws IOException              When the file of hands cannot be read or
+	 *                                  the output cannot be written.
+	 * @throws IllegalArgumentException If the output is the file of hands, which
+	 *                                  would be emptied before it is read.
+	 */
+	public HandFileResult evaluate(final Path input, final HandFileFormat format, final Path output)
+			throws IOException {
+
+		if (Files.exists(output) && Files.isSameFile(input, output)) {
+			throw new IllegalArgumentException("The output must not be the file of hands (output=" + output + ").");
+		}
+
+		final long startNanoseconds = System.nanoTime();
+		final long[] handCountsByCategory = new long[HandStrength.NUMBER_OF_CATEGORIES];
+		long invalidHandCount = 0;
+		final long inputBytes;
+
+		try (final FileChannel inputChannel = FileChannel.open(input, StandardOpenOption.READ);
+				final FileChannel outputChannel = FileChannel.open(output, StandardOpenOption.CREATE,
+						StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+
+			inputBytes = inputChannel.size();
+			final HandRecordFormat handRecordFormat = format == HandFileFormat.PACKED
+					? readHandRecordFormat(inputChannel)
+					: null;
+			final int recordLength = getRecordLength(format, handRecordFormat);
+			final Deque<CompletableFuture<ChunkResult>> chunksInFlight = new ArrayDeque<>(
+					this.maximumChunksInFlight);
+
+			long chunkStart = handRecordFormat == null ? 0 : HandRecordFormat.HEADER_LENGTH;
+			while (chunkStart < inputBytes) {
+				final long chunkEnd = findChunkEnd(inputChannel, recordLength, chunkStart, inputBytes);
+
+				if (chunksInFlight.size() == this.maximumChunksInFlight) {
+					invalidHandCount += write(outputChannel, join(chunksInFlight.removeFirst()),
+							handCountsByCategory);
+				}
+
+				final long start = chunkStart;
+				chunksInFlight.addLast(CompletableFuture.supplyAsync(
+						() -> evaluateChunk(inputChannel, format, handRecordFormat, start, chunkEnd), this.executor));
+				chunkStart = chunkEnd;
+			}
+
+			while (!chunksInFlight.isEmpty()) {
+				invalidHandCount += write(outputChannel, join(chunksInFlight.removeFirst()), handCountsByCategory);
+			}
+		}
+
+		return new HandFileResult(handCountsByCategory, invalidHandCount, inputBytes,
+				System.nanoTime() - startNanoseconds);
+	}
+
+	/**
+	 * Reads the header of a {@link HandFileFormat#PACKED} file.
+	 *
+	 * @param inputChannel The {@link FileChannel} of the file of hands. This must
+	 *                     never be null.
+	 * @return Non-null {@link HandRecordFormat} of the file.
+	 * @throws IOException When the file of hands cannot be read or has no valid
+	 *                     header.
+	 */
+	private HandRecordFormat readHandRecordFormat(final FileChannel inputChannel) throws IOException {
+
+		final ByteBuffer headerBuffer = ByteBuffer.allocate(HandRecordFormat.HEADER_LENGTH);
+		while (headerBuffer.hasRemaining()) {
+			if (inputChannel.read(headerBuffer, headerBuffer.position()) < 0) {
+				throw new EOFException("The file of hand records has no header.");
+			}
+		}
+
+		headerBuffer.flip();
+		return HandRecordFormat.readHeader(headerBuffer);
+	}
+
+	/**
+	 * @param format           The {@link HandFileFormat}. This must never be null.
+	 * @param handRecordFormat The {@link HandRecordFormat} of a
+	 *                         {@link HandFileFormat#PACKED} file, or null.
+	 * @return The length of each record in bytes, or 0 if the hands are lines.
+	 */
+	private static int getRecordLength(final HandFileFormat format, final HandRecordFormat handRecordFormat) {
+
+		switch (format) {
+		case BINARY:
+			return HandFileFormat.BINARY_RECORD_LENGTH;
+		case PACKED:
+			return handRecordFormat.getRecordLength();
+		case TEXT:
+		default:
+			return 0;
+		}
+	}
+
+	/**
+	 * Finds the end of the chunk which begins at a position, which is the end of
+	 * the first line or record to end after the chunk length.
+	 *
+	 * @param inputChannel The {@link FileChannel} of the file of hands. This must
+	 *                     never be null.
+	 * @param recordLength The length of each record in bytes, or 0 if the hands
+	 *                     are lines.
+	 * @param chunkStart   The position of the first byte of the chunk.
+	 * @param inputBytes   The size of the file of hands in bytes.
+	 * @return The position after the last byte of the chunk.
+	 * @throws IOException When the file of hands cannot be read.
+	 */
+	private long findChunkEnd(final FileChannel inputChannel, final int recordLength, final long chunkStart,
+			final long inputBytes) throws IOException {
+
+		if (recordLength > 0) {
+			return Math.min(inputBytes, chunkStart + CHUNK_LENGTH / recordLength * recordLength);
+		}
+
+		final ByteBuffer scanBuffer = ByteBuffer.allocate(BOUNDARY_SCAN_LENGTH);
+		long position = chunkStart + CHUNK_LENGTH;
+		while (position < inputBytes) {
+			scanBuffer.clear();
+			final int bytesRead = inputChannel.read(scanBuffer, position);
+			for (int index = 0; index < bytesRead; index++) {
+				if (scanBuffer.get(index) == LINE_FEED) {
+					return position + index + 1;
+				}
+			}
+			if (bytesRead < 0) {
+				break;
+			}
+			position += bytesRead;
+		}
+
+		return inputBytes;
+	}
+
+	/**
+	 * Evaluates every hand of a chunk.
+	 *
+	 * @param inputChannel     The {@link FileChannel} of the file of hands. This
+	 *                         must never be null.
+	 * @param format           The {@link HandFileFormat}. This must never be null.
+	 * @param handRecordFormat The {@link HandRecordFormat} of a
+	 *                         {@link HandFileFormat#PACKED} file, or null.
+	 * @param chunkStart       The position of the first byte of the chunk.
+	 * @param chunkEnd         The position after the last byte of the chunk.
+	 * @return Non-null {@link ChunkResult}.
+	 */
+	private ChunkResult evaluateChunk(final FileChannel inputChannel, final HandFileFormat format,
+			final HandRecordFormat handRecordFormat, final long chunkStart, final long chunkEnd) {
+
+		final MappedByteBuffer buffer;
+		try {
+
+			buffer = inputChannel.map(FileChannel.MapMode.READ_ONLY, chunkStart, chunkEnd - chunkStart);
+		} catch (final IOException e) {
+
+			throw new UncheckedIOException(e);
+		}
+
+		// A text line of five cards is at least ten bytes, and an output line is
+		// no more than about twenty five.
+		final int length = buffer.capacity();
+		final int recordLength = getRecordLength(format, handRecordFormat);
+		final ChunkResult chunkResult = new ChunkResult(
+				(recordLength > 0 ? (length / recordLength + 1) * MAXIMUM_OUTPUT_LINE_LENGTH : length * 3)
+						+ MAXIMUM_OUTPUT_LINE_LENGTH);
+
+		long[] cardMasks = new long[recordLength > 0 ? length / recordLength + 1 : length / 10 + 1];
+		int handCount = 0;
+		int position = 0;
+		while (position < length) {
+			final long cardMask;
+			if (recordLength > 0) {
+				if (position + recordLength > length) {
+					cardMask = HandRecordParser.INVALID_HAND;
+				} else if (handRecordFormat != null) {
+					cardMask = HandRecordParser.parsePackedHand(handRecordFormat.readPackedHand(buffer, position));
+				} else {
+					cardMask = HandRecordParser.parseBinaryHand(buffer, position);
+				}
+				position += recordLength;
+			} else {
+				int lineEnd = position;
+				while (lineEnd < length && buffer.get(lineEnd) != LINE_FEED) {
+					lineEnd++;
+				}
+				cardMask = HandRecordParser.parseTextHand(buffer, position, lineEnd);
+				position = lineEnd + 1;
+			}
+
+			if (handCount == cardMasks.length) {
+				cardMasks = Arrays.copyOf(cardMasks, handCount * 2);
+			}
+			cardMasks[handCount++] = cardMask;
+		}
+
+		// Each run of valid hands is evaluated as one batch, leaving the strengths of
+		// invalid hands unset.
+		final int[] strengths = new int[handCount];
+		int runStart = 0;
+		for (int index = 0; index <= handCount; index++) {
+			if (index == handCount || cardMasks[index] == HandRecordParser.INVALID_HAND) {
+				if (index > runStart) {
+					this.batchHandStrengthEvaluator.evaluate(cardMasks, strengths, runStart, index - runStart);
+				}
+				runStart = index + 1;
+			}
+		}
+
+		for (int index = 0; index < handCount; index++) {
+			if (cardMasks[index] == HandRecordParser.INVALID_HAND) {
+				chunkResult.appendInvalid();
+			} else {
+				chunkResult.append(strengths[index]);
+			}
+		}
+
+		return chunkResult;
+	}
+
+	/**
+	 * Writes the output of a chunk and adds its hand counts to the totals.
+	 *
+	 * @param outputChannel        The {@link FileChannel} of the output. This must
+	 *                             never be null.
+	 * @param chunkResult          The {@link ChunkResult}. This must never be
+	 *                             null.
+	 * @param handCountsByCategory The total number of hands of each category. This
+	 *                             must never be null.
+	 * @return The number of invalid hands of the chunk.
+	 * @throws IOException When the output cannot be written.
+	 */
+	private long write(final FileChannel outputChannel, final ChunkResult chunkResult,
+			final long[] handCountsByCategory) throws IOException {
+
+		final ByteBuffer outputBuffer = ByteBuffer.wrap(chunkResult.output, 0, chunkResult.outputLength);
+		while (outputBuffer.hasRemaining()) {
+			outputChannel.write(outputBuffer);
+		}
+
+		for (int category = 0; category < handCountsByCategory.length; category++) {
+			handCountsByCategory[category] += chunkResult.handCountsByCategory[category];
+		}
+
+		return chunkResult.invalidHandCount;
+	}
+
+	/**
+	 * Waits for a chunk to be evaluated.
+	 *
+	 * @param chunk The {@link CompletableFuture} of the {@link ChunkResult}. This
+	 *              must never be null.
+	 * @return Non-null {@link ChunkResult}.
+	 * @throws IOException When the chunk could not be mapped.
+	 */
+	private ChunkResult join(final CompletableFuture<ChunkResult> chunk) throws IOException {
+
+		try {
+
+			return chunk.join();
+		} catch (final CompletionException e) {
+
+			if (e.getCause() instanceof UncheckedIOException) {
+				throw ((UncheckedIOException) e.getCause()).getCause();
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * The output and hand counts of a chunk.
+	 */
+	private static final class ChunkResult {
+
+		private final long[] handCountsByCategory = new long[HandStrength.NUMBER_OF_CATEGORIES];
+		private byte[] output;
+		private int outputLength;
+		private long invalidHandCount;
+
+		/**
+		 * @param outputCapacity The initial capacity of the output in bytes.
+		 */
+		private ChunkResult(final int outputCapacity) {
+
+			this.output = new byte[outputCapacity];
+		}
+
+		/**
+		 * Appends the line of a valid hand.
+		 *
+		 * @param strength The hand strength.
+		 */
+		private void append(final int strength) {
+
+			ensureCapacity();
+
+			final int category = HandStrength.getCategory(strength);
+			this.handCountsByCategory[category]++;
+
+			int digitsEnd = this.outputLength + 1;
+			for (int remaining = strength / 10; remaining > 0; remaining /= 10) {
+				digitsEnd++;
+			}
+
+			int index = digitsEnd;
+			int remaining = strength;
+			do {
+				this.output[--index] = (byte) ('0' + remaining % 10);
+				remaining /= 10;
+			} while (remaining > 0);
+
+			final byte[] categorySuffix = CATEGORY_SUFFIXES[category];
+			System.arraycopy(categorySuffix, 0, this.output, digitsEnd, categorySuffix.length);
+			this.outputLength = digitsEnd + categorySuffix.length;
+		}
+
+		/**
+		 * Appends the line of an invalid hand.
+		 */
+		private void appendInvalid() {
+
+			ensureCapacity();
+
+			this.invalidHandCount++;
+			System.arraycopy(INVALID_LINE, 0, this.output, this.outputLength, INVALID_LINE.length);
+			this.outputLength += INVALID_LINE.length;
+		}
+
+		/**
+		 * Grows the output if another line might not fit.
+		 */
+		private void ensureCapacity() {
+
+			if (this.output.length - this.outputLength < MAXIMUM_OUTPUT_LINE_LENGTH) {
+				this.output = Arrays.copyOf(this.output, this.output.length * 2);
+			}
+		}
+	}
+}
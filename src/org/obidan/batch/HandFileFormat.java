@@ -0,0 +1,37 @@
+package org.obidan.batch;
+
+import org.obidan.object.Card;
+
+/**
+ * The formats of a file of hands evaluated by a {@link HandFileEvaluator}.
+ *
+ * @author Obi-Dan
+ */
+public enum HandFileFormat {
+
+	/**
+	 * One hand per line, as the {@link Card}s of the hand separated by whitespace
+	 * or commas. Each {@link Card} is its face value (2 to 10, or T, J, Q, K, A)
+	 * followed by its suit (c, d, h, s, or the suit symbol), for instance
+	 * {@code As Kd 10h 2c 2s}. Face values and suits may be in either case.
+	 */
+	TEXT,
+
+	/**
+	 * Fixed-width records of {@value HandFileFormat#BINARY_RECORD_LENGTH} bytes,
+	 * one per hand. Each byte is the code of a {@link Card} of the hand, and
+	 * hands of fewer than seven cards fill the rest of the record with
+	 * {@value HandFileFormat#BINARY_NO_CARD}.
+	 */
+	BINARY,
+
+	/**
+	 * A file of {@link org.obidan.io.HandRecordFormat} records, in which each
+	 * {@link Card} is packed into six bits and the record may also hold the hand
+	 * strength (which is evaluated again rather than trusted).
+	 */
+	PACKED;
+
+	public static final int BINARY_RECORD_LENGTH = 7;
+	public static final int BINARY_NO_CARD = 0xFF;
+}
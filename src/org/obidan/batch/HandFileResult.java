@@ -0,0 +1,113 @@
+package org.obidan.batch;
+
+import org.obidan.handrank.HandStrength;
+import org.obidan.type.HandRank;
+
+/**
+ * The result of evaluating every hand of a file.
+ *
+ * @author Obi-Dan
+ */
+public class HandFileResult {
+
+	private static final double NANOSECONDS_PER_SECOND = 1_000_000_000.0;
+
+	private final long[] handCountsByCategory;
+	private final long invalidHandCount;
+	private final long inputBytes;
+	private final long elapsedNanoseconds;
+
+	/**
+	 * Constructs a {@link HandFileResult}.
+	 *
+	 * @param handCountsByCategory The number of hands of each
+	 *                             {@link HandStrength} category. This must never
+	 *                             be null.
+	 * @param invalidHandCount     The number of lines or records which were not
+	 *                             valid hands.
+	 * @param inputBytes           The size of the file of hands in bytes.
+	 * @param elapsedNanoseconds   The time taken to evaluate every hand.
+	 */
+	HandFileResult(final long[] handCountsByCategory, final long invalidHandCount, final long inputBytes,
+			final long elapsedNanoseconds) {
+
+		this.handCountsByCategory = handCountsByCategory;
+		this.invalidHandCount = invalidHandCount;
+		this.inputBytes = inputBytes;
+		this.elapsedNanoseconds = elapsedNanoseconds;
+	}
+
+	/**
+	 * @param handRank The {@link HandRank}. This must never be null.
+	 * @return The number of hands of the {@link HandRank}.
+	 */
+	public final long getHandCount(final HandRank handRank) {
+
+		return this.handCountsByCategory[HandStrength.getCategory(handRank)];
+	}
+
+	/**
+	 * @return The number of valid hands evaluated.
+	 */
+	public final long getHandCount() {
+
+		long handCount = 0;
+		for (final long categoryHandCount : this.handCountsByCategory) {
+			handCount += categoryHandCount;
+		}
+
+		return handCount;
+	}
+
+	/**
+	 * @return The number of lines or records which were not valid hands.
+	 */
+	public final long getInvalidHandCount() {
+
+		return this.invalidHandCount;
+	}
+
+	/**
+	 * @return The size of the file of hands in bytes.
+	 */
+	public final long getInputBytes() {
+
+		return this.inputBytes;
+	}
+
+	/**
+	 * @return The time taken to evaluate every hand in nanoseconds.
+	 */
+	public final long getElapsedNanoseconds() {
+
+		return this.elapsedNanoseconds;
+	}
+
+	/**
+	 * @return The number of hands, valid or not, evaluated per second.
+	 */
+	public final double getHandsPerSecond() {
+
+		return (getHandCount() + this.invalidHandCount) * NANOSECONDS_PER_SECOND
+				/ Math.max(1, this.elapsedNanoseconds);
+	}
+
+	/**
+	 * @return The number of bytes of the file of hands read per second.
+	 */
+	public final double getBytesPerSecond() {
+
+		return this.inputBytes * NANOSECONDS_PER_SECOND / Math.max(1, this.elapsedNanoseconds);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+
+		return new StringBuilder("HandFileResult[handCount=").append(getHandCount()).append(",invalidHandCount=")
+				.append(this.invalidHandCount).append(",inputBytes=").append(this.inputBytes)
+				.append(",elapsedNanoseconds=").append(this.elapsedNanoseconds).append("]").toString();
+	}
+}
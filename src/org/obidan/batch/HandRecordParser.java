@@ -0,0 +1,209 @@
+package org.obidan.batch;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.obidan.io.PackedHand;
+import org.obidan.object.Card;
+import org.obidan.type.FaceValue;
+import org.obidan.type.Suit;
+
+/**
+ * Parses the hands of a {@link HandFileFormat} directly from the bytes of a
+ * buffer into card masks, without decoding them into characters or creating
+ * any objects.
+ *
+ * @author Obi-Dan
+ */
+final class HandRecordParser {
+
+	static final long INVALID_HAND = 0;
+
+	private static final int MINIMUM_NUMBER_OF_CARDS = 5;
+	private static final int MAXIMUM_NUMBER_OF_CARDS = 7;
+	private static final int NO_RANK = -1;
+	private static final int[] RANK_INDEXES_BY_BYTE = createRankIndexesByByte();
+	private static final int[] SUIT_INDEXES_BY_BYTE = createSuitIndexesByByte();
+	private static final int[] SUIT_INDEXES_BY_SYMBOL_BYTE = createSuitIndexesBySymbolByte();
+	private static final byte SYMBOL_FIRST_BYTE = (byte) 0xE2;
+	private static final byte SYMBOL_SECOND_BYTE = (byte) 0x99;
+
+	/**
+	 * @return Non-null array of the rank index of each single byte face value, or
+	 *         {@value #NO_RANK}.
+	 */
+	private static int[] createRankIndexesByByte() {
+
+		final int[] rankIndexesByByte = new int[256];
+		Arrays.fill(rankIndexesByByte, NO_RANK);
+		for (final FaceValue faceValue : FaceValue.values()) {
+			final char symbol = faceValue == FaceValue.TEN ? 'T' : faceValue.getSymbol().charAt(0);
+			rankIndexesByByte[symbol] = faceValue.ordinal();
+			rankIndexesByByte[Character.toLowerCase(symbol)] = faceValue.ordinal();
+		}
+
+		return rankIndexesByByte;
+	}
+
+	/**
+	 * @return Non-null array of the suit index of each suit letter, or -1.
+	 */
+	private static int[] createSuitIndexesByByte() {
+
+		final int[] suitIndexesByByte = new int[256];
+		Arrays.fill(suitIndexesByByte, -1);
+		for (final Suit suit : Suit.values()) {
+			final char letter = Character.toLowerCase(suit.name().charAt(0));
+			suitIndexesByByte[letter] = suit.ordinal();
+			suitIndexesByByte[Character.toUpperCase(letter)] = suit.ordinal();
+		}
+
+		return suitIndexesByByte;
+	}
+
+	/**
+	 * @return Non-null array of the suit index of the last UTF-8 byte of each suit
+	 *         symbol, or -1.
+	 */
+	private static int[] createSuitIndexesBySymbolByte() {
+
+		final int[] suitIndexesBySymbolByte = new int[256];
+		Arrays.fill(suitIndexesBySymbolByte, -1);
+		for (final Suit suit : Suit.values()) {
+			final byte[] symbolBytes = suit.getSymbol().getBytes(StandardCharsets.UTF_8);
+			suitIndexesBySymbolByte[symbolBytes[2] & 0xFF] = suit.ordinal();
+		}
+
+		return suitIndexesBySymbolByte;
+	}
+
+	/**
+	 * Prevents construction of this class.
+	 */
+	private HandRecordParser() {
+	}
+
+	/**
+	 * Parses a line of a {@link HandFileFormat#TEXT} file.
+	 *
+	 * @param buffer The {@link ByteBuffer} holding the line. This must never be
+	 *               null.
+	 * @param start  The index of the first byte of the line.
+	 * @param end    The index after the last byte of the line, not including the
+	 *               line feed.
+	 * @return The card mask of the hand, or {@value #INVALID_HAND} if the line is
+	 *         not a hand of between five and seven distinct {@link Card}s.
+	 */
+	static long parseTextHand(final ByteBuffer buffer, final int start, final int end) {
+
+		long cardMask = 0;
+		int numberOfCards = 0;
+		int index = start;
+
+		while (true) {
+			while (index < end && isSeparator(buffer.get(index))) {
+				index++;
+			}
+			if (index == end) {
+				break;
+			}
+
+			int rankIndex = RANK_INDEXES_BY_BYTE[buffer.get(index++) & 0xFF];
+			if (rankIndex == NO_RANK && buffer.get(index - 1) == '1' && index < end && buffer.get(index) == '0') {
+				rankIndex = FaceValue.TEN.ordinal();
+				index++;
+			}
+			if (rankIndex == NO_RANK || index == end) {
+				return INVALID_HAND;
+			}
+
+			int suitIndex = SUIT_INDEXES_BY_BYTE[buffer.get(index++) & 0xFF];
+			if (suitIndex < 0 && buffer.get(index - 1) == SYMBOL_FIRST_BYTE && index + 1 < end
+					&& buffer.get(index) == SYMBOL_SECOND_BYTE) {
+				suitIndex = SUIT_INDEXES_BY_SYMBOL_BYTE[buffer.get(index + 1) & 0xFF];
+				index += 2;
+			}
+			if (suitIndex < 0 || (index < end && !isSeparator(buffer.get(index)))) {
+				return INVALID_HAND;
+			}
+
+			final long cardBit = 1L << (suitIndex * Card.NUMBER_OF_FACE_VALUES + rankIndex);
+			if ((cardMask & cardBit) != 0 || ++numberOfCards > MAXIMUM_NUMBER_OF_CARDS) {
+				return INVALID_HAND;
+			}
+			cardMask |= cardBit;
+		}
+
+		return numberOfCards < MINIMUM_NUMBER_OF_CARDS ? INVALID_HAND : cardMask;
+	}
+
+	/**
+	 * Parses a record of a {@link HandFileFormat#BINARY} file.
+	 *
+	 * @param buffer The {@link ByteBuffer} holding the record. This must never be
+	 *               null.
+	 * @param start  The index of the first byte of the record, which must be
+	 *               followed by at least
+	 *               {@value HandFileFormat#BINARY_RECORD_LENGTH} bytes.
+	 * @return The card mask of the hand, or {@value #INVALID_HAND} if the record is
+	 *         not a hand of between five and seven distinct {@link Card}s.
+	 */
+	static long parseBinaryHand(final ByteBuffer buffer, final int start) {
+
+		long cardMask = 0;
+		int numberOfCards = 0;
+
+		for (int index = start; index < start + HandFileFormat.BINARY_RECORD_LENGTH; index++) {
+			final int code = buffer.get(index) & 0xFF;
+			if (code == HandFileFormat.BINARY_NO_CARD) {
+				continue;
+			}
+
+			if (code >= Card.NUMBER_OF_CARDS || (cardMask & (1L << code)) != 0) {
+				return INVALID_HAND;
+			}
+			cardMask |= 1L << code;
+			numberOfCards++;
+		}
+
+		return numberOfCards < MINIMUM_NUMBER_OF_CARDS ? INVALID_HAND : cardMask;
+	}
+
+	/**
+	 * Parses a record of a {@link HandFileFormat#PACKED} file.
+	 *
+	 * @param packedHand The {@link PackedHand} of the record.
+	 * @return The card mask of the hand, or {@value #INVALID_HAND} if the record is
+	 *         not a hand of between five and seven distinct {@link Card}s.
+	 */
+	static long parsePackedHand(final long packedHand) {
+
+		long cardMask = 0;
+		int numberOfCards = 0;
+
+		for (int index = 0; index < PackedHand.MAXIMUM_NUMBER_OF_CARDS; index++) {
+			final int code = PackedHand.getCode(packedHand, index);
+			if (code == PackedHand.NO_CARD) {
+				continue;
+			}
+
+			if (code >= Card.NUMBER_OF_CARDS || (cardMask & (1L << code)) != 0) {
+				return INVALID_HAND;
+			}
+			cardMask |= 1L << code;
+			numberOfCards++;
+		}
+
+		return numberOfCards < MINIMUM_NUMBER_OF_CARDS ? INVALID_HAND : cardMask;
+	}
+
+	/**
+	 * @param value The byte.
+	 * @return True if the byte separates the {@link Card}s of a line.
+	 */
+	private static boolean isSeparator(final byte value) {
+
+		return value == ' ' || value == ',' || value == '\t' || value == '\r';
+	}
+}
@@ -0,0 +1,98 @@
+package org.obidan.enumeration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.obidan.handrank.HandStrength;
+import org.obidan.handrank.PokerHandRankEvaluator;
+import org.obidan.object.Card;
+import org.obidan.object.HandOfCards;
+import org.obidan.utility.CardFaceValueGrouper;
+import org.obidan.utility.SequentialCardFinder;
+
+/**
+ * Evaluates the {@link HandStrength} of a hand given as an array of
+ * {@link Card} codes, which is how hands are enumerated.
+ *
+ * @author Obi-Dan
+ */
+@FunctionalInterface
+public interface CardCodeEvaluator {
+
+	/**
+	 * Evaluates the {@link HandStrength} of a hand.
+	 *
+	 * @param codes         The array of {@link Card} codes, starting at index 0.
+	 *                      This must never be null. This must not be retained or
+	 *                      modified, since it is reused for the next hand.
+	 * @param numberOfCards The number of codes in the hand.
+	 * @return The hand strength.
+	 */
+	int evaluateHandStrength(int[] codes, int numberOfCards);
+
+	/**
+	 * Creates a {@link CardCodeEvaluator} which creates a {@link HandOfCards} for
+	 * each hand and evaluates it with a {@link PokerHandRankEvaluator}.
+	 *
+	 * @param pokerHandRankEvaluator The {@link PokerHandRankEvaluator}. This must
+	 *                               never be null.
+	 * @param sequentialCardFinder   The {@link SequentialCardFinder}. This must
+	 *                               never be null.
+	 * @param cardFaceValueGrouper   The {@link CardFaceValueGrouper}. This must
+	 *                               never be null.
+	 * @return Non-null {@link CardCodeEvaluator}.
+	 */
+	static CardCodeEvaluator of(final PokerHandRankEvaluator pokerHandRankEvaluator,
+			final SequentialCardFinder sequentialCardFinder, final CardFaceValueGrouper cardFaceValueGrouper) {
+
+		return (codes, numberOfCards) -> {
+			final List<Card> cards = new ArrayList<>(numberOfCards);
+			for (int index = 0; index < numberOfCards; index++) {
+				cards.add(Card.create(codes[index]));
+			}
+
+			return pokerHandRankEvaluator
+					.evaluateHandStrength(HandOfCards.create(cards, sequentialCardFinder, cardFaceValueGrouper));
+		};
+	}
+
+	/**
+	 * Creates a {@link CardCodeEvaluator} which evaluates hands of more than five
+	 * cards by evaluating every five card subset with a five card
+	 * {@link CardCodeEvaluator} and keeping the best. This is far slower than an
+	 * evaluator which supports more than five cards directly and is intended only
+	 * as a reference to verify such evaluators against.
+	 *
+	 * @param fiveCardEvaluator The {@link CardCodeEvaluator} for five card hands.
+	 *                          This must never be null.
+	 * @return Non-null {@link CardCodeEvaluator}.
+	 */
+	static CardCodeEvaluator bestFiveCardHand(final CardCodeEvaluator fiveCardEvaluator) {
+
+		return (codes, numberOfCards) -> {
+			if (numberOfCards == 5) {
+				return fiveCardEvaluator.evaluateHandStrength(codes, numberOfCards);
+			}
+
+			final int[] subsetCodes = new int[5];
+			int bestStrength = -1;
+
+			for (int subset = 0; subset < 1 << numberOfCards; subset++) {
+				if (Integer.bitCount(subset) != 5) {
+					continue;
+				}
+
+				int subsetIndex = 0;
+				for (int index = 0; index < numberOfCards; index++) {
+					if ((subset & (1 << index)) != 0) {
+						subsetCodes[subsetIndex++] = codes[index];
+					}
+				}
+
+				bestStrength = Math.max(bestStrength, fiveCardEvaluator.evaluateHandStrength(subsetCodes, 5));
+			}
+
+			return bestStrength;
+		};
+	}
+}
@@ -0,0 +1,91 @@
+package org.obidan.enumeration;
+
+import org.obidan.handrank.HandStrength;
+import org.obidan.type.HandRank;
+
+/**
+ * The result of evaluating every hand of a number of cards.
+ *
+ * @author Obi-Dan
+ */
+public class EnumerationResult {
+
+	private static final double NANOSECONDS_PER_SECOND = 1_000_000_000.0;
+
+	private final int numberOfCards;
+	private final long[] handCountsByCategory;
+	private final long elapsedNanoseconds;
+
+	/**
+	 * Constructs an {@link EnumerationResult}.
+	 *
+	 * @param numberOfCards        The number of cards in each hand.
+	 * @param handCountsByCategory The number of hands of each
+	 *                             {@link HandStrength} category. This must never
+	 *                             be null.
+	 * @param elapsedNanoseconds   The time taken to evaluate every hand.
+	 */
+	EnumerationResult(final int numberOfCards, final long[] handCountsByCategory, final long elapsedNanoseconds) {
+
+		this.numberOfCards = numberOfCards;
+		this.handCountsByCategory = handCountsByCategory;
+		this.elapsedNanoseconds = elapsedNanoseconds;
+	}
+
+	/**
+	 * @return The number of cards in each hand.
+	 */
+	public final int getNumberOfCards() {
+
+		return this.numberOfCards;
+	}
+
+	/**
+	 * @param handRank The {@link HandRank}. This must never be null.
+	 * @return The number of hands of the {@link HandRank}.
+	 */
+	public final long getHandCount(final HandRank handRank) {
+
+		return this.handCountsByCategory[HandStrength.getCategory(handRank)];
+	}
+
+	/**
+	 * @return The total number of hands evaluated.
+	 */
+	public final long getHandCount() {
+
+		long handCount = 0;
+		for (final long categoryHandCount : this.handCountsByCategory) {
+			handCount += categoryHandCount;
+		}
+
+		return handCount;
+	}
+
+	/**
+	 * @return The time taken to evaluate every hand in nanoseconds.
+	 */
+	public final long getElapsedNanoseconds() {
+
+		return this.elapsedNanoseconds;
+	}
+
+	/**
+	 * @return The number of hands evaluated per second.
+	 */
+	public final double getHandsPerSecond() {
+
+		return getHandCount() * NANOSECONDS_PER_SECOND / Math.max(1, this.elapsedNanoseconds);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+
+		return new StringBuilder("EnumerationResult[numberOfCards=").append(this.numberOfCards)
+				.append(",handCount=").append(getHandCount()).append(",elapsedNanoseconds=")
+				.append(this.elapsedNanoseconds).append("]").toString();
+	}
+}
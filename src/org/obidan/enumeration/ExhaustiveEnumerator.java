@@ -0,0 +1,368 @@
+package org.obidan.enumeration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+import org.obidan.handrank.HandStrength;
+import org.obidan.object.Card;
+
+/**
+ * Enumerates every hand of a number of cards from a single deck (2,598,960 five
+ * card hands or 133,784,560 seven card hands) across every thread of a
+ * {@link ForkJoinPool}. The hands are split into one task for each pair of
+ * lowest card codes, so no task holds more than a small fraction of the hands.
+ *
+ * @author Obi-Dan
+ */
+public class ExhaustiveEnumerator {
+
+	private static final int MINIMUM_NUMBER_OF_CARDS = 5;
+	private static final int MAXIMUM_NUMBER_OF_CARDS = 7;
+	private static final int MAXIMUM_SAMPLE_MISMATCHES = 10;
+
+	private final ForkJoinPool forkJoinPool;
+
+	/**
+	 * Constructs an {@link ExhaustiveEnumerator}.
+	 *
+	 * @param forkJoinPool The {@link ForkJoinPool} the hands are enumerated on.
+	 *                     This must never be null.
+	 */
+	public ExhaustiveEnumerator(final ForkJoinPool forkJoinPool) {
+
+		this.forkJoinPool = forkJoinPool;
+	}
+
+	/**
+	 * Evaluates every hand and counts the hands of each {@link HandStrength}
+	 * category.
+	 *
+	 * @param numberOfCards     The number of cards in each hand. This must be
+	 *                          between five and seven.
+	 * @param cardCodeEvaluator The {@link CardCodeEvaluator}. This must never be
+	 *                          null and must be safe to use from several threads.
+	 * @return Non-null {@link EnumerationResult}.
+	 * @throws IllegalArgumentException If the number of cards is not supported.
+	 */
+	public EnumerationResult enumerate(final int numberOfCards, final CardCodeEvaluator cardCodeEvaluator) {
+
+		validateNumberOfCards(numberOfCards);
+
+		final List<CountingTask> tasks = new ArrayList<>();
+		forEachTaskPrefix(numberOfCards, (firstCode, secondCode) -> tasks
+				.add(new CountingTask(numberOfCards, firstCode, secondCode, cardCodeEvaluator)));
+
+		final long startNanoseconds = System.nanoTime();
+		final long[] handCountsByCategory = new long[HandStrength.NUMBER_OF_CATEGORIES];
+		this.forkJoinPool.invoke(new InvokeAllTask<>(tasks));
+
+		for (final CountingTask task : tasks) {
+			final long[] taskHandCountsByCategory = task.join();
+			for (int category = 0; category < handCountsByCategory.length; category++) {
+				handCountsByCategory[category] += taskHandCountsByCategory[category];
+			}
+		}
+
+		return new EnumerationResult(numberOfCards, handCountsByCategory, System.nanoTime() - startNanoseconds);
+	}
+
+	/**
+	 * Evaluates every hand with a reference and a candidate evaluator and compares
+	 * the hand strengths.
+	 *
+	 * @param numberOfCards      The number of cards in each hand. This must be
+	 *                           between five and seven.
+	 * @param referenceEvaluator The reference {@link CardCodeEvaluator}. This must
+	 *                           never be null and must be safe to use from several
+	 *                           threads.
+	 * @param candidateEvaluator The candidate {@link CardCodeEvaluator}. This must
+	 *                           never be null and must be safe to use from several
+	 *                           threads.
+	 * @return Non-null {@link VerificationResult}.
+	 * @throws IllegalArgumentException If the number of cards is not supported.
+	 */
+	public VerificationResult verify(final int numberOfCards, final CardCodeEvaluator referenceEvaluator,
+			final CardCodeEvaluator candidateEvaluator) {
+
+		validateNumberOfCards(numberOfCards);
+
+		final List<VerifyingTask> tasks = new ArrayList<>();
+		forEachTaskPrefix(numberOfCards, (firstCode, secondCode) -> tasks.add(
+				new VerifyingTask(numberOfCards, firstCode, secondCode, referenceEvaluator, candidateEvaluator)));
+
+		this.forkJoinPool.invoke(new InvokeAllTask<>(tasks));
+
+		long handCount = 0;
+		long mismatchCount = 0;
+		final List<String> sampleMismatches = new ArrayList<>();
+		for (final VerifyingTask task : tasks) {
+			task.join();
+			handCount += task.handCount;
+			mismatchCount += task.mismatchCount;
+			for (final String sampleMismatch : task.sampleMismatches) {
+				if (sampleMismatches.size() < MAXIMUM_SAMPLE_MISMATCHES) {
+					sampleMismatches.add(sampleMismatch);
+				}
+			}
+		}
+
+		return new VerificationResult(numberOfCards, handCount, mismatchCount, sampleMismatches);
+	}
+
+	/**
+	 * @param numberOfCards The number of cards in each hand.
+	 * @throws IllegalArgumentException If the number of cards is not supported.
+	 */
+	private void validateNumberOfCards(final int numberOfCards) {
+
+		if (numberOfCards < MINIMUM_NUMBER_OF_CARDS || numberOfCards > MAXIMUM_NUMBER_OF_CARDS) {
+			throw new IllegalArgumentException("Only hands of between 5 and 7 cards may be enumerated (numberOfCards="
+					+ numberOfCards + ").");
+		}
+	}
+
+	/**
+	 * Visits each pair of lowest card codes which begins at least one hand.
+	 *
+	 * @param numberOfCards The number of cards in each hand.
+	 * @param consumer      The consumer of each pair of codes. This must never be
+	 *                      null.
+	 */
+	private void forEachTaskPrefix(final int numberOfCards, final TaskPrefixConsumer consumer) {
+
+		for (int firstCode = 0; firstCode <= Card.NUMBER_OF_CARDS - numberOfCards; firstCode++) {
+			for (int secondCode = firstCode + 1; secondCode <= Card.NUMBER_OF_CARDS - numberOfCards
+					+ 1; secondCode++) {
+				consumer.accept(firstCode, secondCode);
+			}
+		}
+	}
+
+	/**
+	 * Consumer of the two lowest card codes of the hands of a task.
+	 */
+	@FunctionalInterface
+	private interface TaskPrefixConsumer {
+
+		/**
+		 * @param firstCode  The lowest card code.
+		 * @param secondCode The second lowest card code.
+		 */
+		void accept(int firstCode, int secondCode);
+	}
+
+	/**
+	 * Forks a list of tasks and waits for all of them to complete.
+	 *
+	 * @param <T> The type of task.
+	 */
+	private static final class InvokeAllTask<T extends ForkJoinTask<?>> extends RecursiveTask<Void> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final List<T> tasks;
+
+		/**
+		 * @param tasks The {@link List} of tasks. This must never be null.
+		 */
+		private InvokeAllTask(final List<T> tasks) {
+
+			this.tasks = tasks;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected Void compute() {
+
+			invokeAll(this.tasks);
+			return null;
+		}
+	}
+
+	/**
+	 * Visits every hand which begins with two given card codes.
+	 *
+	 * @param <R> The type of result of the task.
+	 */
+	private abstract static class EnumerationTask<R> extends RecursiveTask<R> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int numberOfCards;
+		private final int firstCode;
+		private final int secondCode;
+
+		/**
+		 * @param numberOfCards The number of cards in each hand.
+		 * @param firstCode     The lowest card code of every hand.
+		 * @param secondCode    The second lowest card code of every hand.
+		 */
+		private EnumerationTask(final int numberOfCards, final int firstCode, final int secondCode) {
+
+			this.numberOfCards = numberOfCards;
+			this.firstCode = firstCode;
+			this.secondCode = secondCode;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected final R compute() {
+
+			final int[] codes = new int[this.numberOfCards];
+			codes[0] = this.firstCode;
+			codes[1] = this.secondCode;
+			visitHands(codes, 2, this.secondCode + 1);
+
+			return getResult();
+		}
+
+		/**
+		 * Assigns the remaining codes of each hand in ascending order.
+		 *
+		 * @param codes     The codes of the hand. This must never be null.
+		 * @param index     The index of the next code to assign.
+		 * @param firstCode The lowest code which may be assigned.
+		 */
+		private void visitHands(final int[] codes, final int index, final int firstCode) {
+
+			if (index == codes.length) {
+				visit(codes);
+				return;
+			}
+
+			for (int code = firstCode; code <= Card.NUMBER_OF_CARDS - codes.length + index; code++) {
+				codes[index] = code;
+				visitHands(codes, index + 1, code + 1);
+			}
+		}
+
+		/**
+		 * Visits a hand.
+		 *
+		 * @param codes The codes of the hand. This must never be null and will be
+		 *              reused for the next hand.
+		 */
+		protected abstract void visit(int[] codes);
+
+		/**
+		 * @return The result of the task once every hand has been visited.
+		 */
+		protected abstract R getResult();
+	}
+
+	/**
+	 * Counts the hands of each {@link HandStrength} category.
+	 */
+	private static final class CountingTask extends EnumerationTask<long[]> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final transient CardCodeEvaluator cardCodeEvaluator;
+		private final long[] handCountsByCategory = new long[HandStrength.NUMBER_OF_CATEGORIES];
+
+		/**
+		 * @param numberOfCards     The number of cards in each hand.
+		 * @param firstCode         The lowest card code of every hand.
+		 * @param secondCode        The second lowest card code of every hand.
+		 * @param cardCodeEvaluator The {@link CardCodeEvaluator}. This must never be
+		 *                          null.
+		 */
+		private CountingTask(final int numberOfCards, final int firstCode, final int secondCode,
+				final CardCodeEvaluator cardCodeEvaluator) {
+
+			super(numberOfCards, firstCode, secondCode);
+			this.cardCodeEvaluator = cardCodeEvaluator;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected void visit(final int[] codes) {
+
+			this.handCountsByCategory[HandStrength
+					.getCategory(this.cardCodeEvaluator.evaluateHandStrength(codes, codes.length))]++;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected long[] getResult() {
+
+			return this.handCountsByCategory;
+		}
+	}
+
+	/**
+	 * Compares the hand strengths of a reference and a candidate evaluator.
+	 */
+	private static final class VerifyingTask extends EnumerationTask<Void> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final transient CardCodeEvaluator referenceEvaluator;
+		private final transient CardCodeEvaluator candidateEvaluator;
+		private final List<String> sampleMismatches = new ArrayList<>();
+		private long handCount;
+		private long mismatchCount;
+
+		/**
+		 * @param numberOfCards      The number of cards in each hand.
+		 * @param firstCode          The lowest card code of every hand.
+		 * @param secondCode         The second lowest card code of every hand.
+		 * @param referenceEvaluator The reference {@link CardCodeEvaluator}. This
+		 *                           must never be null.
+		 * @param candidateEvaluator The candidate {@link CardCodeEvaluator}. This
+		 *                           must never be null.
+		 */
+		private VerifyingTask(final int numberOfCards, final int firstCode, final int secondCode,
+				final CardCodeEvaluator referenceEvaluator, final CardCodeEvaluator candidateEvaluator) {
+
+			super(numberOfCards, firstCode, secondCode);
+			this.referenceEvaluator = referenceEvaluator;
+			this.candidateEvaluator = candidateEvaluator;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected void visit(final int[] codes) {
+
+			this.handCount++;
+
+			final int referenceStrength = this.referenceEvaluator.evaluateHandStrength(codes, codes.length);
+			final int candidateStrength = this.candidateEvaluator.evaluateHandStrength(codes, codes.length);
+			if (referenceStrength == candidateStrength) {
+				return;
+			}
+
+			this.mismatchCount++;
+			if (this.sampleMismatches.size() < MAXIMUM_SAMPLE_MISMATCHES) {
+				final StringBuilder stringBuilder = new StringBuilder("[");
+				for (int index = 0; index < codes.length; index++) {
+					stringBuilder.append(index == 0 ? "" : " ").append(Card.create(codes[index]));
+				}
+				this.sampleMismatches.add(stringBuilder.append("] reference=").append(referenceStrength)
+						.append(",candidate=").append(candidateStrength).toString());
+			}
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected Void getResult() {
+
+			return null;
+		}
+	}
+}
@@ -0,0 +1,87 @@
+package org.obidan.enumeration;
+
+import java.util.List;
+
+/**
+ * The result of comparing a candidate evaluator with a reference evaluator over
+ * every hand of a number of cards.
+ *
+ * @author Obi-Dan
+ */
+public class VerificationResult {
+
+	private final int numberOfCards;
+	private final long handCount;
+	private final long mismatchCount;
+	private final List<String> sampleMismatches;
+
+	/**
+	 * Constructs a {@link VerificationResult}.
+	 *
+	 * @param numberOfCards    The number of cards in each hand.
+	 * @param handCount        The number of hands compared.
+	 * @param mismatchCount    The number of hands the evaluators disagreed on.
+	 * @param sampleMismatches A {@link List} describing some of the hands the
+	 *                         evaluators disagreed on. This must never be null.
+	 */
+	VerificationResult(final int numberOfCards, final long handCount, final long mismatchCount,
+			final List<String> sampleMismatches) {
+
+		this.numberOfCards = numberOfCards;
+		this.handCount = handCount;
+		this.mismatchCount = mismatchCount;
+		this.sampleMismatches = sampleMismatches;
+	}
+
+	/**
+	 * @return The number of cards in each hand.
+	 */
+	public final int getNumberOfCards() {
+
+		return this.numberOfCards;
+	}
+
+	/**
+	 * @return The number of hands compared.
+	 */
+	public final long getHandCount() {
+
+		return this.handCount;
+	}
+
+	/**
+	 * @return The number of hands the evaluators disagreed on.
+	 */
+	public final long getMismatchCount() {
+
+		return this.mismatchCount;
+	}
+
+	/**
+	 * @return Non-null {@link List} describing some of the hands the evaluators
+	 *         disagreed on.
+	 */
+	public final List<String> getSampleMismatches() {
+
+		return this.sampleMismatches;
+	}
+
+	/**
+	 * @return True if the evaluators agreed on every hand.
+	 */
+	public final boolean isVerified() {
+
+		return this.mismatchCount == 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+
+		return new StringBuilder("VerificationResult[numberOfCards=").append(this.numberOfCards)
+				.append(",handCount=").append(this.handCount).append(",mismatchCount=").append(this.mismatchCount)
+				.append(",sampleMismatches=").append(this.sampleMismatches).append("]").toString();
+	}
+}
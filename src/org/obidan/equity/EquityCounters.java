@@ -0,0 +1,96 @@
+package org.obidan.equity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of the runouts each player of an {@link EquityQuery} wins and ties,
+ * shared by every task of a calculation. The counters are striped
+ * ({@link LongAdder}), so tasks finishing at the same time on different threads
+ * do not contend on a single value.
+ * <p>
+ * Ties are counted by the number of players who tied rather than summed as
+ * fractional shares, so the counts are exact whatever order the tasks finish in
+ * and each player's share of the ties is computed once, in a fixed order, when
+ * the {@link EquityResult} is created. The same query therefore always gives
+ * exactly the same equities.
+ *
+ * @author Obi-Dan
+ */
+final class EquityCounters {
+
+	private final LongAdder numberOfRunouts = new LongAdder();
+	private final LongAdder[] winCounts;
+	private final LongAdder[][] tieCountsByNumberOfWinners;
+
+	/**
+	 * Constructs an {@link EquityCounters}.
+	 *
+	 * @param numberOfPlayers The number of players.
+	 */
+	EquityCounters(final int numberOfPlayers) {
+
+		this.winCounts = new LongAdder[numberOfPlayers];
+		this.tieCountsByNumberOfWinners = new LongAdder[numberOfPlayers][numberOfPlayers + 1];
+
+		for (int playerIndex = 0; playerIndex < numberOfPlayers; playerIndex++) {
+			this.winCounts[playerIndex] = new LongAdder();
+			for (int numberOfWinners = 0; numberOfWinners <= numberOfPlayers; numberOfWinners++) {
+				this.tieCountsByNumberOfWinners[playerIndex][numberOfWinners] = new LongAdder();
+			}
+		}
+	}
+
+	/**
+	 * Adds the counts of a task.
+	 *
+	 * @param numberOfRunouts            The number of runouts scored by the task.
+	 * @param winCounts                  The number of runouts each player won.
+	 *                                   This must never be null.
+	 * @param tieCountsByNumberOfWinners The number of runouts each player tied,
+	 *                                   indexed by player and then by the number
+	 *                                   of players who tied. This must never be
+	 *                                   null.
+	 */
+	void add(final long numberOfRunouts, final long[] winCounts, final long[][] tieCountsByNumberOfWinners) {
+
+		this.numberOfRunouts.add(numberOfRunouts);
+		for (int playerIndex = 0; playerIndex < this.winCounts.length; playerIndex++) {
+			this.winCounts[playerIndex].add(winCounts[playerIndex]);
+			final long[] tieCounts = tieCountsByNumberOfWinners[playerIndex];
+			for (int numberOfWinners = 2; numberOfWinners < tieCounts.length; numberOfWinners++) {
+				this.tieCountsByNumberOfWinners[playerIndex][numberOfWinners].add(tieCounts[numberOfWinners]);
+			}
+		}
+	}
+
+	/**
+	 * Creates the {@link EquityResult} once every task has added its counts.
+	 *
+	 * @param equityQuery        The {@link EquityQuery}. This must never be null.
+	 * @param elapsedNanoseconds The time taken to calculate the equities.
+	 * @return Non-null {@link EquityResult}.
+	 */
+	EquityResult createEquityResult(final EquityQuery equityQuery, final long elapsedNanoseconds) {
+
+		final long numberOfRunouts = this.numberOfRunouts.sum();
+		final List<PlayerEquity> playerEquities = new ArrayList<>(this.winCounts.length);
+		for (int playerIndex = 0; playerIndex < this.winCounts.length; playerIndex++) {
+			final LongAdder[] tieCounts = this.tieCountsByNumberOfWinners[playerIndex];
+			long tieCount = 0;
+			double tieShare = 0;
+			for (int numberOfWinners = 2; numberOfWinners < tieCounts.length; numberOfWinners++) {
+				final long count = tieCounts[numberOfWinners].sum();
+				tieCount += count;
+				tieShare += (double) count / numberOfWinners;
+			}
+			playerEquities.add(
+					new PlayerEquity(numberOfRunouts, this.winCounts[playerIndex].sum(), tieCount, tieShare));
+		}
+
+		return new EquityResult(equityQuery, numberOfRunouts, Collections.unmodifiableList(playerEquities),
+				elapsedNanoseconds);
+	}
+}
@@ -0,0 +1,244 @@
+package org.obidan.equity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.obidan.object.Card;
+import org.obidan.object.Deck;
+
+/**
+ * A spot to calculate the equity of: the known hole {@link Card}s of each
+ * player, the {@link Card}s already dealt to the board, and any dead
+ * {@link Card}s which are known to be out of the deck but belong to no player
+ * (for instance, folded or burned cards). The remaining board {@link Card}s are
+ * dealt from every {@link Card} not otherwise known.
+ *
+ * @author Obi-Dan
+ */
+public final class EquityQuery {
+
+	public static final int MINIMUM_NUMBER_OF_PLAYERS = 2;
+	public static final int MAXIMUM_HOLE_CARDS_PER_PLAYER = 2;
+	public static final int BOARD_SIZE = 5;
+
+	private final List<List<Card>> holeCards;
+	private final List<Card> boardCards;
+	private final List<Card> deadCards;
+	private final long[] holeCardMasks;
+	private final long boardCardMask;
+	private final long knownCardMask;
+
+	/**
+	 * Constructs an {@link EquityQuery}.
+	 *
+	 * @param holeCards     The unmodifiable {@link List} of each player's hole
+	 *                      {@link Card}s. This must never be null.
+	 * @param boardCards    The unmodifiable {@link List} of board {@link Card}s.
+	 *                      This must never be null.
+	 * @param deadCards     The unmodifiable {@link List} of dead {@link Card}s.
+	 *                      This must never be null.
+	 * @param holeCardMasks The card mask of each player's hole {@link Card}s. This
+	 *                      must never be null.
+	 * @param boardCardMask The card mask of the board {@link Card}s.
+	 * @param knownCardMask The card mask of every known {@link Card}.
+	 */
+	private EquityQuery(final List<List<Card>> holeCards, final List<Card> boardCards, final List<Card> deadCards,
+			final long[] holeCardMasks, final long boardCardMask, final long knownCardMask) {
+
+		this.holeCards = holeCards;
+		this.boardCards = boardCards;
+		this.deadCards = deadCards;
+		this.holeCardMasks = holeCardMasks;
+		this.boardCardMask = boardCardMask;
+		this.knownCardMask = knownCardMask;
+	}
+
+	/**
+	 * Creates an {@link EquityQuery}.
+	 *
+	 * @param holeCards  The {@link List} of each player's hole {@link Card}s. This
+	 *                   must never be null, must contain at least
+	 *                   {@value #MINIMUM_NUMBER_OF_PLAYERS} players, and each
+	 *                   player must hold one or two {@link Card}s.
+	 * @param boardCards The {@link List} of board {@link Card}s. This must never be
+	 *                   null and must contain no more than {@value #BOARD_SIZE}
+	 *                   {@link Card}s.
+	 * @param deadCards  The {@link List} of dead {@link Card}s. This must never be
+	 *                   null.
+	 * @return Non-null {@link EquityQuery}.
+	 * @throws IllegalArgumentException If there are too few players, a player
+	 *                                  holds too few or too many {@link Card}s,
+	 *                                  the board holds too many {@link Card}s, a
+	 *                                  {@link Card} is null or known more than
+	 *                                  once, or there are too few {@link Card}s
+	 *                                  left to complete the board.
+	 */
+	public static EquityQuery create(final List<List<Card>> holeCards, final List<Card> boardCards,
+			final List<Card> deadCards) {
+
+		if (holeCards.size() < MINIMUM_NUMBER_OF_PLAYERS) {
+			throw new IllegalArgumentException(
+					"An equity query must have at least two players (numberOfPlayers=" + holeCards.size() + ").");
+		}
+
+		if (boardCards.size() > BOARD_SIZE) {
+			throw new IllegalArgumentException(
+					"The board may not have more than five cards (numberOfBoardCards=" + boardCards.size() + ").");
+		}
+
+		final long[] holeCardMasks = new long[holeCards.size()];
+		final List<List<Card>> copiedHoleCards = new ArrayList<>(holeCards.size());
+		long knownCardMask = 0;
+
+		for (int playerIndex = 0; playerIndex < holeCards.size(); playerIndex++) {
+			final List<Card> playerHoleCards = holeCards.get(playerIndex);
+			if (playerHoleCards.isEmpty() || playerHoleCards.size() > MAXIMUM_HOLE_CARDS_PER_PLAYER) {
+				throw new IllegalArgumentException("Each player must hold one or two hole cards (playerIndex="
+						+ playerIndex + ",holeCards=" + playerHoleCards + ").");
+			}
+
+			holeCardMasks[playerIndex] = addToCardMask(0, playerHoleCards);
+			knownCardMask = addToCardMask(knownCardMask, playerHoleCards);
+			copiedHoleCards.add(Collections.unmodifiableList(new ArrayList<>(playerHoleCards)));
+		}
+
+		final long boardCardMask = addToCardMask(0, boardCards);
+		knownCardMask = addToCardMask(addToCardMask(knownCardMask, boardCards), deadCards);
+
+		if (Card.NUMBER_OF_CARDS - Long.bitCount(knownCardMask) < BOARD_SIZE - boardCards.size()) {
+			throw new IllegalArgumentException("Too few cards are left to complete the board (knownCards="
+					+ Long.bitCount(knownCardMask) + ",boardCards=" + boardCards.size() + ").");
+		}
+
+		return new EquityQuery(Collections.unmodifiableList(copiedHoleCards),
+				Collections.unmodifiableList(new ArrayList<>(boardCards)),
+				Collections.unmodifiableList(new ArrayList<>(deadCards)), holeCardMasks, boardCardMask,
+				knownCardMask);
+	}
+
+	/**
+	 * Adds {@link Card}s to a card mask.
+	 *
+	 * @param cardMask The card mask.
+	 * @param cards    The {@link List} of {@link Card}s. This must never be null.
+	 * @return The card mask with the bit of each {@link Card} set.
+	 * @throws IllegalArgumentException If a {@link Card} is null or is already in
+	 *                                  the card mask.
+	 */
+	private static long addToCardMask(final long cardMask, final List<Card> cards) {
+
+		long newCardMask = cardMask;
+		for (final Card card : cards) {
+			if (card == null) {
+				throw new IllegalArgumentException("The cards of an equity query may not be null.");
+			}
+
+			if ((newCardMask & card.getCardBit()) != 0) {
+				throw new IllegalArgumentException(
+						"A card may not be known more than once in an equity query (card=" + card + ").");
+			}
+
+			newCardMask |= card.getCardBit();
+		}
+
+		return newCardMask;
+	}
+
+	/**
+	 * @return The number of players.
+	 */
+	public int getNumberOfPlayers() {
+
+		return this.holeCards.size();
+	}
+
+	/**
+	 * @return Non-null, unmodifiable {@link List} of each player's non-null,
+	 *         unmodifiable {@link List} of hole {@link Card}s.
+	 */
+	public List<List<Card>> getHoleCards() {
+
+		return this.holeCards;
+	}
+
+	/**
+	 * @return Non-null, unmodifiable {@link List} of board {@link Card}s.
+	 */
+	public List<Card> getBoardCards() {
+
+		return this.boardCards;
+	}
+
+	/**
+	 * @return Non-null, unmodifiable {@link List} of dead {@link Card}s.
+	 */
+	public List<Card> getDeadCards() {
+
+		return this.deadCards;
+	}
+
+	/**
+	 * @param playerIndex The index of the player.
+	 * @return The card mask of the player's hole {@link Card}s.
+	 */
+	public long getHoleCardMask(final int playerIndex) {
+
+		return this.holeCardMasks[playerIndex];
+	}
+
+	/**
+	 * @return The card mask of the board {@link Card}s.
+	 */
+	public long getBoardCardMask() {
+
+		return this.boardCardMask;
+	}
+
+	/**
+	 * @return The card mask of every hole, board, and dead {@link Card}.
+	 */
+	public long getKnownCardMask() {
+
+		return this.knownCardMask;
+	}
+
+	/**
+	 * @return The number of board {@link Card}s left to deal.
+	 */
+	public int getNumberOfBoardCardsToDeal() {
+
+		return BOARD_SIZE - this.boardCards.size();
+	}
+
+	/**
+	 * Creates the codes of the live {@link Card}s, which are the {@link Card}s of a
+	 * single {@link Deck} which are not known.
+	 *
+	 * @return Non-null array of the {@link Card} codes which may still be dealt to
+	 *         the board.
+	 */
+	public int[] createLiveCardCodes() {
+
+		final Deck deck = Deck.createSingleDeck();
+		deck.removeAll(this.knownCardMask);
+
+		final int[] liveCardCodes = new int[deck.size()];
+		int liveCardIndex = 0;
+		for (final Card card : deck) {
+			liveCardCodes[liveCardIndex++] = card.getCode();
+		}
+
+		return liveCardCodes;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+
+		return new StringBuilder("EquityQuery[holeCards=").append(this.holeCards).append(",boardCards=")
+				.append(this.boardCards).append(",deadCards=").append(this.deadCards).append("]").toString();
+	}
+}
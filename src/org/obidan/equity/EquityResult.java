@@ -0,0 +1,91 @@
+package org.obidan.equity;
+
+import java.util.List;
+
+/**
+ * The result of calculating the equity of every player of an
+ * {@link EquityQuery}.
+ *
+ * @author Obi-Dan
+ */
+public final class EquityResult {
+
+	private final EquityQuery equityQuery;
+	private final long numberOfRunouts;
+	private final List<PlayerEquity> playerEquities;
+	private final long elapsedNanoseconds;
+
+	/**
+	 * Constructs an {@link EquityResult}.
+	 *
+	 * @param equityQuery        The {@link EquityQuery}. This must never be null.
+	 * @param numberOfRunouts    The number of runouts evaluated.
+	 * @param playerEquities     The unmodifiable {@link List} of each player's
+	 *                           {@link PlayerEquity}, in the order of the players
+	 *                           of the {@link EquityQuery}. This must never be
+	 *                           null or contain null values.
+	 * @param elapsedNanoseconds The time taken to calculate the equities.
+	 */
+	EquityResult(final EquityQuery equityQuery, final long numberOfRunouts, final List<PlayerEquity> playerEquities,
+			final long elapsedNanoseconds) {
+
+		this.equityQuery = equityQuery;
+		this.numberOfRunouts = numberOfRunouts;
+		this.playerEquities = playerEquities;
+		this.elapsedNanoseconds = elapsedNanoseconds;
+	}
+
+	/**
+	 * @return Non-null {@link EquityQuery}.
+	 */
+	public EquityQuery getEquityQuery() {
+
+		return this.equityQuery;
+	}
+
+	/**
+	 * @return The number of runouts evaluated.
+	 */
+	public long getNumberOfRunouts() {
+
+		return this.numberOfRunouts;
+	}
+
+	/**
+	 * @return Non-null, unmodifiable {@link List} of each player's non-null
+	 *         {@link PlayerEquity}, in the order of the players of the
+	 *         {@link EquityQuery}.
+	 */
+	public List<PlayerEquity> getPlayerEquities() {
+
+		return this.playerEquities;
+	}
+
+	/**
+	 * @param playerIndex The index of the player.
+	 * @return Non-null {@link PlayerEquity} of the player.
+	 */
+	public PlayerEquity getPlayerEquity(final int playerIndex) {
+
+		return this.playerEquities.get(playerIndex);
+	}
+
+	/**
+	 * @return The time taken to calculate the equities in nanoseconds.
+	 */
+	public long getElapsedNanoseconds() {
+
+		return this.elapsedNanoseconds;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+
+		return new StringBuilder("EquityResult[equityQuery=").append(this.equityQuery).append(",numberOfRunouts=")
+				.append(this.numberOfRunouts).append(",playerEquities=").append(this.playerEquities).append("]")
+				.toString();
+	}
+}
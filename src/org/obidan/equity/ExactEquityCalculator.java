@@ -0,0 +1,206 @@
+package org.obidan.equity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import org.obidan.handrank.LookupTableHandRankEvaluator;
+
+/**
+ * Calculates the exact equity of every player of an {@link EquityQuery} by
+ * enumerating every runout (board completion) from the live cards. When there
+ * are enough runouts to be worth splitting, the runouts are split into one task
+ * for each of the first live cards dealt (or each pair of them when three or
+ * more cards are dealt, such as before the flop), which run in parallel on a
+ * {@link ForkJoinPool}. The result is the same however the tasks are run.
+ *
+ * @author Obi-Dan
+ */
+public class ExactEquityCalculator {
+
+	private static final long MINIMUM_PARALLEL_RUNOUTS = 4096;
+	private static final int MAXIMUM_PREFIX_LENGTH = 2;
+
+	private final LookupTableHandRankEvaluator lookupTableHandRankEvaluator;
+	private final ForkJoinPool forkJoinPool;
+
+	/**
+	 * Constructs an {@link ExactEquityCalculator} which uses the common
+	 * {@link ForkJoinPool}.
+	 *
+	 * @param lookupTableHandRankEvaluator A {@link LookupTableHandRankEvaluator}.
+	 *                                     This must never be null.
+	 */
+	public ExactEquityCalculator(final LookupTableHandRankEvaluator lookupTableHandRankEvaluator) {
+
+		this(lookupTableHandRankEvaluator, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Constructs an {@link ExactEquityCalculator}.
+	 *
+	 * @param lookupTableHandRankEvaluator A {@link LookupTableHandRankEvaluator}.
+	 *                                     This must never be null.
+	 * @param forkJoinPool                 The {@link ForkJoinPool} the runouts are
+	 *                                     enumerated on. This must never be null.
+	 */
+	public ExactEquityCalculator(final LookupTableHandRankEvaluator lookupTableHandRankEvaluator,
+			final ForkJoinPool forkJoinPool) {
+
+		this.lookupTableHandRankEvaluator = lookupTableHandRankEvaluator;
+		this.forkJoinPool = forkJoinPool;
+	}
+
+	/**
+	 * Calculates the exact equity of every player.
+	 *
+	 * @param equityQuery The {@link EquityQuery}. This must never be null.
+	 * @return Non-null {@link EquityResult}.
+	 */
+	public EquityResult calculate(final EquityQuery equityQuery) {
+
+		final long startNanoseconds = System.nanoTime();
+		final EquityCounters equityCounters = new EquityCounters(equityQuery.getNumberOfPlayers());
+		final int[] liveCardCodes = equityQuery.createLiveCardCodes();
+		final int numberOfBoardCardsToDeal = equityQuery.getNumberOfBoardCardsToDeal();
+
+		if (countCombinations(liveCardCodes.length, numberOfBoardCardsToDeal) < MINIMUM_PARALLEL_RUNOUTS) {
+			new RunoutAction(equityQuery, liveCardCodes, equityCounters, new int[0]).compute();
+		} else {
+			final List<RunoutAction> runoutActions = new ArrayList<>();
+			addRunoutActions(equityQuery, liveCardCodes, equityCounters,
+					new int[Math.min(numberOfBoardCardsToDeal, MAXIMUM_PREFIX_LENGTH)], 0, 0, runoutActions);
+			this.forkJoinPool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(runoutActions)));
+		}
+
+		return equityCounters.createEquityResult(equityQuery, System.nanoTime() - startNanoseconds);
+	}
+
+	/**
+	 * @param n The number of items.
+	 * @param k The number of items chosen.
+	 * @return The number of ways of choosing k of n items.
+	 */
+	private static long countCombinations(final int n, final int k) {
+
+		long combinations = 1;
+		for (int index = 0; index < k; index++) {
+			combinations = combinations * (n - index) / (index + 1);
+		}
+
+		return combinations;
+	}
+
+	/**
+	 * Adds a {@link RunoutAction} for every prefix of live card indexes in
+	 * ascending order which can still be completed to a full board.
+	 *
+	 * @param equityQuery    The {@link EquityQuery}. This must never be null.
+	 * @param liveCardCodes  The codes of the live cards. This must never be null.
+	 * @param equityCounters The shared {@link EquityCounters}. This must never be
+	 *                       null.
+	 * @param prefix         The live card indexes of the prefix being built. This
+	 *                       must never be null.
+	 * @param prefixIndex    The index of the next live card index of the prefix.
+	 * @param firstCardIndex The lowest live card index which may be next.
+	 * @param runoutActions  The {@link List} the actions are added to. This must
+	 *                       never be null.
+	 */
+	private void addRunoutActions(final EquityQuery equityQuery, final int[] liveCardCodes,
+			final EquityCounters equityCounters, final int[] prefix, final int prefixIndex, final int firstCardIndex,
+			final List<RunoutAction> runoutActions) {
+
+		if (prefixIndex == prefix.length) {
+			runoutActions.add(new RunoutAction(equityQuery, liveCardCodes, equityCounters, prefix.clone()));
+			return;
+		}
+
+		final int lastCardIndex = liveCardCodes.length - equityQuery.getNumberOfBoardCardsToDeal() + prefixIndex;
+		for (int cardIndex = firstCardIndex; cardIndex <= lastCardIndex; cardIndex++) {
+			prefix[prefixIndex] = cardIndex;
+			addRunoutActions(equityQuery, liveCardCodes, equityCounters, prefix, prefixIndex + 1, cardIndex + 1,
+					runoutActions);
+		}
+	}
+
+	/**
+	 * Scores every runout which begins with a prefix of live cards.
+	 */
+	private final class RunoutAction extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final EquityQuery equityQuery;
+		private final int[] liveCardCodes;
+		private final EquityCounters equityCounters;
+		private final int[] prefix;
+
+		/**
+		 * Constructs a {@link RunoutAction}.
+		 *
+		 * @param equityQuery    The {@link EquityQuery}. This must never be null.
+		 * @param liveCardCodes  The codes of the live cards. This must never be
+		 *                       null.
+		 * @param equityCounters The shared {@link EquityCounters}. This must never be
+		 *                       null.
+		 * @param prefix         The ascending live card indexes every runout of this
+		 *                       action begins with. This must never be null.
+		 */
+		private RunoutAction(final EquityQuery equityQuery, final int[] liveCardCodes,
+				final EquityCounters equityCounters, final int[] prefix) {
+
+			this.equityQuery = equityQuery;
+			this.liveCardCodes = liveCardCodes;
+			this.equityCounters = equityCounters;
+			this.prefix = prefix;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected void compute() {
+
+			long boardCardMask = this.equityQuery.getBoardCardMask();
+			for (final int cardIndex : this.prefix) {
+				boardCardMask |= 1L << this.liveCardCodes[cardIndex];
+			}
+
+			final RunoutTally runoutTally = new RunoutTally(
+					ExactEquityCalculator.this.lookupTableHandRankEvaluator, this.equityQuery);
+			final int firstCardIndex = this.prefix.length == 0 ? 0 : this.prefix[this.prefix.length - 1] + 1;
+			scoreRunouts(runoutTally, boardCardMask,
+					this.equityQuery.getNumberOfBoardCardsToDeal() - this.prefix.length, firstCardIndex);
+			runoutTally.addTo(this.equityCounters);
+		}
+
+		/**
+		 * Deals the remaining board cards in every way from the live cards in
+		 * ascending order, scoring each completed board.
+		 *
+		 * @param runoutTally              The {@link RunoutTally}. This must never
+		 *                                 be null.
+		 * @param boardCardMask            The card mask of the board cards dealt so
+		 *                                 far.
+		 * @param numberOfBoardCardsToDeal The number of board cards left to deal.
+		 * @param firstCardIndex           The lowest live card index which may be
+		 *                                 dealt next.
+		 */
+		private void scoreRunouts(final RunoutTally runoutTally, final long boardCardMask,
+				final int numberOfBoardCardsToDeal, final int firstCardIndex) {
+
+			if (numberOfBoardCardsToDeal == 0) {
+				runoutTally.score(boardCardMask);
+				return;
+			}
+
+			for (int cardIndex = firstCardIndex; cardIndex <= this.liveCardCodes.length
+					- numberOfBoardCardsToDeal; cardIndex++) {
+				scoreRunouts(runoutTally, boardCardMask | 1L << this.liveCardCodes[cardIndex],
+						numberOfBoardCardsToDeal - 1, cardIndex + 1);
+			}
+		}
+	}
+}
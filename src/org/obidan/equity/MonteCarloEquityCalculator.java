@@ -0,0 +1,202 @@
+package org.obidan.equity;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.obidan.handrank.LookupTableHandRankEvaluator;
+
+/**
+ * Estimates the equity of every player of an {@link EquityQuery} by dealing a
+ * number of random runouts (board completions) from the live cards. The trials
+ * are split into chunks which run in parallel on a {@link ForkJoinPool}. Each
+ * chunk has its own {@link SplittableRandom}, split from the random of the
+ * chunk it was split from, and its own copy of the live cards, so no state is
+ * shared between threads until each chunk adds its counts to striped counters.
+ * The trials are split into chunks of a fixed size, whatever the parallelism of
+ * the pool, so the randoms are split in the same way on every machine and
+ * whichever thread runs each chunk, and a calculation with a given seed always
+ * gives the same result.
+ *
+ * @author Obi-Dan
+ */
+public class MonteCarloEquityCalculator {
+
+	private static final long CHUNK_TRIALS = 4096;
+
+	private final LookupTableHandRankEvaluator lookupTableHandRankEvaluator;
+	private final ForkJoinPool forkJoinPool;
+
+	/**
+	 * Constructs a {@link MonteCarloEquityCalculator} which uses the common
+	 * {@link ForkJoinPool}.
+	 *
+	 * @param lookupTableHandRankEvaluator A {@link LookupTableHandRankEvaluator}.
+	 *                                     This must never be null.
+	 */
+	public MonteCarloEquityCalculator(final LookupTableHandRankEvaluator lookupTableHandRankEvaluator) {
+
+		this(lookupTableHandRankEvaluator, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Constructs a {@link MonteCarloEquityCalculator}.
+	 *
+	 * @param lookupTableHandRankEvaluator A {@link LookupTableHandRankEvaluator}.
+	 *                                     This must never be null.
+	 * @param forkJoinPool                 The {@link ForkJoinPool} the trials are
+	 *                                     run on. This must never be null.
+	 */
+	public MonteCarloEquityCalculator(final LookupTableHandRankEvaluator lookupTableHandRankEvaluator,
+			final ForkJoinPool forkJoinPool) {
+
+		this.lookupTableHandRankEvaluator = lookupTableHandRankEvaluator;
+		this.forkJoinPool = forkJoinPool;
+	}
+
+	/**
+	 * Estimates the equity of every player with randomly seeded trials.
+	 *
+	 * @param equityQuery    The {@link EquityQuery}. This must never be null.
+	 * @param numberOfTrials The number of runouts to deal. This must be positive.
+	 * @return Non-null {@link EquityResult}.
+	 * @throws IllegalArgumentException If the number of trials is not positive.
+	 */
+	public EquityResult calculate(final EquityQuery equityQuery, final long numberOfTrials) {
+
+		return calculate(equityQuery, numberOfTrials, new SplittableRandom());
+	}
+
+	/**
+	 * Estimates the equity of every player with trials seeded from a given seed,
+	 * so the same query, number of trials, and seed always give the same result.
+	 *
+	 * @param equityQuery    The {@link EquityQuery}. This must never be null.
+	 * @param numberOfTrials The number of runouts to deal. This must be positive.
+	 * @param seed           The seed of the trials.
+	 * @return Non-null {@link EquityResult}.
+	 * @throws IllegalArgumentException If the number of trials is not positive.
+	 */
+	public EquityResult calculate(final EquityQuery equityQuery, final long numberOfTrials, final long seed) {
+
+		return calculate(equityQuery, numberOfTrials, new SplittableRandom(seed));
+	}
+
+	/**
+	 * @param equityQuery    The {@link EquityQuery}. This must never be null.
+	 * @param numberOfTrials The number of runouts to deal. This must be positive.
+	 * @param random         The {@link SplittableRandom} every chunk's random is
+	 *                       split from. This must never be null.
+	 * @return Non-null {@link EquityResult}.
+	 * @throws IllegalArgumentException If the number of trials is not positive.
+	 */
+	private EquityResult calculate(final EquityQuery equityQuery, final long numberOfTrials,
+			final SplittableRandom random) {
+
+		if (numberOfTrials <= 0) {
+			throw new IllegalArgumentException(
+					"At least one trial must be run (numberOfTrials=" + numberOfTrials + ").");
+		}
+
+		final long startNanoseconds = System.nanoTime();
+		final EquityCounters equityCounters = new EquityCounters(equityQuery.getNumberOfPlayers());
+		final int[] liveCardCodes = equityQuery.createLiveCardCodes();
+
+		final TrialAction trialAction = new TrialAction(equityQuery, liveCardCodes, equityCounters, random,
+				numberOfTrials);
+		if (numberOfTrials <= CHUNK_TRIALS) {
+			trialAction.runTrials();
+		} else {
+			this.forkJoinPool.invoke(trialAction);
+		}
+
+		return equityCounters.createEquityResult(equityQuery, System.nanoTime() - startNanoseconds);
+	}
+
+	/**
+	 * Runs a number of trials, splitting them in half until there are no more than
+	 * {@value #CHUNK_TRIALS} trials.
+	 */
+	private final class TrialAction extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final EquityQuery equityQuery;
+		private final int[] liveCardCodes;
+		private final EquityCounters equityCounters;
+		private final SplittableRandom random;
+		private final long numberOfTrials;
+
+		/**
+		 * Constructs a {@link TrialAction}.
+		 *
+		 * @param equityQuery    The {@link EquityQuery}. This must never be null.
+		 * @param liveCardCodes  The codes of the live cards. This must never be null
+		 *                       and is copied before it is shuffled.
+		 * @param equityCounters The shared {@link EquityCounters}. This must never be
+		 *                       null.
+		 * @param random         The {@link SplittableRandom} of this action. This
+		 *                       must never be null.
+		 * @param numberOfTrials The number of trials to run.
+		 */
+		private TrialAction(final EquityQuery equityQuery, final int[] liveCardCodes,
+				final EquityCounters equityCounters, final SplittableRandom random, final long numberOfTrials) {
+
+			this.equityQuery = equityQuery;
+			this.liveCardCodes = liveCardCodes;
+			this.equityCounters = equityCounters;
+			this.random = random;
+			this.numberOfTrials = numberOfTrials;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected void compute() {
+
+			if (this.numberOfTrials <= CHUNK_TRIALS) {
+				runTrials();
+				return;
+			}
+
+			final long firstNumberOfTrials = this.numberOfTrials / 2;
+			invokeAll(
+					new TrialAction(this.equityQuery, this.liveCardCodes, this.equityCounters, this.random.split(),
+							firstNumberOfTrials),
+					new TrialAction(this.equityQuery, this.liveCardCodes, this.equityCounters, this.random.split(),
+							this.numberOfTrials - firstNumberOfTrials));
+		}
+
+		/**
+		 * Runs every trial of this action on the calling thread. Each trial deals the
+		 * missing board cards by a partial Fisher–Yates shuffle of the last live
+		 * cards. The live cards need not be restored between trials, since the cards
+		 * dealt are uniformly random whatever order the live cards are in.
+		 */
+		private void runTrials() {
+
+			final int[] liveCardCodes = this.liveCardCodes.clone();
+			final int numberOfBoardCardsToDeal = this.equityQuery.getNumberOfBoardCardsToDeal();
+			final long knownBoardCardMask = this.equityQuery.getBoardCardMask();
+			final RunoutTally runoutTally = new RunoutTally(
+					MonteCarloEquityCalculator.this.lookupTableHandRankEvaluator, this.equityQuery);
+
+			for (long trial = 0; trial < this.numberOfTrials; trial++) {
+				long boardCardMask = knownBoardCardMask;
+				for (int cardIndex = liveCardCodes.length - 1; cardIndex >= liveCardCodes.length
+						- numberOfBoardCardsToDeal; cardIndex--) {
+					final int randomCardIndex = this.random.nextInt(cardIndex + 1);
+					final int randomCardCode = liveCardCodes[randomCardIndex];
+					liveCardCodes[randomCardIndex] = liveCardCodes[cardIndex];
+					liveCardCodes[cardIndex] = randomCardCode;
+					boardCardMask |= 1L << randomCardCode;
+				}
+
+				runoutTally.score(boardCardMask);
+			}
+
+			runoutTally.addTo(this.equityCounters);
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package org.obidan.equity;
+
+/**
+ * The equity of one player of an {@link EquityQuery}: how many of the
+ * runouts (board completions) the player won outright, tied, and lost. A tied
+ * runout is shared equally between the players who tied, so a player's equity
+ * is the number of runouts won plus their share of the runouts tied, divided by
+ * the number of runouts.
+ *
+ * @author Obi-Dan
+ */
+public final class PlayerEquity {
+
+	private final long numberOfRunouts;
+	private final long winCount;
+	private final long tieCount;
+	private final double tieShare;
+
+	/**
+	 * Constructs a {@link PlayerEquity}.
+	 *
+	 * @param numberOfRunouts The number of runouts.
+	 * @param winCount        The number of runouts the player won outright.
+	 * @param tieCount        The number of runouts the player tied.
+	 * @param tieShare        The sum of the player's share of each tied runout.
+	 */
+	PlayerEquity(final long numberOfRunouts, final long winCount, final long tieCount, final double tieShare) {
+
+		this.numberOfRunouts = numberOfRunouts;
+		this.winCount = winCount;
+		this.tieCount = tieCount;
+		this.tieShare = tieShare;
+	}
+
+	/**
+	 * @return The number of runouts.
+	 */
+	public long getNumberOfRunouts() {
+
+		return this.numberOfRunouts;
+	}
+
+	/**
+	 * @return The number of runouts the player won outright.
+	 */
+	public long getWinCount() {
+
+		return this.winCount;
+	}
+
+	/**
+	 * @return The number of runouts the player tied.
+	 */
+	public long getTieCount() {
+
+		return this.tieCount;
+	}
+
+	/**
+	 * @return The number of runouts the player lost.
+	 */
+	public long getLossCount() {
+
+		return this.numberOfRunouts - this.winCount - this.tieCount;
+	}
+
+	/**
+	 * @return The fraction of runouts the player won outright.
+	 */
+	public double getWinProbability() {
+
+		return this.numberOfRunouts == 0 ? 0 : (double) this.winCount / this.numberOfRunouts;
+	}
+
+	/**
+	 * @return The fraction of runouts the player tied.
+	 */
+	public double getTieProbability() {
+
+		return this.numberOfRunouts == 0 ? 0 : (double) this.tieCount / this.numberOfRunouts;
+	}
+
+	/**
+	 * @return The player's equity, between 0 and 1.
+	 */
+	public double getEquity() {
+
+		return this.numberOfRunouts == 0 ? 0 : (this.winCount + this.tieShare) / this.numberOfRunouts;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+
+		return new StringBuilder("PlayerEquity[numberOfRunouts=").append(this.numberOfRunouts).append(",winCount=")
+				.append(this.winCount).append(",tieCount=").append(this.tieCount).append(",equity=")
+				.append(getEquity()).append("]").toString();
+	}
+}
@@ -0,0 +1,97 @@
+package org.obidan.equity;
+
+import org.obidan.handrank.HandStrength;
+import org.obidan.handrank.LookupTableHandRankEvaluator;
+
+/**
+ * Counts the runouts each player of an {@link EquityQuery} wins and ties. A
+ * {@link RunoutTally} is used by a single task and is not thread safe; its
+ * counts are added to the shared {@link EquityCounters} once the task has
+ * scored all of its runouts.
+ *
+ * @author Obi-Dan
+ */
+final class RunoutTally {
+
+	private final LookupTableHandRankEvaluator lookupTableHandRankEvaluator;
+	private final long[] holeCardMasks;
+	private final int[] strengths;
+	private final long[] winCounts;
+	private final long[][] tieCountsByNumberOfWinners;
+	private long numberOfRunouts;
+
+	/**
+	 * Constructs a {@link RunoutTally}.
+	 *
+	 * @param lookupTableHandRankEvaluator The {@link LookupTableHandRankEvaluator}.
+	 *                                     This must never be null.
+	 * @param equityQuery                  The {@link EquityQuery}. This must never
+	 *                                     be null.
+	 */
+	RunoutTally(final LookupTableHandRankEvaluator lookupTableHandRankEvaluator, final EquityQuery equityQuery) {
+
+		final int numberOfPlayers = equityQuery.getNumberOfPlayers();
+		this.lookupTableHandRankEvaluator = lookupTableHandRankEvaluator;
+		this.holeCardMasks = new long[numberOfPlayers];
+		this.strengths = new int[numberOfPlayers];
+		this.winCounts = new long[numberOfPlayers];
+		this.tieCountsByNumberOfWinners = new long[numberOfPlayers][numberOfPlayers + 1];
+
+		for (int playerIndex = 0; playerIndex < numberOfPlayers; playerIndex++) {
+			this.holeCardMasks[playerIndex] = equityQuery.getHoleCardMask(playerIndex);
+		}
+	}
+
+	/**
+	 * Scores a runout, evaluating the {@link HandStrength} of every player with
+	 * the completed board and crediting the player with the greatest strength, or
+	 * counting a tie between that number of players for each player who ties.
+	 *
+	 * @param boardCardMask The card mask of all five board cards.
+	 */
+	void score(final long boardCardMask) {
+
+		int bestStrength = -1;
+		int numberOfWinners = 0;
+
+		for (int playerIndex = 0; playerIndex < this.holeCardMasks.length; playerIndex++) {
+			final int strength = this.lookupTableHandRankEvaluator
+					.evaluateHandStrength(this.holeCardMasks[playerIndex] | boardCardMask);
+			this.strengths[playerIndex] = strength;
+
+			if (strength > bestStrength) {
+				bestStrength = strength;
+				numberOfWinners = 1;
+			} else if (strength == bestStrength) {
+				numberOfWinners++;
+			}
+		}
+
+		this.numberOfRunouts++;
+
+		if (numberOfWinners == 1) {
+			for (int playerIndex = 0; playerIndex < this.strengths.length; playerIndex++) {
+				if (this.strengths[playerIndex] == bestStrength) {
+					this.winCounts[playerIndex]++;
+					return;
+				}
+			}
+		}
+
+		for (int playerIndex = 0; playerIndex < this.strengths.length; playerIndex++) {
+			if (this.strengths[playerIndex] == bestStrength) {
+				this.tieCountsByNumberOfWinners[playerIndex][numberOfWinners]++;
+			}
+		}
+	}
+
+	/**
+	 * Adds the counts of this tally to shared counters.
+	 *
+	 * @param equityCounters The {@link EquityCounters}. This must never be null.
+	 */
+	void addTo(final EquityCounters equityCounters) {
+
+		equityCounters.add(this.numberOfRunouts, this.winCounts, this.tieCountsByNumberOfWinners);
+	}
+}
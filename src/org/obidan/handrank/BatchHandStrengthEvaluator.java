@@ -0,0 +1,62 @@
+package org.obidan.handrank;
+
+import org.obidan.object.Card;
+
+/**
+ * Evaluates the {@link HandStrength} of many hands at once. Each hand is
+ * encoded as a 52-bit card mask, in which bit n is set if the {@link Card} with
+ * the code n is held, so a batch of hands is a single primitive array with no
+ * objects per hand.
+ *
+ * @author Obi-Dan
+ */
+public interface BatchHandStrengthEvaluator {
+
+	/**
+	 * Evaluates the {@link HandStrength} of a range of hands.
+	 *
+	 * @param cardMasks The array of card masks. This must never be null and each
+	 *                  card mask in the range must have between five and seven
+	 *                  bits set.
+	 * @param strengths The array the hand strengths are written to, at the same
+	 *                  index as the card mask. This must never be null and must be
+	 *                  at least as long as the range.
+	 * @param offset    The index of the first hand to evaluate.
+	 * @param length    The number of hands to evaluate.
+	 */
+	void evaluate(long[] cardMasks, int[] strengths, int offset, int length);
+
+	/**
+	 * Evaluates the {@link HandStrength} of every hand.
+	 *
+	 * @param cardMasks The array of card masks. This must never be null and each
+	 *                  card mask must have between five and seven bits set.
+	 * @param strengths The array the hand strengths are written to, at the same
+	 *                  index as the card mask. This must never be null and must be
+	 *                  at least as long as the card masks.
+	 */
+	default void evaluate(final long[] cardMasks, final int[] strengths) {
+
+		evaluate(cardMasks, strengths, 0, cardMasks.length);
+	}
+
+	/**
+	 * Creates the {@link BatchHandStrengthEvaluator} best suited to the machine
+	 * this is running on. When more than one processor is available batches are
+	 * split across processors, otherwise they are evaluated on the calling
+	 * thread.
+	 *
+	 * @return Non-null {@link BatchHandStrengthEvaluator}.
+	 */
+	static BatchHandStrengthEvaluator create() {
+
+		final ScalarBatchHandStrengthEvaluator scalarBatchHandStrengthEvaluator = new ScalarBatchHandStrengthEvaluator(
+				new LookupTableHandRankEvaluator());
+
+		if (Runtime.getRuntime().availableProcessors() > 1) {
+			return new ParallelBatchHandStrengthEvaluator(scalarBatchHandStrengthEvaluator);
+		}
+
+		return scalarBatchHandStrengthEvaluator;
+	}
+}
@@ -0,0 +1,34 @@
+/**
+ * 
+ */
+package org.obidan.handrank;
+
+import org.obidan.object.HandOfCards;
+import org.obidan.object.Player;
+import org.obidan.type.HandRank;
+
+/**
+ * Evaluates a {@link Player}'s poker hand to determine if the hand is a
+ * five-of-a-kind, which can only be dealt from a shoe of more than one deck.
+ * 
+ * @author Obi-Dan
+ */
+public class FiveOfAKindHandRankEvaluator implements PokerHandRankEvaluator {
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public HandRank evaluateHandRank(final HandOfCards handOfCards, final HandRank previousHandRank) {
+
+		if (previousHandRank != null) {
+			return previousHandRank;
+		}
+
+		if (handOfCards.getRankHistogram().getGroupSize(0) == 5) {
+			return HandRank.FIVE_OF_A_KIND;
+		}
+
+		return null;
+	}
+}
@@ -3,13 +3,9 @@
  */
 package org.obidan.handrank;
 
-import java.util.List;
-
-import org.obidan.object.Card;
 import org.obidan.object.HandOfCards;
 import org.obidan.object.Player;
 import org.obidan.type.HandRank;
-import org.obidan.type.Suit;
 
 /**
  * Evaluates a {@link Player}'s poker hand to determine if the hand is a flush.
@@ -28,14 +24,9 @@ public class FlushHandRankEvaluator implements PokerHandRankEvaluator {
 			return previousHandRank;
 		}
 
-		final List<Card> cards = handOfCards.getCards();
-		final Suit firstCardSuit = cards.get(0).getSuit();
-
-		final boolean allCardsAreSameSuit = cards.stream().allMatch(card -> card.getSuit() == firstCardSuit);
-
 		// Since a flush is a lower rank than a straight flush simply checking that all
 		// the cards are in the same suit is sufficient to determine this rank.
-		if (allCardsAreSameSuit) {
+		if (handOfCards.isFlush()) {
 			return HandRank.FLUSH;
 		}
 
@@ -25,7 +25,7 @@ public class FourOfAKindHandRankEvaluator implements PokerHandRankEvaluator {
 			return previousHandRank;
 		}
 
-		if (handOfCards.getCardCollectionsGroupedByFaceValue().get(0).size() == 4) {
+		if (handOfCards.getRankHistogram().getGroupSize(0) == 4) {
 			return HandRank.FOUR_OF_A_KIND;
 		}
 
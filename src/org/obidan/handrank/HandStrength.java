@@ -0,0 +1,212 @@
+package org.obidan.handrank;
+
+import org.obidan.object.HandOfCards;
+import org.obidan.type.FaceValue;
+import org.obidan.type.HandRank;
+import org.obidan.utility.RankHistogram;
+
+/**
+ * Encodes and decodes poker hand strengths. A hand strength is a single
+ * non-negative integer which encodes both the {@link HandRank} category of a
+ * hand and every rank needed to break a tie, so two hands may be compared with
+ * a single integer comparison (the greater strength is the better hand).
+ * <p>
+ * The category occupies the bits from {@value #CATEGORY_SHIFT} upwards and is
+ * followed by up to five 4-bit rank indexes (the ordinal of the
+ * {@link FaceValue}, so a two is 0 and an ace is 12), most significant first.
+ * The ranks stored for each category are:
+ * <ul>
+ * <li>Five of a kind, which can only be dealt from a shoe of more than one
+ * deck: the five of a kind rank.</li>
+ * <li>Straight flush and straight: the highest card of the straight (a
+ * five-high straight stores a five).</li>
+ * <li>Four of a kind: the four of a kind rank, then the kicker.</li>
+ * <li>Full house: the three of a kind rank, then the pair rank.</li>
+ * <li>Flush and high card: all five ranks from highest to lowest (a flush
+ * dealt from a shoe may hold the same rank, and even the same card, more than
+ * once, and each is counted).</li>
+ * <li>Three of a kind: the three of a kind rank, then two kickers.</li>
+ * <li>Two pair: the higher pair rank, the lower pair rank, then the
+ * kicker.</li>
+ * <li>One pair: the pair rank, then three kickers.</li>
+ * </ul>
+ *
+ * @author Obi-Dan
+ */
+public final class HandStrength {
+
+	public static final int HIGH_CARD = 0;
+	public static final int ONE_PAIR = 1;
+	public static final int TWO_PAIR = 2;
+	public static final int THREE_OF_A_KIND = 3;
+	public static final int STRAIGHT = 4;
+	public static final int FLUSH = 5;
+	public static final int FULL_HOUSE = 6;
+	public static final int FOUR_OF_A_KIND = 7;
+	public static final int STRAIGHT_FLUSH = 8;
+	public static final int FIVE_OF_A_KIND = 9;
+	public static final int NUMBER_OF_CATEGORIES = 10;
+
+	public static final int CATEGORY_SHIFT = 20;
+	public static final int MAXIMUM_NUMBER_OF_RANKS = 5;
+
+	private static final int RANK_BITS = 4;
+	private static final int RANK_MASK = (1 << RANK_BITS) - 1;
+	private static final HandRank[] HAND_RANKS_BY_CATEGORY = { HandRank.HIGH_CARD, HandRank.ONE_PAIR,
+			HandRank.TWO_PAIR, HandRank.THREE_OF_A_KIND, HandRank.STRAIGHT, HandRank.FLUSH, HandRank.FULL_HOUSE,
+			HandRank.FOUR_OF_A_KIND, HandRank.STRAIGHT_FLUSH, HandRank.FIVE_OF_A_KIND };
+
+	/**
+	 * Prevents construction of this class.
+	 */
+	private HandStrength() {
+	}
+
+	/**
+	 * Creates a hand strength.
+	 *
+	 * @param category    The category of the hand. This must be one of the
+	 *                    category constants of this class.
+	 * @param rankIndexes The rank indexes used to break ties, most significant
+	 *                    first. This must never be null and must contain no more
+	 *                    than {@value #MAXIMUM_NUMBER_OF_RANKS} values between 0
+	 *                    and 12.
+	 * @return Non-negative hand strength.
+	 */
+	public static int create(final int category, final int... rankIndexes) {
+
+		int strength = category << CATEGORY_SHIFT;
+		for (int index = 0; index < rankIndexes.length; index++) {
+			strength |= rankIndexes[index] << rankShift(index);
+		}
+
+		return strength;
+	}
+
+	/**
+	 * Creates a hand strength from a {@link HandRank} and the
+	 * {@link RankHistogram} of a five card {@link HandOfCards}. The tie-breaking
+	 * ranks are the rank of each group of cards with the same {@link FaceValue}
+	 * for hands made of groups, the highest card of a straight, and every card
+	 * from highest to lowest otherwise.
+	 *
+	 * @param handRank    The {@link HandRank} of the hand. This must never be
+	 *                    null.
+	 * @param handOfCards The {@link HandOfCards}. This must never be null.
+	 * @return Non-negative hand strength.
+	 */
+	public static int create(final HandRank handRank, final HandOfCards handOfCards) {
+
+		return create(handRank, handOfCards.getRankHistogram());
+	}
+
+	/**
+	 * Creates a hand strength from a {@link HandRank} and the
+	 * {@link RankHistogram} of a five card hand, as
+	 * {@link #create(HandRank, HandOfCards)} does.
+	 *
+	 * @param handRank      The {@link HandRank} of the hand. This must never be
+	 *                      null.
+	 * @param rankHistogram The {@link RankHistogram} of the hand. This must never
+	 *                      be null.
+	 * @return Non-negative hand strength.
+	 */
+	public static int create(final HandRank handRank, final RankHistogram rankHistogram) {
+
+		int strength = getCategory(handRank) << CATEGORY_SHIFT;
+
+		switch (handRank) {
+		case FIVE_OF_A_KIND:
+		case FOUR_OF_A_KIND:
+		case FULL_HOUSE:
+		case THREE_OF_A_KIND:
+		case TWO_PAIR:
+		case ONE_PAIR:
+			final int groupCount = Math.min(rankHistogram.getGroupCount(), MAXIMUM_NUMBER_OF_RANKS);
+			for (int groupIndex = 0; groupIndex < groupCount; groupIndex++) {
+				strength |= rankHistogram.getGroupRankIndex(groupIndex) << rankShift(groupIndex);
+			}
+			return strength;
+
+		case STRAIGHT_FLUSH:
+		case STRAIGHT:
+			return strength | rankHistogram.getHighestStraightRankIndex() << rankShift(0);
+
+		case FLUSH:
+		case HIGH_CARD:
+		default:
+			int position = 0;
+			for (int rankIndex = RankHistogram.NUMBER_OF_RANKS - 1; rankIndex >= 0; rankIndex--) {
+				for (int count = rankHistogram.getRankCount(rankIndex); count > 0
+						&& position < MAXIMUM_NUMBER_OF_RANKS; count--) {
+					strength |= rankIndex << rankShift(position++);
+				}
+			}
+			return strength;
+		}
+	}
+
+	/**
+	 * Gets the category of a hand strength.
+	 *
+	 * @param strength The hand strength. This must be a valid hand strength.
+	 * @return The category, which will be one of the category constants of this
+	 *         class.
+	 */
+	public static int getCategory(final int strength) {
+
+		return strength >>> CATEGORY_SHIFT;
+	}
+
+	/**
+	 * Gets the {@link HandRank} of a hand strength.
+	 *
+	 * @param strength The hand strength. This must be a valid hand strength.
+	 * @return Non-null {@link HandRank}.
+	 */
+	public static HandRank getHandRank(final int strength) {
+
+		return HAND_RANKS_BY_CATEGORY[getCategory(strength)];
+	}
+
+	/**
+	 * Gets the category for a {@link HandRank}.
+	 *
+	 * @param handRank The {@link HandRank}. This must never be null.
+	 * @return The category, which will be one of the category constants of this
+	 *         class.
+	 */
+	public static int getCategory(final HandRank handRank) {
+
+		for (int category = 0; category < HAND_RANKS_BY_CATEGORY.length; category++) {
+			if (HAND_RANKS_BY_CATEGORY[category] == handRank) {
+				return category;
+			}
+		}
+
+		throw new IllegalArgumentException("Unknown hand rank (handRank=" + handRank + ").");
+	}
+
+	/**
+	 * Gets one of the rank indexes used to break ties from a hand strength.
+	 *
+	 * @param strength The hand strength. This must be a valid hand strength.
+	 * @param position The position of the rank index, where 0 is the most
+	 *                 significant. This must be between 0 and 4.
+	 * @return The rank index, between 0 and 12.
+	 */
+	public static int getRankIndex(final int strength, final int position) {
+
+		return (strength >>> rankShift(position)) & RANK_MASK;
+	}
+
+	/**
+	 * @param position The position of the rank index, where 0 is the most
+	 *                 significant. This must be between 0 and 4.
+	 * @return The number of bits a rank index at the given position is shifted.
+	 */
+	private static int rankShift(final int position) {
+
+		return (MAXIMUM_NUMBER_OF_RANKS - 1 - position) * RANK_BITS;
+	}
+}
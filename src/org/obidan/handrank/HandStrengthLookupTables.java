@@ -0,0 +1,366 @@
+package org.obidan.handrank;
+
+import org.obidan.utility.RankHistogram;
+
+/**
+ * Precomputed lookup tables from which the {@link HandStrength} of a hand can
+ * be read directly. There are two kinds of table:
+ * <ul>
+ * <li>A flush table indexed by the 13-bit mask of the ranks held in a single
+ * suit, giving the best straight flush or flush for that mask.</li>
+ * <li>Non-flush tables, one per number of cards, indexed by a minimal perfect
+ * hash of the multiset of ranks held (ignoring suit).</li>
+ * </ul>
+ * The perfect hash orders every multiset of ranks lexicographically by the
+ * number of cards held of each rank, so each multiset of a given size maps to a
+ * unique index between 0 and the number of such multisets.
+ *
+ * @author Obi-Dan
+ */
+final class HandStrengthLookupTables {
+
+	static final int NUMBER_OF_RANKS = 13;
+	static final int RANK_COUNT_BITS = 3;
+	static final int MINIMUM_NUMBER_OF_CARDS = 5;
+	static final int MAXIMUM_NUMBER_OF_CARDS = 7;
+
+	private static final int MAXIMUM_CARDS_PER_RANK = 4;
+	private static final int RANK_COUNT_MASK = (1 << RANK_COUNT_BITS) - 1;
+	private static final int ALL_RANKS_MASK = (1 << NUMBER_OF_RANKS) - 1;
+
+	/**
+	 * The offset added to the perfect hash for a rank, indexed by the rank, the
+	 * number of cards still to be hashed, and the number of cards of the rank.
+	 * These must be created before the non-flush strengths, which are stored by
+	 * hash.
+	 */
+	private static final int[] HASH_OFFSETS = createHashOffsets();
+	private static final int[] FLUSH_STRENGTHS = createFlushStrengths();
+	private static final long[] RANK_COUNTS_BY_RANK_MASK = createRankCountsByRankMask();
+	private static final int[][] NON_FLUSH_STRENGTHS = createNonFlushStrengths();
+
+	/**
+	 * Prevents construction of this class.
+	 */
+	private HandStrengthLookupTables() {
+	}
+
+	/**
+	 * Gets the strength of the best straight flush or flush in a suit. When more
+	 * than five ranks are held in the suit only the best five are used.
+	 *
+	 * @param suitRankMask The 13-bit mask of the ranks held in the suit. This must
+	 *                     have at least five bits set.
+	 * @return The hand strength.
+	 */
+	static int getFlushStrength(final int suitRankMask) {
+
+		return FLUSH_STRENGTHS[suitRankMask];
+	}
+
+	/**
+	 * Gets the packed rank counts of a 13-bit mask of ranks, in which every rank
+	 * in the mask is counted once. The rank counts of several masks may be added
+	 * together, so the rank counts of a hand are the sum of the rank counts of
+	 * the ranks held in each suit.
+	 *
+	 * @param rankMask The 13-bit mask of ranks.
+	 * @return The number of cards of each rank, packed {@value #RANK_COUNT_BITS}
+	 *         bits per rank with the rank index 0 (a two) in the lowest bits.
+	 */
+	static long getRankCounts(final int rankMask) {
+
+		return RANK_COUNTS_BY_RANK_MASK[rankMask];
+	}
+
+	/**
+	 * Gets the strength of the best five card hand from a multiset of ranks,
+	 * ignoring flushes.
+	 *
+	 * @param rankMask      The 13-bit mask of the ranks held.
+	 * @param rankCounts    The number of cards held of each rank, packed
+	 *                      {@value #RANK_COUNT_BITS} bits per rank with the rank
+	 *                      index 0 (a two) in the lowest bits. No rank may be held
+	 *                      more than four times.
+	 * @param numberOfCards The total number of cards held. This must be between
+	 *                      {@value #MINIMUM_NUMBER_OF_CARDS} and
+	 *                      {@value #MAXIMUM_NUMBER_OF_CARDS}.
+	 * @return The hand strength.
+	 */
+	static int getNonFlushStrength(final int rankMask, final long rankCounts, final int numberOfCards) {
+
+		int hash = 0;
+		int remainingCards = numberOfCards;
+
+		// A rank which is not held adds nothing to the hash, so only the ranks held
+		// are visited, from lowest to highest.
+		for (int remainingRankMask = rankMask; remainingRankMask != 0; remainingRankMask &= remainingRankMask - 1) {
+			final int rankIndex = Integer.numberOfTrailingZeros(remainingRankMask);
+			final int rankCount = (int) (rankCounts >>> (rankIndex * RANK_COUNT_BITS)) & RANK_COUNT_MASK;
+			hash += HASH_OFFSETS[hashOffsetIndex(rankIndex, remainingCards, rankCount)];
+			remainingCards -= rankCount;
+		}
+
+		return NON_FLUSH_STRENGTHS[numberOfCards][hash];
+	}
+
+	/**
+	 * @param rankIndex      The rank index, between 0 and 12.
+	 * @param remainingCards The number of cards still to be hashed.
+	 * @param rankCount      The number of cards held of the rank.
+	 * @return The index into {@link #HASH_OFFSETS}.
+	 */
+	private static int hashOffsetIndex(final int rankIndex, final int remainingCards, final int rankCount) {
+
+		return (rankIndex * (MAXIMUM_NUMBER_OF_CARDS + 1) + remainingCards) * (MAXIMUM_CARDS_PER_RANK + 1)
+				+ rankCount;
+	}
+
+	/**
+	 * @return The number of distinct multisets of ranks, indexed by the number of
+	 *         ranks and then by the number of cards, where no rank is held more
+	 *         than four times.
+	 */
+	private static int[][] createMultisetCounts() {
+
+		final int[][] multisetCounts = new int[NUMBER_OF_RANKS + 1][MAXIMUM_NUMBER_OF_CARDS + 1];
+		multisetCounts[0][0] = 1;
+
+		for (int numberOfRanks = 1; numberOfRanks <= NUMBER_OF_RANKS; numberOfRanks++) {
+			for (int numberOfCards = 0; numberOfCards <= MAXIMUM_NUMBER_OF_CARDS; numberOfCards++) {
+				for (int rankCount = 0; rankCount <= Math.min(MAXIMUM_CARDS_PER_RANK, numberOfCards); rankCount++) {
+					multisetCounts[numberOfRanks][numberOfCards] += multisetCounts[numberOfRanks - 1][numberOfCards
+							- rankCount];
+				}
+			}
+		}
+
+		return multisetCounts;
+	}
+
+	/**
+	 * @return Non-null perfect hash offsets.
+	 */
+	private static int[] createHashOffsets() {
+
+		final int[][] multisetCounts = createMultisetCounts();
+		final int[] hashOffsets = new int[hashOffsetIndex(NUMBER_OF_RANKS, 0, 0)];
+
+		for (int rankIndex = 0; rankIndex < NUMBER_OF_RANKS; rankIndex++) {
+			final int numberOfRemainingRanks = NUMBER_OF_RANKS - 1 - rankIndex;
+
+			for (int remainingCards = 0; remainingCards <= MAXIMUM_NUMBER_OF_CARDS; remainingCards++) {
+				int offset = 0;
+
+				for (int rankCount = 0; rankCount <= Math.min(MAXIMUM_CARDS_PER_RANK, remainingCards); rankCount++) {
+					hashOffsets[hashOffsetIndex(rankIndex, remainingCards, rankCount)] = offset;
+					offset += multisetCounts[numberOfRemainingRanks][remainingCards - rankCount];
+				}
+			}
+		}
+
+		return hashOffsets;
+	}
+
+	/**
+	 * @return Non-null flush strengths indexed by 13-bit rank mask. Masks with
+	 *         fewer than five ranks are not valid flushes and have no strength.
+	 */
+	private static int[] createFlushStrengths() {
+
+		final int[] flushStrengths = new int[ALL_RANKS_MASK + 1];
+
+		for (int rankMask = 0; rankMask <= ALL_RANKS_MASK; rankMask++) {
+			if (Integer.bitCount(rankMask) < 5) {
+				continue;
+			}
+
+			final int highestStraightRankIndex = RankHistogram.findHighestStraight(rankMask);
+			if (highestStraightRankIndex >= 0) {
+				flushStrengths[rankMask] = HandStrength.create(HandStrength.STRAIGHT_FLUSH, highestStraightRankIndex);
+			} else {
+				flushStrengths[rankMask] = HandStrength.create(HandStrength.FLUSH, highestRanks(rankMask, 5));
+			}
+		}
+
+		return flushStrengths;
+	}
+
+	/**
+	 * @return Non-null packed rank counts indexed by 13-bit rank mask.
+	 */
+	private static long[] createRankCountsByRankMask() {
+
+		final long[] rankCountsByRankMask = new long[ALL_RANKS_MASK + 1];
+
+		for (int rankMask = 0; rankMask <= ALL_RANKS_MASK; rankMask++) {
+			for (int rankIndex = 0; rankIndex < NUMBER_OF_RANKS; rankIndex++) {
+				if ((rankMask & (1 << rankIndex)) != 0) {
+					rankCountsByRankMask[rankMask] |= 1L << (rankIndex * RANK_COUNT_BITS);
+				}
+			}
+		}
+
+		return rankCountsByRankMask;
+	}
+
+	/**
+	 * @return Non-null non-flush strengths indexed by number of cards and then by
+	 *         perfect hash.
+	 */
+	private static int[][] createNonFlushStrengths() {
+
+		final int[][] multisetCounts = createMultisetCounts();
+		final int[][] nonFlushStrengths = new int[MAXIMUM_NUMBER_OF_CARDS + 1][];
+
+		for (int numberOfCards = MINIMUM_NUMBER_OF_CARDS; numberOfCards <= MAXIMUM_NUMBER_OF_CARDS; numberOfCards++) {
+			nonFlushStrengths[numberOfCards] = new int[multisetCounts[NUMBER_OF_RANKS][numberOfCards]];
+		}
+
+		final int[] rankCounts = new int[NUMBER_OF_RANKS];
+		for (int numberOfCards = MINIMUM_NUMBER_OF_CARDS; numberOfCards <= MAXIMUM_NUMBER_OF_CARDS; numberOfCards++) {
+			fillNonFlushStrengths(nonFlushStrengths[numberOfCards], rankCounts, 0, numberOfCards, numberOfCards);
+		}
+
+		return nonFlushStrengths;
+	}
+
+	/**
+	 * Recursively visits every multiset of ranks and stores its strength.
+	 *
+	 * @param strengths      The strengths to fill for the number of cards. This
+	 *                       must never be null.
+	 * @param rankCounts     The number of cards held of each rank so far. This
+	 *                       must never be null.
+	 * @param rankIndex      The next rank index to assign a count to.
+	 * @param remainingCards The number of cards still to assign.
+	 * @param numberOfCards  The total number of cards in each multiset.
+	 */
+	private static void fillNonFlushStrengths(final int[] strengths, final int[] rankCounts, final int rankIndex,
+			final int remainingCards, final int numberOfCards) {
+
+		if (rankIndex == NUMBER_OF_RANKS) {
+			if (remainingCards == 0) {
+				int hash = 0;
+				int cardsToHash = numberOfCards;
+				for (int index = 0; index < NUMBER_OF_RANKS; index++) {
+					hash += HASH_OFFSETS[hashOffsetIndex(index, cardsToHash, rankCounts[index])];
+					cardsToHash -= rankCounts[index];
+				}
+
+				strengths[hash] = computeNonFlushStrength(rankCounts);
+			}
+			return;
+		}
+
+		for (int rankCount = 0; rankCount <= Math.min(MAXIMUM_CARDS_PER_RANK, remainingCards); rankCount++) {
+			rankCounts[rankIndex] = rankCount;
+			fillNonFlushStrengths(strengths, rankCounts, rankIndex + 1, remainingCards - rankCount, numberOfCards);
+		}
+		rankCounts[rankIndex] = 0;
+	}
+
+	/**
+	 * Computes the strength of the best five card hand from a multiset of ranks,
+	 * ignoring flushes. When more than five cards are held the cards which are
+	 * not part of the best five card hand are ignored, so for instance the lowest
+	 * of three pairs may only ever be a kicker.
+	 *
+	 * @param rankCounts The number of cards held of each rank. This must never be
+	 *                   null and must hold at least five cards.
+	 * @return The hand strength.
+	 */
+	private static int computeNonFlushStrength(final int[] rankCounts) {
+
+		final int rankMask = ranksHeldAtLeast(rankCounts, 1);
+		final int quadsMask = ranksHeldAtLeast(rankCounts, 4);
+		final int tripsMask = ranksHeldAtLeast(rankCounts, 3);
+		final int pairsMask = ranksHeldAtLeast(rankCounts, 2);
+
+		if (quadsMask != 0) {
+			final int quadsRankIndex = highestRank(quadsMask);
+			return HandStrength.create(HandStrength.FOUR_OF_A_KIND, quadsRankIndex,
+					highestRank(rankMask & ~(1 << quadsRankIndex)));
+		}
+
+		if (tripsMask != 0) {
+			final int tripsRankIndex = highestRank(tripsMask);
+			final int remainingPairsMask = pairsMask & ~(1 << tripsRankIndex);
+			if (remainingPairsMask != 0) {
+				return HandStrength.create(HandStrength.FULL_HOUSE, tripsRankIndex, highestRank(remainingPairsMask));
+			}
+		}
+
+		final int highestStraightRankIndex = RankHistogram.findHighestStraight(rankMask);
+		if (highestStraightRankIndex >= 0) {
+			return HandStrength.create(HandStrength.STRAIGHT, highestStraightRankIndex);
+		}
+
+		if (tripsMask != 0) {
+			final int tripsRankIndex = highestRank(tripsMask);
+			final int[] kickers = highestRanks(rankMask & ~(1 << tripsRankIndex), 2);
+			return HandStrength.create(HandStrength.THREE_OF_A_KIND, tripsRankIndex, kickers[0], kickers[1]);
+		}
+
+		if (Integer.bitCount(pairsMask) >= 2) {
+			final int[] pairRankIndexes = highestRanks(pairsMask, 2);
+			final int kicker = highestRank(rankMask & ~(1 << pairRankIndexes[0]) & ~(1 << pairRankIndexes[1]));
+			return HandStrength.create(HandStrength.TWO_PAIR, pairRankIndexes[0], pairRankIndexes[1], kicker);
+		}
+
+		if (pairsMask != 0) {
+			final int pairRankIndex = highestRank(pairsMask);
+			final int[] kickers = highestRanks(rankMask & ~(1 << pairRankIndex), 3);
+			return HandStrength.create(HandStrength.ONE_PAIR, pairRankIndex, kickers[0], kickers[1], kickers[2]);
+		}
+
+		return HandStrength.create(HandStrength.HIGH_CARD, highestRanks(rankMask, 5));
+	}
+
+	/**
+	 * @param rankCounts   The number of cards held of each rank. This must never
+	 *                     be null.
+	 * @param minimumCount The minimum number of cards of a rank.
+	 * @return The 13-bit mask of the ranks held at least the given number of
+	 *         times.
+	 */
+	private static int ranksHeldAtLeast(final int[] rankCounts, final int minimumCount) {
+
+		int rankMask = 0;
+		for (int rankIndex = 0; rankIndex < NUMBER_OF_RANKS; rankIndex++) {
+			if (rankCounts[rankIndex] >= minimumCount) {
+				rankMask |= 1 << rankIndex;
+			}
+		}
+
+		return rankMask;
+	}
+
+	/**
+	 * @param rankMask A non-zero 13-bit mask of ranks.
+	 * @return The highest rank index in the mask.
+	 */
+	private static int highestRank(final int rankMask) {
+
+		return Integer.SIZE - 1 - Integer.numberOfLeadingZeros(rankMask);
+	}
+
+	/**
+	 * @param rankMask      A 13-bit mask of ranks with at least the given number
+	 *                      of bits set.
+	 * @param numberOfRanks The number of ranks to get.
+	 * @return Non-null array of the highest rank indexes in the mask, from highest
+	 *         to lowest.
+	 */
+	private static int[] highestRanks(final int rankMask, final int numberOfRanks) {
+
+		final int[] rankIndexes = new int[numberOfRanks];
+		int remainingRankMask = rankMask;
+		for (int index = 0; index < numberOfRanks; index++) {
+			rankIndexes[index] = highestRank(remainingRankMask);
+			remainingRankMask &= ~(1 << rankIndexes[index]);
+		}
+
+		return rankIndexes;
+	}
+}
@@ -0,0 +1,324 @@
+package org.obidan.handrank;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.obidan.object.Card;
+import org.obidan.object.HandOfCards;
+import org.obidan.type.HandRank;
+import org.obidan.utility.RankHistogram;
+
+/**
+ * Evaluates a poker hand using precomputed lookup tables instead of a chain of
+ * evaluators. A single pass over the card codes builds the mask of cards held
+ * (in which each suit occupies 13 bits, so it is also the mask of ranks held in
+ * each suit) and the number of cards held of each rank, from which the
+ * {@link HandStrength} is read from either the flush table or the non-flush
+ * perfect hash table.
+ * <p>
+ * Hands of five, six, or seven cards are supported. For more than five cards
+ * the strength is that of the best five card hand which can be made from them
+ * (for instance, a Texas Hold'em hand of two hole cards and five board cards),
+ * which is read from the tables directly rather than by evaluating every five
+ * card subset.
+ * <p>
+ * The tables assume a single deck. A hand dealt from a shoe may hold the same
+ * card more than once, which shows as fewer bits of the card mask than cards,
+ * and such a hand falls back to evaluating every five card subset, those with
+ * duplicate cards from their {@link RankHistogram}.
+ * <p>
+ * Unlike the other evaluators this evaluator is not intended to be chained,
+ * since it determines every {@link HandRank} by itself.
+ *
+ * @author Obi-Dan
+ */
+public class LookupTableHandRankEvaluator implements PokerHandRankEvaluator {
+
+	private static final int SUIT_RANK_MASK = (1 << HandStrengthLookupTables.NUMBER_OF_RANKS) - 1;
+	private static final int NUMBER_OF_SUITS = 4;
+	private static final int CARDS_PER_HAND = 5;
+	private static final long[] RANK_COUNT_INCREMENTS = createRankCountIncrements();
+
+	/**
+	 * @return Non-null array of the amount each card code adds to the packed rank
+	 *         counts.
+	 */
+	private static long[] createRankCountIncrements() {
+
+		final long[] rankCountIncrements = new long[Card.NUMBER_OF_CARDS];
+		for (int code = 0; code < Card.NUMBER_OF_CARDS; code++) {
+			rankCountIncrements[code] = 1L
+					<< (Card.create(code).getRankIndex() * HandStrengthLookupTables.RANK_COUNT_BITS);
+		}
+
+		return rankCountIncrements;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public HandRank evaluateHandRank(final HandOfCards handOfCards, final HandRank previousHandRank) {
+
+		if (previousHandRank != null) {
+			return previousHandRank;
+		}
+
+		return HandStrength.getHandRank(evaluateHandStrength(handOfCards));
+	}
+
+	/**
+	 * Evaluates the {@link HandStrength} of the given hand of {@link Card}.
+	 *
+	 * @param handOfCards The player's {@link HandOfCards}. This must never be null
+	 *                    and must contain between five and seven cards.
+	 * @return The hand strength.
+	 */
+	@Override
+	public int evaluateHandStrength(final HandOfCards handOfCards) {
+
+		return evaluateHandStrength(handOfCards.getCards());
+	}
+
+	/**
+	 * Evaluates the {@link HandStrength} of the given {@link Card}s.
+	 *
+	 * @param cards The {@link List} of {@link Card}s. This must never be null or
+	 *              contain null values, and must contain between five and seven
+	 *              cards.
+	 * @return The hand strength of the best five card hand.
+	 */
+	public int evaluateHandStrength(final List<Card> cards) {
+
+		long cardMask = 0;
+		long rankCounts = 0;
+
+		for (int index = 0; index < cards.size(); index++) {
+			final int code = cards.get(index).getCode();
+			cardMask |= 1L << code;
+			rankCounts += RANK_COUNT_INCREMENTS[code];
+		}
+
+		if (Long.bitCount(cardMask) < cards.size()) {
+			return evaluateDuplicateHandStrength(getCodes(cards, Collections.emptyList()), cards.size());
+		}
+
+		return evaluateHandStrength(cardMask, rankCounts, cards.size());
+	}
+
+	/**
+	 * Evaluates the {@link HandStrength} of the best five card hand which can be
+	 * made from a player's hole {@link Card}s and the shared board {@link Card}s,
+	 * such as in Texas Hold'em.
+	 *
+	 * @param holeCards  The {@link List} of the player's hole {@link Card}s. This
+	 *                   must never be null or contain null values.
+	 * @param boardCards The {@link List} of board {@link Card}s. This must never
+	 *                   be null or contain null values.
+	 * @return The hand strength of the best five card hand. The hole and board
+	 *         {@link Card}s must together contain between five and seven cards.
+	 */
+	public int evaluateHandStrength(final List<Card> holeCards, final List<Card> boardCards) {
+
+		long cardMask = 0;
+		long rankCounts = 0;
+
+		for (int index = 0; index < holeCards.size(); index++) {
+			final int code = holeCards.get(index).getCode();
+			cardMask |= 1L << code;
+			rankCounts += RANK_COUNT_INCREMENTS[code];
+		}
+
+		for (int index = 0; index < boardCards.size(); index++) {
+			final int code = boardCards.get(index).getCode();
+			cardMask |= 1L << code;
+			rankCounts += RANK_COUNT_INCREMENTS[code];
+		}
+
+		if (Long.bitCount(cardMask) < holeCards.size() + boardCards.size()) {
+			return evaluateDuplicateHandStrength(getCodes(holeCards, boardCards),
+					holeCards.size() + boardCards.size());
+		}
+
+		return evaluateHandStrength(cardMask, rankCounts, holeCards.size() + boardCards.size());
+	}
+
+	/**
+	 * Evaluates the {@link HandStrength} of the given {@link Card} codes.
+	 *
+	 * @param codes         The array of {@link Card} codes. This must never be
+	 *                      null.
+	 * @param offset        The index of the first code of the hand.
+	 * @param numberOfCards The number of codes in the hand, which must be between
+	 *                      five and seven.
+	 * @return The hand strength of the best five card hand.
+	 */
+	public int evaluateHandStrength(final int[] codes, final int offset, final int numberOfCards) {
+
+		long cardMask = 0;
+		long rankCounts = 0;
+
+		for (int index = offset; index < offset + numberOfCards; index++) {
+			final int code = codes[index];
+			cardMask |= 1L << code;
+			rankCounts += RANK_COUNT_INCREMENTS[code];
+		}
+
+		if (Long.bitCount(cardMask) < numberOfCards) {
+			return evaluateDuplicateHandStrength(Arrays.copyOfRange(codes, offset, offset + numberOfCards),
+					numberOfCards);
+		}
+
+		return evaluateHandStrength(cardMask, rankCounts, numberOfCards);
+	}
+
+	/**
+	 * @param cards      The {@link List} of the first {@link Card}s. This must
+	 *                   never be null or contain null values.
+	 * @param otherCards The {@link List} of the other {@link Card}s. This must
+	 *                   never be null or contain null values.
+	 * @return Non-null array of the codes of the {@link Card}s of both lists.
+	 */
+	private static int[] getCodes(final List<Card> cards, final List<Card> otherCards) {
+
+		final int[] codes = new int[cards.size() + otherCards.size()];
+		for (int index = 0; index < cards.size(); index++) {
+			codes[index] = cards.get(index).getCode();
+		}
+		for (int index = 0; index < otherCards.size(); index++) {
+			codes[cards.size() + index] = otherCards.get(index).getCode();
+		}
+
+		return codes;
+	}
+
+	/**
+	 * Evaluates the {@link HandStrength} of a hand holding at least one card more
+	 * than once, as the best of every five card subset. A subset without
+	 * duplicate cards is read from the tables, and a subset with them is
+	 * evaluated from its {@link RankHistogram}.
+	 *
+	 * @param codes         The array of {@link Card} codes. This must never be
+	 *                      null.
+	 * @param numberOfCards The number of codes in the hand, which must be between
+	 *                      five and seven.
+	 * @return The hand strength of the best five card hand.
+	 */
+	private int evaluateDuplicateHandStrength(final int[] codes, final int numberOfCards) {
+
+		int bestStrength = -1;
+		for (int subsetMask = (1 << CARDS_PER_HAND) - 1; subsetMask < 1 << numberOfCards; subsetMask++) {
+			if (Integer.bitCount(subsetMask) != CARDS_PER_HAND) {
+				continue;
+			}
+
+			long cardMask = 0;
+			long rankCounts = 0;
+			int suitMask = 0;
+			for (int index = 0; index < numberOfCards; index++) {
+				if ((subsetMask & 1 << index) != 0) {
+					cardMask |= 1L << codes[index];
+					rankCounts += RANK_COUNT_INCREMENTS[codes[index]];
+					suitMask |= 1 << Card.create(codes[index]).getSuitIndex();
+				}
+			}
+
+			final int strength = Long.bitCount(cardMask) == CARDS_PER_HAND
+					? evaluateHandStrength(cardMask, rankCounts, CARDS_PER_HAND)
+					: evaluateDuplicateHandStrength(rankCounts, Integer.bitCount(suitMask) == 1);
+			bestStrength = Math.max(bestStrength, strength);
+		}
+
+		return bestStrength;
+	}
+
+	/**
+	 * Evaluates the {@link HandStrength} of five cards holding at least one card
+	 * more than once. Such a hand cannot be a straight, but it may be a five of a
+	 * kind, or a flush holding a pair or three of a kind.
+	 *
+	 * @param rankCounts The number of cards held of each rank, packed three bits
+	 *                   per rank as a {@link RankHistogram} packs them.
+	 * @param flush      True if every card is of the same suit.
+	 * @return The hand strength.
+	 */
+	private static int evaluateDuplicateHandStrength(final long rankCounts, final boolean flush) {
+
+		final RankHistogram rankHistogram = RankHistogram.create(CARDS_PER_HAND, rankCounts);
+		final HandRank handRank;
+		switch (rankHistogram.getGroupSize(0)) {
+		case 5:
+			handRank = HandRank.FIVE_OF_A_KIND;
+			break;
+		case 4:
+			handRank = HandRank.FOUR_OF_A_KIND;
+			break;
+		case 3:
+			handRank = rankHistogram.getGroupSize(1) == 2 ? HandRank.FULL_HOUSE
+					: flush ? HandRank.FLUSH : HandRank.THREE_OF_A_KIND;
+			break;
+		default:
+			handRank = flush ? HandRank.FLUSH
+					: rankHistogram.getGroupSize(1) == 2 ? HandRank.TWO_PAIR : HandRank.ONE_PAIR;
+			break;
+		}
+
+		return HandStrength.create(handRank, rankHistogram);
+	}
+
+	/**
+	 * Evaluates the {@link HandStrength} of a hand from its card mask. The number
+	 * of cards of each rank is found by adding the counts of the ranks held in
+	 * each suit, without visiting the cards one at a time.
+	 *
+	 * @param cardMask The 52-bit mask of the {@link Card} codes held, in which bit
+	 *                 n is set if the {@link Card} with the code n is held. Between
+	 *                 five and seven bits must be set.
+	 * @return The hand strength of the best five card hand.
+	 */
+	public int evaluateHandStrength(final long cardMask) {
+
+		final int suitRankMask0 = (int) cardMask & SUIT_RANK_MASK;
+		final int suitRankMask1 = (int) (cardMask >>> Card.NUMBER_OF_FACE_VALUES) & SUIT_RANK_MASK;
+		final int suitRankMask2 = (int) (cardMask >>> (2 * Card.NUMBER_OF_FACE_VALUES)) & SUIT_RANK_MASK;
+		final int suitRankMask3 = (int) (cardMask >>> (3 * Card.NUMBER_OF_FACE_VALUES)) & SUIT_RANK_MASK;
+
+		final long rankCounts = HandStrengthLookupTables.getRankCounts(suitRankMask0)
+				+ HandStrengthLookupTables.getRankCounts(suitRankMask1)
+				+ HandStrengthLookupTables.getRankCounts(suitRankMask2)
+				+ HandStrengthLookupTables.getRankCounts(suitRankMask3);
+
+		return evaluateHandStrength(cardMask, rankCounts, Long.bitCount(cardMask));
+	}
+
+	/**
+	 * Evaluates the {@link HandStrength} of a hand from its card mask and packed
+	 * rank counts.
+	 *
+	 * @param cardMask      The 52-bit mask of the {@link Card} codes held.
+	 * @param rankCounts    The number of cards held of each rank, packed three
+	 *                      bits per rank.
+	 * @param numberOfCards The number of cards in the hand.
+	 * @return The hand strength.
+	 */
+	private int evaluateHandStrength(final long cardMask, final long rankCounts, final int numberOfCards) {
+
+		int rankMask = 0;
+		for (int suitIndex = 0; suitIndex < NUMBER_OF_SUITS; suitIndex++) {
+			final int suitRankMask = (int) (cardMask >>> (suitIndex * Card.NUMBER_OF_FACE_VALUES))
+					& SUIT_RANK_MASK;
+
+			// With no more than seven cards, once a suit holds five of them neither a
+			// four of a kind nor a full house can also be made, so no better non-flush
+			// hand is possible.
+			if (Integer.bitCount(suitRankMask) >= 5) {
+				return HandStrengthLookupTables.getFlushStrength(suitRankMask);
+			}
+
+			rankMask |= suitRankMask;
+		}
+
+		return HandStrengthLookupTables.getNonFlushStrength(rankMask, rankCounts, numberOfCards);
+	}
+}
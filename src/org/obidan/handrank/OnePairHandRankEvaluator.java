@@ -28,7 +28,7 @@ public class OnePairHandRankEvaluator implements PokerHandRankEvaluator {
 		// Since one pair is a lower rank than two pair simply checking the size of the
 		// first grouped card collection as having 2 cards is sufficient to determine
 		// this rank.
-		if (handOfCards.getCardCollectionsGroupedByFaceValue().get(0).size() == 2) {
+		if (handOfCards.getRankHistogram().getGroupSize(0) == 2) {
 			return HandRank.ONE_PAIR;
 		}
 
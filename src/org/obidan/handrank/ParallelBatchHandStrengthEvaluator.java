@@ -0,0 +1,120 @@
+package org.obidan.handrank;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Evaluates batches of hands by splitting them into chunks which are evaluated
+ * in parallel on a {@link ForkJoinPool}. Each chunk is evaluated by a
+ * {@link ScalarBatchHandStrengthEvaluator}. Batches too small to be worth
+ * splitting are evaluated on the calling thread.
+ *
+ * @author Obi-Dan
+ */
+public class ParallelBatchHandStrengthEvaluator implements BatchHandStrengthEvaluator {
+
+	private static final int MINIMUM_CHUNK_LENGTH = 8192;
+
+	private final ScalarBatchHandStrengthEvaluator scalarBatchHandStrengthEvaluator;
+	private final ForkJoinPool forkJoinPool;
+
+	/**
+	 * Constructs a {@link ParallelBatchHandStrengthEvaluator} which uses the
+	 * common {@link ForkJoinPool}.
+	 *
+	 * @param scalarBatchHandStrengthEvaluator A
+	 *                                         {@link ScalarBatchHandStrengthEvaluator}.
+	 *                                         This must never be null.
+	 */
+	public ParallelBatchHandStrengthEvaluator(
+			final ScalarBatchHandStrengthEvaluator scalarBatchHandStrengthEvaluator) {
+
+		this(scalarBatchHandStrengthEvaluator, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Constructs a {@link ParallelBatchHandStrengthEvaluator}.
+	 *
+	 * @param scalarBatchHandStrengthEvaluator A
+	 *                                         {@link ScalarBatchHandStrengthEvaluator}.
+	 *                                         This must never be null.
+	 * @param forkJoinPool                     The {@link ForkJoinPool} the chunks
+	 *                                         are evaluated on. This must never be
+	 *                                         null.
+	 */
+	public ParallelBatchHandStrengthEvaluator(final ScalarBatchHandStrengthEvaluator scalarBatchHandStrengthEvaluator,
+			final ForkJoinPool forkJoinPool) {
+
+		this.scalarBatchHandStrengthEvaluator = scalarBatchHandStrengthEvaluator;
+		this.forkJoinPool = forkJoinPool;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void evaluate(final long[] cardMasks, final int[] strengths, final int offset, final int length) {
+
+		if (length < 2 * MINIMUM_CHUNK_LENGTH) {
+			this.scalarBatchHandStrengthEvaluator.evaluate(cardMasks, strengths, offset, length);
+			return;
+		}
+
+		final int chunkLength = Math.max(MINIMUM_CHUNK_LENGTH,
+				length / (this.forkJoinPool.getParallelism() * 4) + 1);
+		this.forkJoinPool.invoke(new EvaluateAction(cardMasks, strengths, offset, length, chunkLength));
+	}
+
+	/**
+	 * Evaluates a range of hands, splitting it in half until it is no longer than
+	 * the chunk length.
+	 */
+	private final class EvaluateAction extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final long[] cardMasks;
+		private final int[] strengths;
+		private final int offset;
+		private final int length;
+		private final int chunkLength;
+
+		/**
+		 * Constructs an {@link EvaluateAction}.
+		 *
+		 * @param cardMasks   The array of card masks. This must never be null.
+		 * @param strengths   The array of hand strengths. This must never be null.
+		 * @param offset      The index of the first hand to evaluate.
+		 * @param length      The number of hands to evaluate.
+		 * @param chunkLength The largest number of hands evaluated without
+		 *                    splitting.
+		 */
+		private EvaluateAction(final long[] cardMasks, final int[] strengths, final int offset, final int length,
+				final int chunkLength) {
+
+			this.cardMasks = cardMasks;
+			this.strengths = strengths;
+			this.offset = offset;
+			this.length = length;
+			this.chunkLength = chunkLength;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected void compute() {
+
+			if (this.length <= this.chunkLength) {
+				ParallelBatchHandStrengthEvaluator.this.scalarBatchHandStrengthEvaluator.evaluate(this.cardMasks,
+						this.strengths, this.offset, this.length);
+				return;
+			}
+
+			final int firstLength = this.length / 2;
+			invokeAll(new EvaluateAction(this.cardMasks, this.strengths, this.offset, firstLength, this.chunkLength),
+					new EvaluateAction(this.cardMasks, this.strengths, this.offset + firstLength,
+							this.length - firstLength, this.chunkLength));
+		}
+	}
+}
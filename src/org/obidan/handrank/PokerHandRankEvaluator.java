@@ -21,6 +21,20 @@ public interface PokerHandRankEvaluator {
 	 */
 	HandRank evaluateHandRank(final HandOfCards handOfCards, HandRank previousHandRank);
 
+	/**
+	 * Evaluates the {@link HandStrength} of the given hand of {@link Card}, which
+	 * encodes the {@link HandRank} along with every rank needed to break a tie.
+	 * By default the {@link HandRank} is evaluated and the tie-breaking ranks are
+	 * taken from the {@link HandOfCards} card collections.
+	 * 
+	 * @param handOfCards The player's {@link HandOfCards}. This must never be null.
+	 * @return The hand strength.
+	 */
+	default int evaluateHandStrength(final HandOfCards handOfCards) {
+
+		return HandStrength.create(evaluateHandRank(handOfCards, null), handOfCards);
+	}
+
 	/**
 	 * Determines the next {@link PokerHandRankEvaluator}.
 	 * 
@@ -0,0 +1,36 @@
+package org.obidan.handrank;
+
+/**
+ * Evaluates batches of hands one after another on the calling thread, giving
+ * each card mask of the range the strength the
+ * {@link LookupTableHandRankEvaluator} gives it.
+ *
+ * @author Obi-Dan
+ */
+public class ScalarBatchHandStrengthEvaluator implements BatchHandStrengthEvaluator {
+
+	private final LookupTableHandRankEvaluator lookupTableHandRankEvaluator;
+
+	/**
+	 * Constructs a {@link ScalarBatchHandStrengthEvaluator}.
+	 *
+	 * @param lookupTableHandRankEvaluator A {@link LookupTableHandRankEvaluator}.
+	 *                                     This must never be null.
+	 */
+	public ScalarBatchHandStrengthEvaluator(final LookupTableHandRankEvaluator lookupTableHandRankEvaluator) {
+
+		this.lookupTableHandRankEvaluator = lookupTableHandRankEvaluator;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void evaluate(final long[] cardMasks, final int[] strengths, final int offset, final int length) {
+
+		final int end = offset + length;
+		for (int index = offset; index < end; index++) {
+			strengths[index] = this.lookupTableHandRankEvaluator.evaluateHandStrength(cardMasks[index]);
+		}
+	}
+}
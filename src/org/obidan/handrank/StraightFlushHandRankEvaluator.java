@@ -3,13 +3,9 @@
  */
 package org.obidan.handrank;
 
-import java.util.List;
-
-import org.obidan.object.Card;
 import org.obidan.object.HandOfCards;
 import org.obidan.object.Player;
 import org.obidan.type.HandRank;
-import org.obidan.type.Suit;
 
 /**
  * Evaluates a {@link Player}'s poker hand to determine if the hand is a
@@ -29,17 +25,8 @@ public class StraightFlushHandRankEvaluator implements PokerHandRankEvaluator {
 			return previousHandRank;
 		}
 
-		final List<Card> cards = handOfCards.getCards();
-		final Suit firstCardSuit = cards.get(0).getSuit();
-
-		final boolean allCardsAreSameSuit = cards.stream().allMatch(card -> card.getSuit() == firstCardSuit);
-
-		if (allCardsAreSameSuit) {
-			final List<List<Card>> sequentialCardCollections = handOfCards.getSequentialCardCollections();
-
-			if (sequentialCardCollections.size() == 1 && sequentialCardCollections.get(0).size() == 5) {
-				return HandRank.STRAIGHT_FLUSH;
-			}
+		if (handOfCards.isFlush() && handOfCards.getRankHistogram().getHighestStraightRankIndex() >= 0) {
+			return HandRank.STRAIGHT_FLUSH;
 		}
 
 		return null;
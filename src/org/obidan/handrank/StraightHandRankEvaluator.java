@@ -3,9 +3,6 @@
  */
 package org.obidan.handrank;
 
-import java.util.List;
-
-import org.obidan.object.Card;
 import org.obidan.object.HandOfCards;
 import org.obidan.object.Player;
 import org.obidan.type.HandRank;
@@ -28,11 +25,9 @@ public class StraightHandRankEvaluator implements PokerHandRankEvaluator {
 			return previousHandRank;
 		}
 
-		final List<List<Card>> sequentialCardCollections = handOfCards.getSequentialCardCollections();
-
 		// Since a straight is a lower rank than a straight flush simply checking that
 		// all the cards are sequential is sufficient to determine this rank.
-		if (sequentialCardCollections.size() == 1 && sequentialCardCollections.get(0).size() == 5) {
+		if (handOfCards.getRankHistogram().getHighestStraightRankIndex() >= 0) {
 			return HandRank.STRAIGHT;
 		}
 
@@ -28,7 +28,7 @@ public class ThreeOfAKindHandRankEvaluator implements PokerHandRankEvaluator {
 		// Since three of a kind is a lower rank than full house simply checking the
 		// size of the first grouped card collection as having 3 cards is sufficient to
 		// determine this rank.
-		if (handOfCards.getCardCollectionsGroupedByFaceValue().get(0).size() == 3) {
+		if (handOfCards.getRankHistogram().getGroupSize(0) == 3) {
 			return HandRank.THREE_OF_A_KIND;
 		}
 
@@ -3,12 +3,10 @@
  */
 package org.obidan.handrank;
 
-import java.util.List;
-
-import org.obidan.object.Card;
 import org.obidan.object.HandOfCards;
 import org.obidan.object.Player;
 import org.obidan.type.HandRank;
+import org.obidan.utility.RankHistogram;
 
 /**
  * Evaluates a {@link Player}'s poker hand to determine if the hand is a two
@@ -28,10 +26,10 @@ public class TwoPairHandRankEvaluator implements PokerHandRankEvaluator {
 			return previousHandRank;
 		}
 
-		final List<List<Card>> cardCollectionsGroupedByFaceValue = handOfCards.getCardCollectionsGroupedByFaceValue();
+		final RankHistogram rankHistogram = handOfCards.getRankHistogram();
 
-		if (cardCollectionsGroupedByFaceValue.size() >= 2 && cardCollectionsGroupedByFaceValue.get(0).size() == 2
-				&& cardCollectionsGroupedByFaceValue.get(1).size() == 2) {
+		if (rankHistogram.getGroupCount() >= 2 && rankHistogram.getGroupSize(0) == 2
+				&& rankHistogram.getGroupSize(1) == 2) {
 			return HandRank.TWO_PAIR;
 		}
 
@@ -0,0 +1,86 @@
+package org.obidan.history;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The record of a stored game: its id, the time it was dealt, and a
+ * {@link SeatRecord} for each seat in seat order.
+ *
+ * @author Obi-Dan
+ */
+public final class GameRecord {
+
+	private final long gameId;
+	private final long timestampMillis;
+	private final List<SeatRecord> seatRecords;
+
+	/**
+	 * Constructs a {@link GameRecord}.
+	 *
+	 * @param gameId          The game id.
+	 * @param timestampMillis The time the game was dealt, in milliseconds since
+	 *                        the epoch.
+	 * @param seatRecords     The {@link List} of {@link SeatRecord}s. This must
+	 *                        never be null or contain null values.
+	 */
+	private GameRecord(final long gameId, final long timestampMillis, final List<SeatRecord> seatRecords) {
+
+		this.gameId = gameId;
+		this.timestampMillis = timestampMillis;
+		this.seatRecords = seatRecords;
+	}
+
+	/**
+	 * Creates a {@link GameRecord}.
+	 *
+	 * @param gameId          The game id.
+	 * @param timestampMillis The time the game was dealt, in milliseconds since
+	 *                        the epoch.
+	 * @param seatRecords     The {@link List} of {@link SeatRecord}s in seat
+	 *                        order. This must never be null or contain null
+	 *                        values.
+	 * @return Non-null {@link GameRecord}.
+	 */
+	public static GameRecord create(final long gameId, final long timestampMillis,
+			final List<SeatRecord> seatRecords) {
+
+		return new GameRecord(gameId, timestampMillis, Collections.unmodifiableList(seatRecords));
+	}
+
+	/**
+	 * @return The game id.
+	 */
+	public long getGameId() {
+
+		return this.gameId;
+	}
+
+	/**
+	 * @return The time the game was dealt, in milliseconds since the epoch.
+	 */
+	public long getTimestampMillis() {
+
+		return this.timestampMillis;
+	}
+
+	/**
+	 * @return Non-null, unmodifiable {@link List} of non-null {@link SeatRecord}s
+	 *         in seat order.
+	 */
+	public List<SeatRecord> getSeatRecords() {
+
+		return this.seatRecords;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+
+		return new StringBuilder("GameRecord[gameId=").append(this.gameId).append(",timestampMillis=")
+				.append(this.timestampMillis).append(",seatRecords=").append(this.seatRecords).append("]")
+				.toString();
+	}
+}
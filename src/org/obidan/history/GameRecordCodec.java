@@ -0,0 +1,194 @@
+package org.obidan.history;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.obidan.io.HandRecordFormat;
+import org.obidan.io.PackedHand;
+import org.obidan.type.WinningStatus;
+
+/**
+ * Encodes and decodes the {@link GameRecord}s of a segment. Each game is a
+ * little-endian record of:
+ * <ul>
+ * <li>the length of the rest of the record (4 bytes);</li>
+ * <li>the game id and the timestamp (8 bytes each);</li>
+ * <li>the number of seats, as an unsigned varint of seven bits a byte with the
+ * lowest bits first (1 byte for fewer than 128 seats, and up to 5 bytes);</li>
+ * <li>for each seat, the length of the player's name in UTF-8 (2 bytes), the
+ * name, a {@link HandRecordFormat} record of seven card slots and the hand
+ * strength (9 bytes), and the {@link WinningStatus} ordinal (1 byte).</li>
+ * </ul>
+ * The length prefix lets a reader skip a game without decoding it and lets a
+ * torn write at the end of a segment be detected.
+ *
+ * @author Obi-Dan
+ */
+final class GameRecordCodec {
+
+	static final int LENGTH_PREFIX_LENGTH = 4;
+
+	private static final int MINIMUM_GAME_HEADER_LENGTH = 2 * Long.BYTES + 1;
+	private static final int MAXIMUM_RECORD_LENGTH = Integer.MAX_VALUE - 8;
+	private static final int MAXIMUM_NAME_LENGTH = 0xFFFF;
+	private static final HandRecordFormat HAND_RECORD_FORMAT = HandRecordFormat
+			.create(PackedHand.MAXIMUM_NUMBER_OF_CARDS, true);
+	private static final WinningStatus[] WINNING_STATUSES = WinningStatus.values();
+
+	/**
+	 * Prevents construction of this class.
+	 */
+	private GameRecordCodec() {
+	}
+
+	/**
+	 * Encodes a {@link GameRecord}.
+	 *
+	 * @param gameRecord The {@link GameRecord}. This must never be null.
+	 * @return Non-null array of the bytes of the record, including its length
+	 *         prefix.
+	 * @throws IllegalArgumentException If a player's name is too long to encode,
+	 *                                  or the record is too long to store.
+	 */
+	static byte[] encode(final GameRecord gameRecord) {
+
+		final List<SeatRecord> seatRecords = gameRecord.getSeatRecords();
+		final byte[][] nameBytes = new byte[seatRecords.size()][];
+		long length = LENGTH_PREFIX_LENGTH + 2 * Long.BYTES + getVarintLength(seatRecords.size());
+		for (int seatIndex = 0; seatIndex < nameBytes.length; seatIndex++) {
+			nameBytes[seatIndex] = seatRecords.get(seatIndex).getPlayerName().getBytes(StandardCharsets.UTF_8);
+			if (nameBytes[seatIndex].length > MAXIMUM_NAME_LENGTH) {
+				throw new IllegalArgumentException(
+						"A player's name is too long to store (length=" + nameBytes[seatIndex].length + ").");
+			}
+			length += Short.BYTES + nameBytes[seatIndex].length + HAND_RECORD_FORMAT.getRecordLength() + 1;
+		}
+
+		if (length > MAXIMUM_RECORD_LENGTH) {
+			throw new IllegalArgumentException("A game is too long to store (numberOfSeats=" + seatRecords.size()
+					+ ", length=" + length + ").");
+		}
+
+		final ByteBuffer buffer = ByteBuffer.allocate((int) length).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.putInt((int) length - LENGTH_PREFIX_LENGTH).putLong(gameRecord.getGameId())
+				.putLong(gameRecord.getTimestampMillis());
+		int numberOfSeats = seatRecords.size();
+		while ((numberOfSeats & ~0x7F) != 0) {
+			buffer.put((byte) (numberOfSeats & 0x7F | 0x80));
+			numberOfSeats >>>= 7;
+		}
+		buffer.put((byte) numberOfSeats);
+		for (int seatIndex = 0; seatIndex < nameBytes.length; seatIndex++) {
+			final SeatRecord seatRecord = seatRecords.get(seatIndex);
+			buffer.putShort((short) nameBytes[seatIndex].length).put(nameBytes[seatIndex]);
+			HAND_RECORD_FORMAT.writeRecord(buffer, seatRecord.getPackedHand(), seatRecord.getStrength());
+			buffer.put((byte) seatRecord.getWinningStatus().ordinal());
+		}
+
+		return buffer.array();
+	}
+
+	/**
+	 * Gets the length of the record at an index, if it is complete.
+	 *
+	 * @param buffer The little-endian {@link ByteBuffer}. This must never be
+	 *               null.
+	 * @param index  The index of the first byte of the record.
+	 * @param limit  The index after the last byte which may be read.
+	 * @return The length of the record including its length prefix, or -1 if the
+	 *         record does not fit before the limit or cannot be a game.
+	 */
+	static int getRecordLength(final ByteBuffer buffer, final int index, final int limit) {
+
+		if (limit - index < LENGTH_PREFIX_LENGTH) {
+			return -1;
+		}
+
+		final int bodyLength = buffer.getInt(index);
+		if (bodyLength < MINIMUM_GAME_HEADER_LENGTH || bodyLength > limit - index - LENGTH_PREFIX_LENGTH) {
+			return -1;
+		}
+
+		return LENGTH_PREFIX_LENGTH + bodyLength;
+	}
+
+	/**
+	 * @param buffer The little-endian {@link ByteBuffer}. This must never be
+	 *               null.
+	 * @param index  The index of the first byte of a complete record.
+	 * @return The game id of the record.
+	 */
+	static long getGameId(final ByteBuffer buffer, final int index) {
+
+		return buffer.getLong(index + LENGTH_PREFIX_LENGTH);
+	}
+
+	/**
+	 * @param buffer The little-endian {@link ByteBuffer}. This must never be
+	 *               null.
+	 * @param index  The index of the first byte of a complete record.
+	 * @return The timestamp of the record, in milliseconds since the epoch.
+	 */
+	static long getTimestampMillis(final ByteBuffer buffer, final int index) {
+
+		return buffer.getLong(index + LENGTH_PREFIX_LENGTH + Long.BYTES);
+	}
+
+	/**
+	 * Decodes a {@link GameRecord}.
+	 *
+	 * @param buffer The little-endian {@link ByteBuffer}. This must never be
+	 *               null.
+	 * @param index  The index of the first byte of a complete record.
+	 * @return Non-null {@link GameRecord}.
+	 */
+	static GameRecord decode(final ByteBuffer buffer, final int index) {
+
+		int position = index + LENGTH_PREFIX_LENGTH;
+		final long gameId = buffer.getLong(position);
+		final long timestampMillis = buffer.getLong(position + Long.BYTES);
+		position += 2 * Long.BYTES;
+
+		int numberOfSeats = 0;
+		int shift = 0;
+		byte varintByte;
+		do {
+			varintByte = buffer.get(position++);
+			numberOfSeats |= (varintByte & 0x7F) << shift;
+			shift += 7;
+		} while (varintByte < 0);
+
+		final List<SeatRecord> seatRecords = new ArrayList<>(numberOfSeats);
+		for (int seatIndex = 0; seatIndex < numberOfSeats; seatIndex++) {
+			final int nameLength = buffer.getShort(position) & 0xFFFF;
+			position += Short.BYTES;
+
+			final byte[] nameBytes = new byte[nameLength];
+			for (int byteIndex = 0; byteIndex < nameLength; byteIndex++) {
+				nameBytes[byteIndex] = buffer.get(position + byteIndex);
+			}
+			position += nameLength;
+
+			final long packedHand = HAND_RECORD_FORMAT.readPackedHand(buffer, position);
+			final int strength = HAND_RECORD_FORMAT.readStrength(buffer, position);
+			position += HAND_RECORD_FORMAT.getRecordLength();
+
+			seatRecords.add(SeatRecord.create(new String(nameBytes, StandardCharsets.UTF_8), packedHand, strength,
+					WINNING_STATUSES[buffer.get(position++)]));
+		}
+
+		return GameRecord.create(gameId, timestampMillis, seatRecords);
+	}
+
+	/**
+	 * @param value The non-negative value.
+	 * @return The number of bytes of the value as an unsigned varint.
+	 */
+	private static int getVarintLength(final int value) {
+
+		return value == 0 ? 1 : (Integer.SIZE - Integer.numberOfLeadingZeros(value) + 6) / 7;
+	}
+}
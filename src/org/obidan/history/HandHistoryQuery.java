@@ -0,0 +1,194 @@
+package org.obidan.history;
+
+import org.obidan.handrank.HandStrength;
+import org.obidan.type.HandRank;
+import org.obidan.type.WinningStatus;
+
+/**
+ * The criteria of a query of a {@link HandHistoryStore}. A game matches if its
+ * id and time are within the ranges of the query and, when any seat criteria
+ * are given, at least one seat matches all of them (for instance, the seat of
+ * the given player holds a straight flush). A {@link HandHistoryQuery} is
+ * immutable; each {@code with} method returns a new query.
+ *
+ * @author Obi-Dan
+ */
+public final class HandHistoryQuery {
+
+	private static final int ALL_CATEGORIES = -1;
+
+	private final long minimumGameId;
+	private final long maximumGameId;
+	private final long fromTimestampMillis;
+	private final long untilTimestampMillis;
+	private final String playerName;
+	private final HandRank handRank;
+	private final WinningStatus winningStatus;
+
+	/**
+	 * Constructs a {@link HandHistoryQuery}.
+	 *
+	 * @param minimumGameId        The lowest game id matched.
+	 * @param maximumGameId        The highest game id matched.
+	 * @param fromTimestampMillis  The earliest time matched.
+	 * @param untilTimestampMillis The time after the latest time matched.
+	 * @param playerName           The player name a seat must have, or null.
+	 * @param handRank             The {@link HandRank} a seat must have, or null.
+	 * @param winningStatus        The {@link WinningStatus} a seat must have, or
+	 *                             null.
+	 */
+	private HandHistoryQuery(final long minimumGameId, final long maximumGameId, final long fromTimestampMillis,
+			final long untilTimestampMillis, final String playerName, final HandRank handRank,
+			final WinningStatus winningStatus) {
+
+		this.minimumGameId = minimumGameId;
+		this.maximumGameId = maximumGameId;
+		this.fromTimestampMillis = fromTimestampMillis;
+		this.untilTimestampMillis = untilTimestampMillis;
+		this.playerName = playerName;
+		this.handRank = handRank;
+		this.winningStatus = winningStatus;
+	}
+
+	/**
+	 * Creates a {@link HandHistoryQuery} which matches every game.
+	 *
+	 * @return Non-null {@link HandHistoryQuery}.
+	 */
+	public static HandHistoryQuery create() {
+
+		return new HandHistoryQuery(Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, null, null,
+				null);
+	}
+
+	/**
+	 * @param minimumGameId The lowest game id matched.
+	 * @param maximumGameId The highest game id matched.
+	 * @return Non-null {@link HandHistoryQuery} which also only matches games
+	 *         with an id in the range.
+	 */
+	public HandHistoryQuery withGameIds(final long minimumGameId, final long maximumGameId) {
+
+		return new HandHistoryQuery(minimumGameId, maximumGameId, this.fromTimestampMillis,
+				this.untilTimestampMillis, this.playerName, this.handRank, this.winningStatus);
+	}
+
+	/**
+	 * @param fromTimestampMillis  The earliest time matched, in milliseconds since
+	 *                             the epoch.
+	 * @param untilTimestampMillis The time after the latest time matched, in
+	 *                             milliseconds since the epoch.
+	 * @return Non-null {@link HandHistoryQuery} which also only matches games
+	 *         dealt in the range.
+	 */
+	public HandHistoryQuery withTimes(final long fromTimestampMillis, final long untilTimestampMillis) {
+
+		return new HandHistoryQuery(this.minimumGameId, this.maximumGameId, fromTimestampMillis,
+				untilTimestampMillis, this.playerName, this.handRank, this.winningStatus);
+	}
+
+	/**
+	 * @param playerName The player name. This must never be null.
+	 * @return Non-null {@link HandHistoryQuery} which also only matches seats of
+	 *         the player.
+	 */
+	public HandHistoryQuery withPlayerName(final String playerName) {
+
+		return new HandHistoryQuery(this.minimumGameId, this.maximumGameId, this.fromTimestampMillis,
+				this.untilTimestampMillis, playerName, this.handRank, this.winningStatus);
+	}
+
+	/**
+	 * @param handRank The {@link HandRank}. This must never be null.
+	 * @return Non-null {@link HandHistoryQuery} which also only matches seats with
+	 *         the {@link HandRank}.
+	 */
+	public HandHistoryQuery withHandRank(final HandRank handRank) {
+
+		return new HandHistoryQuery(this.minimumGameId, this.maximumGameId, this.fromTimestampMillis,
+				this.untilTimestampMillis, this.playerName, handRank, this.winningStatus);
+	}
+
+	/**
+	 * @param winningStatus The {@link WinningStatus}. This must never be null.
+	 * @return Non-null {@link HandHistoryQuery} which also only matches seats with
+	 *         the {@link WinningStatus}.
+	 */
+	public HandHistoryQuery withWinningStatus(final WinningStatus winningStatus) {
+
+		return new HandHistoryQuery(this.minimumGameId, this.maximumGameId, this.fromTimestampMillis,
+				this.untilTimestampMillis, this.playerName, this.handRank, winningStatus);
+	}
+
+	/**
+	 * @return The player name a seat must have, or null if any player matches.
+	 */
+	public String getPlayerName() {
+
+		return this.playerName;
+	}
+
+	/**
+	 * @return The mask of the {@link HandStrength} categories of which a block of
+	 *         games must hold at least one to match, with every bit set if any
+	 *         category matches.
+	 */
+	int getCategoryMask() {
+
+		return this.handRank == null ? ALL_CATEGORIES : 1 << HandStrength.getCategory(this.handRank);
+	}
+
+	/**
+	 * @param minimumGameId        The lowest game id of a range of games.
+	 * @param maximumGameId        The highest game id of a range of games.
+	 * @param minimumTimestamp     The earliest time of a range of games.
+	 * @param maximumTimestamp     The latest time of a range of games.
+	 * @return True if the ranges of the query overlap the ranges of the games.
+	 */
+	boolean overlaps(final long minimumGameId, final long maximumGameId, final long minimumTimestamp,
+			final long maximumTimestamp) {
+
+		return minimumGameId <= this.maximumGameId && maximumGameId >= this.minimumGameId
+				&& minimumTimestamp < this.untilTimestampMillis && maximumTimestamp >= this.fromTimestampMillis;
+	}
+
+	/**
+	 * @param gameRecord The {@link GameRecord}. This must never be null.
+	 * @return True if the game matches the query.
+	 */
+	public boolean matches(final GameRecord gameRecord) {
+
+		if (gameRecord.getGameId() < this.minimumGameId || gameRecord.getGameId() > this.maximumGameId
+				|| gameRecord.getTimestampMillis() < this.fromTimestampMillis
+				|| gameRecord.getTimestampMillis() >= this.untilTimestampMillis) {
+			return false;
+		}
+
+		if (this.playerName == null && this.handRank == null && this.winningStatus == null) {
+			return true;
+		}
+
+		for (final SeatRecord seatRecord : gameRecord.getSeatRecords()) {
+			if ((this.playerName == null || this.playerName.equals(seatRecord.getPlayerName()))
+					&& (this.handRank == null || this.handRank == seatRecord.getHandRank())
+					&& (this.winningStatus == null || this.winningStatus == seatRecord.getWinningStatus())) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+
+		return new StringBuilder("HandHistoryQuery[minimumGameId=").append(this.minimumGameId)
+				.append(",maximumGameId=").append(this.maximumGameId).append(",fromTimestampMillis=")
+				.append(this.fromTimestampMillis).append(",untilTimestampMillis=").append(this.untilTimestampMillis)
+				.append(",playerName=").append(this.playerName).append(",handRank=").append(this.handRank)
+				.append(",winningStatus=").append(this.winningStatus).append("]").toString();
+	}
+}
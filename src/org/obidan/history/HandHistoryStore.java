@@ -0,0 +1,617 @@
+package org.obidan.history;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Embedded, append-only store of dealt games. The games are appended to
+ * segment files in a directory ("segment-000000.hist", "segment-000001.hist"
+ * and so on), and a new segment is started once a segment reaches
+ * {@value #SEGMENT_LENGTH} bytes. Each segment has a {@link SegmentIndex},
+ * written beside it ("segment-000000.idx") when the segment is finished, by
+ * which a query reads only the blocks of games which might match.
+ * <p>
+ * A query scans the segments in parallel on a {@link ForkJoinPool} and returns
+ * the matching games in the order they were appended. Games are appended
+ * through a buffer, so a query sees the games appended before it but a crash
+ * loses the games not yet flushed; a game torn by a crash is dropped from the
+ * end of the last segment when the store is next opened.
+ * <p>
+ * A store opened with {@link #openReadOnly(Path, ForkJoinPool)} only reads the
+ * segments as they were when it was opened: it never creates, truncates, or
+ * writes a file, so it may be queried beside a store appending to the same
+ * directory.
+ *
+ * @author Obi-Dan
+ */
+public final class HandHistoryStore implements Closeable {
+
+	static final long SEGMENT_LENGTH = 64L << 20;
+
+	private static final String SEGMENT_PREFIX = "segment-";
+	private static final String SEGMENT_SUFFIX = ".hist";
+	private static final String INDEX_SUFFIX = ".idx";
+	private static final int WRITE_BUFFER_LENGTH = 1 << 16;
+	private static final int READ_BUFFER_LENGTH = 1 << 20;
+
+	private final Path directory;
+	private final ForkJoinPool forkJoinPool;
+	private final List<Segment> sealedSegments;
+	private final ByteBuffer writeBuffer = ByteBuffer.allocateDirect(WRITE_BUFFER_LENGTH);
+	private int segmentNumber;
+	private SegmentIndex segmentIndex;
+	private FileChannel fileChannel;
+	private long segmentLength;
+	private long flushedLength;
+
+	/**
+	 * Constructs a {@link HandHistoryStore}.
+	 *
+	 * @param directory      The {@link Path} of the directory of the store. This
+	 *                       must never be null.
+	 * @param forkJoinPool   The {@link ForkJoinPool} queries run on. This must
+	 *                       never be null.
+	 * @param sealedSegments The {@link List} of the finished {@link Segment}s in
+	 *                       order. This must never be null.
+	 * @param segmentNumber  The number of the segment being appended to.
+	 * @param segmentIndex   The {@link SegmentIndex} of the segment being
+	 *                       appended to. This must never be null.
+	 * @param fileChannel    The {@link FileChannel} of the segment being appended
+	 *                       to. This must never be null.
+	 */
+	private HandHistoryStore(final Path directory, final ForkJoinPool forkJoinPool,
+			final List<Segment> sealedSegments, final int segmentNumber, final SegmentIndex segmentIndex,
+			final FileChannel fileChannel) {
+
+		this.directory = directory;
+		this.forkJoinPool = forkJoinPool;
+		this.sealedSegments = sealedSegments;
+		this.segmentNumber = segmentNumber;
+		this.segmentIndex = segmentIndex;
+		this.fileChannel = fileChannel;
+		this.segmentLength = segmentIndex.getSegmentLength();
+		this.flushedLength = this.segmentLength;
+	}
+
+	/**
+	 * Constructs a read-only {@link HandHistoryStore}.
+	 *
+	 * @param directory    The {@link Path} of the directory of the store. This
+	 *                     must never be null.
+	 * @param forkJoinPool The {@link ForkJoinPool} queries run on. This must never
+	 *                     be null.
+	 * @param segments     The {@link List} of every {@link Segment} in order. This
+	 *                     must never be null.
+	 */
+	private HandHistoryStore(final Path directory, final ForkJoinPool forkJoinPool, final List<Segment> segments) {
+
+		this.directory = directory;
+		this.forkJoinPool = forkJoinPool;
+		this.sealedSegments = segments;
+		this.segmentNumber = -1;
+	}
+
+	/**
+	 * Opens the store in a directory, creating the directory if it does not
+	 * exist. The index of a finished segment is rebuilt if it is missing, and the
+	 * last segment is scanned and any torn game at its end removed, before new
+	 * games are appended to it.
+	 *
+	 * @param directory    The {@link Path} of the directory. This must never be
+	 *                     null.
+	 * @param forkJoinPool The {@link ForkJoinPool} queries run on. This must never
+	 *                     be null.
+	 * @return Non-null {@link HandHistoryStore}.
+	 * @throws IOException When the directory or a segment cannot be opened.
+	 */
+	public static HandHistoryStore open(final Path directory, final ForkJoinPool forkJoinPool) throws IOException {
+
+		Files.createDirectories(directory);
+		final List<Integer> segmentNumbers = listSegmentNumbers(directory);
+
+		final List<Segment> sealedSegments = new ArrayList<>();
+		for (int index = 0; index < segmentNumbers.size() - 1; index++) {
+			sealedSegments.add(openSealedSegment(directory, segmentNumbers.get(index), true));
+		}
+
+		final int segmentNumber = segmentNumbers.isEmpty() ? 0 : segmentNumbers.get(segmentNumbers.size() - 1);
+		final Path segmentPath = getSegmentPath(directory, segmentNumber);
+		final FileChannel fileChannel = FileChannel.open(segmentPath, StandardOpenOption.CREATE,
+				StandardOpenOption.READ, StandardOpenOption.WRITE);
+		try {
+			final SegmentIndex segmentIndex = readSegmentIndex(getIndexPath(directory, segmentNumber),
+					fileChannel.size());
+			final SegmentIndex openSegmentIndex = segmentIndex == null ? buildSegmentIndex(fileChannel)
+					: segmentIndex;
+			fileChannel.truncate(openSegmentIndex.getSegmentLength());
+			fileChannel.position(openSegmentIndex.getSegmentLength());
+			Files.deleteIfExists(getIndexPath(directory, segmentNumber));
+
+			return new HandHistoryStore(directory, forkJoinPool, sealedSegments, segmentNumber, openSegmentIndex,
+					fileChannel);
+		} catch (final IOException | RuntimeException e) {
+			fileChannel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Opens the store in a directory to be queried only. Nothing in the directory
+	 * is created or changed: the index of a segment is used if it covers the
+	 * segment and is otherwise rebuilt in memory, and a torn game at the end of
+	 * the last segment is skipped. Games appended by another store after this
+	 * store is opened are not seen by its queries.
+	 *
+	 * @param directory    The {@link Path} of the directory. This must never be
+	 *                     null.
+	 * @param forkJoinPool The {@link ForkJoinPool} queries run on. This must never
+	 *                     be null.
+	 * @return Non-null read-only {@link HandHistoryStore}.
+	 * @throws NoSuchFileException When the directory does not exist or holds no
+	 *                             segments.
+	 * @throws IOException         When the directory or a segment cannot be read.
+	 */
+	public static HandHistoryStore openReadOnly(final Path directory, final ForkJoinPool forkJoinPool)
+			throws IOException {
+
+		final List<Integer> segmentNumbers = listSegmentNumbers(directory);
+		if (segmentNumbers.isEmpty()) {
+			throw new NoSuchFileException(directory.toString(), null, "The directory holds no hand history.");
+		}
+
+		final List<Segment> segments = new ArrayList<>();
+		for (int index = 0; index < segmentNumbers.size() - 1; index++) {
+			segments.add(openSealedSegment(directory, segmentNumbers.get(index), false));
+		}
+
+		final int lastSegmentNumber = segmentNumbers.get(segmentNumbers.size() - 1);
+		final Path lastSegmentPath = getSegmentPath(directory, lastSegmentNumber);
+		final long lastSegmentLength = Files.size(lastSegmentPath);
+		segments.add(new Segment(lastSegmentPath,
+				readSegmentIndex(getIndexPath(directory, lastSegmentNumber), lastSegmentLength), lastSegmentLength));
+
+		return new HandHistoryStore(directory, forkJoinPool, segments);
+	}
+
+	/**
+	 * @param directory The {@link Path} of the directory. This must never be null.
+	 * @return Non-null {@link List} of the numbers of the segments in the
+	 *         directory in ascending order.
+	 * @throws IOException When the directory cannot be listed or holds a segment
+	 *                     which is not numbered.
+	 */
+	private static List<Integer> listSegmentNumbers(final Path directory) throws IOException {
+
+		try (final Stream<Path> paths = Files.list(directory)) {
+			return paths.map(path -> path.getFileName().toString())
+					.filter(fileName -> fileName.startsWith(SEGMENT_PREFIX) && fileName.endsWith(SEGMENT_SUFFIX))
+					.map(fileName -> Integer.valueOf(
+							fileName.substring(SEGMENT_PREFIX.length(), fileName.length() - SEGMENT_SUFFIX.length())))
+					.sorted().collect(Collectors.toList());
+		} catch (final NumberFormatException e) {
+			throw new IOException("The directory holds a segment which is not numbered (directory=" + directory
+					+ ").", e);
+		}
+	}
+
+	/**
+	 * Opens a finished segment, rebuilding its index if it is missing or does not
+	 * cover the segment.
+	 *
+	 * @param directory     The {@link Path} of the directory. This must never be
+	 *                      null.
+	 * @param segmentNumber The number of the segment.
+	 * @param writeIndex    True if a rebuilt index is written beside the segment.
+	 * @return Non-null {@link Segment}.
+	 * @throws IOException When the segment or its index cannot be read.
+	 */
+	private static Segment openSealedSegment(final Path directory, final int segmentNumber,
+			final boolean writeIndex) throws IOException {
+
+		final Path segmentPath = getSegmentPath(directory, segmentNumber);
+		final Path indexPath = getIndexPath(directory, segmentNumber);
+		SegmentIndex segmentIndex = readSegmentIndex(indexPath, Files.size(segmentPath));
+		if (segmentIndex == null) {
+			try (final FileChannel fileChannel = FileChannel.open(segmentPath, StandardOpenOption.READ)) {
+				segmentIndex = buildSegmentIndex(fileChannel);
+			}
+			if (writeIndex) {
+				segmentIndex.write(indexPath);
+			}
+		}
+
+		return new Segment(segmentPath, segmentIndex, segmentIndex.getSegmentLength());
+	}
+
+	/**
+	 * Reads the index of a segment if it exists and covers the whole segment.
+	 *
+	 * @param indexPath     The {@link Path} of the index. This must never be null.
+	 * @param segmentLength The length of the segment.
+	 * @return The {@link SegmentIndex}, or null if it must be rebuilt.
+	 */
+	private static SegmentIndex readSegmentIndex(final Path indexPath, final long segmentLength) {
+
+		if (!Files.exists(indexPath)) {
+			return null;
+		}
+
+		try {
+			final SegmentIndex segmentIndex = SegmentIndex.read(indexPath);
+			return segmentIndex.getSegmentLength() == segmentLength ? segmentIndex : null;
+		} catch (final IOException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Builds the index of a segment by scanning it. The index ends at the last
+	 * complete game of the segment.
+	 *
+	 * @param fileChannel The {@link FileChannel} of the segment. This must never
+	 *                    be null.
+	 * @return Non-null {@link SegmentIndex}.
+	 * @throws IOException When the segment cannot be read.
+	 */
+	private static SegmentIndex buildSegmentIndex(final FileChannel fileChannel) throws IOException {
+
+		final SegmentIndex segmentIndex = new SegmentIndex();
+		scan(fileChannel, 0, fileChannel.size(), (offset, buffer, index, recordLength) -> segmentIndex.add(offset,
+				recordLength, GameRecordCodec.decode(buffer, index)));
+
+		return segmentIndex;
+	}
+
+	/**
+	 * Appends a game to the store.
+	 *
+	 * @param gameRecord The {@link GameRecord}. This must never be null.
+	 * @throws IOException           When the game cannot be written.
+	 * @throws IllegalStateException If the store was opened read-only.
+	 */
+	public synchronized void append(final GameRecord gameRecord) throws IOException {
+
+		if (this.fileChannel == null) {
+			throw new IllegalStateException("The hand history was opened read-only (directory=" + this.directory
+					+ ").");
+		}
+
+		final byte[] bytes = GameRecordCodec.encode(gameRecord);
+		if (this.segmentLength + bytes.length > SEGMENT_LENGTH && this.segmentIndex.getNumberOfGames() > 0) {
+			startSegment();
+		}
+
+		if (bytes.length > this.writeBuffer.remaining()) {
+			flush();
+		}
+		if (bytes.length > this.writeBuffer.capacity()) {
+			writeFully(ByteBuffer.wrap(bytes));
+			this.flushedLength += bytes.length;
+		} else {
+			this.writeBuffer.put(bytes);
+		}
+
+		this.segmentIndex.add(this.segmentLength, bytes.length, gameRecord);
+		this.segmentLength += bytes.length;
+	}
+
+	/**
+	 * Finishes the segment being appended to, writing its index, and starts the
+	 * next segment.
+	 *
+	 * @throws IOException When the segment or its index cannot be written.
+	 */
+	private void startSegment() throws IOException {
+
+		flush();
+		this.fileChannel.close();
+		this.segmentIndex.write(getIndexPath(this.directory, this.segmentNumber));
+		this.sealedSegments.add(new Segment(getSegmentPath(this.directory, this.segmentNumber), this.segmentIndex,
+				this.segmentLength));
+
+		this.segmentNumber++;
+		this.segmentIndex = new SegmentIndex();
+		this.fileChannel = FileChannel.open(getSegmentPath(this.directory, this.segmentNumber),
+				StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		this.segmentLength = 0;
+		this.flushedLength = 0;
+	}
+
+	/**
+	 * Writes the buffered games to the segment being appended to.
+	 *
+	 * @throws IOException When the games cannot be written.
+	 */
+	public synchronized void flush() throws IOException {
+
+		if (this.fileChannel == null) {
+			return;
+		}
+
+		this.writeBuffer.flip();
+		this.flushedLength += this.writeBuffer.remaining();
+		writeFully(this.writeBuffer);
+		this.writeBuffer.clear();
+	}
+
+	/**
+	 * @param buffer The {@link ByteBuffer} to write. This must never be null.
+	 * @throws IOException When the buffer cannot be written.
+	 */
+	private void writeFully(final ByteBuffer buffer) throws IOException {
+
+		while (buffer.hasRemaining()) {
+			this.fileChannel.write(buffer);
+		}
+	}
+
+	/**
+	 * Finds the games which match a query.
+	 *
+	 * @param handHistoryQuery The {@link HandHistoryQuery}. This must never be
+	 *                         null.
+	 * @return Non-null {@link List} of the matching {@link GameRecord}s in the
+	 *         order they were appended.
+	 * @throws IOException When a segment cannot be read.
+	 */
+	public List<GameRecord> query(final HandHistoryQuery handHistoryQuery) throws IOException {
+
+		final List<Segment> segments;
+		synchronized (this) {
+			flush();
+			segments = new ArrayList<>(this.sealedSegments);
+			if (this.fileChannel != null) {
+				segments.add(
+						new Segment(getSegmentPath(this.directory, this.segmentNumber), null, this.flushedLength));
+			}
+		}
+
+		final List<List<GameRecord>> segmentGameRecords;
+		try {
+			segmentGameRecords = this.forkJoinPool.submit(() -> segments.parallelStream()
+					.map(segment -> querySegment(segment, handHistoryQuery)).collect(Collectors.toList())).get();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("The query was interrupted.", e);
+		} catch (final ExecutionException e) {
+			if (e.getCause() instanceof UncheckedIOException) {
+				throw ((UncheckedIOException) e.getCause()).getCause();
+			}
+			throw new IOException("The query failed.", e.getCause());
+		}
+
+		final List<GameRecord> gameRecords = new ArrayList<>();
+		for (final List<GameRecord> segmentGameRecord : segmentGameRecords) {
+			gameRecords.addAll(segmentGameRecord);
+		}
+
+		return Collections.unmodifiableList(gameRecords);
+	}
+
+	/**
+	 * Finds the game with an id.
+	 *
+	 * @param gameId The game id.
+	 * @return The first {@link GameRecord} appended with the id, or null if there
+	 *         is none.
+	 * @throws IOException When a segment cannot be read.
+	 */
+	public GameRecord get(final long gameId) throws IOException {
+
+		final List<GameRecord> gameRecords = query(HandHistoryQuery.create().withGameIds(gameId, gameId));
+
+		return gameRecords.isEmpty() ? null : gameRecords.get(0);
+	}
+
+	/**
+	 * Finds the games of a segment which match a query, reading only the ranges
+	 * its index gives when it has one. Games outside the ranges of ids and times
+	 * of the query are skipped without being decoded.
+	 *
+	 * @param segment          The {@link Segment}. This must never be null.
+	 * @param handHistoryQuery The {@link HandHistoryQuery}. This must never be
+	 *                         null.
+	 * @return Non-null {@link List} of the matching {@link GameRecord}s in order.
+	 * @throws UncheckedIOException When the segment cannot be read.
+	 */
+	private static List<GameRecord> querySegment(final Segment segment, final HandHistoryQuery handHistoryQuery) {
+
+		final List<long[]> ranges = segment.segmentIndex == null
+				? Collections.singletonList(new long[] { 0, segment.length })
+				: segment.segmentIndex.getCandidateRanges(handHistoryQuery);
+		final List<GameRecord> gameRecords = new ArrayList<>();
+		if (ranges.isEmpty()) {
+			return gameRecords;
+		}
+
+		try (final FileChannel fileChannel = FileChannel.open(segment.path, StandardOpenOption.READ)) {
+			for (final long[] range : ranges) {
+				scan(fileChannel, range[0], range[1], (offset, buffer, index, recordLength) -> {
+					final long gameId = GameRecordCodec.getGameId(buffer, index);
+					final long timestampMillis = GameRecordCodec.getTimestampMillis(buffer, index);
+					if (!handHistoryQuery.overlaps(gameId, gameId, timestampMillis, timestampMillis)) {
+						return;
+					}
+
+					final GameRecord gameRecord = GameRecordCodec.decode(buffer, index);
+					if (handHistoryQuery.matches(gameRecord)) {
+						gameRecords.add(gameRecord);
+					}
+				});
+			}
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		return gameRecords;
+	}
+
+	/**
+	 * Visits the complete games in a range of a segment, reading the range in
+	 * large pieces.
+	 *
+	 * @param fileChannel   The {@link FileChannel} of the segment. This must
+	 *                      never be null.
+	 * @param start         The offset of the first game of the range.
+	 * @param end           The offset after the range.
+	 * @param recordVisitor The {@link RecordVisitor}. This must never be null.
+	 * @return The offset after the last complete game of the range.
+	 * @throws IOException When the segment cannot be read.
+	 */
+	private static long scan(final FileChannel fileChannel, final long start, final long end,
+			final RecordVisitor recordVisitor) throws IOException {
+
+		ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(READ_BUFFER_LENGTH, end - start))
+				.order(ByteOrder.LITTLE_ENDIAN);
+		long bufferOffset = start;
+		long readOffset = start;
+		while (true) {
+			while (buffer.hasRemaining() && readOffset < end) {
+				buffer.limit((int) Math.min(buffer.capacity(), buffer.position() + end - readOffset));
+				final int read = fileChannel.read(buffer, readOffset);
+				if (read < 0) {
+					break;
+				}
+				readOffset += read;
+			}
+
+			final int limit = buffer.position();
+			int index = 0;
+			int recordLength;
+			while ((recordLength = GameRecordCodec.getRecordLength(buffer, index, limit)) > 0) {
+				recordVisitor.visit(bufferOffset + index, buffer, index, recordLength);
+				index += recordLength;
+			}
+			bufferOffset += index;
+
+			if (readOffset >= end || index == 0 && limit < buffer.capacity()) {
+				return bufferOffset;
+			}
+
+			if (index == 0) {
+				final long nextLength = GameRecordCodec.LENGTH_PREFIX_LENGTH + (long) buffer.getInt(0);
+				if (nextLength < GameRecordCodec.LENGTH_PREFIX_LENGTH || nextLength > end - bufferOffset) {
+					return bufferOffset;
+				}
+				buffer.flip();
+				buffer = ByteBuffer.allocate((int) nextLength).order(ByteOrder.LITTLE_ENDIAN).put(buffer);
+			} else {
+				buffer.limit(limit).position(index);
+				buffer.compact();
+			}
+		}
+	}
+
+	/**
+	 * Writes the buffered games and the index of the segment being appended to,
+	 * and closes the store. Closing a read-only store writes nothing.
+	 * <p>
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+
+		if (this.fileChannel == null) {
+			return;
+		}
+
+		try {
+			flush();
+		} finally {
+			this.fileChannel.close();
+		}
+		this.segmentIndex.write(getIndexPath(this.directory, this.segmentNumber));
+	}
+
+	/**
+	 * @param directory     The {@link Path} of the directory. This must never be
+	 *                      null.
+	 * @param segmentNumber The number of the segment.
+	 * @return Non-null {@link Path} of the segment.
+	 */
+	private static Path getSegmentPath(final Path directory, final int segmentNumber) {
+
+		return directory.resolve(String.format("%s%06d%s", SEGMENT_PREFIX, segmentNumber, SEGMENT_SUFFIX));
+	}
+
+	/**
+	 * @param directory     The {@link Path} of the directory. This must never be
+	 *                      null.
+	 * @param segmentNumber The number of the segment.
+	 * @return Non-null {@link Path} of the index of the segment.
+	 */
+	private static Path getIndexPath(final Path directory, final int segmentNumber) {
+
+		return directory.resolve(String.format("%s%06d%s", SEGMENT_PREFIX, segmentNumber, INDEX_SUFFIX));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+
+		return new StringBuilder("HandHistoryStore[directory=").append(this.directory).append(",segmentNumber=")
+				.append(this.segmentNumber).append(",segmentLength=").append(this.segmentLength).append("]")
+				.toString();
+	}
+
+	/**
+	 * A segment file which a query reads, with its index if it is finished.
+	 */
+	private static final class Segment {
+
+		private final Path path;
+		private final SegmentIndex segmentIndex;
+		private final long length;
+
+		/**
+		 * Constructs a {@link Segment}.
+		 *
+		 * @param path         The {@link Path} of the segment. This must never be
+		 *                     null.
+		 * @param segmentIndex The {@link SegmentIndex}, or null if the segment is
+		 *                     scanned in full.
+		 * @param length       The length of the segment which may be read.
+		 */
+		private Segment(final Path path, final SegmentIndex segmentIndex, final long length) {
+
+			this.path = path;
+			this.segmentIndex = segmentIndex;
+			this.length = length;
+		}
+	}
+
+	/**
+	 * Visitor of the complete games of a range of a segment.
+	 */
+	@FunctionalInterface
+	private interface RecordVisitor {
+
+		/**
+		 * Visits a game.
+		 *
+		 * @param offset       The offset of the game in the segment.
+		 * @param buffer       The little-endian {@link ByteBuffer} holding the
+		 *                     game. This must never be null.
+		 * @param index        The index of the game in the buffer.
+		 * @param recordLength The length of the game's record.
+		 */
+		void visit(long offset, ByteBuffer buffer, int index, int recordLength);
+	}
+}
@@ -0,0 +1,130 @@
+package org.obidan.history;
+
+import java.util.List;
+
+import org.obidan.handrank.HandStrength;
+import org.obidan.io.PackedHand;
+import org.obidan.object.Card;
+import org.obidan.object.Player;
+import org.obidan.type.HandRank;
+import org.obidan.type.WinningStatus;
+
+/**
+ * The record of one seat of a stored game: the player's name, {@link Card}s,
+ * hand strength, and {@link WinningStatus}.
+ *
+ * @author Obi-Dan
+ */
+public final class SeatRecord {
+
+	private final String playerName;
+	private final long packedHand;
+	private final int strength;
+	private final WinningStatus winningStatus;
+
+	/**
+	 * Constructs a {@link SeatRecord}.
+	 *
+	 * @param playerName    The player's name. This must never be null.
+	 * @param packedHand    The {@link PackedHand} of the player's cards.
+	 * @param strength      The {@link HandStrength} of the player's cards.
+	 * @param winningStatus The {@link WinningStatus}. This must never be null.
+	 */
+	private SeatRecord(final String playerName, final long packedHand, final int strength,
+			final WinningStatus winningStatus) {
+
+		this.playerName = playerName;
+		this.packedHand = packedHand;
+		this.strength = strength;
+		this.winningStatus = winningStatus;
+	}
+
+	/**
+	 * Creates a {@link SeatRecord}.
+	 *
+	 * @param playerName    The player's name. This must never be null.
+	 * @param packedHand    The {@link PackedHand} of the player's cards.
+	 * @param strength      The {@link HandStrength} of the player's cards.
+	 * @param winningStatus The {@link WinningStatus}. This must never be null.
+	 * @return Non-null {@link SeatRecord}.
+	 */
+	public static SeatRecord create(final String playerName, final long packedHand, final int strength,
+			final WinningStatus winningStatus) {
+
+		return new SeatRecord(playerName, packedHand, strength, winningStatus);
+	}
+
+	/**
+	 * Creates a {@link SeatRecord} of a {@link Player}. The {@link Card}s are
+	 * copied, so the record remains valid once the {@link Player}'s cards are
+	 * reused.
+	 *
+	 * @param player The {@link Player}. This must never be null and must hold no
+	 *               more than seven cards.
+	 * @return Non-null {@link SeatRecord}.
+	 */
+	public static SeatRecord create(final Player player) {
+
+		return new SeatRecord(player.getName(), PackedHand.create(player.getHandOfCards().getCards()),
+				player.getHandStrength(), player.getWinningStatus());
+	}
+
+	/**
+	 * @return Non-null player name.
+	 */
+	public String getPlayerName() {
+
+		return this.playerName;
+	}
+
+	/**
+	 * @return The {@link PackedHand} of the player's cards.
+	 */
+	public long getPackedHand() {
+
+		return this.packedHand;
+	}
+
+	/**
+	 * @return Non-null {@link List} of the player's {@link Card}s.
+	 */
+	public List<Card> getCards() {
+
+		return PackedHand.getCards(this.packedHand);
+	}
+
+	/**
+	 * @return The {@link HandStrength} of the player's cards.
+	 */
+	public int getStrength() {
+
+		return this.strength;
+	}
+
+	/**
+	 * @return Non-null {@link HandRank} of the player's cards.
+	 */
+	public HandRank getHandRank() {
+
+		return HandStrength.getHandRank(this.strength);
+	}
+
+	/**
+	 * @return Non-null {@link WinningStatus}.
+	 */
+	public WinningStatus getWinningStatus() {
+
+		return this.winningStatus;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+
+		return new StringBuilder("SeatRecord[playerName=").append(this.playerName).append(",cards=")
+				.append(getCards()).append(",strength=").append(this.strength).append(",winningStatus=")
+				.append(this.winningStatus).append("]").toString();
+	}
+}
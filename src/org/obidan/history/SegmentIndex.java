@@ -0,0 +1,257 @@
+package org.obidan.history;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.obidan.handrank.HandStrength;
+import org.obidan.type.HandRank;
+
+/**
+ * The index of a segment of a {@link HandHistoryStore}. The games of a segment
+ * are grouped into blocks of {@value #GAMES_PER_BLOCK} consecutive games; for
+ * each block the index holds its offset in the segment, its ranges of game ids
+ * and timestamps, and a mask of the {@link HandRank}s dealt in it. For each
+ * player the index also holds the set of blocks in which they were seated. A
+ * query reads only the blocks which might hold a matching game, so a query for
+ * a rare {@link HandRank} or a single player reads a small part of a segment.
+ *
+ * @author Obi-Dan
+ */
+final class SegmentIndex {
+
+	static final int GAMES_PER_BLOCK = 256;
+
+	private static final int MAGIC = 0x50484958;
+	private static final int VERSION = 1;
+	private static final int INITIAL_NUMBER_OF_BLOCKS = 64;
+
+	private long[] offsets = new long[INITIAL_NUMBER_OF_BLOCKS];
+	private long[] minimumGameIds = new long[INITIAL_NUMBER_OF_BLOCKS];
+	private long[] maximumGameIds = new long[INITIAL_NUMBER_OF_BLOCKS];
+	private long[] minimumTimestamps = new long[INITIAL_NUMBER_OF_BLOCKS];
+	private long[] maximumTimestamps = new long[INITIAL_NUMBER_OF_BLOCKS];
+	private int[] categoryMasks = new int[INITIAL_NUMBER_OF_BLOCKS];
+	private final Map<String, BitSet> playerBlocks = new HashMap<>();
+	private int numberOfBlocks;
+	private long numberOfGames;
+	private long segmentLength;
+
+	/**
+	 * Adds a game to the index. Games must be added in the order they are stored
+	 * in the segment.
+	 *
+	 * @param offset       The offset of the game's record in the segment.
+	 * @param recordLength The length of the game's record.
+	 * @param gameRecord   The {@link GameRecord}. This must never be null.
+	 */
+	void add(final long offset, final int recordLength, final GameRecord gameRecord) {
+
+		final int block;
+		if (this.numberOfGames % GAMES_PER_BLOCK == 0) {
+			block = startBlock(offset, gameRecord);
+		} else {
+			block = this.numberOfBlocks - 1;
+		}
+
+		final long gameId = gameRecord.getGameId();
+		final long timestampMillis = gameRecord.getTimestampMillis();
+		this.minimumGameIds[block] = Math.min(this.minimumGameIds[block], gameId);
+		this.maximumGameIds[block] = Math.max(this.maximumGameIds[block], gameId);
+		this.minimumTimestamps[block] = Math.min(this.minimumTimestamps[block], timestampMillis);
+		this.maximumTimestamps[block] = Math.max(this.maximumTimestamps[block], timestampMillis);
+
+		for (final SeatRecord seatRecord : gameRecord.getSeatRecords()) {
+			this.categoryMasks[block] |= 1 << HandStrength.getCategory(seatRecord.getStrength());
+			this.playerBlocks.computeIfAbsent(seatRecord.getPlayerName(), playerName -> new BitSet()).set(block);
+		}
+
+		this.numberOfGames++;
+		this.segmentLength = offset + recordLength;
+	}
+
+	/**
+	 * Starts a block with a game.
+	 *
+	 * @param offset     The offset of the game's record in the segment.
+	 * @param gameRecord The {@link GameRecord}. This must never be null.
+	 * @return The index of the block.
+	 */
+	private int startBlock(final long offset, final GameRecord gameRecord) {
+
+		if (this.numberOfBlocks == this.offsets.length) {
+			final int capacity = this.numberOfBlocks * 2;
+			this.offsets = Arrays.copyOf(this.offsets, capacity);
+			this.minimumGameIds = Arrays.copyOf(this.minimumGameIds, capacity);
+			this.maximumGameIds = Arrays.copyOf(this.maximumGameIds, capacity);
+			this.minimumTimestamps = Arrays.copyOf(this.minimumTimestamps, capacity);
+			this.maximumTimestamps = Arrays.copyOf(this.maximumTimestamps, capacity);
+			this.categoryMasks = Arrays.copyOf(this.categoryMasks, capacity);
+		}
+
+		final int block = this.numberOfBlocks++;
+		this.offsets[block] = offset;
+		this.minimumGameIds[block] = gameRecord.getGameId();
+		this.maximumGameIds[block] = gameRecord.getGameId();
+		this.minimumTimestamps[block] = gameRecord.getTimestampMillis();
+		this.maximumTimestamps[block] = gameRecord.getTimestampMillis();
+		this.categoryMasks[block] = 0;
+
+		return block;
+	}
+
+	/**
+	 * @return The number of games in the index.
+	 */
+	long getNumberOfGames() {
+
+		return this.numberOfGames;
+	}
+
+	/**
+	 * @return The length of the indexed part of the segment.
+	 */
+	long getSegmentLength() {
+
+		return this.segmentLength;
+	}
+
+	/**
+	 * Gets the ranges of the segment which might hold a game matching a query.
+	 * Adjacent candidate blocks are merged into a single range so they can be
+	 * read at once.
+	 *
+	 * @param handHistoryQuery The {@link HandHistoryQuery}. This must never be
+	 *                         null.
+	 * @return Non-null {@link List} of ranges, each an array of its start and end
+	 *         offsets, in segment order.
+	 */
+	List<long[]> getCandidateRanges(final HandHistoryQuery handHistoryQuery) {
+
+		final BitSet candidateBlocks;
+		if (handHistoryQuery.getPlayerName() == null) {
+			candidateBlocks = new BitSet(this.numberOfBlocks);
+			candidateBlocks.set(0, this.numberOfBlocks);
+		} else {
+			final BitSet blocks = this.playerBlocks.get(handHistoryQuery.getPlayerName());
+			candidateBlocks = blocks == null ? new BitSet() : (BitSet) blocks.clone();
+		}
+
+		final int categoryMask = handHistoryQuery.getCategoryMask();
+		final List<long[]> ranges = new ArrayList<>();
+		long[] range = null;
+		for (int block = candidateBlocks.nextSetBit(0); block >= 0; block = candidateBlocks.nextSetBit(block + 1)) {
+			if ((this.categoryMasks[block] & categoryMask) == 0 || !handHistoryQuery.overlaps(
+					this.minimumGameIds[block], this.maximumGameIds[block], this.minimumTimestamps[block],
+					this.maximumTimestamps[block])) {
+				continue;
+			}
+
+			final long end = block + 1 < this.numberOfBlocks ? this.offsets[block + 1] : this.segmentLength;
+			if (range != null && range[1] == this.offsets[block]) {
+				range[1] = end;
+			} else {
+				range = new long[] { this.offsets[block], end };
+				ranges.add(range);
+			}
+		}
+
+		return ranges;
+	}
+
+	/**
+	 * Writes the index to a file.
+	 *
+	 * @param path The {@link Path} of the file. This must never be null.
+	 * @throws IOException If the file cannot be written.
+	 */
+	void write(final Path path) throws IOException {
+
+		try (final DataOutputStream outputStream = new DataOutputStream(
+				new BufferedOutputStream(Files.newOutputStream(path)))) {
+			outputStream.writeInt(MAGIC);
+			outputStream.writeInt(VERSION);
+			outputStream.writeLong(this.numberOfGames);
+			outputStream.writeLong(this.segmentLength);
+			outputStream.writeInt(this.numberOfBlocks);
+			for (int block = 0; block < this.numberOfBlocks; block++) {
+				outputStream.writeLong(this.offsets[block]);
+				outputStream.writeLong(this.minimumGameIds[block]);
+				outputStream.writeLong(this.maximumGameIds[block]);
+				outputStream.writeLong(this.minimumTimestamps[block]);
+				outputStream.writeLong(this.maximumTimestamps[block]);
+				outputStream.writeInt(this.categoryMasks[block]);
+			}
+
+			outputStream.writeInt(this.playerBlocks.size());
+			for (final Map.Entry<String, BitSet> entry : this.playerBlocks.entrySet()) {
+				outputStream.writeUTF(entry.getKey());
+				final long[] words = entry.getValue().toLongArray();
+				outputStream.writeInt(words.length);
+				for (final long word : words) {
+					outputStream.writeLong(word);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Reads an index from a file written by {@link #write(Path)}.
+	 *
+	 * @param path The {@link Path} of the file. This must never be null.
+	 * @return Non-null {@link SegmentIndex}.
+	 * @throws IOException If the file cannot be read or is not an index.
+	 */
+	static SegmentIndex read(final Path path) throws IOException {
+
+		try (final DataInputStream inputStream = new DataInputStream(
+				new BufferedInputStream(Files.newInputStream(path)))) {
+			if (inputStream.readInt() != MAGIC || inputStream.readInt() != VERSION) {
+				throw new IOException("The file is not a segment index (path=" + path + ").");
+			}
+
+			final SegmentIndex segmentIndex = new SegmentIndex();
+			segmentIndex.numberOfGames = inputStream.readLong();
+			segmentIndex.segmentLength = inputStream.readLong();
+			final int numberOfBlocks = inputStream.readInt();
+			final int capacity = Math.max(INITIAL_NUMBER_OF_BLOCKS, numberOfBlocks);
+			segmentIndex.offsets = new long[capacity];
+			segmentIndex.minimumGameIds = new long[capacity];
+			segmentIndex.maximumGameIds = new long[capacity];
+			segmentIndex.minimumTimestamps = new long[capacity];
+			segmentIndex.maximumTimestamps = new long[capacity];
+			segmentIndex.categoryMasks = new int[capacity];
+			for (int block = 0; block < numberOfBlocks; block++) {
+				segmentIndex.offsets[block] = inputStream.readLong();
+				segmentIndex.minimumGameIds[block] = inputStream.readLong();
+				segmentIndex.maximumGameIds[block] = inputStream.readLong();
+				segmentIndex.minimumTimestamps[block] = inputStream.readLong();
+				segmentIndex.maximumTimestamps[block] = inputStream.readLong();
+				segmentIndex.categoryMasks[block] = inputStream.readInt();
+			}
+			segmentIndex.numberOfBlocks = numberOfBlocks;
+
+			final int numberOfPlayers = inputStream.readInt();
+			for (int player = 0; player < numberOfPlayers; player++) {
+				final String playerName = inputStream.readUTF();
+				final long[] words = new long[inputStream.readInt()];
+				for (int word = 0; word < words.length; word++) {
+					words[word] = inputStream.readLong();
+				}
+				segmentIndex.playerBlocks.put(playerName, BitSet.valueOf(words));
+			}
+
+			return segmentIndex;
+		}
+	}
+}
@@ -0,0 +1,56 @@
+package org.obidan.io;
+
+import org.obidan.object.HandOfCards;
+import org.obidan.utility.CardFaceValueGrouper;
+import org.obidan.utility.SequentialCardFinder;
+
+/**
+ * Converts between {@link HandOfCards} and {@link PackedHand}s.
+ *
+ * @author Obi-Dan
+ */
+public class HandOfCardsConverter {
+
+	private final SequentialCardFinder sequentialCardFinder;
+	private final CardFaceValueGrouper cardFaceValueGrouper;
+
+	/**
+	 * Constructs a {@link HandOfCardsConverter}.
+	 *
+	 * @param sequentialCardFinder The {@link SequentialCardFinder} of the created
+	 *                             {@link HandOfCards}. This must never be null.
+	 * @param cardFaceValueGrouper The {@link CardFaceValueGrouper} of the created
+	 *                             {@link HandOfCards}. This must never be null.
+	 */
+	public HandOfCardsConverter(final SequentialCardFinder sequentialCardFinder,
+			final CardFaceValueGrouper cardFaceValueGrouper) {
+
+		this.sequentialCardFinder = sequentialCardFinder;
+		this.cardFaceValueGrouper = cardFaceValueGrouper;
+	}
+
+	/**
+	 * Packs a {@link HandOfCards}.
+	 *
+	 * @param handOfCards The {@link HandOfCards}. This must never be null and must
+	 *                    contain no more than seven cards.
+	 * @return The {@link PackedHand}, in the order of the cards of the hand.
+	 */
+	public long toPackedHand(final HandOfCards handOfCards) {
+
+		return PackedHand.create(handOfCards.getCards());
+	}
+
+	/**
+	 * Unpacks a {@link HandOfCards}.
+	 *
+	 * @param packedHand The {@link PackedHand}, which must hold at least one card
+	 *                   and only valid card codes.
+	 * @return Non-null {@link HandOfCards}.
+	 */
+	public HandOfCards toHandOfCards(final long packedHand) {
+
+		return HandOfCards.create(PackedHand.getCards(packedHand), this.sequentialCardFinder,
+				this.cardFaceValueGrouper);
+	}
+}
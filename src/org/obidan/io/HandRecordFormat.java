@@ -0,0 +1,224 @@
+package org.obidan.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.obidan.handrank.HandStrength;
+
+/**
+ * The layout of a file of fixed-width hand records. A file begins with a
+ * {@value #HEADER_LENGTH} byte header (the magic bytes {@code PHND}, the
+ * version, the number of card slots in each record, and flags), followed by
+ * one record per hand. Each record is the low bits of the {@link PackedHand}
+ * holding the card slots, {@value PackedHand#BITS_PER_CARD} bits per card
+ * rounded up to whole bytes, optionally followed by the {@link HandStrength}
+ * in {@value #STRENGTH_LENGTH} bytes. Every value is little-endian.
+ * <p>
+ * For instance, a record of five card slots is four bytes, and a record of
+ * seven card slots with the strength is nine bytes, against about twenty bytes
+ * of text.
+ *
+ * @author Obi-Dan
+ */
+public final class HandRecordFormat {
+
+	public static final int HEADER_LENGTH = 8;
+	public static final int STRENGTH_LENGTH = 3;
+
+	private static final byte[] MAGIC = { 'P', 'H', 'N', 'D' };
+	private static final byte VERSION = 1;
+	private static final int STRENGTH_INCLUDED_FLAG = 1;
+
+	private final int cardsPerRecord;
+	private final boolean strengthIncluded;
+	private final int cardsLength;
+	private final long cardSlotsMask;
+
+	/**
+	 * Constructs a {@link HandRecordFormat}.
+	 *
+	 * @param cardsPerRecord   The number of card slots in each record.
+	 * @param strengthIncluded True if each record holds the hand strength.
+	 */
+	private HandRecordFormat(final int cardsPerRecord, final boolean strengthIncluded) {
+
+		this.cardsPerRecord = cardsPerRecord;
+		this.strengthIncluded = strengthIncluded;
+		this.cardsLength = (cardsPerRecord * PackedHand.BITS_PER_CARD + Byte.SIZE - 1) / Byte.SIZE;
+		this.cardSlotsMask = (1L << (cardsPerRecord * PackedHand.BITS_PER_CARD)) - 1;
+	}
+
+	/**
+	 * Creates a {@link HandRecordFormat}.
+	 *
+	 * @param cardsPerRecord   The number of card slots in each record, which is
+	 *                         the most cards any hand may have. This must be
+	 *                         between one and seven.
+	 * @param strengthIncluded True if each record holds the hand strength.
+	 * @return Non-null {@link HandRecordFormat}.
+	 * @throws IllegalArgumentException If the number of card slots is not
+	 *                                  supported.
+	 */
+	public static HandRecordFormat create(final int cardsPerRecord, final boolean strengthIncluded) {
+
+		if (cardsPerRecord < 1 || cardsPerRecord > PackedHand.MAXIMUM_NUMBER_OF_CARDS) {
+			throw new IllegalArgumentException(
+					"Records must hold between 1 and 7 cards (cardsPerRecord=" + cardsPerRecord + ").");
+		}
+
+		return new HandRecordFormat(cardsPerRecord, strengthIncluded);
+	}
+
+	/**
+	 * Reads a {@link HandRecordFormat} from a header.
+	 *
+	 * @param buffer The {@link ByteBuffer} holding the header at its position,
+	 *               which is advanced past the header. This must never be null
+	 *               and must have at least {@value #HEADER_LENGTH} bytes
+	 *               remaining.
+	 * @return Non-null {@link HandRecordFormat}.
+	 * @throws IOException When the header is not that of a supported file of hand
+	 *                     records.
+	 */
+	public static HandRecordFormat readHeader(final ByteBuffer buffer) throws IOException {
+
+		for (final byte magicByte : MAGIC) {
+			if (buffer.get() != magicByte) {
+				throw new IOException("Not a file of hand records.");
+			}
+		}
+
+		final byte version = buffer.get();
+		final int cardsPerRecord = buffer.get();
+		final int flags = buffer.get();
+		buffer.get();
+
+		if (version != VERSION || cardsPerRecord < 1 || cardsPerRecord > PackedHand.MAXIMUM_NUMBER_OF_CARDS) {
+			throw new IOException(new StringBuilder("Unsupported file of hand records (version=").append(version)
+					.append(",cardsPerRecord=").append(cardsPerRecord).append(").").toString());
+		}
+
+		return new HandRecordFormat(cardsPerRecord, (flags & STRENGTH_INCLUDED_FLAG) != 0);
+	}
+
+	/**
+	 * Writes the header of this format.
+	 *
+	 * @param buffer The {@link ByteBuffer} the header is put at the position of.
+	 *               This must never be null and must have at least
+	 *               {@value #HEADER_LENGTH} bytes remaining.
+	 */
+	public void writeHeader(final ByteBuffer buffer) {
+
+		buffer.put(MAGIC).put(VERSION).put((byte) this.cardsPerRecord)
+				.put((byte) (this.strengthIncluded ? STRENGTH_INCLUDED_FLAG : 0)).put((byte) 0);
+	}
+
+	/**
+	 * @return The number of card slots in each record.
+	 */
+	public int getCardsPerRecord() {
+
+		return this.cardsPerRecord;
+	}
+
+	/**
+	 * @return True if each record holds the hand strength.
+	 */
+	public boolean isStrengthIncluded() {
+
+		return this.strengthIncluded;
+	}
+
+	/**
+	 * @return The length of each record in bytes.
+	 */
+	public int getRecordLength() {
+
+		return this.cardsLength + (this.strengthIncluded ? STRENGTH_LENGTH : 0);
+	}
+
+	/**
+	 * Reads the {@link PackedHand} of a record.
+	 *
+	 * @param buffer The {@link ByteBuffer} holding the record. This must never be
+	 *               null.
+	 * @param index  The index of the first byte of the record.
+	 * @return The packed hand, in which the slots beyond the card slots of the
+	 *         record are empty.
+	 */
+	public long readPackedHand(final ByteBuffer buffer, final int index) {
+
+		long cardSlots = 0;
+		for (int byteIndex = 0; byteIndex < this.cardsLength; byteIndex++) {
+			cardSlots |= (buffer.get(index + byteIndex) & 0xFFL) << (byteIndex * Byte.SIZE);
+		}
+
+		return (PackedHand.EMPTY & ~this.cardSlotsMask) | (cardSlots & this.cardSlotsMask);
+	}
+
+	/**
+	 * Reads the {@link HandStrength} of a record.
+	 *
+	 * @param buffer The {@link ByteBuffer} holding the record. This must never be
+	 *               null.
+	 * @param index  The index of the first byte of the record.
+	 * @return The hand strength.
+	 * @throws IllegalStateException If the records do not hold the hand strength.
+	 */
+	public int readStrength(final ByteBuffer buffer, final int index) {
+
+		if (!this.strengthIncluded) {
+			throw new IllegalStateException("The records do not hold the hand strength.");
+		}
+
+		int strength = 0;
+		for (int byteIndex = 0; byteIndex < STRENGTH_LENGTH; byteIndex++) {
+			strength |= (buffer.get(index + this.cardsLength + byteIndex) & 0xFF) << (byteIndex * Byte.SIZE);
+		}
+
+		return strength;
+	}
+
+	/**
+	 * Puts a record at the position of a buffer.
+	 *
+	 * @param buffer     The {@link ByteBuffer}. This must never be null and must
+	 *                   have at least a record length of bytes remaining.
+	 * @param packedHand The {@link PackedHand}, which must have no more cards than
+	 *                   the card slots of a record.
+	 * @param strength   The hand strength, which is ignored if the records do not
+	 *                   hold the hand strength.
+	 * @throws IllegalArgumentException If the hand has more cards than the card
+	 *                                  slots of a record.
+	 */
+	public void writeRecord(final ByteBuffer buffer, final long packedHand, final int strength) {
+
+		if ((packedHand | this.cardSlotsMask) != PackedHand.EMPTY) {
+			throw new IllegalArgumentException(new StringBuilder("The hand has more cards than a record holds (")
+					.append("numberOfCards=").append(PackedHand.getNumberOfCards(packedHand))
+					.append(",cardsPerRecord=").append(this.cardsPerRecord).append(").").toString());
+		}
+
+		for (int byteIndex = 0; byteIndex < this.cardsLength; byteIndex++) {
+			buffer.put((byte) (packedHand >>> (byteIndex * Byte.SIZE)));
+		}
+
+		if (this.strengthIncluded) {
+			for (int byteIndex = 0; byteIndex < STRENGTH_LENGTH; byteIndex++) {
+				buffer.put((byte) (strength >>> (byteIndex * Byte.SIZE)));
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+
+		return new StringBuilder("HandRecordFormat[cardsPerRecord=").append(this.cardsPerRecord)
+				.append(",strengthIncluded=").append(this.strengthIncluded).append(",recordLength=")
+				.append(getRecordLength()).append("]").toString();
+	}
+}
@@ -0,0 +1,136 @@
+package org.obidan.io;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+import org.obidan.handrank.HandStrength;
+
+/**
+ * Reads the hand records of a file in a {@link HandRecordFormat} from a channel
+ * through a large direct buffer. Records are read one at a time with
+ * {@link #next()} and decoded in place, so no object is created per record. A
+ * {@link HandRecordReader} is not thread safe.
+ *
+ * @author Obi-Dan
+ */
+public final class HandRecordReader implements Closeable {
+
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	private final ReadableByteChannel channel;
+	private final ByteBuffer buffer;
+	private final HandRecordFormat handRecordFormat;
+	private int recordIndex = -1;
+
+	/**
+	 * Constructs a {@link HandRecordReader}.
+	 *
+	 * @param channel          The {@link ReadableByteChannel}. This must never be
+	 *                         null.
+	 * @param buffer           The {@link ByteBuffer} holding the bytes read after
+	 *                         the header. This must never be null.
+	 * @param handRecordFormat The {@link HandRecordFormat} of the records. This
+	 *                         must never be null.
+	 */
+	private HandRecordReader(final ReadableByteChannel channel, final ByteBuffer buffer,
+			final HandRecordFormat handRecordFormat) {
+
+		this.channel = channel;
+		this.buffer = buffer;
+		this.handRecordFormat = handRecordFormat;
+	}
+
+	/**
+	 * Opens a {@link HandRecordReader}, reading the header of the records.
+	 *
+	 * @param channel The {@link ReadableByteChannel}, which is closed with the
+	 *                reader. This must never be null.
+	 * @return Non-null {@link HandRecordReader}.
+	 * @throws IOException When the channel cannot be read or does not begin with
+	 *                     the header of a supported file of hand records.
+	 */
+	public static HandRecordReader open(final ReadableByteChannel channel) throws IOException {
+
+		final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+		while (buffer.position() < HandRecordFormat.HEADER_LENGTH) {
+			if (channel.read(buffer) < 0) {
+				throw new EOFException("The file of hand records has no header.");
+			}
+		}
+
+		buffer.flip();
+		return new HandRecordReader(channel, buffer, HandRecordFormat.readHeader(buffer));
+	}
+
+	/**
+	 * @return Non-null {@link HandRecordFormat} of the records.
+	 */
+	public HandRecordFormat getHandRecordFormat() {
+
+		return this.handRecordFormat;
+	}
+
+	/**
+	 * Advances to the next record.
+	 *
+	 * @return True if there is another record, or false once every record has
+	 *         been read.
+	 * @throws IOException When the channel cannot be read or ends part way through
+	 *                     a record.
+	 */
+	public boolean next() throws IOException {
+
+		final int recordLength = this.handRecordFormat.getRecordLength();
+		if (this.recordIndex >= 0) {
+			this.buffer.position(this.recordIndex + recordLength);
+		}
+
+		if (this.buffer.remaining() < recordLength) {
+			this.buffer.compact();
+			while (this.buffer.position() < recordLength) {
+				if (this.channel.read(this.buffer) < 0) {
+					final boolean partialRecord = this.buffer.position() > 0;
+					this.buffer.flip();
+					this.recordIndex = -1;
+					if (partialRecord) {
+						throw new EOFException("The file of hand records ends part way through a record.");
+					}
+					return false;
+				}
+			}
+			this.buffer.flip();
+		}
+
+		this.recordIndex = this.buffer.position();
+		return true;
+	}
+
+	/**
+	 * @return The {@link PackedHand} of the current record.
+	 */
+	public long getPackedHand() {
+
+		return this.handRecordFormat.readPackedHand(this.buffer, this.recordIndex);
+	}
+
+	/**
+	 * @return The {@link HandStrength} of the current record.
+	 * @throws IllegalStateException If the records do not hold the hand strength.
+	 */
+	public int getStrength() {
+
+		return this.handRecordFormat.readStrength(this.buffer, this.recordIndex);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void close() throws IOException {
+
+		this.channel.close();
+	}
+}
@@ -0,0 +1,144 @@
+package org.obidan.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+import org.obidan.handrank.HandStrength;
+
+/**
+ * Writes hand records in a {@link HandRecordFormat} to a channel through a
+ * large direct buffer, so the records are written with a few large channel
+ * writes and never copied through the heap. A {@link HandRecordWriter} is not
+ * thread safe.
+ *
+ * @author Obi-Dan
+ */
+public final class HandRecordWriter implements Closeable {
+
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	private final WritableByteChannel channel;
+	private final HandRecordFormat handRecordFormat;
+	private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+	private long recordCount;
+
+	/**
+	 * Constructs a {@link HandRecordWriter}.
+	 *
+	 * @param channel          The {@link WritableByteChannel}. This must never be
+	 *                         null.
+	 * @param handRecordFormat The {@link HandRecordFormat}. This must never be
+	 *                         null.
+	 */
+	private HandRecordWriter(final WritableByteChannel channel, final HandRecordFormat handRecordFormat) {
+
+		this.channel = channel;
+		this.handRecordFormat = handRecordFormat;
+	}
+
+	/**
+	 * Creates a {@link HandRecordWriter} and puts the header of the format before
+	 * the first record.
+	 *
+	 * @param channel          The {@link WritableByteChannel}, which is closed
+	 *                         with the writer. This must never be null.
+	 * @param handRecordFormat The {@link HandRecordFormat}. This must never be
+	 *                         null.
+	 * @return Non-null {@link HandRecordWriter}.
+	 */
+	public static HandRecordWriter create(final WritableByteChannel channel,
+			final HandRecordFormat handRecordFormat) {
+
+		final HandRecordWriter handRecordWriter = new HandRecordWriter(channel, handRecordFormat);
+		handRecordFormat.writeHeader(handRecordWriter.buffer);
+
+		return handRecordWriter;
+	}
+
+	/**
+	 * @return Non-null {@link HandRecordFormat} of the records.
+	 */
+	public HandRecordFormat getHandRecordFormat() {
+
+		return this.handRecordFormat;
+	}
+
+	/**
+	 * @return The number of records written.
+	 */
+	public long getRecordCount() {
+
+		return this.recordCount;
+	}
+
+	/**
+	 * Writes a record without a hand strength.
+	 *
+	 * @param packedHand The {@link PackedHand}.
+	 * @throws IOException              When the channel cannot be written.
+	 * @throws IllegalArgumentException If the hand has more cards than a record
+	 *                                  holds.
+	 * @throws IllegalStateException    If the records hold the hand strength.
+	 */
+	public void write(final long packedHand) throws IOException {
+
+		if (this.handRecordFormat.isStrengthIncluded()) {
+			throw new IllegalStateException("The records hold the hand strength, which must be written.");
+		}
+
+		write(packedHand, 0);
+	}
+
+	/**
+	 * Writes a record.
+	 *
+	 * @param packedHand The {@link PackedHand}.
+	 * @param strength   The {@link HandStrength}, which is ignored if the records
+	 *                   do not hold the hand strength.
+	 * @throws IOException              When the channel cannot be written.
+	 * @throws IllegalArgumentException If the hand has more cards than a record
+	 *                                  holds.
+	 */
+	public void write(final long packedHand, final int strength) throws IOException {
+
+		if (this.buffer.remaining() < this.handRecordFormat.getRecordLength()) {
+			flush();
+		}
+
+		this.handRecordFormat.writeRecord(this.buffer, packedHand, strength);
+		this.recordCount++;
+	}
+
+	/**
+	 * Writes every buffered record to the channel.
+	 *
+	 * @throws IOException When the channel cannot be written.
+	 */
+	public void flush() throws IOException {
+
+		this.buffer.flip();
+		while (this.buffer.hasRemaining()) {
+			this.channel.write(this.buffer);
+		}
+		this.buffer.clear();
+	}
+
+	/**
+	 * Writes every buffered record and closes the channel.
+	 *
+	 * @throws IOException When the channel cannot be written or closed.
+	 */
+	@Override
+	public void close() throws IOException {
+
+		try {
+
+			flush();
+		} finally {
+
+			this.channel.close();
+		}
+	}
+}
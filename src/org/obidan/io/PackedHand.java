@@ -0,0 +1,150 @@
+package org.obidan.io;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.obidan.object.Card;
+
+/**
+ * Encodes and decodes packed hands. A packed hand is a single long which holds
+ * up to {@value #MAXIMUM_NUMBER_OF_CARDS} {@link Card} codes in
+ * {@value #BITS_PER_CARD} bits each, the first card in the lowest bits. The
+ * cards of a hand occupy the first slots and every other slot holds
+ * {@value #NO_CARD}, so a hand of any number of cards up to the maximum is
+ * packed into {@value #PACKED_BITS} bits.
+ *
+ * @author Obi-Dan
+ */
+public final class PackedHand {
+
+	public static final int BITS_PER_CARD = 6;
+	public static final int MAXIMUM_NUMBER_OF_CARDS = 7;
+	public static final int NO_CARD = (1 << BITS_PER_CARD) - 1;
+	public static final int PACKED_BITS = BITS_PER_CARD * MAXIMUM_NUMBER_OF_CARDS;
+	public static final long EMPTY = (1L << PACKED_BITS) - 1;
+
+	/**
+	 * Prevents construction of this class.
+	 */
+	private PackedHand() {
+	}
+
+	/**
+	 * Creates a packed hand.
+	 *
+	 * @param cards The {@link List} of {@link Card}s. This must never be null or
+	 *              contain null values.
+	 * @return The packed hand.
+	 * @throws IllegalArgumentException If there are more than
+	 *                                  {@value #MAXIMUM_NUMBER_OF_CARDS} cards.
+	 */
+	public static long create(final List<Card> cards) {
+
+		validateNumberOfCards(cards.size());
+
+		long packedHand = EMPTY;
+		for (int index = 0; index < cards.size(); index++) {
+			packedHand = withCode(packedHand, index, cards.get(index).getCode());
+		}
+
+		return packedHand;
+	}
+
+	/**
+	 * Creates a packed hand.
+	 *
+	 * @param codes         The array of {@link Card} codes. This must never be
+	 *                      null.
+	 * @param offset        The index of the first code of the hand.
+	 * @param numberOfCards The number of codes in the hand.
+	 * @return The packed hand.
+	 * @throws IllegalArgumentException If there are more than
+	 *                                  {@value #MAXIMUM_NUMBER_OF_CARDS} cards or
+	 *                                  a code is not the code of a {@link Card}.
+	 */
+	public static long create(final int[] codes, final int offset, final int numberOfCards) {
+
+		validateNumberOfCards(numberOfCards);
+
+		long packedHand = EMPTY;
+		for (int index = 0; index < numberOfCards; index++) {
+			final int code = codes[offset + index];
+			if (code < 0 || code >= Card.NUMBER_OF_CARDS) {
+				throw new IllegalArgumentException("Invalid card code (code=" + code + ").");
+			}
+			packedHand = withCode(packedHand, index, code);
+		}
+
+		return packedHand;
+	}
+
+	/**
+	 * Gets the {@link Card} code in a slot of a packed hand.
+	 *
+	 * @param packedHand The packed hand.
+	 * @param index      The index of the slot, between 0 and 6.
+	 * @return The {@link Card} code, or {@value #NO_CARD} if the slot is empty.
+	 */
+	public static int getCode(final long packedHand, final int index) {
+
+		return (int) (packedHand >>> (index * BITS_PER_CARD)) & NO_CARD;
+	}
+
+	/**
+	 * Gets the number of cards of a packed hand.
+	 *
+	 * @param packedHand The packed hand.
+	 * @return The number of slots before the first empty slot.
+	 */
+	public static int getNumberOfCards(final long packedHand) {
+
+		int numberOfCards = 0;
+		while (numberOfCards < MAXIMUM_NUMBER_OF_CARDS && getCode(packedHand, numberOfCards) != NO_CARD) {
+			numberOfCards++;
+		}
+
+		return numberOfCards;
+	}
+
+	/**
+	 * Gets the {@link Card}s of a packed hand.
+	 *
+	 * @param packedHand The packed hand, whose cards must all be valid codes.
+	 * @return Non-null, unmodifiable {@link List} of non-null {@link Card}s in
+	 *         slot order.
+	 */
+	public static List<Card> getCards(final long packedHand) {
+
+		final Card[] cards = new Card[getNumberOfCards(packedHand)];
+		for (int index = 0; index < cards.length; index++) {
+			cards[index] = Card.create(getCode(packedHand, index));
+		}
+
+		return Collections.unmodifiableList(Arrays.asList(cards));
+	}
+
+	/**
+	 * @param numberOfCards The number of cards.
+	 * @throws IllegalArgumentException If the number of cards cannot be packed.
+	 */
+	private static void validateNumberOfCards(final int numberOfCards) {
+
+		if (numberOfCards > MAXIMUM_NUMBER_OF_CARDS) {
+			throw new IllegalArgumentException(
+					"Only hands of up to 7 cards may be packed (numberOfCards=" + numberOfCards + ").");
+		}
+	}
+
+	/**
+	 * @param packedHand The packed hand.
+	 * @param index      The index of the slot.
+	 * @param code       The {@link Card} code.
+	 * @return The packed hand with the code in the slot.
+	 */
+	private static long withCode(final long packedHand, final int index, final int code) {
+
+		final int shift = index * BITS_PER_CARD;
+		return (packedHand & ~((long) NO_CARD << shift)) | ((long) code << shift);
+	}
+}
@@ -1,19 +1,33 @@
 package org.obidan.object;
 
-import java.util.Objects;
-
 import org.obidan.type.FaceValue;
 import org.obidan.type.Suit;
 
 /**
- * Represents a card of any kind.
+ * Represents a card of any kind. There is exactly one instance of each of the
+ * 52 cards, so cards may be compared by identity.
+ * <p>
+ * Each card has a code between 0 and 51, which is the {@link Suit} ordinal
+ * multiplied by 13 plus the {@link FaceValue} ordinal. A set of cards may
+ * therefore be represented as a 52-bit mask in which each suit occupies 13
+ * consecutive bits ordered by {@link FaceValue}.
  * 
  * @author Obi-Dan
  */
-public class Card {
+public final class Card {
+
+	public static final int NUMBER_OF_CARDS = 52;
+	public static final int NUMBER_OF_FACE_VALUES = 13;
+
+	private static final Card[] CARDS = createCards();
 
 	private final Suit suit;
 	private final FaceValue faceValue;
+	private final int code;
+	private final int rankIndex;
+	private final int suitIndex;
+	private final int rankBit;
+	private final String display;
 
 	/**
 	 * Constructs a {@link Card}.
@@ -25,10 +39,33 @@ public class Card {
 
 		this.suit = suit;
 		this.faceValue = faceValue;
+		this.rankIndex = faceValue.ordinal();
+		this.suitIndex = suit.ordinal();
+		this.code = this.suitIndex * NUMBER_OF_FACE_VALUES + this.rankIndex;
+		this.rankBit = 1 << this.rankIndex;
+		this.display = faceValue.getSymbol() + suit.getSymbol();
 	}
 
 	/**
-	 * Creates a {@link Card}.
+	 * @return Non-null array of every {@link Card} indexed by code.
+	 */
+	private static Card[] createCards() {
+
+		final Card[] cards = new Card[NUMBER_OF_CARDS];
+
+		for (final Suit suit : Suit.values()) {
+			for (final FaceValue faceValue : FaceValue.values()) {
+				final Card card = new Card(suit, faceValue);
+				cards[card.code] = card;
+			}
+		}
+
+		return cards;
+	}
+
+	/**
+	 * Creates a {@link Card}. No new {@link Card} is allocated, the shared
+	 * instance is returned instead.
 	 * 
 	 * @param suit      The {@link Suit}. This must never be null.
 	 * @param faceValue The {@link FaceValue}. This must never be null.
@@ -36,11 +73,24 @@ public class Card {
 	 */
 	public static Card create(final Suit suit, final FaceValue faceValue) {
 
-		return new Card(suit, faceValue);
+		return CARDS[suit.ordinal() * NUMBER_OF_FACE_VALUES + faceValue.ordinal()];
+	}
+
+	/**
+	 * Creates a {@link Card} from its code. No new {@link Card} is allocated, the
+	 * shared instance is returned instead.
+	 * 
+	 * @param code The code of the {@link Card}. This must be between 0 and 51.
+	 * @return Non-null {@link Card}.
+	 */
+	public static Card create(final int code) {
+
+		return CARDS[code];
 	}
 
 	/**
-	 * Creates a {@link Card} from a {@link Card}.
+	 * Creates a {@link Card} from a {@link Card}. Since there is only one
+	 * instance of each {@link Card} the given {@link Card} is returned.
 	 * 
 	 * @param suit The {@link Card}. This may be null.
 	 * @return Possibly null {@link Card}. If the given {@link Card} was non-null
@@ -48,11 +98,7 @@ public class Card {
 	 */
 	public static Card create(final Card card) {
 
-		if (card == null) {
-			return null;
-		}
-
-		return new Card(card.getSuit(), card.getFaceValue());
+		return card;
 	}
 
 	/**
@@ -71,13 +117,56 @@ public class Card {
 		return this.faceValue;
 	}
 
+	/**
+	 * @return The code of the card, between 0 and 51.
+	 */
+	public final int getCode() {
+
+		return this.code;
+	}
+
+	/**
+	 * @return The index of the {@link FaceValue}, between 0 (a two) and 12 (an
+	 *         ace).
+	 */
+	public final int getRankIndex() {
+
+		return this.rankIndex;
+	}
+
+	/**
+	 * @return The index of the {@link Suit}, between 0 and 3.
+	 */
+	public final int getSuitIndex() {
+
+		return this.suitIndex;
+	}
+
+	/**
+	 * @return The 13-bit rank mask with only the bit for the {@link FaceValue} of
+	 *         this card set.
+	 */
+	public final int getRankBit() {
+
+		return this.rankBit;
+	}
+
+	/**
+	 * @return The 52-bit card mask with only the bit for the code of this card
+	 *         set.
+	 */
+	public final long getCardBit() {
+
+		return 1L << this.code;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	public int hashCode() {
 
-		return Objects.hash(this.faceValue, this.suit);
+		return this.code;
 	}
 
 	/**
@@ -86,28 +175,19 @@ public class Card {
 	@Override
 	public boolean equals(final Object obj) {
 
-		if (obj == null) {
-			return false;
-		}
-
-		if (this == obj) {
-			return true;
-		}
-
-		if (!(obj instanceof Card)) {
-			return false;
-		}
-
-		final Card other = (Card) obj;
-		return this.faceValue == other.faceValue && this.suit == other.suit;
+		// Only one instance of each card exists.
+		return this == obj;
 	}
 
 	/**
 	 * {@inheritDoc}
+	 * <p>
+	 * The display of each card (for instance "10♠") is built once, so this
+	 * allocates nothing.
 	 */
 	@Override
 	public String toString() {
 
-		return new StringBuilder().append(this.faceValue).append(this.suit).toString();
+		return this.display;
 	}
 }
\ No newline at end of file
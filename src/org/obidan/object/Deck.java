@@ -1,26 +1,51 @@
 package org.obidan.object;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Random;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.RandomAccess;
 
+import org.obidan.random.RandomSource;
+import org.obidan.random.ThreadLocalRandomSource;
 import org.obidan.type.FaceValue;
 import org.obidan.type.Suit;
 
 /**
- * {@link Collection} representing a deck of cards. Note that this collection is
- * not thread safe.
+ * {@link Collection} representing a deck of cards, or a shoe of several decks
+ * shuffled together. Note that this collection is not thread safe.
+ * <p>
+ * Alongside the ordered cards the deck keeps the mask of the cards it holds, in
+ * which bit n is set if at least one {@link Card} with the code n is in the
+ * deck, the number of each card it holds, and the position of each copy of each
+ * card. Membership tests and the removal of any given card therefore take
+ * constant time, however many cards the deck holds.
+ * <p>
+ * The copies of a card are interchangeable, so they are numbered such that the
+ * copies still in the deck are always the lowest numbered ones: when a copy is
+ * removed it swaps numbers with the highest numbered copy still in the deck.
+ * The copy removed by {@link #remove(Object)} is then always found directly.
  * 
  * @author Obi-Dan
  */
 public class Deck implements Collection<Card> {
 
+	public static final int MAXIMUM_NUMBER_OF_DECKS = Short.MAX_VALUE;
+
 	private static final int STANDARD_DECK_SIZE = 52;
+	private final int numberOfDecks;
 	private final Card[] cards;
+	private final int[] copyIndexes;
+	private final int[] cardIndexesByCopy;
+	private final int[] cardCountsByCode = new int[Card.NUMBER_OF_CARDS];
+	private final Card[] initialCards;
+	private final int[] initialCopyIndexes;
+	private final int[] initialCardIndexesByCopy;
+	private final long fullCardMask;
 	private int size = 0;
+	private long cardMask = 0;
+	private RandomSource lazyRandomSource;
 
 	/**
 	 * Constructs a {@link Deck}.
@@ -30,7 +55,14 @@ public class Deck implements Collection<Card> {
 	 */
 	private Deck(final short numberOfDecks) {
 
+		this.numberOfDecks = numberOfDecks;
+		this.copyIndexes = new int[STANDARD_DECK_SIZE * numberOfDecks];
+		this.cardIndexesByCopy = new int[STANDARD_DECK_SIZE * numberOfDecks];
 		this.cards = initializeCards(numberOfDecks);
+		this.initialCards = this.cards.clone();
+		this.initialCopyIndexes = this.copyIndexes.clone();
+		this.initialCardIndexesByCopy = this.cardIndexesByCopy.clone();
+		this.fullCardMask = this.cardMask;
 	}
 
 	/**
@@ -49,8 +81,13 @@ public class Deck implements Collection<Card> {
 		for (short deckIndex = 0; deckIndex < numberOfDecks; deckIndex++) {
 			for (final Suit suit : Suit.values()) {
 				for (final FaceValue faceValue : FaceValue.values()) {
+					final Card card = Card.create(suit, faceValue);
 					this.size++;
-					cards[cardIndex++] = Card.create(suit, faceValue);
+					this.cardMask |= card.getCardBit();
+					this.cardCountsByCode[card.getCode()]++;
+					this.copyIndexes[cardIndex] = deckIndex;
+					this.cardIndexesByCopy[getCopy(card, deckIndex)] = cardIndex;
+					cards[cardIndex++] = card;
 				}
 			}
 		}
@@ -69,19 +106,142 @@ public class Deck implements Collection<Card> {
 	}
 
 	/**
-	 * Removes one or more {@link Card}s from the {@link Deck}.
+	 * Creates a {@link Deck} of several standard decks shuffled together, such
+	 * as the shoe of a game with more players than a single deck can deal to.
+	 * 
+	 * @param numberOfDecks The number of standard decks in the shoe.
+	 * @return Non-null, non-empty {@link Deck} holding every {@link Card} once for
+	 *         each standard deck.
+	 * @throws IllegalArgumentException If the number of decks is not between one
+	 *                                  and {@value #MAXIMUM_NUMBER_OF_DECKS}.
+	 */
+	public static Deck createShoe(final int numberOfDecks) {
+
+		if (numberOfDecks < 1 || numberOfDecks > MAXIMUM_NUMBER_OF_DECKS) {
+			throw new IllegalArgumentException("The number of decks in a shoe must be between 1 and "
+					+ MAXIMUM_NUMBER_OF_DECKS + " (numberOfDecks=" + numberOfDecks + ").");
+		}
+
+		return new Deck((short) numberOfDecks);
+	}
+
+	/**
+	 * @return The number of standard decks in the {@link Deck}, which is one
+	 *         unless it was created as a shoe.
+	 */
+	public int getNumberOfDecks() {
+
+		return this.numberOfDecks;
+	}
+
+	/**
+	 * @param card      The {@link Card}. This must never be null.
+	 * @param copyIndex The index of the copy of the {@link Card}, which is less
+	 *                  than the number of decks.
+	 * @return The index of the copy among the copies of every {@link Card}.
+	 */
+	private int getCopy(final Card card, final int copyIndex) {
+
+		return card.getCode() * this.numberOfDecks + copyIndex;
+	}
+
+	/**
+	 * Returns every {@link Card} removed from the {@link Deck} and restores the
+	 * order of a new {@link Deck}, so that a {@link Deck} may be reused for game
+	 * after game without being created again. Every {@link Card} is still in the
+	 * backing array, so the reset is a copy of the initial order rather than the
+	 * creation of any cards, and a seeded shuffle after a reset deals exactly the
+	 * same {@link Card}s as the same shuffle of a new {@link Deck}. Any lazy
+	 * shuffle is stopped.
+	 * <p>
+	 * Views of {@link Card}s removed before the reset, as returned by
+	 * {@link #remove(int)}, are no longer valid.
+	 */
+	public void reset() {
+
+		System.arraycopy(this.initialCards, 0, this.cards, 0, this.cards.length);
+		System.arraycopy(this.initialCopyIndexes, 0, this.copyIndexes, 0, this.copyIndexes.length);
+		System.arraycopy(this.initialCardIndexesByCopy, 0, this.cardIndexesByCopy, 0,
+				this.cardIndexesByCopy.length);
+		Arrays.fill(this.cardCountsByCode, this.numberOfDecks);
+		this.size = this.cards.length;
+		this.cardMask = this.fullCardMask;
+		this.lazyRandomSource = null;
+	}
+
+	/**
+	 * Returns every {@link Card} removed from the {@link Deck} as
+	 * {@link #reset()} does, and then shuffles it lazily as
+	 * {@link #shuffleLazily(RandomSource)} does.
+	 * 
+	 * @param randomSource The {@link RandomSource} of the shuffle. This must never
+	 *                     be null and must not be used for anything else while
+	 *                     cards are being dealt.
+	 */
+	public void reset(final RandomSource randomSource) {
+
+		reset();
+		shuffleLazily(randomSource);
+	}
+
+	/**
+	 * Removes one or more {@link Card}s from the {@link Deck}. If the {@link Deck}
+	 * is being shuffled lazily the positions of the removed {@link Card}s are
+	 * shuffled first.
+	 * <p>
+	 * No {@link Card}s are copied: the returned {@link List} is an unmodifiable
+	 * view of the positions of the backing array the {@link Card}s were removed
+	 * from, which the {@link Deck} never writes to again unless it is reset.
 	 * 
 	 * @param numberOfCardsToRemove The number of {@link Card} to remove. This must
 	 *                              positive and may not exceed the size of the
 	 *                              {@link Deck}.
-	 * @return Non-null, non-empty {@link List} of non-null {@link Card}s that will
-	 *         contain exactly the same number of {@link Card}s as the given input.
+	 * @return Non-null, non-empty, unmodifiable {@link List} of non-null
+	 *         {@link Card}s that will contain exactly the same number of
+	 *         {@link Card}s as the given input.
 	 * @throws IllegalArgumentException If the number of {@link Card}s to remove
 	 *                                  exceeds the current size of the
 	 *                                  {@link Deck}.
 	 */
 	public List<Card> remove(final int numberOfCardsToRemove) {
 
+		return new DealtCards(this.cards, removeTopCards(numberOfCardsToRemove), numberOfCardsToRemove);
+	}
+
+	/**
+	 * Removes one or more {@link Card}s from the {@link Deck} into a buffer
+	 * supplied by the caller, so dealing allocates nothing. The same
+	 * {@link Card}s are removed, in the same order, as by {@link #remove(int)}.
+	 * 
+	 * @param buffer                The array the removed {@link Card}s are
+	 *                              written to. This must never be null.
+	 * @param offset                The index of the buffer the first removed
+	 *                              {@link Card} is written to.
+	 * @param numberOfCardsToRemove The number of {@link Card} to remove. This must
+	 *                              positive and may not exceed the size of the
+	 *                              {@link Deck}.
+	 * @throws IllegalArgumentException If the number of {@link Card}s to remove
+	 *                                  exceeds the current size of the
+	 *                                  {@link Deck}.
+	 */
+	public void remove(final Card[] buffer, final int offset, final int numberOfCardsToRemove) {
+
+		System.arraycopy(this.cards, removeTopCards(numberOfCardsToRemove), buffer, offset, numberOfCardsToRemove);
+	}
+
+	/**
+	 * Removes {@link Card}s from the top of the {@link Deck}, shuffling their
+	 * positions first if the {@link Deck} is being shuffled lazily.
+	 * 
+	 * @param numberOfCardsToRemove The number of {@link Card} to remove.
+	 * @return The position of the lowest removed {@link Card}, which is the new
+	 *         size of the {@link Deck}.
+	 * @throws IllegalArgumentException If the number of {@link Card}s to remove is
+	 *                                  not positive or exceeds the current size of
+	 *                                  the {@link Deck}.
+	 */
+	private int removeTopCards(final int numberOfCardsToRemove) {
+
 		if (numberOfCardsToRemove <= 0) {
 			throw new IllegalArgumentException("Must remove at least one card from the deck.");
 		}
@@ -92,33 +252,192 @@ public class Deck implements Collection<Card> {
 		}
 
 		final int newSize = size() - numberOfCardsToRemove;
-		final List<Card> removedCards = new ArrayList<>(numberOfCardsToRemove);
+
+		if (this.lazyRandomSource != null) {
+			shuffleTopCards(this.lazyRandomSource, Math.max(newSize, 1));
+		}
 
 		for (int cardIndex = newSize; cardIndex < size(); cardIndex++) {
-			removedCards.add(this.cards[cardIndex]);
+			removeCopy(cardIndex);
 		}
 
 		this.size = newSize;
 
-		return removedCards;
+		return newSize;
+	}
+
+	/**
+	 * Counts the {@link Card} at a position as removed, renumbering its copy as
+	 * the highest numbered copy still in the {@link Deck} and clearing its bit of
+	 * the card mask if it was the last copy. The position itself is unchanged.
+	 * 
+	 * @param cardIndex The position of the {@link Card}.
+	 */
+	private void removeCopy(final int cardIndex) {
+
+		final Card card = this.cards[cardIndex];
+		final int lastCopyIndex = --this.cardCountsByCode[card.getCode()];
+		final int copyIndex = this.copyIndexes[cardIndex];
+
+		if (copyIndex != lastCopyIndex) {
+			final int lastCopyCardIndex = this.cardIndexesByCopy[getCopy(card, lastCopyIndex)];
+			this.copyIndexes[lastCopyCardIndex] = copyIndex;
+			this.cardIndexesByCopy[getCopy(card, copyIndex)] = lastCopyCardIndex;
+			this.copyIndexes[cardIndex] = lastCopyIndex;
+			this.cardIndexesByCopy[getCopy(card, lastCopyIndex)] = cardIndex;
+		}
+
+		if (lastCopyIndex == 0) {
+			this.cardMask &= ~card.getCardBit();
+		}
+	}
+
+	/**
+	 * Removes a {@link Card} chosen uniformly at random from the cards left in the
+	 * {@link Deck}, whatever order they are in.
+	 * 
+	 * @return Non-null {@link Card}.
+	 * @throws IllegalArgumentException If the {@link Deck} is empty.
+	 */
+	public Card draw() {
+
+		return draw(ThreadLocalRandomSource.create());
+	}
+
+	/**
+	 * Removes a {@link Card} chosen uniformly at random from the cards left in the
+	 * {@link Deck}, whatever order they are in.
+	 * 
+	 * @param randomSource The {@link RandomSource} the {@link Card} is chosen
+	 *                     with. This must never be null.
+	 * @return Non-null {@link Card}.
+	 * @throws IllegalArgumentException If the {@link Deck} is empty.
+	 */
+	public Card draw(final RandomSource randomSource) {
+
+		if (isEmpty()) {
+			throw new IllegalArgumentException("Cannot draw a card from an empty deck.");
+		}
+
+		final Card card = this.cards[randomSource.nextInt(size())];
+		remove(card);
+
+		return card;
 	}
 
 	/**
-	 * Shuffles the {@link Deck} using a Fisher–Yates shuffle.
+	 * Removes one copy of every {@link Card} of a card mask which is in the
+	 * {@link Deck}, such as the known cards of an equity calculation.
+	 * 
+	 * @param cardMask The mask of the {@link Card}s to remove, in which bit n is
+	 *                 set if the {@link Card} with the code n is to be removed.
+	 * @return True if any {@link Card} was removed.
+	 */
+	public boolean removeAll(final long cardMask) {
+
+		long cardMaskToRemove = cardMask & this.cardMask;
+		final boolean changed = cardMaskToRemove != 0;
+
+		while (cardMaskToRemove != 0) {
+			remove(Card.create(Long.numberOfTrailingZeros(cardMaskToRemove)));
+			cardMaskToRemove &= cardMaskToRemove - 1;
+		}
+
+		return changed;
+	}
+
+	/**
+	 * @return The mask of the {@link Card}s in the {@link Deck}, in which bit n is
+	 *         set if at least one {@link Card} with the code n is in the
+	 *         {@link Deck}.
+	 */
+	public long getCardMask() {
+
+		return this.cardMask;
+	}
+
+	/**
+	 * Shuffles the {@link Deck} using a Fisher–Yates shuffle. The shuffle cannot
+	 * be reproduced.
 	 */
 	public void shuffle() {
 
-		final Random random = ThreadLocalRandom.current();
+		shuffle(ThreadLocalRandomSource.create());
+	}
+
+	/**
+	 * Shuffles the {@link Deck} using a Fisher–Yates shuffle. Shuffling the same
+	 * {@link Deck} with a seeded {@link RandomSource} in the same state always
+	 * gives the same order.
+	 * 
+	 * @param randomSource The {@link RandomSource} of the shuffle. This must never
+	 *                     be null.
+	 */
+	public void shuffle(final RandomSource randomSource) {
+
+		this.lazyRandomSource = null;
+		shuffleTopCards(randomSource, 1);
+	}
+
+	/**
+	 * Shuffles the {@link Deck} lazily: rather than shuffling every card now, each
+	 * later call to {@link #remove(int)} shuffles only the positions of the
+	 * {@link Card}s it removes, by running the steps of the Fisher–Yates shuffle
+	 * for those positions. Every deal is as uniformly random as after a full
+	 * shuffle, but dealing a few cards costs a few random numbers rather than one
+	 * for every card in the {@link Deck}.
+	 * <p>
+	 * The steps are the same ones, in the same order, that
+	 * {@link #shuffle(RandomSource)} would run, so a seeded {@link RandomSource}
+	 * deals exactly the same {@link Card}s whether the {@link Deck} is shuffled
+	 * lazily or not. Until they are removed, the {@link Card}s remain in their
+	 * unshuffled order, which is what iterating the {@link Deck} will show.
+	 * 
+	 * @param randomSource The {@link RandomSource} of the shuffle. This must never
+	 *                     be null and must not be used for anything else while
+	 *                     cards are being dealt.
+	 */
+	public void shuffleLazily(final RandomSource randomSource) {
+
+		this.lazyRandomSource = randomSource;
+	}
+
+	/**
+	 * Runs the Fisher–Yates shuffle steps for the positions from the top of the
+	 * {@link Deck} down to a given position.
+	 * 
+	 * @param randomSource    The {@link RandomSource} of the shuffle. This must
+	 *                        never be null.
+	 * @param lowestCardIndex The lowest position shuffled, which must be positive
+	 *                        (the bottom position needs no step).
+	 */
+	private void shuffleTopCards(final RandomSource randomSource, final int lowestCardIndex) {
 
-		for (int cardIndex = size() - 1; cardIndex > 0; cardIndex--) {
-			final int randomCardIndex = random.nextInt(cardIndex + 1);
-			final Card randomCard = this.cards[randomCardIndex];
-			final Card currentCard = this.cards[cardIndex];
-			this.cards[cardIndex] = randomCard;
-			this.cards[randomCardIndex] = currentCard;
+		for (int cardIndex = size() - 1; cardIndex >= lowestCardIndex; cardIndex--) {
+			swapCards(cardIndex, randomSource.nextInt(cardIndex + 1));
 		}
 	}
 
+	/**
+	 * Swaps the {@link Card}s at two positions, along with their copies.
+	 * 
+	 * @param cardIndex      The first position.
+	 * @param otherCardIndex The second position.
+	 */
+	private void swapCards(final int cardIndex, final int otherCardIndex) {
+
+		final Card card = this.cards[cardIndex];
+		final Card otherCard = this.cards[otherCardIndex];
+		final int copyIndex = this.copyIndexes[cardIndex];
+		final int otherCopyIndex = this.copyIndexes[otherCardIndex];
+		this.cards[cardIndex] = otherCard;
+		this.cards[otherCardIndex] = card;
+		this.copyIndexes[cardIndex] = otherCopyIndex;
+		this.copyIndexes[otherCardIndex] = copyIndex;
+		this.cardIndexesByCopy[getCopy(otherCard, otherCopyIndex)] = cardIndex;
+		this.cardIndexesByCopy[getCopy(card, copyIndex)] = otherCardIndex;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -143,19 +462,12 @@ public class Deck implements Collection<Card> {
 	@Override
 	public boolean contains(final Object object) {
 
-		if (object == null) {
+		if (!(object instanceof Card)) {
 			// No null cards are permitted in a deck.
 			return false;
 		}
 
-		for (int cardIndex = 0; cardIndex < size(); cardIndex++) {
-			final Card card = this.cards[cardIndex];
-			if (object.equals(card)) {
-				return true;
-			}
-		}
-
-		return false;
+		return (this.cardMask & ((Card) object).getCardBit()) != 0;
 	}
 
 	/**
@@ -169,7 +481,7 @@ public class Deck implements Collection<Card> {
 
 			@Override
 			public boolean hasNext() {
-				return this.cardIndex < size() - 1;
+				return this.cardIndex < size();
 			}
 
 			@Override
@@ -185,13 +497,8 @@ public class Deck implements Collection<Card> {
 	@Override
 	public Object[] toArray() {
 
-		final Card[] returnCards = new Card[this.cards.length];
-
-		for (int cardIndex = 0; cardIndex < this.cards.length; cardIndex++) {
-			returnCards[cardIndex] = Card.create(this.cards[cardIndex]);
-		}
-
-		return returnCards;
+		// Cards are shared instances so they need not be copied.
+		return Arrays.copyOf(this.cards, size());
 	}
 
 	/**
@@ -214,13 +521,29 @@ public class Deck implements Collection<Card> {
 	}
 
 	/**
+	 * Removes a {@link Card} by moving the top {@link Card} of the {@link Deck}
+	 * into its position, so the order of the other cards is otherwise unchanged.
+	 * If the {@link Deck} was shuffled the remaining order is still uniformly
+	 * random. If the {@link Deck} holds several copies of the {@link Card} only
+	 * one of them is removed.
+	 * <p>
 	 * {@inheritDoc}
 	 */
 	@Override
 	public boolean remove(final Object object) {
 
-		throw new UnsupportedOperationException(
-				"Cards may only be removed from a deck by using the remove(int) method.");
+		if (!contains(object)) {
+			return false;
+		}
+
+		final Card card = (Card) object;
+		final int cardIndex = this.cardIndexesByCopy[getCopy(card, this.cardCountsByCode[card.getCode()] - 1)];
+
+		swapCards(cardIndex, size() - 1);
+		removeCopy(size() - 1);
+		this.size--;
+
+		return true;
 	}
 
 	/**
@@ -229,17 +552,18 @@ public class Deck implements Collection<Card> {
 	@Override
 	public boolean containsAll(final Collection<?> collection) {
 
-		int findCount = size();
+		if (collection instanceof Deck) {
+			final long otherCardMask = ((Deck) collection).cardMask;
+			return (otherCardMask & this.cardMask) == otherCardMask;
+		}
 
 		for (final Object object : collection) {
-			for (final Card card : this) {
-				if (card.equals(object)) {
-					findCount--;
-					break;
-				}
+			if (!contains(object)) {
+				return false;
 			}
 		}
-		return findCount <= 0;
+
+		return true;
 	}
 
 	/**
@@ -255,10 +579,14 @@ public class Deck implements Collection<Card> {
 	 * {@inheritDoc}
 	 */
 	@Override
-	public boolean removeAll(final Collection<?> c) {
+	public boolean removeAll(final Collection<?> collection) {
 
-		throw new UnsupportedOperationException(
-				"Cards may only be removed from a deck by using the remove(int) method.");
+		boolean changed = false;
+		for (final Object object : collection) {
+			changed |= remove(object);
+		}
+
+		return changed;
 	}
 
 	/**
@@ -277,6 +605,8 @@ public class Deck implements Collection<Card> {
 	public void clear() {
 
 		this.size = 0;
+		this.cardMask = 0;
+		Arrays.fill(this.cardCountsByCode, 0);
 	}
 
 	/**
@@ -300,4 +630,61 @@ public class Deck implements Collection<Card> {
 
 		return stringBuilder.append("]]").toString();
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Unmodifiable view of a range of the backing array of a {@link Deck} holding
+	 * {@link Card}s removed from it.
+	 */
+	private static final class DealtCards extends AbstractList<Card> implements RandomAccess {
+
+		private final Card[] cards;
+		private final int offset;
+		private final int size;
+
+		/**
+		 * Constructs a {@link DealtCards}.
+		 * 
+		 * @param cards  The backing array of the {@link Deck}. This must never be
+		 *               null.
+		 * @param offset The position of the first removed {@link Card}.
+		 * @param size   The number of removed {@link Card}s.
+		 */
+		private DealtCards(final Card[] cards, final int offset, final int size) {
+
+			this.cards = cards;
+			this.offset = offset;
+			this.size = size;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Card get(final int index) {
+
+			if (index < 0 || index >= this.size) {
+				throw new IndexOutOfBoundsException("index=" + index + ",size=" + this.size);
+			}
+
+			return this.cards[this.offset + index];
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int size() {
+
+			return this.size;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Object[] toArray() {
+
+			return Arrays.copyOfRange(this.cards, this.offset, this.offset + this.size);
+		}
+	}
+}
@@ -3,73 +3,56 @@ package org.obidan.object;
 import java.util.List;
 
 import org.obidan.type.FaceValue;
+import org.obidan.type.Suit;
 import org.obidan.utility.CardFaceValueGrouper;
+import org.obidan.utility.RankHistogram;
 import org.obidan.utility.SequentialCardFinder;
 
 /**
- * Represents a hand of cards.
- * 
+ * Represents a hand of cards. Everything derived from the cards is computed
+ * the first time it is requested and then reused, so work is never done for a
+ * view of the hand that is not used. A {@link HandOfCards} may be read
+ * concurrently; if two threads request a view at the same time it may be
+ * computed twice, but both will see an equal result.
+ *
  * @author Obi-Dan
  */
 public class HandOfCards {
 
+	private static final int UNKNOWN_SUIT_MASK = -1;
+
 	private final List<Card> cards;
-	private final List<List<Card>> sequentialCardCollections;
-	private final List<List<Card>> cardCollectionsGroupedByFaceValue;
+	private final SequentialCardFinder sequentialCardFinder;
+	private final CardFaceValueGrouper cardFaceValueGrouper;
+	private volatile RankHistogram rankHistogram;
+	private volatile List<List<Card>> sequentialCardCollections;
+	private volatile List<List<Card>> cardCollectionsGroupedByFaceValue;
+	private volatile int suitMask = UNKNOWN_SUIT_MASK;
 
 	/**
 	 * Constructs a {@link HandOfCards}.
-	 * 
-	 * @param cards                                The {@link List} of player
-	 *                                             {@link Card}s. This must never be
-	 *                                             null or contain null values.
-	 * @param sequentialCardCollections            The collection of the lists of
-	 *                                             sequential cards (ignoring suit),
-	 *                                             each sorted from highest to
-	 *                                             lowest. For instance, if a hand
-	 *                                             has the cards with a face value
-	 *                                             2, 3, 4, 7, 8 then two lists will
-	 *                                             be returned. One list containing
-	 *                                             4, 3, 2 and another containing 8
-	 *                                             and 7. Ace will be considered
-	 *                                             high and will only return as low
-	 *                                             in a five-high straight flush.
-	 *                                             This must never be null or empty,
-	 *                                             the internal card collections
-	 *                                             must never be empty or contain
-	 *                                             null, and the total number of
-	 *                                             elements in the internal
-	 *                                             collections must be the same as
-	 *                                             the total number of elements in
-	 *                                             the player's hand.
-	 * @param cardCollectionsGroupedByFaceValueThe list of card collections grouped
-	 *                                             by {@link FaceValue}, which will
-	 *                                             contain one or more
-	 *                                             {@link Card}s. The collections of
-	 *                                             cards must be sorted with the
-	 *                                             largest collection first, down to
-	 *                                             the smallest collection. After
-	 *                                             being sorted by size the
-	 *                                             collections must be sorted by
-	 *                                             {@link FaceValue} (for instance,
-	 *                                             if there are two pairs the higher
-	 *                                             {@link FaceValue} pair must come
-	 *                                             first). This must never be null
-	 *                                             or empty or contain null or empty
-	 *                                             lists or elements.
+	 *
+	 * @param cards                The {@link List} of player {@link Card}s. This
+	 *                             must never be null or contain null values.
+	 * @param sequentialCardFinder The {@link SequentialCardFinder} used to find
+	 *                             the sequential card collections when they are
+	 *                             first requested. This must never be null.
+	 * @param cardFaceValueGrouper The {@link CardFaceValueGrouper} used to group
+	 *                             the cards by {@link FaceValue} when they are
+	 *                             first requested. This must never be null.
 	 * @return Non-null {@link HandOfCards}.
 	 */
-	private HandOfCards(final List<Card> cards, final List<List<Card>> sequentialCardCollections,
-			final List<List<Card>> cardCollectionsGroupedByFaceValue) {
+	private HandOfCards(final List<Card> cards, final SequentialCardFinder sequentialCardFinder,
+			final CardFaceValueGrouper cardFaceValueGrouper) {
 
 		this.cards = cards;
-		this.sequentialCardCollections = sequentialCardCollections;
-		this.cardCollectionsGroupedByFaceValue = cardCollectionsGroupedByFaceValue;
+		this.sequentialCardFinder = sequentialCardFinder;
+		this.cardFaceValueGrouper = cardFaceValueGrouper;
 	}
 
 	/**
 	 * Creates a {@link HandOfCards}.
-	 * 
+	 *
 	 * @param cards                The {@link List} of player {@link Card}s. This
 	 *                             must never be null, empty, or contain null
 	 *                             values. This must never be null.
@@ -82,10 +65,7 @@ public class HandOfCards {
 	public static HandOfCards create(final List<Card> cards, final SequentialCardFinder sequentialCardFinder,
 			final CardFaceValueGrouper cardFaceValueGrouper) {
 
-		final List<List<Card>> sequentialCardCollections = sequentialCardFinder.getSequentialCardCollections(cards);
-		final List<List<Card>> cardCollectionsGroupedByFaceValue = cardFaceValueGrouper
-				.getCardCollectionsGroupedByFaceValue(cards);
-		return new HandOfCards(cards, sequentialCardCollections, cardCollectionsGroupedByFaceValue);
+		return new HandOfCards(cards, sequentialCardFinder, cardFaceValueGrouper);
 	}
 
 	/**
@@ -96,14 +76,66 @@ public class HandOfCards {
 		return this.cards;
 	}
 
+	/**
+	 * @return Non-null {@link RankHistogram} of the player {@link Card}s.
+	 */
+	public final RankHistogram getRankHistogram() {
+
+		RankHistogram rankHistogram = this.rankHistogram;
+		if (rankHistogram == null) {
+			rankHistogram = RankHistogram.create(this.cards);
+			this.rankHistogram = rankHistogram;
+		}
+
+		return rankHistogram;
+	}
+
+	/**
+	 * @return The mask of the {@link Suit}s of the player {@link Card}s, where the
+	 *         bit for each {@link Suit} ordinal is set if at least one card has
+	 *         that {@link Suit}.
+	 */
+	public final int getSuitMask() {
+
+		int suitMask = this.suitMask;
+		if (suitMask == UNKNOWN_SUIT_MASK) {
+			suitMask = 0;
+			for (int index = 0; index < this.cards.size(); index++) {
+				suitMask |= 1 << this.cards.get(index).getSuitIndex();
+			}
+			this.suitMask = suitMask;
+		}
+
+		return suitMask;
+	}
+
+	/**
+	 * @return True if all the player {@link Card}s have the same {@link Suit}.
+	 */
+	public final boolean isFlush() {
+
+		return Integer.bitCount(getSuitMask()) == 1;
+	}
+
 	/**
 	 * @return Non-null, non-empty list of sequential card collections, which will
 	 *         contain one or more non-null {@link Card}s. All lists will be sorted
-	 *         from highest to lowest.
+	 *         from highest to lowest. For instance, if a hand has the cards with a
+	 *         face value 2, 3, 4, 7, 8 then two lists will be returned. One list
+	 *         containing 4, 3, 2 and another containing 8 and 7. Ace will be
+	 *         considered high and will only return as low in a five-high straight
+	 *         flush.
 	 */
 	public final List<List<Card>> getSequentialCardCollections() {
 
-		return this.sequentialCardCollections;
+		List<List<Card>> sequentialCardCollections = this.sequentialCardCollections;
+		if (sequentialCardCollections == null) {
+			sequentialCardCollections = this.sequentialCardFinder.getSequentialCardCollections(this.cards,
+					getRankHistogram());
+			this.sequentialCardCollections = sequentialCardCollections;
+		}
+
+		return sequentialCardCollections;
 	}
 
 	/**
@@ -117,7 +149,14 @@ public class HandOfCards {
 	 */
 	public final List<List<Card>> getCardCollectionsGroupedByFaceValue() {
 
-		return this.cardCollectionsGroupedByFaceValue;
+		List<List<Card>> cardCollectionsGroupedByFaceValue = this.cardCollectionsGroupedByFaceValue;
+		if (cardCollectionsGroupedByFaceValue == null) {
+			cardCollectionsGroupedByFaceValue = this.cardFaceValueGrouper
+					.getCardCollectionsGroupedByFaceValue(this.cards, getRankHistogram());
+			this.cardCollectionsGroupedByFaceValue = cardCollectionsGroupedByFaceValue;
+		}
+
+		return cardCollectionsGroupedByFaceValue;
 	}
 
 	/**
@@ -127,8 +166,8 @@ public class HandOfCards {
 	public String toString() {
 
 		return new StringBuilder("HandOfCards[numberOfCards=").append(this.cards.size()).append(",cards=")
-				.append(this.cards).append(",sequentialCardCollections=").append(this.sequentialCardCollections)
-				.append(",cardCollectionsGroupedByFaceValue=").append(this.cardCollectionsGroupedByFaceValue)
+				.append(this.cards).append(",sequentialCardCollections=").append(getSequentialCardCollections())
+				.append(",cardCollectionsGroupedByFaceValue=").append(getCardCollectionsGroupedByFaceValue())
 				.append("]").toString();
 	}
-}
\ No newline at end of file
+}
@@ -1,8 +1,8 @@
 package org.obidan.object;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
+import org.obidan.handrank.HandStrength;
 import org.obidan.handrank.PokerHandRankEvaluator;
 import org.obidan.type.HandRank;
 import org.obidan.type.WinningStatus;
@@ -16,22 +16,27 @@ public class Player {
 
 	private final String name;
 	private final HandRank handRank;
+	private final int handStrength;
 	private final HandOfCards handOfCards;
 	private WinningStatus winningStatus;
 
 	/**
 	 * Constructs a {@link Player}.
 	 * 
-	 * @param name        The player name. This must never be blank.
-	 * @param handRank    The {@link HandRank} of the player's hand. This must never
-	 *                    be null.
-	 * @param handOfCards The player's {@link HandOfCards}. This must never be null.
+	 * @param name         The player name. This must never be blank.
+	 * @param handRank     The {@link HandRank} of the player's hand. This must
+	 *                     never be null.
+	 * @param handStrength The {@link HandStrength} of the player's hand.
+	 * @param handOfCards  The player's {@link HandOfCards}. This must never be
+	 *                     null.
 	 * @return Non-null {@link Player}.
 	 */
-	private Player(final String name, final HandRank handRank, final HandOfCards handOfCards) {
+	private Player(final String name, final HandRank handRank, final int handStrength,
+			final HandOfCards handOfCards) {
 
 		this.name = name;
 		this.handRank = handRank;
+		this.handStrength = handStrength;
 		this.handOfCards = handOfCards;
 		this.winningStatus = WinningStatus.UNKNOWN;
 	}
@@ -52,8 +57,8 @@ public class Player {
 	public static Player create(final String name, final HandOfCards handOfCards,
 			final PokerHandRankEvaluator pokerHandRankEvaluator) {
 
-		final HandRank handRank = pokerHandRankEvaluator.evaluateHandRank(handOfCards, null);
-		return create(name, handOfCards, handRank);
+		final int handStrength = pokerHandRankEvaluator.evaluateHandStrength(handOfCards);
+		return new Player(name, HandStrength.getHandRank(handStrength), handStrength, handOfCards);
 	}
 
 	/**
@@ -69,7 +74,7 @@ public class Player {
 	 */
 	public static Player create(final String name, final HandOfCards handOfCards, final HandRank handRank) {
 
-		return new Player(name, handRank, handOfCards);
+		return new Player(name, handRank, HandStrength.create(handRank, handOfCards), handOfCards);
 	}
 
 	/**
@@ -88,6 +93,15 @@ public class Player {
 		return this.handRank;
 	}
 
+	/**
+	 * @return The {@link HandStrength} of the player's hand, which is greater for a
+	 *         better hand and equal for a tie.
+	 */
+	public final int getHandStrength() {
+
+		return this.handStrength;
+	}
+
 	/**
 	 * @return Non-null {@link HandOfCards}.
 	 */
@@ -127,25 +141,20 @@ public class Player {
 	 */
 	public String getDisplay() {
 
-		final StringBuilder stringBuilder = new StringBuilder();
-
-		final String cardsDisplay = this.handOfCards.getSequentialCardCollections().stream().flatMap(List::stream)
-				.map(card -> card.toString()).collect(Collectors.joining(" "));
-
-		stringBuilder.append(this.name).append("'s cards: ").append(cardsDisplay).append(" (")
-				.append(this.handRank.getDisplay()).append(")");
-
-		switch (this.winningStatus) {
-		case WON:
-			stringBuilder.append(" - $ Winner $");
-			break;
-		case TIED:
-			stringBuilder.append(" - Tie");
-			break;
-		default:
-			break;
+		final StringBuilder stringBuilder = new StringBuilder(64).append(this.name).append("'s cards: ");
+
+		boolean firstCard = true;
+		for (final List<Card> cards : this.handOfCards.getSequentialCardCollections()) {
+			for (final Card card : cards) {
+				if (!firstCard) {
+					stringBuilder.append(' ');
+				}
+				stringBuilder.append(card.toString());
+				firstCard = false;
+			}
 		}
 
-		return stringBuilder.toString();
+		return stringBuilder.append(" (").append(this.handRank.getDisplay()).append(")")
+				.append(this.winningStatus.getDisplaySuffix()).toString();
 	}
 }
\ No newline at end of file
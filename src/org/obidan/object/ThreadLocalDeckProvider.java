@@ -0,0 +1,50 @@
+package org.obidan.object;
+
+/**
+ * Provides each thread with its own {@link Deck}, which is reset rather than
+ * created again for every game. Since the {@link Deck} is reused, the
+ * {@link Card}s dealt from it (including the cards of any {@link HandOfCards}
+ * or {@link Player} made from them) must not be used once the thread has been
+ * provided with its {@link Deck} again.
+ * 
+ * @author Obi-Dan
+ */
+public class ThreadLocalDeckProvider {
+
+	private final ThreadLocal<Deck> decks = ThreadLocal.withInitial(Deck::createSingleDeck);
+
+	/**
+	 * Gets the calling thread's {@link Deck}, with every {@link Card} returned to
+	 * it in the order of a new {@link Deck}. The {@link Deck} is not shuffled.
+	 * 
+	 * @return Non-null, full single {@link Deck} of the calling thread.
+	 */
+	public Deck getDeck() {
+
+		return getDeck(1);
+	}
+
+	/**
+	 * Gets the calling thread's {@link Deck} of a number of standard decks, with
+	 * every {@link Card} returned to it in the order of a new {@link Deck}. The
+	 * {@link Deck} is not shuffled. The thread's {@link Deck} is only created
+	 * again when a different number of decks is asked for.
+	 * 
+	 * @param numberOfDecks The number of standard decks, as given to
+	 *                      {@link Deck#createShoe(int)}.
+	 * @return Non-null, full {@link Deck} of the calling thread.
+	 * @throws IllegalArgumentException If the number of decks is not valid.
+	 */
+	public Deck getDeck(final int numberOfDecks) {
+
+		Deck deck = this.decks.get();
+		if (deck.getNumberOfDecks() != numberOfDecks) {
+			deck = Deck.createShoe(numberOfDecks);
+			this.decks.set(deck);
+		} else {
+			deck.reset();
+		}
+
+		return deck;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,270 @@
+package org.obidan.output;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * {@link ResultSink} which encodes text as UTF-8 into a large buffer and writes
+ * the buffer to a {@link WritableByteChannel} only when it is full, so a
+ * channel is written once for many games rather than once for each line.
+ * <p>
+ * A sink may be double-buffered: when a buffer is full it is handed to a
+ * writer thread and text is encoded into a second buffer while the first is
+ * written, so encoding and writing overlap. The order of the text is kept
+ * either way.
+ *
+ * @author Obi-Dan
+ */
+public final class ChannelResultSink implements ResultSink {
+
+	public static final int DEFAULT_BUFFER_LENGTH = 1 << 20;
+
+	private final WritableByteChannel channel;
+	private final boolean channelOwned;
+	private final ExecutorService writerExecutorService;
+	private ByteBuffer buffer;
+	private ByteBuffer spareBuffer;
+	private CompletableFuture<Void> pendingWrite;
+
+	/**
+	 * Constructs a {@link ChannelResultSink}.
+	 *
+	 * @param channel        The {@link WritableByteChannel} written to. This
+	 *                       must never be null.
+	 * @param channelOwned   True if the channel is closed with the sink.
+	 * @param bufferLength   The length of each buffer. This must be at least
+	 *                       four.
+	 * @param doubleBuffered True if full buffers are written on a writer thread.
+	 */
+	private ChannelResultSink(final WritableByteChannel channel, final boolean channelOwned, final int bufferLength,
+			final boolean doubleBuffered) {
+
+		this.channel = channel;
+		this.channelOwned = channelOwned;
+		this.buffer = ByteBuffer.allocateDirect(bufferLength);
+		if (doubleBuffered) {
+			this.spareBuffer = ByteBuffer.allocateDirect(bufferLength);
+			this.writerExecutorService = Executors.newSingleThreadExecutor(runnable -> {
+				final Thread thread = new Thread(runnable, "result-sink-writer");
+				thread.setDaemon(true);
+				return thread;
+			});
+		} else {
+			this.writerExecutorService = null;
+		}
+	}
+
+	/**
+	 * Creates a {@link ChannelResultSink} which closes the channel when it is
+	 * closed.
+	 *
+	 * @param channel        The {@link WritableByteChannel} written to. This
+	 *                       must never be null.
+	 * @param bufferLength   The length of each buffer in bytes.
+	 * @param doubleBuffered True if full buffers are written on a writer thread
+	 *                       while the next buffer is filled.
+	 * @return Non-null {@link ChannelResultSink}.
+	 * @throws IllegalArgumentException If the buffer length is less than four.
+	 */
+	public static ChannelResultSink create(final WritableByteChannel channel, final int bufferLength,
+			final boolean doubleBuffered) {
+
+		return new ChannelResultSink(channel, true, checkBufferLength(bufferLength), doubleBuffered);
+	}
+
+	/**
+	 * Creates a {@link ChannelResultSink} which writes to a file, replacing the
+	 * file if it exists.
+	 *
+	 * @param path           The {@link Path} of the file. This must never be
+	 *                       null.
+	 * @param bufferLength   The length of each buffer in bytes.
+	 * @param doubleBuffered True if full buffers are written on a writer thread
+	 *                       while the next buffer is filled.
+	 * @return Non-null {@link ChannelResultSink}.
+	 * @throws IOException              When the file cannot be opened.
+	 * @throws IllegalArgumentException If the buffer length is less than four.
+	 */
+	public static ChannelResultSink open(final Path path, final int bufferLength, final boolean doubleBuffered)
+			throws IOException {
+
+		checkBufferLength(bufferLength);
+		return new ChannelResultSink(FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING), true, bufferLength, doubleBuffered);
+	}
+
+	/**
+	 * Creates a {@link ChannelResultSink} which writes to {@link System#out}, and
+	 * which leaves it open when the sink is closed.
+	 *
+	 * @param bufferLength   The length of each buffer in bytes.
+	 * @param doubleBuffered True if full buffers are written on a writer thread
+	 *                       while the next buffer is filled.
+	 * @return Non-null {@link ChannelResultSink}.
+	 * @throws IllegalArgumentException If the buffer length is less than four.
+	 */
+	public static ChannelResultSink createStandardOutput(final int bufferLength, final boolean doubleBuffered) {
+
+		return new ChannelResultSink(Channels.newChannel(System.out), false, checkBufferLength(bufferLength),
+				doubleBuffered);
+	}
+
+	/**
+	 * @param bufferLength The length of each buffer in bytes.
+	 * @return The buffer length.
+	 * @throws IllegalArgumentException If the buffer length is less than four.
+	 */
+	private static int checkBufferLength(final int bufferLength) {
+
+		if (bufferLength < Utf8Encoder.MAXIMUM_BYTES_PER_CHARACTER) {
+			throw new IllegalArgumentException(
+					"The buffer must hold at least four bytes (bufferLength=" + bufferLength + ").");
+		}
+
+		return bufferLength;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * A lone surrogate is written as '?'.
+	 */
+	@Override
+	public void write(final CharSequence text) throws IOException {
+
+		int index = 0;
+		while ((index = Utf8Encoder.encode(text, index, this.buffer)) < text.length()) {
+			submitBuffer();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+
+		int index = offset;
+		final int end = offset + length;
+		while (end - index > this.buffer.remaining()) {
+			final int chunkLength = this.buffer.remaining();
+			this.buffer.put(bytes, index, chunkLength);
+			index += chunkLength;
+			submitBuffer();
+		}
+		this.buffer.put(bytes, index, end - index);
+	}
+
+	/**
+	 * Writes the current buffer, or hands it to the writer thread and continues
+	 * with the spare buffer once the spare buffer has been written.
+	 *
+	 * @throws IOException When a buffer cannot be written.
+	 */
+	private void submitBuffer() throws IOException {
+
+		this.buffer.flip();
+		if (this.writerExecutorService == null) {
+			writeFully(this.buffer);
+			this.buffer.clear();
+			return;
+		}
+
+		awaitPendingWrite();
+		final ByteBuffer fullBuffer = this.buffer;
+		this.pendingWrite = CompletableFuture.runAsync(() -> {
+			try {
+				writeFully(fullBuffer);
+			} catch (final IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}, this.writerExecutorService);
+		this.buffer = this.spareBuffer;
+		this.buffer.clear();
+		this.spareBuffer = fullBuffer;
+	}
+
+	/**
+	 * Waits for the buffer handed to the writer thread, if any, to be written.
+	 *
+	 * @throws IOException When the buffer could not be written.
+	 */
+	private void awaitPendingWrite() throws IOException {
+
+		if (this.pendingWrite == null) {
+			return;
+		}
+
+		try {
+			this.pendingWrite.join();
+		} catch (final CompletionException e) {
+			if (e.getCause() instanceof UncheckedIOException) {
+				throw ((UncheckedIOException) e.getCause()).getCause();
+			}
+			throw new IOException("The output could not be written.", e.getCause());
+		} finally {
+			this.pendingWrite = null;
+		}
+	}
+
+	/**
+	 * @param byteBuffer The {@link ByteBuffer} to write. This must never be null.
+	 * @throws IOException When the buffer cannot be written.
+	 */
+	private void writeFully(final ByteBuffer byteBuffer) throws IOException {
+
+		while (byteBuffer.hasRemaining()) {
+			this.channel.write(byteBuffer);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void flush() throws IOException {
+
+		if (this.buffer.position() > 0) {
+			submitBuffer();
+		}
+		awaitPendingWrite();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void close() throws IOException {
+
+		try {
+			flush();
+		} finally {
+			if (this.writerExecutorService != null) {
+				this.writerExecutorService.shutdown();
+			}
+			if (this.channelOwned) {
+				this.channel.close();
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+
+		return new StringBuilder("ChannelResultSink[bufferLength=").append(this.buffer.capacity())
+				.append(",doubleBuffered=").append(this.writerExecutorService != null).append("]").toString();
+	}
+}
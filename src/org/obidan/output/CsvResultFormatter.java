@@ -0,0 +1,90 @@
+package org.obidan.output;
+
+import java.util.List;
+
+import org.obidan.object.Card;
+import org.obidan.object.Player;
+
+/**
+ * Formats each game as comma-separated values, one row for each player:
+ * the game id, table number, seed, player name, cards (separated by spaces, in
+ * the order they are displayed), hand rank, hand strength, and winning status.
+ * A name holding a comma, quote, or line break is quoted.
+ *
+ * @author Obi-Dan
+ */
+public class CsvResultFormatter implements ResultFormatter {
+
+	private static final String HEADER = "game_id,table,seed,player,cards,hand_rank,strength,winning_status\n";
+	private static final char SEPARATOR = ',';
+	private static final char QUOTE = '"';
+	private static final char LINE_SEPARATOR = '\n';
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String getHeader() {
+
+		return HEADER;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void appendGame(final StringBuilder stringBuilder, final GameResult gameResult) {
+
+		for (final Player player : gameResult.getPlayers()) {
+			stringBuilder.append(gameResult.getGameId()).append(SEPARATOR).append(gameResult.getTableNumber())
+					.append(SEPARATOR).append(gameResult.getSeed()).append(SEPARATOR);
+			appendField(stringBuilder, player.getName());
+			stringBuilder.append(SEPARATOR);
+
+			boolean firstCard = true;
+			for (final List<Card> cards : player.getHandOfCards().getSequentialCardCollections()) {
+				for (final Card card : cards) {
+					if (!firstCard) {
+						stringBuilder.append(' ');
+					}
+					stringBuilder.append(card);
+					firstCard = false;
+				}
+			}
+
+			stringBuilder.append(SEPARATOR).append(player.getHandRank().name()).append(SEPARATOR)
+					.append(player.getHandStrength()).append(SEPARATOR).append(player.getWinningStatus().name())
+					.append(LINE_SEPARATOR);
+		}
+	}
+
+	/**
+	 * Appends a field, quoting it if it holds a separator, quote, or line break.
+	 *
+	 * @param stringBuilder The {@link StringBuilder}. This must never be null.
+	 * @param field         The field. This must never be null.
+	 */
+	private static void appendField(final StringBuilder stringBuilder, final String field) {
+
+		boolean quoted = false;
+		for (int index = 0; index < field.length() && !quoted; index++) {
+			final char character = field.charAt(index);
+			quoted = character == SEPARATOR || character == QUOTE || character == '\n' || character == '\r';
+		}
+
+		if (!quoted) {
+			stringBuilder.append(field);
+			return;
+		}
+
+		stringBuilder.append(QUOTE);
+		for (int index = 0; index < field.length(); index++) {
+			final char character = field.charAt(index);
+			if (character == QUOTE) {
+				stringBuilder.append(QUOTE);
+			}
+			stringBuilder.append(character);
+		}
+		stringBuilder.append(QUOTE);
+	}
+}
@@ -0,0 +1,99 @@
+package org.obidan.output;
+
+import java.util.List;
+
+import org.obidan.object.Player;
+
+/**
+ * A played game to be written to a {@link ResultSink}: its id, the table it was
+ * played at, the seed its deck was shuffled from, and its {@link Player}s.
+ *
+ * @author Obi-Dan
+ */
+public final class GameResult {
+
+	private final long gameId;
+	private final long tableNumber;
+	private final long seed;
+	private final List<Player> players;
+
+	/**
+	 * Constructs a {@link GameResult}.
+	 *
+	 * @param gameId      The game id.
+	 * @param tableNumber The number of the table, counting from one, or zero if
+	 *                    the game was not played at one of many tables.
+	 * @param seed        The seed the game's deck was shuffled from.
+	 * @param players     The {@link List} of {@link Player}s in seat order. This
+	 *                    must never be null or contain null values.
+	 */
+	private GameResult(final long gameId, final long tableNumber, final long seed, final List<Player> players) {
+
+		this.gameId = gameId;
+		this.tableNumber = tableNumber;
+		this.seed = seed;
+		this.players = players;
+	}
+
+	/**
+	 * Creates a {@link GameResult}. The {@link Player}s are not copied, so the
+	 * result must be formatted before they are reused.
+	 *
+	 * @param gameId      The game id.
+	 * @param tableNumber The number of the table, counting from one, or zero if
+	 *                    the game was not played at one of many tables.
+	 * @param seed        The seed the game's deck was shuffled from.
+	 * @param players     The {@link List} of {@link Player}s in seat order. This
+	 *                    must never be null or contain null values.
+	 * @return Non-null {@link GameResult}.
+	 */
+	public static GameResult create(final long gameId, final long tableNumber, final long seed,
+			final List<Player> players) {
+
+		return new GameResult(gameId, tableNumber, seed, players);
+	}
+
+	/**
+	 * @return The game id.
+	 */
+	public long getGameId() {
+
+		return this.gameId;
+	}
+
+	/**
+	 * @return The number of the table, counting from one, or zero if the game was
+	 *         not played at one of many tables.
+	 */
+	public long getTableNumber() {
+
+		return this.tableNumber;
+	}
+
+	/**
+	 * @return The seed the game's deck was shuffled from.
+	 */
+	public long getSeed() {
+
+		return this.seed;
+	}
+
+	/**
+	 * @return Non-null {@link List} of non-null {@link Player}s in seat order.
+	 */
+	public List<Player> getPlayers() {
+
+		return this.players;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+
+		return new StringBuilder("GameResult[gameId=").append(this.gameId).append(",tableNumber=")
+				.append(this.tableNumber).append(",seed=").append(this.seed).append(",players=")
+				.append(this.players).append("]").toString();
+	}
+}
@@ -0,0 +1,92 @@
+package org.obidan.output;
+
+import java.util.List;
+
+import org.obidan.object.Card;
+import org.obidan.object.Player;
+
+/**
+ * Formats each game as a single line of JSON: an object of the game id
+ * ("gameId"), table number ("table"), seed ("seed"), and the players
+ * ("players"), each an object of its name ("name"), cards in the order they
+ * are displayed ("cards"), hand rank ("handRank"), hand strength ("strength"),
+ * and winning status ("winningStatus").
+ *
+ * @author Obi-Dan
+ */
+public class JsonLinesResultFormatter implements ResultFormatter {
+
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String getHeader() {
+
+		return "";
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void appendGame(final StringBuilder stringBuilder, final GameResult gameResult) {
+
+		stringBuilder.append("{\"gameId\":").append(gameResult.getGameId()).append(",\"table\":")
+				.append(gameResult.getTableNumber()).append(",\"seed\":").append(gameResult.getSeed())
+				.append(",\"players\":[");
+
+		boolean firstPlayer = true;
+		for (final Player player : gameResult.getPlayers()) {
+			if (!firstPlayer) {
+				stringBuilder.append(',');
+			}
+			firstPlayer = false;
+
+			stringBuilder.append("{\"name\":");
+			appendString(stringBuilder, player.getName());
+			stringBuilder.append(",\"cards\":[");
+
+			boolean firstCard = true;
+			for (final List<Card> cards : player.getHandOfCards().getSequentialCardCollections()) {
+				for (final Card card : cards) {
+					if (!firstCard) {
+						stringBuilder.append(',');
+					}
+					stringBuilder.append('"').append(card).append('"');
+					firstCard = false;
+				}
+			}
+
+			stringBuilder.append("],\"handRank\":\"").append(player.getHandRank().name()).append("\",\"strength\":")
+					.append(player.getHandStrength()).append(",\"winningStatus\":\"")
+					.append(player.getWinningStatus().name()).append("\"}");
+		}
+
+		stringBuilder.append("]}\n");
+	}
+
+	/**
+	 * Appends a JSON string, escaping quotes, backslashes, and control
+	 * characters.
+	 *
+	 * @param stringBuilder The {@link StringBuilder}. This must never be null.
+	 * @param value         The value. This must never be null.
+	 */
+	private static void appendString(final StringBuilder stringBuilder, final String value) {
+
+		stringBuilder.append('"');
+		for (int index = 0; index < value.length(); index++) {
+			final char character = value.charAt(index);
+			if (character == '"' || character == '\\') {
+				stringBuilder.append('\\').append(character);
+			} else if (character < 0x20) {
+				stringBuilder.append("\\u00").append(HEX_DIGITS[character >> 4]).append(HEX_DIGITS[character & 0xF]);
+			} else {
+				stringBuilder.append(character);
+			}
+		}
+		stringBuilder.append('"');
+	}
+}
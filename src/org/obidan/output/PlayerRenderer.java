@@ -0,0 +1,137 @@
+package org.obidan.output;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.obidan.object.Card;
+import org.obidan.object.Player;
+import org.obidan.type.HandRank;
+import org.obidan.type.WinningStatus;
+
+/**
+ * Renders the line of {@link Player#getDisplay()} as UTF-8 directly into a
+ * {@link ByteBuffer}. The bytes of every {@link Card} and of every
+ * {@link HandRank} and {@link WinningStatus} suffix are encoded once, so only
+ * the player's name is encoded as each line is rendered and nothing is
+ * allocated.
+ *
+ * @author Obi-Dan
+ */
+public class PlayerRenderer {
+
+	private static final byte[] CARDS_LABEL = "'s cards: ".getBytes(StandardCharsets.UTF_8);
+	private static final byte[][] CARD_BYTES = createCardBytes();
+	private static final byte[][] HAND_RANK_SUFFIXES = createHandRankSuffixes();
+	private static final byte[][] WINNING_STATUS_SUFFIXES = createWinningStatusSuffixes();
+	private static final int MAXIMUM_SUFFIX_LENGTH = getMaximumLength(HAND_RANK_SUFFIXES)
+			+ getMaximumLength(WINNING_STATUS_SUFFIXES);
+	private static final byte CARD_SEPARATOR = ' ';
+	private static final char LINE_SEPARATOR = '\n';
+
+	/**
+	 * @return Non-null array of the UTF-8 bytes of each {@link Card}, indexed by
+	 *         code.
+	 */
+	private static byte[][] createCardBytes() {
+
+		final byte[][] cardBytes = new byte[Card.NUMBER_OF_CARDS][];
+		for (int code = 0; code < cardBytes.length; code++) {
+			cardBytes[code] = Card.create(code).toString().getBytes(StandardCharsets.UTF_8);
+		}
+
+		return cardBytes;
+	}
+
+	/**
+	 * @return Non-null array of the UTF-8 bytes of the suffix of each
+	 *         {@link HandRank} (for instance " (one pair)"), indexed by ordinal.
+	 */
+	private static byte[][] createHandRankSuffixes() {
+
+		final HandRank[] handRanks = HandRank.values();
+		final byte[][] handRankSuffixes = new byte[handRanks.length][];
+		for (final HandRank handRank : handRanks) {
+			handRankSuffixes[handRank.ordinal()] = (" (" + handRank.getDisplay() + ")")
+					.getBytes(StandardCharsets.UTF_8);
+		}
+
+		return handRankSuffixes;
+	}
+
+	/**
+	 * @return Non-null array of the UTF-8 bytes of the suffix of each
+	 *         {@link WinningStatus} followed by a line separator, indexed by
+	 *         ordinal.
+	 */
+	private static byte[][] createWinningStatusSuffixes() {
+
+		final WinningStatus[] winningStatuses = WinningStatus.values();
+		final byte[][] winningStatusSuffixes = new byte[winningStatuses.length][];
+		for (final WinningStatus winningStatus : winningStatuses) {
+			winningStatusSuffixes[winningStatus.ordinal()] = (winningStatus.getDisplaySuffix() + LINE_SEPARATOR)
+					.getBytes(StandardCharsets.UTF_8);
+		}
+
+		return winningStatusSuffixes;
+	}
+
+	/**
+	 * @param byteArrays The array of byte arrays. This must never be null or
+	 *                   contain null values.
+	 * @return The length of the longest byte array.
+	 */
+	private static int getMaximumLength(final byte[][] byteArrays) {
+
+		int maximumLength = 0;
+		for (final byte[] bytes : byteArrays) {
+			maximumLength = Math.max(maximumLength, bytes.length);
+		}
+
+		return maximumLength;
+	}
+
+	/**
+	 * Renders a player's line, ending with a line separator, at the position of
+	 * a buffer.
+	 *
+	 * @param buffer The {@link ByteBuffer}. This must never be null.
+	 * @param player The {@link Player}. This must never be null.
+	 * @return True if the line was rendered, or false if it did not fit, in which
+	 *         case the position of the buffer is unchanged.
+	 */
+	public boolean render(final ByteBuffer buffer, final Player player) {
+
+		final int start = buffer.position();
+		final String name = player.getName();
+		if (Utf8Encoder.encode(name, 0, buffer) < name.length()
+				|| buffer.remaining() < CARDS_LABEL.length + MAXIMUM_SUFFIX_LENGTH) {
+			buffer.position(start);
+			return false;
+		}
+		buffer.put(CARDS_LABEL);
+
+		final List<List<Card>> sequentialCardCollections = player.getHandOfCards().getSequentialCardCollections();
+		boolean firstCard = true;
+		for (int collectionIndex = 0; collectionIndex < sequentialCardCollections.size(); collectionIndex++) {
+			final List<Card> cards = sequentialCardCollections.get(collectionIndex);
+			for (int index = 0; index < cards.size(); index++) {
+				final byte[] cardBytes = CARD_BYTES[cards.get(index).getCode()];
+				if (buffer.remaining() < cardBytes.length + 1 + MAXIMUM_SUFFIX_LENGTH) {
+					buffer.position(start);
+					return false;
+				}
+				if (!firstCard) {
+					buffer.put(CARD_SEPARATOR);
+				}
+				buffer.put(cardBytes);
+				firstCard = false;
+			}
+		}
+
+		buffer.put(HAND_RANK_SUFFIXES[player.getHandRank().ordinal()])
+				.put(WINNING_STATUS_SUFFIXES[player.getWinningStatus().ordinal()]);
+
+		return true;
+	}
+}
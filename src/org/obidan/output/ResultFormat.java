@@ -0,0 +1,45 @@
+package org.obidan.output;
+
+/**
+ * The formats in which played games may be written.
+ *
+ * @author Obi-Dan
+ */
+public enum ResultFormat {
+
+	/**
+	 * The lines of {@link org.obidan.object.Player#getDisplay()}.
+	 */
+	TEXT(new TextResultFormatter()),
+
+	/**
+	 * Comma-separated values, one row for each player.
+	 */
+	CSV(new CsvResultFormatter()),
+
+	/**
+	 * A line of JSON for each game.
+	 */
+	JSON(new JsonLinesResultFormatter());
+
+	private final ResultFormatter resultFormatter;
+
+	/**
+	 * Constructs a {@link ResultFormat}.
+	 *
+	 * @param resultFormatter The {@link ResultFormatter} of the format. This must
+	 *                        never be null.
+	 */
+	private ResultFormat(final ResultFormatter resultFormatter) {
+
+		this.resultFormatter = resultFormatter;
+	}
+
+	/**
+	 * @return Non-null {@link ResultFormatter} of the format.
+	 */
+	public final ResultFormatter getResultFormatter() {
+
+		return this.resultFormatter;
+	}
+}
@@ -0,0 +1,50 @@
+package org.obidan.output;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Formats played games as text to be written to a {@link ResultSink}.
+ * Implementations are safe to share between threads, so a game may be
+ * formatted on any thread and the text written later in game order.
+ *
+ * @author Obi-Dan
+ */
+public interface ResultFormatter {
+
+	/**
+	 * @return Non-null text written once before the first game, which may be
+	 *         empty.
+	 */
+	String getHeader();
+
+	/**
+	 * Appends the text of a game, ending with a line separator.
+	 *
+	 * @param stringBuilder The {@link StringBuilder} the text is appended to.
+	 *                      This must never be null.
+	 * @param gameResult    The {@link GameResult}. This must never be null.
+	 */
+	void appendGame(StringBuilder stringBuilder, GameResult gameResult);
+
+	/**
+	 * @param gameResult The {@link GameResult}. This must never be null.
+	 * @return Non-null text of the game, ending with a line separator.
+	 */
+	default String format(final GameResult gameResult) {
+
+		final StringBuilder stringBuilder = new StringBuilder(256);
+		appendGame(stringBuilder, gameResult);
+
+		return stringBuilder.toString();
+	}
+
+	/**
+	 * @param gameResult The {@link GameResult}. This must never be null.
+	 * @return Non-null UTF-8 bytes of the text of the game, ending with a line
+	 *         separator.
+	 */
+	default byte[] formatBytes(final GameResult gameResult) {
+
+		return format(gameResult).getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,52 @@
+package org.obidan.output;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+
+/**
+ * Destination of the text of played games. Text is written in the order it is
+ * given, so games played concurrently must be given to the sink in game order
+ * (for instance, formatted on the threads which played them and written by the
+ * one thread which collects them in order).
+ *
+ * @author Obi-Dan
+ */
+public interface ResultSink extends Closeable, Flushable {
+
+	/**
+	 * Writes text. The text may be held in a buffer until the sink is flushed or
+	 * closed.
+	 *
+	 * @param text The text. This must never be null.
+	 * @throws IOException When the text cannot be written.
+	 */
+	void write(CharSequence text) throws IOException;
+
+	/**
+	 * Writes text already encoded as UTF-8. The bytes may be held in a buffer
+	 * until the sink is flushed or closed.
+	 *
+	 * @param bytes  The array of bytes. This must never be null.
+	 * @param offset The index of the first byte to write.
+	 * @param length The number of bytes to write.
+	 * @throws IOException When the bytes cannot be written.
+	 */
+	void write(byte[] bytes, int offset, int length) throws IOException;
+
+	/**
+	 * Writes any buffered text.
+	 * <p>
+	 * {@inheritDoc}
+	 */
+	@Override
+	void flush() throws IOException;
+
+	/**
+	 * Writes any buffered text and closes the sink.
+	 * <p>
+	 * {@inheritDoc}
+	 */
+	@Override
+	void close() throws IOException;
+}
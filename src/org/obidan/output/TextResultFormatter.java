@@ -0,0 +1,153 @@
+package org.obidan.output;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.obidan.object.Player;
+
+/**
+ * Formats each game as it has always been printed: a line of
+ * {@link Player#getDisplay()} for each player, preceded by a line naming the
+ * table and its seed when the game was played at one of many tables.
+ * <p>
+ * {@link #formatBytes(GameResult)} renders the lines with a
+ * {@link PlayerRenderer} into a buffer reused by each thread, so the bytes of a
+ * game are built without allocating anything but the returned array.
+ *
+ * @author Obi-Dan
+ */
+public class TextResultFormatter implements ResultFormatter {
+
+	private static final char LINE_SEPARATOR = '\n';
+	private static final byte[] TABLE_LABEL = "Table ".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] SEED_LABEL = " (--seed=".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] TABLE_SUFFIX = ")\n".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] MINIMUM_LONG = Long.toString(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+	private static final int MAXIMUM_TABLE_LINE_LENGTH = TABLE_LABEL.length + SEED_LABEL.length
+			+ TABLE_SUFFIX.length + 2 * MINIMUM_LONG.length;
+	private static final int INITIAL_BUFFER_LENGTH = 4096;
+
+	private final PlayerRenderer playerRenderer;
+	private final ThreadLocal<ByteBuffer> buffers = ThreadLocal
+			.withInitial(() -> ByteBuffer.allocate(INITIAL_BUFFER_LENGTH));
+
+	/**
+	 * Constructs a {@link TextResultFormatter}.
+	 */
+	public TextResultFormatter() {
+
+		this(new PlayerRenderer());
+	}
+
+	/**
+	 * Constructs a {@link TextResultFormatter}.
+	 *
+	 * @param playerRenderer The {@link PlayerRenderer}. This must never be null.
+	 */
+	public TextResultFormatter(final PlayerRenderer playerRenderer) {
+
+		this.playerRenderer = playerRenderer;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String getHeader() {
+
+		return "";
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void appendGame(final StringBuilder stringBuilder, final GameResult gameResult) {
+
+		if (gameResult.getTableNumber() > 0) {
+			stringBuilder.append("Table ").append(gameResult.getTableNumber()).append(" (--seed=")
+					.append(gameResult.getSeed()).append(")").append(LINE_SEPARATOR);
+		}
+
+		for (final Player player : gameResult.getPlayers()) {
+			stringBuilder.append(player.getDisplay()).append(LINE_SEPARATOR);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public byte[] formatBytes(final GameResult gameResult) {
+
+		ByteBuffer buffer = this.buffers.get();
+		buffer.clear();
+		while (!renderGame(buffer, gameResult)) {
+			buffer = ByteBuffer.allocate(buffer.capacity() * 2);
+			this.buffers.set(buffer);
+		}
+
+		return Arrays.copyOf(buffer.array(), buffer.position());
+	}
+
+	/**
+	 * Renders the lines of a game at the start of a buffer.
+	 *
+	 * @param buffer     The {@link ByteBuffer}. This must never be null.
+	 * @param gameResult The {@link GameResult}. This must never be null.
+	 * @return True if the game was rendered, or false if it did not fit.
+	 */
+	private boolean renderGame(final ByteBuffer buffer, final GameResult gameResult) {
+
+		if (gameResult.getTableNumber() > 0) {
+			if (buffer.remaining() < MAXIMUM_TABLE_LINE_LENGTH) {
+				return false;
+			}
+			buffer.put(TABLE_LABEL);
+			renderLong(buffer, gameResult.getTableNumber());
+			buffer.put(SEED_LABEL);
+			renderLong(buffer, gameResult.getSeed());
+			buffer.put(TABLE_SUFFIX);
+		}
+
+		final List<Player> players = gameResult.getPlayers();
+		for (int index = 0; index < players.size(); index++) {
+			if (!this.playerRenderer.render(buffer, players.get(index))) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Renders a whole number in decimal at the position of a buffer.
+	 *
+	 * @param buffer The {@link ByteBuffer}. This must never be null and must have
+	 *               room for the number.
+	 * @param value  The number.
+	 */
+	private static void renderLong(final ByteBuffer buffer, final long value) {
+
+		if (value == Long.MIN_VALUE) {
+			buffer.put(MINIMUM_LONG);
+			return;
+		}
+
+		long remaining = value;
+		if (remaining < 0) {
+			buffer.put((byte) '-');
+			remaining = -remaining;
+		}
+
+		long divisor = 1;
+		while (remaining / divisor >= 10) {
+			divisor *= 10;
+		}
+		for (; divisor > 0; divisor /= 10) {
+			buffer.put((byte) ('0' + remaining / divisor % 10));
+		}
+	}
+}
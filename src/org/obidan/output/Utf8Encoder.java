@@ -0,0 +1,61 @@
+package org.obidan.output;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes text as UTF-8 directly into a {@link ByteBuffer}, without the
+ * intermediate arrays of {@link String#getBytes(java.nio.charset.Charset)} or
+ * the state of a {@link java.nio.charset.CharsetEncoder}. A lone surrogate is
+ * encoded as '?'.
+ *
+ * @author Obi-Dan
+ */
+final class Utf8Encoder {
+
+	static final int MAXIMUM_BYTES_PER_CHARACTER = 4;
+
+	private static final byte REPLACEMENT_BYTE = '?';
+
+	/**
+	 * Prevents construction of this class.
+	 */
+	private Utf8Encoder() {
+	}
+
+	/**
+	 * Encodes text until it is all encoded or fewer than
+	 * {@value #MAXIMUM_BYTES_PER_CHARACTER} bytes remain in the buffer.
+	 *
+	 * @param text   The text. This must never be null.
+	 * @param index  The index of the first character to encode.
+	 * @param buffer The {@link ByteBuffer} the bytes are put into. This must
+	 *               never be null.
+	 * @return The index after the last character encoded, which is the length of
+	 *         the text if it was all encoded.
+	 */
+	static int encode(final CharSequence text, final int index, final ByteBuffer buffer) {
+
+		final int length = text.length();
+		int characterIndex = index;
+		while (characterIndex < length && buffer.remaining() >= MAXIMUM_BYTES_PER_CHARACTER) {
+			final char character = text.charAt(characterIndex++);
+			if (character < 0x80) {
+				buffer.put((byte) character);
+			} else if (character < 0x800) {
+				buffer.put((byte) (0xC0 | character >> 6)).put((byte) (0x80 | character & 0x3F));
+			} else if (!Character.isSurrogate(character)) {
+				buffer.put((byte) (0xE0 | character >> 12)).put((byte) (0x80 | character >> 6 & 0x3F))
+						.put((byte) (0x80 | character & 0x3F));
+			} else if (Character.isHighSurrogate(character) && characterIndex < length
+					&& Character.isLowSurrogate(text.charAt(characterIndex))) {
+				final int codePoint = Character.toCodePoint(character, text.charAt(characterIndex++));
+				buffer.put((byte) (0xF0 | codePoint >> 18)).put((byte) (0x80 | codePoint >> 12 & 0x3F))
+						.put((byte) (0x80 | codePoint >> 6 & 0x3F)).put((byte) (0x80 | codePoint & 0x3F));
+			} else {
+				buffer.put(REPLACEMENT_BYTE);
+			}
+		}
+
+		return characterIndex;
+	}
+}
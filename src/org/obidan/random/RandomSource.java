@@ -0,0 +1,24 @@
+package org.obidan.random;
+
+/**
+ * Source of the random numbers used to shuffle and deal cards. Seeded sources
+ * produce the same numbers for the same seed, so a game dealt from a seeded
+ * source may be dealt again from its seed alone. A {@link RandomSource} is not
+ * thread safe unless stated otherwise.
+ *
+ * @author Obi-Dan
+ */
+public interface RandomSource {
+
+	/**
+	 * @return The next random long, uniformly distributed over every long value.
+	 */
+	long nextLong();
+
+	/**
+	 * @param bound The exclusive upper bound. This must be positive.
+	 * @return The next random int, uniformly distributed between 0 (inclusive) and
+	 *         the bound (exclusive).
+	 */
+	int nextInt(int bound);
+}
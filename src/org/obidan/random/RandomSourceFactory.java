@@ -0,0 +1,20 @@
+package org.obidan.random;
+
+/**
+ * Creates a seeded {@link RandomSource}, so that which generator is used may be
+ * chosen without changing the code which deals the cards.
+ *
+ * @author Obi-Dan
+ */
+@FunctionalInterface
+public interface RandomSourceFactory {
+
+	/**
+	 * Creates a {@link RandomSource}.
+	 *
+	 * @param seed The seed. Sources created with the same seed produce the same
+	 *             numbers.
+	 * @return Non-null {@link RandomSource}.
+	 */
+	RandomSource create(long seed);
+}
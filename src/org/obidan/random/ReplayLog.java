@@ -0,0 +1,75 @@
+package org.obidan.random;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Log of the seed each game was dealt from. Each game is a single line of the
+ * game id and the seed separated by a space (for instance "1700000000000
+ * -4962768465676381896"), appended to any games already in the log. Since the
+ * cards of a game are determined by its seed and its players, a game may be
+ * dealt again from its line of the log without storing any cards.
+ *
+ * @author Obi-Dan
+ */
+public final class ReplayLog implements Closeable {
+
+	private static final char SEPARATOR = ' ';
+	private static final char LINE_SEPARATOR = '\n';
+
+	private final Writer writer;
+
+	/**
+	 * Constructs a {@link ReplayLog}.
+	 *
+	 * @param writer The {@link Writer} the log is appended to. This must never be
+	 *               null.
+	 */
+	private ReplayLog(final Writer writer) {
+
+		this.writer = writer;
+	}
+
+	/**
+	 * Creates a {@link ReplayLog} which appends to a file, creating the file if it
+	 * does not exist.
+	 *
+	 * @param fileName The file name. This must never be null.
+	 * @return Non-null {@link ReplayLog}.
+	 * @throws IOException When the file cannot be opened.
+	 */
+	public static ReplayLog create(final String fileName) throws IOException {
+
+		return new ReplayLog(new BufferedWriter(
+				new OutputStreamWriter(new FileOutputStream(fileName, true), StandardCharsets.US_ASCII)));
+	}
+
+	/**
+	 * Appends a game to the log.
+	 *
+	 * @param gameId The id of the game.
+	 * @param seed   The seed the game was dealt from.
+	 * @throws IOException When the game cannot be written.
+	 */
+	public void append(final long gameId, final long seed) throws IOException {
+
+		this.writer.append(Long.toString(gameId)).append(SEPARATOR).append(Long.toString(seed))
+				.append(LINE_SEPARATOR);
+	}
+
+	/**
+	 * Writes any buffered games and closes the log.
+	 * <p>
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void close() throws IOException {
+
+		this.writer.close();
+	}
+}
@@ -0,0 +1,53 @@
+package org.obidan.random;
+
+import java.util.SplittableRandom;
+
+/**
+ * {@link RandomSource} backed by a {@link SplittableRandom}.
+ *
+ * @author Obi-Dan
+ */
+public final class SplittableRandomSource implements RandomSource {
+
+	private final SplittableRandom splittableRandom;
+
+	/**
+	 * Constructs a {@link SplittableRandomSource}.
+	 *
+	 * @param splittableRandom The {@link SplittableRandom}. This must never be
+	 *                         null.
+	 */
+	private SplittableRandomSource(final SplittableRandom splittableRandom) {
+
+		this.splittableRandom = splittableRandom;
+	}
+
+	/**
+	 * Creates a {@link SplittableRandomSource}.
+	 *
+	 * @param seed The seed.
+	 * @return Non-null {@link SplittableRandomSource}.
+	 */
+	public static SplittableRandomSource create(final long seed) {
+
+		return new SplittableRandomSource(new SplittableRandom(seed));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long nextLong() {
+
+		return this.splittableRandom.nextLong();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int nextInt(final int bound) {
+
+		return this.splittableRandom.nextInt(bound);
+	}
+}
@@ -0,0 +1,50 @@
+package org.obidan.random;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Unseeded {@link RandomSource} backed by the {@link ThreadLocalRandom} of the
+ * calling thread. Unlike other sources it is thread safe, but the numbers it
+ * produces cannot be reproduced.
+ *
+ * @author Obi-Dan
+ */
+public final class ThreadLocalRandomSource implements RandomSource {
+
+	private static final ThreadLocalRandomSource INSTANCE = new ThreadLocalRandomSource();
+
+	/**
+	 * Constructs a {@link ThreadLocalRandomSource}.
+	 */
+	private ThreadLocalRandomSource() {
+	}
+
+	/**
+	 * Creates a {@link ThreadLocalRandomSource}. No new instance is allocated, the
+	 * shared instance is returned instead.
+	 *
+	 * @return Non-null {@link ThreadLocalRandomSource}.
+	 */
+	public static ThreadLocalRandomSource create() {
+
+		return INSTANCE;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long nextLong() {
+
+		return ThreadLocalRandom.current().nextLong();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int nextInt(final int bound) {
+
+		return ThreadLocalRandom.current().nextInt(bound);
+	}
+}
@@ -0,0 +1,98 @@
+package org.obidan.random;
+
+/**
+ * {@link RandomSource} implementing the xoroshiro128++ generator of Blackman and
+ * Vigna, which has 128 bits of state and produces each number with a handful
+ * of shifts, rotations, and additions. The state is initialized from the seed
+ * with the SplitMix64 generator, as its authors recommend, so that similar
+ * seeds give unrelated sequences.
+ *
+ * @author Obi-Dan
+ */
+public final class Xoroshiro128PlusPlusRandomSource implements RandomSource {
+
+	private static final long GOLDEN_GAMMA = 0x9E37_79B9_7F4A_7C15L;
+	private static final long UNSIGNED_INT_MASK = 0xFFFF_FFFFL;
+
+	private long state0;
+	private long state1;
+
+	/**
+	 * Constructs a {@link Xoroshiro128PlusPlusRandomSource}.
+	 *
+	 * @param state0 The first half of the state.
+	 * @param state1 The second half of the state. The state may not be all zero.
+	 */
+	private Xoroshiro128PlusPlusRandomSource(final long state0, final long state1) {
+
+		this.state0 = state0;
+		this.state1 = state1;
+	}
+
+	/**
+	 * Creates a {@link Xoroshiro128PlusPlusRandomSource}.
+	 *
+	 * @param seed The seed.
+	 * @return Non-null {@link Xoroshiro128PlusPlusRandomSource}.
+	 */
+	public static Xoroshiro128PlusPlusRandomSource create(final long seed) {
+
+		final long state0 = mixSplitMix64(seed + GOLDEN_GAMMA);
+		final long state1 = mixSplitMix64(seed + 2 * GOLDEN_GAMMA);
+
+		// SplitMix64 is a bijection, so the two halves can never both be zero.
+		return new Xoroshiro128PlusPlusRandomSource(state0, state1);
+	}
+
+	/**
+	 * @param value The value to mix.
+	 * @return The SplitMix64 output for the value.
+	 */
+	private static long mixSplitMix64(final long value) {
+
+		long mixed = (value ^ (value >>> 30)) * 0xBF58_476D_1CE4_E5B9L;
+		mixed = (mixed ^ (mixed >>> 27)) * 0x94D0_49BB_1331_11EBL;
+		return mixed ^ (mixed >>> 31);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long nextLong() {
+
+		final long state0 = this.state0;
+		long state1 = this.state1;
+		final long result = Long.rotateLeft(state0 + state1, 17) + state0;
+
+		state1 ^= state0;
+		this.state0 = Long.rotateLeft(state0, 49) ^ state1 ^ (state1 << 21);
+		this.state1 = Long.rotateLeft(state1, 28);
+
+		return result;
+	}
+
+	/**
+	 * Uses Lemire's multiply-and-shift method, rejecting only the few values which
+	 * would bias the result.
+	 * <p>
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int nextInt(final int bound) {
+
+		if (bound <= 0) {
+			throw new IllegalArgumentException("The bound must be positive (bound=" + bound + ").");
+		}
+
+		long product = (nextLong() >>> 32) * bound;
+		if ((product & UNSIGNED_INT_MASK) < bound) {
+			final long threshold = (UNSIGNED_INT_MASK + 1 - bound) % bound;
+			while ((product & UNSIGNED_INT_MASK) < threshold) {
+				product = (nextLong() >>> 32) * bound;
+			}
+		}
+
+		return (int) (product >>> 32);
+	}
+}
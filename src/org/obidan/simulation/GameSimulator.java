@@ -0,0 +1,272 @@
+package org.obidan.simulation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.obidan.handrank.HandStrength;
+import org.obidan.handrank.LookupTableHandRankEvaluator;
+import org.obidan.object.Deck;
+import org.obidan.object.ThreadLocalDeckProvider;
+import org.obidan.random.RandomSourceFactory;
+
+/**
+ * Simulates many games between the same players, dealing each game from its
+ * own deck and tallying who wins, who ties, and the hands dealt. The games are
+ * split into chunks which run in parallel on a {@link ForkJoinPool}, each
+ * dealing from the reusable {@link Deck} of the thread it runs on.
+ * <p>
+ * Game n of a simulation with a given seed is shuffled from the seed plus n
+ * exactly as a single game with that seed is, so any game of a simulation may be
+ * dealt again on its own, and a simulation gives the same result however its
+ * chunks are run.
+ *
+ * @author Obi-Dan
+ */
+public class GameSimulator {
+
+	private static final long MINIMUM_CHUNK_GAMES = 4096;
+
+	private final LookupTableHandRankEvaluator lookupTableHandRankEvaluator;
+	private final RandomSourceFactory randomSourceFactory;
+	private final ThreadLocalDeckProvider deckProvider;
+	private final ForkJoinPool forkJoinPool;
+
+	/**
+	 * Constructs a {@link GameSimulator}.
+	 *
+	 * @param lookupTableHandRankEvaluator A {@link LookupTableHandRankEvaluator}.
+	 *                                     This must never be null.
+	 * @param randomSourceFactory          The {@link RandomSourceFactory} each
+	 *                                     game's deck is shuffled with. This must
+	 *                                     never be null.
+	 * @param deckProvider                 The {@link ThreadLocalDeckProvider} each
+	 *                                     game's deck is taken from. This must
+	 *                                     never be null.
+	 * @param forkJoinPool                 The {@link ForkJoinPool} the games are
+	 *                                     simulated on. This must never be null.
+	 */
+	public GameSimulator(final LookupTableHandRankEvaluator lookupTableHandRankEvaluator,
+			final RandomSourceFactory randomSourceFactory, final ThreadLocalDeckProvider deckProvider,
+			final ForkJoinPool forkJoinPool) {
+
+		this.lookupTableHandRankEvaluator = lookupTableHandRankEvaluator;
+		this.randomSourceFactory = randomSourceFactory;
+		this.deckProvider = deckProvider;
+		this.forkJoinPool = forkJoinPool;
+	}
+
+	/**
+	 * Simulates a number of games.
+	 *
+	 * @param playerNames    The {@link List} of player names, in seat order. This
+	 *                       must never be null or empty, and there must be enough
+	 *                       cards for every player.
+	 * @param cardsPerPlayer The number of cards dealt to each player. This must be
+	 *                       between five and seven.
+	 * @param numberOfGames  The number of games to simulate. This must be
+	 *                       positive.
+	 * @param seed           The seed of the first game. Each later game is seeded
+	 *                       with the next value.
+	 * @return Non-null {@link SimulationResult}.
+	 * @throws IllegalArgumentException If the number of games is not positive or
+	 *                                  there are too few cards for every player.
+	 */
+	public SimulationResult simulate(final List<String> playerNames, final int cardsPerPlayer,
+			final long numberOfGames, final long seed) {
+
+		return simulate(playerNames, cardsPerPlayer, 1, numberOfGames, seed);
+	}
+
+	/**
+	 * Simulates a number of games dealt from a shoe of several decks.
+	 *
+	 * @param playerNames    The {@link List} of player names, in seat order. This
+	 *                       must never be null or empty, and there must be enough
+	 *                       cards for every player.
+	 * @param cardsPerPlayer The number of cards dealt to each player. This must be
+	 *                       between five and seven.
+	 * @param numberOfDecks  The number of standard decks in the shoe each game is
+	 *                       dealt from.
+	 * @param numberOfGames  The number of games to simulate. This must be
+	 *                       positive.
+	 * @param seed           The seed of the first game. Each later game is seeded
+	 *                       with the next value.
+	 * @return Non-null {@link SimulationResult}.
+	 * @throws IllegalArgumentException If the number of games is not positive, the
+	 *                                  number of decks is not valid, or there are
+	 *                                  too few cards for every player.
+	 */
+	public SimulationResult simulate(final List<String> playerNames, final int cardsPerPlayer,
+			final int numberOfDecks, final long numberOfGames, final long seed) {
+
+		if (numberOfGames <= 0) {
+			throw new IllegalArgumentException(
+					"At least one game must be simulated (numberOfGames=" + numberOfGames + ").");
+		}
+
+		final long startNanoseconds = System.nanoTime();
+		final long chunkGames = Math.max(MINIMUM_CHUNK_GAMES,
+				numberOfGames / (this.forkJoinPool.getParallelism() * 4) + 1);
+		final SimulateTask simulateTask = new SimulateTask(playerNames.size(), cardsPerPlayer, numberOfDecks, seed,
+				0, numberOfGames, chunkGames);
+		final SimulationTally simulationTally = numberOfGames <= chunkGames ? simulateTask.simulateGames()
+				: this.forkJoinPool.invoke(simulateTask);
+
+		return new SimulationResult(Collections.unmodifiableList(new ArrayList<>(playerNames)), numberOfGames,
+				simulationTally.winCounts, simulationTally.tieCounts, simulationTally.handCountsByCategory,
+				System.nanoTime() - startNanoseconds);
+	}
+
+	/**
+	 * The counts of a chunk of games.
+	 */
+	private static final class SimulationTally {
+
+		private final long[] winCounts;
+		private final long[] tieCounts;
+		private final long[] handCountsByCategory = new long[HandStrength.NUMBER_OF_CATEGORIES];
+
+		/**
+		 * Constructs a {@link SimulationTally}.
+		 *
+		 * @param numberOfPlayers The number of players.
+		 */
+		private SimulationTally(final int numberOfPlayers) {
+
+			this.winCounts = new long[numberOfPlayers];
+			this.tieCounts = new long[numberOfPlayers];
+		}
+
+		/**
+		 * Adds the counts of another chunk to this one.
+		 *
+		 * @param simulationTally The {@link SimulationTally} of the other chunk.
+		 *                        This must never be null.
+		 * @return Non-null {@link SimulationTally}, which is this one.
+		 */
+		private SimulationTally add(final SimulationTally simulationTally) {
+
+			for (int playerIndex = 0; playerIndex < this.winCounts.length; playerIndex++) {
+				this.winCounts[playerIndex] += simulationTally.winCounts[playerIndex];
+				this.tieCounts[playerIndex] += simulationTally.tieCounts[playerIndex];
+			}
+
+			for (int category = 0; category < this.handCountsByCategory.length; category++) {
+				this.handCountsByCategory[category] += simulationTally.handCountsByCategory[category];
+			}
+
+			return this;
+		}
+	}
+
+	/**
+	 * Simulates a range of games, splitting it in half until there are no more
+	 * than the chunk number of games.
+	 */
+	private final class SimulateTask extends RecursiveTask<SimulationTally> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int numberOfPlayers;
+		private final int cardsPerPlayer;
+		private final int numberOfDecks;
+		private final long seed;
+		private final long firstGameIndex;
+		private final long numberOfGames;
+		private final long chunkGames;
+
+		/**
+		 * Constructs a {@link SimulateTask}.
+		 *
+		 * @param numberOfPlayers The number of players.
+		 * @param cardsPerPlayer  The number of cards dealt to each player.
+		 * @param numberOfDecks   The number of standard decks in each game's shoe.
+		 * @param seed            The seed of the first game of the simulation.
+		 * @param firstGameIndex  The index of the first game of this task.
+		 * @param numberOfGames   The number of games of this task.
+		 * @param chunkGames      The largest number of games simulated without
+		 *                        splitting.
+		 */
+		private SimulateTask(final int numberOfPlayers, final int cardsPerPlayer, final int numberOfDecks,
+				final long seed, final long firstGameIndex, final long numberOfGames, final long chunkGames) {
+
+			this.numberOfPlayers = numberOfPlayers;
+			this.cardsPerPlayer = cardsPerPlayer;
+			this.numberOfDecks = numberOfDecks;
+			this.seed = seed;
+			this.firstGameIndex = firstGameIndex;
+			this.numberOfGames = numberOfGames;
+			this.chunkGames = chunkGames;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected SimulationTally compute() {
+
+			if (this.numberOfGames <= this.chunkGames) {
+				return simulateGames();
+			}
+
+			final long firstNumberOfGames = this.numberOfGames / 2;
+			final SimulateTask secondTask = new SimulateTask(this.numberOfPlayers, this.cardsPerPlayer,
+					this.numberOfDecks, this.seed, this.firstGameIndex + firstNumberOfGames,
+					this.numberOfGames - firstNumberOfGames, this.chunkGames);
+			secondTask.fork();
+
+			return new SimulateTask(this.numberOfPlayers, this.cardsPerPlayer, this.numberOfDecks, this.seed,
+					this.firstGameIndex, firstNumberOfGames, this.chunkGames).compute().add(secondTask.join());
+		}
+
+		/**
+		 * Simulates every game of this task on the calling thread.
+		 *
+		 * @return Non-null {@link SimulationTally} of the games.
+		 * @throws IllegalArgumentException If there are too few cards for every
+		 *                                  player.
+		 */
+		private SimulationTally simulateGames() {
+
+			final SimulationTally simulationTally = new SimulationTally(this.numberOfPlayers);
+			final int[] strengths = new int[this.numberOfPlayers];
+
+			for (long gameIndex = this.firstGameIndex; gameIndex < this.firstGameIndex
+					+ this.numberOfGames; gameIndex++) {
+				final Deck deck = GameSimulator.this.deckProvider.getDeck(this.numberOfDecks);
+				deck.shuffleLazily(GameSimulator.this.randomSourceFactory.create(this.seed + gameIndex));
+
+				int bestStrength = -1;
+				int numberOfWinners = 0;
+				for (int playerIndex = 0; playerIndex < this.numberOfPlayers; playerIndex++) {
+					final int strength = GameSimulator.this.lookupTableHandRankEvaluator
+							.evaluateHandStrength(deck.remove(this.cardsPerPlayer));
+					strengths[playerIndex] = strength;
+					simulationTally.handCountsByCategory[HandStrength.getCategory(strength)]++;
+
+					if (strength > bestStrength) {
+						bestStrength = strength;
+						numberOfWinners = 1;
+					} else if (strength == bestStrength) {
+						numberOfWinners++;
+					}
+				}
+
+				for (int playerIndex = 0; playerIndex < this.numberOfPlayers; playerIndex++) {
+					if (strengths[playerIndex] == bestStrength) {
+						if (numberOfWinners == 1) {
+							simulationTally.winCounts[playerIndex]++;
+						} else {
+							simulationTally.tieCounts[playerIndex]++;
+						}
+					}
+				}
+			}
+
+			return simulationTally;
+		}
+	}
+}
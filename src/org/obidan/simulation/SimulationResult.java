@@ -0,0 +1,121 @@
+package org.obidan.simulation;
+
+import java.util.List;
+
+import org.obidan.handrank.HandStrength;
+import org.obidan.type.HandRank;
+
+/**
+ * The result of simulating a number of games between the same players: how
+ * many games each player won outright and tied, and how many hands of each
+ * {@link HandRank} were dealt.
+ *
+ * @author Obi-Dan
+ */
+public final class SimulationResult {
+
+	private static final double NANOSECONDS_PER_SECOND = 1_000_000_000.0;
+
+	private final List<String> playerNames;
+	private final long numberOfGames;
+	private final long[] winCounts;
+	private final long[] tieCounts;
+	private final long[] handCountsByCategory;
+	private final long elapsedNanoseconds;
+
+	/**
+	 * Constructs a {@link SimulationResult}.
+	 *
+	 * @param playerNames          The {@link List} of player names. This must
+	 *                             never be null.
+	 * @param numberOfGames        The number of games simulated.
+	 * @param winCounts            The number of games each player won outright.
+	 *                             This must never be null.
+	 * @param tieCounts            The number of games each player tied. This must
+	 *                             never be null.
+	 * @param handCountsByCategory The number of hands of each
+	 *                             {@link HandStrength} category dealt. This must
+	 *                             never be null.
+	 * @param elapsedNanoseconds   The time taken to simulate the games.
+	 */
+	SimulationResult(final List<String> playerNames, final long numberOfGames, final long[] winCounts,
+			final long[] tieCounts, final long[] handCountsByCategory, final long elapsedNanoseconds) {
+
+		this.playerNames = playerNames;
+		this.numberOfGames = numberOfGames;
+		this.winCounts = winCounts;
+		this.tieCounts = tieCounts;
+		this.handCountsByCategory = handCountsByCategory;
+		this.elapsedNanoseconds = elapsedNanoseconds;
+	}
+
+	/**
+	 * @return Non-null {@link List} of the player names, in seat order.
+	 */
+	public List<String> getPlayerNames() {
+
+		return this.playerNames;
+	}
+
+	/**
+	 * @return The number of games simulated.
+	 */
+	public long getNumberOfGames() {
+
+		return this.numberOfGames;
+	}
+
+	/**
+	 * @param playerIndex The index of the player.
+	 * @return The number of games the player won outright.
+	 */
+	public long getWinCount(final int playerIndex) {
+
+		return this.winCounts[playerIndex];
+	}
+
+	/**
+	 * @param playerIndex The index of the player.
+	 * @return The number of games the player tied for the win.
+	 */
+	public long getTieCount(final int playerIndex) {
+
+		return this.tieCounts[playerIndex];
+	}
+
+	/**
+	 * @param handRank The {@link HandRank}. This must never be null.
+	 * @return The number of hands of the {@link HandRank} dealt to any player.
+	 */
+	public long getHandCount(final HandRank handRank) {
+
+		return this.handCountsByCategory[HandStrength.getCategory(handRank)];
+	}
+
+	/**
+	 * @return The time taken to simulate the games in nanoseconds.
+	 */
+	public long getElapsedNanoseconds() {
+
+		return this.elapsedNanoseconds;
+	}
+
+	/**
+	 * @return The number of games simulated per second.
+	 */
+	public double getGamesPerSecond() {
+
+		return this.numberOfGames * NANOSECONDS_PER_SECOND / Math.max(1, this.elapsedNanoseconds);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+
+		return new StringBuilder("SimulationResult[playerNames=").append(this.playerNames).append(",numberOfGames=")
+				.append(this.numberOfGames).append(",elapsedNanoseconds=").append(this.elapsedNanoseconds).append("]")
+				.toString();
+	}
+}
@@ -0,0 +1,25 @@
+package org.obidan.table;
+
+import java.util.List;
+
+/**
+ * Plays a game at a single table.
+ *
+ * @author Obi-Dan
+ */
+@FunctionalInterface
+public interface TableGame {
+
+	/**
+	 * Plays a game and formats its output. This may be called from several
+	 * threads at once, each for a different table, so the output is formatted
+	 * concurrently and only written in table order.
+	 *
+	 * @param tableNumber The number of the table, starting at 1.
+	 * @param playerNames The {@link List} of the names of the players at the
+	 *                    table, in seat order. This must never be null or empty.
+	 * @param seed        The seed the table's deck is shuffled from.
+	 * @return Non-null UTF-8 bytes of the output of the game.
+	 */
+	byte[] play(long tableNumber, List<String> playerNames, long seed);
+}
@@ -0,0 +1,63 @@
+package org.obidan.table;
+
+/**
+ * The result of the game at a single table.
+ *
+ * @author Obi-Dan
+ */
+public final class TableResult {
+
+	private final long tableNumber;
+	private final long seed;
+	private final byte[] output;
+
+	/**
+	 * Constructs a {@link TableResult}.
+	 *
+	 * @param tableNumber The number of the table, starting at 1.
+	 * @param seed        The seed the table's deck was shuffled from.
+	 * @param output      The UTF-8 bytes of the output of the game, as formatted
+	 *                    by the {@link TableGame}. This must never be null.
+	 */
+	TableResult(final long tableNumber, final long seed, final byte[] output) {
+
+		this.tableNumber = tableNumber;
+		this.seed = seed;
+		this.output = output;
+	}
+
+	/**
+	 * @return The number of the table, starting at 1.
+	 */
+	public long getTableNumber() {
+
+		return this.tableNumber;
+	}
+
+	/**
+	 * @return The seed the table's deck was shuffled from.
+	 */
+	public long getSeed() {
+
+		return this.seed;
+	}
+
+	/**
+	 * @return Non-null UTF-8 bytes of the output of the game, as formatted by the
+	 *         {@link TableGame}.
+	 */
+	public byte[] getOutput() {
+
+		return this.output;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+
+		return new StringBuilder("TableResult[tableNumber=").append(this.tableNumber).append(",seed=")
+				.append(this.seed).append(",outputLength=").append(this.output.length).append("]").toString();
+	}
+}
@@ -0,0 +1,86 @@
+package org.obidan.table;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Seats a stream of players at tables and plays the tables concurrently. The
+ * players are read only as tables are needed, and no more than a fixed number
+ * of tables are seated but not yet passed to the consumer at any time, so any
+ * number of players may be seated in bounded memory. Results are passed to the
+ * consumer in table order, on the calling thread, however the tables finish.
+ * <p>
+ * Tables are numbered from one and the nth table is dealt from the seed plus
+ * n - 1, so any table may be dealt again on its own with the seed it reports.
+ *
+ * @author Obi-Dan
+ */
+public class TableRunner {
+
+	private final Executor executor;
+	private final int maximumTablesInFlight;
+
+	/**
+	 * Constructs a {@link TableRunner}.
+	 *
+	 * @param executor              The {@link Executor} the tables are played on.
+	 *                              This must never be null.
+	 * @param maximumTablesInFlight The largest number of tables seated but not yet
+	 *                              passed to the consumer. This must be positive.
+	 */
+	public TableRunner(final Executor executor, final int maximumTablesInFlight) {
+
+		this.executor = executor;
+		this.maximumTablesInFlight = maximumTablesInFlight;
+	}
+
+	/**
+	 * Seats the players at tables in order and plays every table.
+	 *
+	 * @param playerNames     The {@link Iterator} of player names. This must never
+	 *                        be null.
+	 * @param playersPerTable The largest number of players at a table. This must
+	 *                        be positive.
+	 * @param seed            The seed of the first table.
+	 * @param tableGame       The {@link TableGame} played at each table. This must
+	 *                        never be null.
+	 * @param consumer        The consumer of each {@link TableResult}, in table
+	 *                        order. This must never be null.
+	 * @return The number of tables played.
+	 */
+	public long run(final Iterator<String> playerNames, final int playersPerTable, final long seed,
+			final TableGame tableGame, final Consumer<TableResult> consumer) {
+
+		final Deque<CompletableFuture<TableResult>> tablesInFlight = new ArrayDeque<>(this.maximumTablesInFlight);
+		long tableIndex = 0;
+
+		while (playerNames.hasNext()) {
+			final List<String> tablePlayerNames = new ArrayList<>(playersPerTable);
+			while (tablePlayerNames.size() < playersPerTable && playerNames.hasNext()) {
+				tablePlayerNames.add(playerNames.next());
+			}
+
+			if (tablesInFlight.size() == this.maximumTablesInFlight) {
+				consumer.accept(tablesInFlight.removeFirst().join());
+			}
+
+			final long tableNumber = tableIndex + 1;
+			final long tableSeed = seed + tableIndex;
+			tablesInFlight.addLast(CompletableFuture.supplyAsync(() -> new TableResult(tableNumber, tableSeed,
+					tableGame.play(tableNumber, tablePlayerNames, tableSeed)), this.executor));
+			tableIndex++;
+		}
+
+		while (!tablesInFlight.isEmpty()) {
+			consumer.accept(tablesInFlight.removeFirst().join());
+		}
+
+		return tableIndex;
+	}
+}
@@ -8,9 +8,9 @@ import org.obidan.object.Player;
  * @author Obi-Dan
  */
 public enum HandRank {
-	STRAIGHT_FLUSH(1, "straight flush"), FOUR_OF_A_KIND(2, "four of a kind"), FULL_HOUSE(3, "full house"),
-	FLUSH(4, "flush"), STRAIGHT(5, "straight"), THREE_OF_A_KIND(6, "three of a kind"), TWO_PAIR(7, "two pair"),
-	ONE_PAIR(8, "one pair"), HIGH_CARD(9, "high card");
+	FIVE_OF_A_KIND(1, "five of a kind"), STRAIGHT_FLUSH(2, "straight flush"), FOUR_OF_A_KIND(3, "four of a kind"),
+	FULL_HOUSE(4, "full house"), FLUSH(5, "flush"), STRAIGHT(6, "straight"), THREE_OF_A_KIND(7, "three of a kind"),
+	TWO_PAIR(8, "two pair"), ONE_PAIR(9, "one pair"), HIGH_CARD(10, "high card");
 
 	private final int numericValue;
 	private final String display;
@@ -8,5 +8,25 @@ import org.obidan.object.Player;
  * @author Obi-Dan
  */
 public enum WinningStatus {
-	UNKNOWN, LOSER, TIED, WON
-}
\ No newline at end of file
+	UNKNOWN(""), LOSER(""), TIED(" - Tie"), WON(" - $ Winner $");
+
+	private final String displaySuffix;
+
+	/**
+	 * Constructs a {@link WinningStatus}.
+	 * 
+	 * @param displaySuffix The text following a player's display. This must never
+	 *                      be null.
+	 */
+	private WinningStatus(final String displaySuffix) {
+		this.displaySuffix = displaySuffix;
+	}
+
+	/**
+	 * @return Non-null text following a player's display, which is empty unless
+	 *         the player won or tied.
+	 */
+	public final String getDisplaySuffix() {
+		return this.displaySuffix;
+	}
+}
@@ -1,12 +1,17 @@
 package org.obidan.utility;
 
 /**
- * Extracts arguments passed from the consumer.
+ * Extracts arguments passed from the consumer. Arguments beginning with
+ * {@value #OPTION_PREFIX} are options, which may be given a value with an equals
+ * sign (for instance "--enumerate=7"). All other arguments are operands.
  * 
  * @author Obi-Dan
  */
 public class ArgumentExtractor {
 
+	private static final String OPTION_PREFIX = "--";
+	private static final char OPTION_VALUE_SEPARATOR = '=';
+
 	/**
 	 * Gets the first argument from an array of arguments.
 	 * 
@@ -26,4 +31,59 @@ public class ArgumentExtractor {
 
 		return null;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Gets the first operand (the first argument which is not an option) from an
+	 * array of arguments.
+	 * 
+	 * @param arguments The array of arguments. This may be null and can contain
+	 *                  zero or more null, empty, or blank strings.
+	 * @return Possibly null first operand. If non-null then it will also be
+	 *         non-blank.
+	 */
+	public String getFirstOperand(final String[] arguments) {
+
+		if (arguments != null) {
+			for (final String argument : arguments) {
+				if (argument != null && !argument.trim().isEmpty() && !argument.startsWith(OPTION_PREFIX)) {
+					return argument;
+				}
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Gets the value of an option from an array of arguments.
+	 * 
+	 * @param arguments The array of arguments. This may be null and can contain
+	 *                  zero or more null, empty, or blank strings.
+	 * @param name      The name of the option without the {@value #OPTION_PREFIX}
+	 *                  prefix. This must never be null.
+	 * @return Possibly null value of the first occurrence of the option. If the
+	 *         option is given without a value then an empty string is returned. If
+	 *         the option is not given then null is returned.
+	 */
+	public String getOption(final String[] arguments, final String name) {
+
+		if (arguments != null) {
+			final String option = OPTION_PREFIX + name;
+			for (final String argument : arguments) {
+				if (argument == null || !argument.startsWith(option)) {
+					continue;
+				}
+
+				if (argument.length() == option.length()) {
+					return "";
+				}
+
+				if (argument.charAt(option.length()) == OPTION_VALUE_SEPARATOR) {
+					return argument.substring(option.length() + 1);
+				}
+			}
+		}
+
+		return null;
+	}
+}
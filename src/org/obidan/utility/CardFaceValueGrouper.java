@@ -1,10 +1,7 @@
 package org.obidan.utility;
 
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.stream.Collectors;
 
 import org.obidan.object.Card;
 import org.obidan.type.FaceValue;
@@ -35,20 +32,43 @@ public class CardFaceValueGrouper {
 	 */
 	public List<List<Card>> getCardCollectionsGroupedByFaceValue(final List<Card> cards) {
 
-		final Map<FaceValue, List<Card>> cardsByFaceValue = cards.stream()
-				.collect(Collectors.groupingBy(Card::getFaceValue));
+		return getCardCollectionsGroupedByFaceValue(cards, RankHistogram.create(cards));
+	}
+
+	/**
+	 * Gets a collection of the lists of cards grouped by {@link FaceValue}
+	 * (ignoring suit) using an already created {@link RankHistogram} of the cards,
+	 * which determines the order of the groups.
+	 * 
+	 * @param cards         The {@link List} of player {@link Card}s. This must
+	 *                      never be null or contain null values.
+	 * @param rankHistogram The {@link RankHistogram} of the given cards. This must
+	 *                      never be null.
+	 * @return Non-null, non-empty list of card collections grouped by
+	 *         {@link FaceValue} in the order of the groups of the
+	 *         {@link RankHistogram}. The cards in each collection are in the same
+	 *         order as in the given cards.
+	 */
+	public List<List<Card>> getCardCollectionsGroupedByFaceValue(final List<Card> cards,
+			final RankHistogram rankHistogram) {
+
+		final int groupCount = rankHistogram.getGroupCount();
+		final List<List<Card>> rankCardCollections = new ArrayList<>(groupCount);
 
-		final Comparator<Entry<FaceValue, List<Card>>> listSizeDescendingComparator = Comparator
-				.comparing((final Map.Entry<FaceValue, List<Card>> entry) -> entry.getValue().size()).reversed();
+		for (int groupIndex = 0; groupIndex < groupCount; groupIndex++) {
+			final int rankIndex = rankHistogram.getGroupRankIndex(groupIndex);
+			final List<Card> rankCards = new ArrayList<>(rankHistogram.getRankCount(rankIndex));
 
-		final Comparator<Entry<FaceValue, List<Card>>> faceValueDescendingComparator = Comparator
-				.comparing((final Map.Entry<FaceValue, List<Card>> entry) -> entry.getKey().getNumericValue())
-				.reversed();
+			for (int index = 0; index < cards.size(); index++) {
+				final Card card = cards.get(index);
+				if (card.getRankIndex() == rankIndex) {
+					rankCards.add(card);
+				}
+			}
 
-		final List<List<Card>> rankCardCollections = cardsByFaceValue.entrySet().stream()
-				.sorted(listSizeDescendingComparator.thenComparing(faceValueDescendingComparator))
-				.map(Map.Entry::getValue).collect(Collectors.toList());
+			rankCardCollections.add(rankCards);
+		}
 
 		return rankCardCollections;
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,134 @@
+package org.obidan.utility;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+
+/**
+ * Reads player names from a channel through large byte and character buffers.
+ * Lines are found and sanitized in place in the decoded character buffer, so
+ * no {@link String} is created for a line, only for the player name made from
+ * it. A line ends at a line feed, a carriage return, or both, as with
+ * {@link java.io.BufferedReader#readLine()}.
+ *
+ * @author Obi-Dan
+ */
+final class PlayerNameReader implements Closeable {
+
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	private final ReadableByteChannel channel;
+	private final CharsetDecoder decoder;
+	private final PlayerNameSanitizer playerNameSanitizer;
+	private final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+	private CharBuffer charBuffer = (CharBuffer) CharBuffer.allocate(BUFFER_SIZE).flip();
+	private boolean endOfChannel;
+	private boolean endOfBytes;
+	private boolean endOfInput;
+
+	/**
+	 * Constructs a {@link PlayerNameReader}.
+	 *
+	 * @param channel             The {@link ReadableByteChannel} to read. This
+	 *                            must never be null and is closed with this reader.
+	 * @param decoder             The {@link CharsetDecoder} of the channel's bytes.
+	 *                            This must never be null.
+	 * @param playerNameSanitizer The {@link PlayerNameSanitizer}. This must never
+	 *                            be null.
+	 */
+	PlayerNameReader(final ReadableByteChannel channel, final CharsetDecoder decoder,
+			final PlayerNameSanitizer playerNameSanitizer) {
+
+		this.channel = channel;
+		this.decoder = decoder;
+		this.playerNameSanitizer = playerNameSanitizer;
+	}
+
+	/**
+	 * Reads the next player name, skipping lines left blank once sanitized.
+	 *
+	 * @return The next non-blank player name, or null once every line has been
+	 *         read.
+	 * @throws IOException When the channel cannot be read.
+	 */
+	String readPlayerName() throws IOException {
+
+		while (true) {
+			final char[] chars = this.charBuffer.array();
+			final int limit = this.charBuffer.limit();
+			int lineStart = this.charBuffer.position();
+
+			for (int index = lineStart; index < limit; index++) {
+				final char character = chars[index];
+				if (character == '\n' || character == '\r') {
+					final String playerName = this.playerNameSanitizer.sanitize(chars, lineStart, index);
+					lineStart = index + 1;
+					if (!playerName.isEmpty()) {
+						this.charBuffer.position(lineStart);
+						return playerName;
+					}
+				}
+			}
+
+			this.charBuffer.position(lineStart);
+			if (this.endOfInput) {
+				this.charBuffer.position(limit);
+				final String playerName = this.playerNameSanitizer.sanitize(chars, lineStart, limit);
+
+				return playerName.isEmpty() ? null : playerName;
+			}
+
+			fill();
+		}
+	}
+
+	/**
+	 * Keeps the unfinished line at the start of the character buffer (growing the
+	 * buffer if the line fills it) and decodes more of the channel after it.
+	 *
+	 * @throws IOException When the channel cannot be read.
+	 */
+	private void fill() throws IOException {
+
+		this.charBuffer.compact();
+		if (!this.charBuffer.hasRemaining()) {
+			final CharBuffer grownCharBuffer = CharBuffer.allocate(this.charBuffer.capacity() * 2);
+			this.charBuffer.flip();
+			grownCharBuffer.put(this.charBuffer);
+			this.charBuffer = grownCharBuffer;
+		}
+
+		if (!this.endOfBytes) {
+			if (!this.endOfChannel && this.channel.read(this.byteBuffer) < 0) {
+				this.endOfChannel = true;
+			}
+
+			this.byteBuffer.flip();
+			final CoderResult coderResult = this.decoder.decode(this.byteBuffer, this.charBuffer, this.endOfChannel);
+			this.byteBuffer.compact();
+			if (coderResult.isError()) {
+				coderResult.throwException();
+			}
+			this.endOfBytes = this.endOfChannel && coderResult.isUnderflow();
+		}
+
+		if (this.endOfBytes) {
+			this.endOfInput = this.decoder.flush(this.charBuffer).isUnderflow();
+		}
+
+		this.charBuffer.flip();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void close() throws IOException {
+
+		this.channel.close();
+	}
+}
@@ -0,0 +1,116 @@
+package org.obidan.utility;
+
+/**
+ * Sanitizes player names in a single pass over the code points of a line,
+ * without regular expressions. Only unicode letters, numbers, and whitespace
+ * along with commas, periods, and hyphens are kept, each run of whitespace is
+ * collapsed to its first character, and the name is trimmed and limited to
+ * {@value #MAXIMUM_NAME_LENGTH} characters (and trimmed again).
+ * <p>
+ * A character is whitespace if it is a unicode space, line, or paragraph
+ * separator, a tab, line feed, vertical tab, form feed, carriage return, or a
+ * next line (U+0085), and trimming removes the characters up to and including
+ * U+0020 from either end, as {@link String#trim()} does. The names are
+ * therefore exactly those of removing the characters not permitted with the
+ * unicode pattern {@code [^\p{L}\p{N}\s.,-]+}, collapsing whitespace with
+ * {@code (\s)\s+}, and trimming.
+ *
+ * @author Obi-Dan
+ */
+public final class PlayerNameSanitizer {
+
+	public static final int MAXIMUM_NAME_LENGTH = 50;
+
+	private static final String BLANK_NAME = "";
+	private static final int WHITESPACE_TYPES = (1 << Character.SPACE_SEPARATOR) | (1 << Character.LINE_SEPARATOR)
+			| (1 << Character.PARAGRAPH_SEPARATOR);
+	private static final int NUMBER_TYPES = (1 << Character.DECIMAL_DIGIT_NUMBER) | (1 << Character.LETTER_NUMBER)
+			| (1 << Character.OTHER_NUMBER);
+	private static final int LETTER_TYPES = (1 << Character.UPPERCASE_LETTER) | (1 << Character.LOWERCASE_LETTER)
+			| (1 << Character.TITLECASE_LETTER) | (1 << Character.MODIFIER_LETTER) | (1 << Character.OTHER_LETTER);
+	private static final char NEXT_LINE = '\u0085';
+
+	/**
+	 * Sanitizes a player name.
+	 *
+	 * @param line The line. This must never be null.
+	 * @return Non-null player name, which will be empty if the line holds no
+	 *         permitted characters other than whitespace.
+	 */
+	public String sanitize(final CharSequence line) {
+
+		final char[] chars = new char[line.length()];
+		for (int index = 0; index < chars.length; index++) {
+			chars[index] = line.charAt(index);
+		}
+
+		return sanitize(chars, 0, chars.length);
+	}
+
+	/**
+	 * Sanitizes the player name held in a range of a character array.
+	 *
+	 * @param chars The array of characters. This must never be null.
+	 * @param start The index of the first character of the line.
+	 * @param end   The index after the last character of the line.
+	 * @return Non-null player name, which will be empty if the line holds no
+	 *         permitted characters other than whitespace.
+	 */
+	public String sanitize(final char[] chars, final int start, final int end) {
+
+		final char[] name = new char[MAXIMUM_NAME_LENGTH];
+		int length = 0;
+		boolean previousWhitespace = false;
+
+		for (int index = start; index < end && length < MAXIMUM_NAME_LENGTH;) {
+			final int codePoint = Character.codePointAt(chars, index, end);
+			final int charCount = Character.charCount(codePoint);
+			final int type = Character.getType(codePoint);
+			final boolean whitespace = isWhitespace(codePoint, type);
+
+			if (whitespace ? !previousWhitespace : isPermitted(codePoint, type)) {
+
+				// Leading characters which trim would remove are skipped here, so the name
+				// is limited after the leading trim just as it is with substring.
+				for (int charIndex = index; charIndex < index + charCount
+						&& length < MAXIMUM_NAME_LENGTH; charIndex++) {
+					if (length > 0 || chars[charIndex] > ' ') {
+						name[length++] = chars[charIndex];
+					}
+				}
+				previousWhitespace = whitespace;
+			}
+
+			index += charCount;
+		}
+
+		while (length > 0 && name[length - 1] <= ' ') {
+			length--;
+		}
+
+		return length == 0 ? BLANK_NAME : new String(name, 0, length);
+	}
+
+	/**
+	 * @param codePoint The code point.
+	 * @param type      The unicode general category of the code point.
+	 * @return True if the code point is whitespace.
+	 */
+	private static boolean isWhitespace(final int codePoint, final int type) {
+
+		return ((WHITESPACE_TYPES >> type) & 1) != 0 || (codePoint >= '\t' && codePoint <= '\r')
+				|| codePoint == NEXT_LINE;
+	}
+
+	/**
+	 * @param codePoint The code point, which must not be whitespace.
+	 * @param type      The unicode general category of the code point.
+	 * @return True if the code point is a letter, a number, a period, a comma, or
+	 *         a hyphen.
+	 */
+	private static boolean isPermitted(final int codePoint, final int type) {
+
+		return (((LETTER_TYPES | NUMBER_TYPES) >> type) & 1) != 0 || codePoint == '.' || codePoint == ','
+				|| codePoint == '-';
+	}
+}
@@ -1,37 +1,33 @@
 package org.obidan.utility;
 
-import java.io.BufferedReader;
 import java.io.FileNotFoundException;
-import java.io.FileReader;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
- * Extracts player names from a file.
+ * Extracts player names from a file. The file is decoded with the default
+ * {@link Charset} through large NIO buffers (malformed input is replaced, as
+ * with a {@link java.io.FileReader}) and each line is sanitized by a
+ * {@link PlayerNameSanitizer} in a single pass.
  * 
  * @author Obi-Dan
  */
 public class PlayerNamesExtractor {
 
-	private static final short MAXIMUM_NAME_LENGTH = 50;
-	private static final String USE_UNICODE = "(?U)";
-	private static final String BEGIN_FIND = "[";
-	private static final String END_FIND = "]";
-	private static final String NOT = "^";
-	private static final String UNICODE_LETTER = "\\p{L}";
-	private static final String UNICODE_DIGIT = "\\p{N}";
-	private static final String WHITESPACE = "\\s";
-	private static final String PERMITTED_PUNCTUATION = ".,-";
-	private static final String FIND_ONE_OR_MORE = "+";
-	private static final String BEGIN_GROUP = "(";
-	private static final String END_GROUP = ")";
-	private static final String FIRST_GROUP = "$1";
-	private static final String PLAYER_NAME_CHARACTERS_NOT_PERMITTED = new StringBuilder(USE_UNICODE).append(BEGIN_FIND)
-			.append(NOT).append(UNICODE_LETTER).append(UNICODE_DIGIT).append(WHITESPACE).append(PERMITTED_PUNCTUATION)
-			.append(END_FIND).append(FIND_ONE_OR_MORE).toString();
-	private static final String DUPLICATE_WHITESPACE = new StringBuilder(USE_UNICODE).append(BEGIN_GROUP)
-			.append(WHITESPACE).append(END_GROUP).append(WHITESPACE).append(FIND_ONE_OR_MORE).toString();
+	private final PlayerNameSanitizer playerNameSanitizer = new PlayerNameSanitizer();
 
 	/**
 	 * Gets the player names from a file.
@@ -42,51 +38,99 @@ public class PlayerNamesExtractor {
 	 *         whitespace with the exception of a period, a comma, and a hyphen.
 	 * @throws FileNotFoundException When the file for the given file name cannot be
 	 *                               found.
-	 * @throws IOException           When the file cannot be closed properly.
+	 * @throws IOException           When the file cannot be read or closed
+	 *                               properly.
 	 */
 	public List<String> getPlayerNames(final String fileName) throws FileNotFoundException, IOException {
 
-		FileReader fileReader = null;
-		BufferedReader bufferedReader = null;
+		try (final Stream<String> playerNames = streamPlayerNames(fileName)) {
 
-		try {
+			return playerNames.collect(Collectors.toList());
+		} catch (final UncheckedIOException e) {
 
-			fileReader = new FileReader(fileName);
-			bufferedReader = new BufferedReader(fileReader);
+			throw e.getCause();
+		}
+	}
 
-			final List<String> playerNames = bufferedReader.lines()
-					.map(line -> line.replaceAll(PLAYER_NAME_CHARACTERS_NOT_PERMITTED, "")
-							.replaceAll(DUPLICATE_WHITESPACE, FIRST_GROUP).trim())
-					.filter(line -> !line.isEmpty())
-					.map(line -> line.length() <= MAXIMUM_NAME_LENGTH ? line
-							: line.substring(0, MAXIMUM_NAME_LENGTH).trim())
-					.filter(line -> !line.isEmpty()).collect(Collectors.toList());
+	/**
+	 * Streams the player names from a file. Lines are read only as the
+	 * {@link Stream} is consumed, so files of any number of players may be read
+	 * in bounded memory.
+	 * 
+	 * @param fileName The file name. This must never be null.
+	 * @return Non-null {@link Stream} of non-blank player names, which must be
+	 *         closed to close the file. Note that the player names will only
+	 *         contain unicode characters, digits, and whitespace with the
+	 *         exception of a period, a comma, and a hyphen. An
+	 *         {@link UncheckedIOException} is thrown if the file cannot be read or
+	 *         closed.
+	 * @throws FileNotFoundException When the file for the given file name cannot be
+	 *                               found.
+	 */
+	public Stream<String> streamPlayerNames(final String fileName) throws FileNotFoundException {
+
+		final PlayerNameReader playerNameReader = openPlayerNameReader(fileName);
 
-			return playerNames;
-		} catch (final FileNotFoundException e) {
+		return StreamSupport.stream(new Spliterators.AbstractSpliterator<String>(Long.MAX_VALUE,
+				Spliterator.ORDERED | Spliterator.NONNULL) {
 
-			throw e;
-		} finally {
+			/**
+			 * {@inheritDoc}
+			 */
+			@Override
+			public boolean tryAdvance(final Consumer<? super String> action) {
 
-			if (bufferedReader != null) {
+				final String playerName;
 				try {
 
-					bufferedReader.close();
+					playerName = playerNameReader.readPlayerName();
 				} catch (final IOException e) {
 
-					throw e;
+					throw new UncheckedIOException(e);
 				}
-			}
 
-			if (fileReader != null) {
-				try {
+				if (playerName == null) {
+					return false;
+				}
 
-					fileReader.close();
-				} catch (final IOException e) {
+				action.accept(playerName);
+				return true;
+			}
+		}, false).onClose(() -> {
+			try {
 
-					throw e;
-				}
+				playerNameReader.close();
+			} catch (final IOException e) {
+
+				throw new UncheckedIOException(e);
 			}
+		});
+	}
+
+	/**
+	 * Opens a {@link PlayerNameReader} of a file.
+	 * 
+	 * @param fileName The file name. This must never be null.
+	 * @return Non-null {@link PlayerNameReader}.
+	 * @throws FileNotFoundException When the file for the given file name cannot be
+	 *                               found or opened.
+	 */
+	private PlayerNameReader openPlayerNameReader(final String fileName) throws FileNotFoundException {
+
+		final FileChannel fileChannel;
+		try {
+
+			fileChannel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ);
+		} catch (final IOException | InvalidPathException e) {
+
+			final FileNotFoundException fileNotFoundException = new FileNotFoundException(fileName);
+			fileNotFoundException.initCause(e);
+			throw fileNotFoundException;
 		}
+
+		return new PlayerNameReader(fileChannel,
+				Charset.defaultCharset().newDecoder().onMalformedInput(CodingErrorAction.REPLACE)
+						.onUnmappableCharacter(CodingErrorAction.REPLACE),
+				this.playerNameSanitizer);
 	}
-}
\ No newline at end of file
+}
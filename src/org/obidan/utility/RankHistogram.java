@@ -0,0 +1,248 @@
+package org.obidan.utility;
+
+import java.util.List;
+
+import org.obidan.object.Card;
+import org.obidan.type.FaceValue;
+
+/**
+ * Histogram of the ranks ({@link FaceValue}s) of a collection of cards, held as
+ * a 13-bit mask of the ranks present and the number of cards of each rank
+ * packed into a single long. Straights, the sizes of the groups of cards with
+ * the same rank, and the order of those groups are all derived from these
+ * without creating any collections.
+ * <p>
+ * Groups are ordered with the largest group first, down to the smallest group.
+ * After being ordered by size the groups are ordered by rank (for instance, if
+ * there are two pairs the higher pair comes first).
+ *
+ * @author Obi-Dan
+ */
+public final class RankHistogram {
+
+	public static final int NUMBER_OF_RANKS = 13;
+	public static final int MAXIMUM_CARDS_PER_RANK = 7;
+	public static final int RANK_COUNT_BITS = 3;
+
+	private static final int RANK_COUNT_MASK = (1 << RANK_COUNT_BITS) - 1;
+	private static final int GROUP_RANK_INDEX_BITS = 4;
+	private static final int GROUP_RANK_INDEX_MASK = (1 << GROUP_RANK_INDEX_BITS) - 1;
+	private static final int STRAIGHT_MASK = 0b1_1111;
+	private static final int FIVE_HIGH_STRAIGHT_MASK = 0b1_0000_0000_1111;
+	private static final int FIVE_RANK_INDEX = 3;
+
+	private final int numberOfCards;
+	private final int rankMask;
+	private final long rankCounts;
+	private final long groupRankIndexes;
+
+	/**
+	 * Constructs a {@link RankHistogram}.
+	 *
+	 * @param numberOfCards    The number of cards.
+	 * @param rankMask         The 13-bit mask of the ranks present.
+	 * @param rankCounts       The number of cards of each rank, packed
+	 *                         {@value #RANK_COUNT_BITS} bits per rank index.
+	 * @param groupRankIndexes The rank index of each group in group order, packed
+	 *                         four bits per group with the first group in the
+	 *                         lowest bits.
+	 */
+	private RankHistogram(final int numberOfCards, final int rankMask, final long rankCounts,
+			final long groupRankIndexes) {
+
+		this.numberOfCards = numberOfCards;
+		this.rankMask = rankMask;
+		this.rankCounts = rankCounts;
+		this.groupRankIndexes = groupRankIndexes;
+	}
+
+	/**
+	 * Creates a {@link RankHistogram}.
+	 *
+	 * @param cards The {@link List} of {@link Card}s. This must never be null or
+	 *              contain null values, and must contain no more than
+	 *              {@value #MAXIMUM_CARDS_PER_RANK} cards of any rank.
+	 * @return Non-null {@link RankHistogram}.
+	 */
+	public static RankHistogram create(final List<Card> cards) {
+
+		int rankMask = 0;
+		long rankCounts = 0;
+		int largestRankCount = 0;
+
+		for (int index = 0; index < cards.size(); index++) {
+			final int rankIndex = cards.get(index).getRankIndex();
+			rankMask |= 1 << rankIndex;
+			rankCounts += 1L << (rankIndex * RANK_COUNT_BITS);
+			largestRankCount = Math.max(largestRankCount,
+					(int) (rankCounts >>> (rankIndex * RANK_COUNT_BITS)) & RANK_COUNT_MASK);
+		}
+
+		return new RankHistogram(cards.size(), rankMask, rankCounts, orderGroups(rankCounts, largestRankCount));
+	}
+
+	/**
+	 * Creates a {@link RankHistogram} from the number of cards of each rank, such
+	 * as the rank counts an evaluator has already accumulated from card codes.
+	 *
+	 * @param numberOfCards The number of cards.
+	 * @param rankCounts    The number of cards of each rank, packed
+	 *                      {@value #RANK_COUNT_BITS} bits per rank index with a
+	 *                      two in the lowest bits. No rank may have more than
+	 *                      {@value #MAXIMUM_CARDS_PER_RANK} cards.
+	 * @return Non-null {@link RankHistogram}.
+	 */
+	public static RankHistogram create(final int numberOfCards, final long rankCounts) {
+
+		int rankMask = 0;
+		int largestRankCount = 0;
+
+		for (int rankIndex = 0; rankIndex < NUMBER_OF_RANKS; rankIndex++) {
+			final int rankCount = (int) (rankCounts >>> (rankIndex * RANK_COUNT_BITS)) & RANK_COUNT_MASK;
+			if (rankCount > 0) {
+				rankMask |= 1 << rankIndex;
+				largestRankCount = Math.max(largestRankCount, rankCount);
+			}
+		}
+
+		return new RankHistogram(numberOfCards, rankMask, rankCounts, orderGroups(rankCounts, largestRankCount));
+	}
+
+	/**
+	 * @param rankCounts       The number of cards of each rank, packed
+	 *                         {@value #RANK_COUNT_BITS} bits per rank index.
+	 * @param largestRankCount The number of cards of the most common rank.
+	 * @return The rank index of each group in group order, packed four bits per
+	 *         group with the first group in the lowest bits.
+	 */
+	private static long orderGroups(final long rankCounts, final int largestRankCount) {
+
+		long groupRankIndexes = 0;
+		int groupIndex = 0;
+		for (int groupSize = largestRankCount; groupSize > 0; groupSize--) {
+			for (int rankIndex = NUMBER_OF_RANKS - 1; rankIndex >= 0; rankIndex--) {
+				if (((rankCounts >>> (rankIndex * RANK_COUNT_BITS)) & RANK_COUNT_MASK) == groupSize) {
+					groupRankIndexes |= (long) rankIndex << (groupIndex++ * GROUP_RANK_INDEX_BITS);
+				}
+			}
+		}
+
+		return groupRankIndexes;
+	}
+
+	/**
+	 * Finds the highest straight in a mask of ranks. An ace is high unless it
+	 * completes a five-high straight.
+	 *
+	 * @param rankMask The 13-bit mask of ranks.
+	 * @return The rank index of the highest card of the highest straight, or -1 if
+	 *         there is no straight.
+	 */
+	public static int findHighestStraight(final int rankMask) {
+
+		for (int highestRankIndex = NUMBER_OF_RANKS - 1; highestRankIndex > FIVE_RANK_INDEX; highestRankIndex--) {
+			if (((rankMask >>> (highestRankIndex - 4)) & STRAIGHT_MASK) == STRAIGHT_MASK) {
+				return highestRankIndex;
+			}
+		}
+
+		if ((rankMask & FIVE_HIGH_STRAIGHT_MASK) == FIVE_HIGH_STRAIGHT_MASK) {
+			return FIVE_RANK_INDEX;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * @return The number of cards.
+	 */
+	public int getNumberOfCards() {
+
+		return this.numberOfCards;
+	}
+
+	/**
+	 * @return The 13-bit mask of the ranks present, where bit 0 is a two and bit
+	 *         12 is an ace.
+	 */
+	public int getRankMask() {
+
+		return this.rankMask;
+	}
+
+	/**
+	 * @return The number of cards of each rank, packed {@value #RANK_COUNT_BITS}
+	 *         bits per rank index with a two in the lowest bits.
+	 */
+	public long getRankCounts() {
+
+		return this.rankCounts;
+	}
+
+	/**
+	 * @param rankIndex The rank index, between 0 (a two) and 12 (an ace).
+	 * @return The number of cards of the rank.
+	 */
+	public int getRankCount(final int rankIndex) {
+
+		return (int) (this.rankCounts >>> (rankIndex * RANK_COUNT_BITS)) & RANK_COUNT_MASK;
+	}
+
+	/**
+	 * @return The number of groups of cards with the same rank, which is the
+	 *         number of distinct ranks.
+	 */
+	public int getGroupCount() {
+
+		return Integer.bitCount(this.rankMask);
+	}
+
+	/**
+	 * @param groupIndex The index of the group. This must be less than the group
+	 *                   count.
+	 * @return The rank index of the group.
+	 */
+	public int getGroupRankIndex(final int groupIndex) {
+
+		return (int) (this.groupRankIndexes >>> (groupIndex * GROUP_RANK_INDEX_BITS)) & GROUP_RANK_INDEX_MASK;
+	}
+
+	/**
+	 * @param groupIndex The index of the group. This must be less than the group
+	 *                   count.
+	 * @return The number of cards in the group.
+	 */
+	public int getGroupSize(final int groupIndex) {
+
+		return getRankCount(getGroupRankIndex(groupIndex));
+	}
+
+	/**
+	 * @return The rank index of the highest card of the highest straight which can
+	 *         be made from the ranks present, or -1 if there is no straight.
+	 */
+	public int getHighestStraightRankIndex() {
+
+		return findHighestStraight(this.rankMask);
+	}
+
+	/**
+	 * @return True if the ranks are exactly an ace, five, four, three, and two, in
+	 *         which case the ace is low.
+	 */
+	public boolean isFiveHighStraight() {
+
+		return this.rankMask == FIVE_HIGH_STRAIGHT_MASK && this.numberOfCards == 5;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+
+		return new StringBuilder("RankHistogram[numberOfCards=").append(this.numberOfCards).append(",rankMask=")
+				.append(Integer.toBinaryString(this.rankMask)).append(",rankCounts=")
+				.append(Long.toOctalString(this.rankCounts)).append("]").toString();
+	}
+}
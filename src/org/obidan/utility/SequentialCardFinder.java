@@ -1,12 +1,10 @@
 package org.obidan.utility;
 
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.obidan.object.Card;
-import org.obidan.type.FaceValue;
 
 /**
  * Finds sequential cards in a collection of cards.
@@ -30,63 +28,82 @@ public class SequentialCardFinder {
 	 */
 	public List<List<Card>> getSequentialCardCollections(final List<Card> cards) {
 
-		final List<Card> sortedCards = cards.stream().sorted((card1, card2) -> Integer
-				.compare(card1.getFaceValue().getNumericValue(), card2.getFaceValue().getNumericValue()))
-				.collect(Collectors.toList());
+		return getSequentialCardCollections(cards, RankHistogram.create(cards));
+	}
+
+	/**
+	 * Gets a collection of the lists of sequential cards (ignoring suit) using an
+	 * already created {@link RankHistogram} of the cards. The cards are visited
+	 * by rank from the {@link RankHistogram}, so no sorting is needed.
+	 * 
+	 * @param cards         The list of cards from which to get the sequential
+	 *                      cards. This must never be null or empty or contain null
+	 *                      values.
+	 * @param rankHistogram The {@link RankHistogram} of the given cards. This must
+	 *                      never be null.
+	 * @return Non-null, non-empty list of sequential card collections, which will
+	 *         contain one or more non-null {@link Card}s. All lists will be sorted
+	 *         from highest to lowest. Cards of the same rank are listed in the
+	 *         reverse of their order in the given cards.
+	 */
+	public List<List<Card>> getSequentialCardCollections(final List<Card> cards, final RankHistogram rankHistogram) {
+
+		// An ace is only low in a five-high straight, which is handled as a special
+		// case to reduce the complexity of this application.
+		if (rankHistogram.isFiveHighStraight()) {
+			final List<Card> sequentialCards = new ArrayList<>(cards.size());
+			addCardsOfRank(cards, 3, sequentialCards);
+			addCardsOfRank(cards, 2, sequentialCards);
+			addCardsOfRank(cards, 1, sequentialCards);
+			addCardsOfRank(cards, 0, sequentialCards);
+			addCardsOfRank(cards, RankHistogram.NUMBER_OF_RANKS - 1, sequentialCards);
+			return Collections.singletonList(sequentialCards);
+		}
 
 		final List<List<Card>> sequentialCardCollections = new ArrayList<>();
 		List<Card> sequentialCards = null;
+		int previousRankIndex = -1;
 
-		for (int index = sortedCards.size() - 1; index >= 0; index--) {
-			final Card previousCard = index < sortedCards.size() - 1 ? sortedCards.get(index + 1) : null;
-			final Card card = sortedCards.get(index);
+		for (int rankIndex = RankHistogram.NUMBER_OF_RANKS - 1; rankIndex >= 0; rankIndex--) {
+			if (rankHistogram.getRankCount(rankIndex) == 0) {
+				continue;
+			}
+
+			for (int index = cards.size() - 1; index >= 0; index--) {
+				final Card card = cards.get(index);
+				if (card.getRankIndex() != rankIndex) {
+					continue;
+				}
+
+				if (previousRankIndex - 1 != rankIndex) {
+					sequentialCards = new ArrayList<>();
+					sequentialCardCollections.add(sequentialCards);
+				}
 
-			if (previousCard != null
-					&& previousCard.getFaceValue().getNumericValue() - 1 == card.getFaceValue().getNumericValue()) {
-				sequentialCards.add(card);
-			} else {
-				sequentialCards = new ArrayList<>();
-				sequentialCardCollections.add(sequentialCards);
 				sequentialCards.add(card);
+				previousRankIndex = rankIndex;
 			}
 		}
 
-		return adjustCardCollectionsForLowAce(sequentialCardCollections);
+		return sequentialCardCollections;
 	}
 
 	/**
-	 * Adjusts the card collections for cases when the ace should be low (for
-	 * instance, a five-high straight with a 5, 4, 3, 2, and an ace). This is
-	 * handled as special cases to reduce the complexity of this application.
+	 * Adds the cards of a rank to a list in the reverse of their order in the
+	 * given cards.
 	 * 
-	 * @param sequentialCardCollections The list of {@link Card} lists. This must
-	 *                                  never be null or contain null values.
-	 * @return Non-null, non-empty list of sequential card collections, which will
-	 *         contain one or more non-null {@link Card}s. All lists will be sorted
-	 *         from highest to lowest and the cases for a low ace will be taken into
-	 *         account.
+	 * @param cards           The list of cards. This must never be null.
+	 * @param rankIndex       The rank index of the cards to add.
+	 * @param sequentialCards The list to add the cards to. This must never be
+	 *                        null.
 	 */
-	private List<List<Card>> adjustCardCollectionsForLowAce(final List<List<Card>> sequentialCardCollections) {
+	private void addCardsOfRank(final List<Card> cards, final int rankIndex, final List<Card> sequentialCards) {
 
-		// Only a five-high straight is currently handled, which is guaranteed to have
-		// exactly two lists of cards.
-		if (sequentialCardCollections.size() != 2) {
-			return sequentialCardCollections;
-		}
-
-		final List<Card> firstCardCollection = sequentialCardCollections.get(0);
-		if (firstCardCollection.size() != 1 || firstCardCollection.get(0).getFaceValue() != FaceValue.ACE) {
-			return sequentialCardCollections;
-		}
-
-		final List<Card> secondCardCollection = sequentialCardCollections.get(1);
-		if (secondCardCollection.size() != 4 || secondCardCollection.get(0).getFaceValue() != FaceValue.FIVE) {
-			return sequentialCardCollections;
+		for (int index = cards.size() - 1; index >= 0; index--) {
+			final Card card = cards.get(index);
+			if (card.getRankIndex() == rankIndex) {
+				sequentialCards.add(card);
+			}
 		}
-
-		final List<Card> cardCollection = new ArrayList<>(secondCardCollection);
-		cardCollection.addAll(firstCardCollection);
-
-		return Arrays.asList(cardCollection);
 	}
-}
\ No newline at end of file
+}
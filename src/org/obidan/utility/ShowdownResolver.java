@@ -0,0 +1,98 @@
+package org.obidan.utility;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.obidan.handrank.HandStrength;
+import org.obidan.object.Player;
+import org.obidan.type.WinningStatus;
+
+/**
+ * Resolves the showdown of a game: which {@link Player}s won, tied, or lost.
+ * The winners are found in one linear pass over the {@link HandStrength} each
+ * {@link Player} computed when it was created, rather than by sorting, so
+ * resolving a showdown of many seats costs a comparison per seat. A full
+ * ranking, which must sort, is only built when it is asked for.
+ * 
+ * @author Obi-Dan
+ */
+public class ShowdownResolver {
+
+	private final PlayerComparator playerComparator;
+
+	/**
+	 * Constructs a {@link ShowdownResolver}.
+	 * 
+	 * @param playerComparator The {@link PlayerComparator} the {@link Player}s are
+	 *                         ranked with. This must never be null.
+	 */
+	public ShowdownResolver(final PlayerComparator playerComparator) {
+
+		this.playerComparator = playerComparator;
+	}
+
+	/**
+	 * Gives every {@link Player} a {@link WinningStatus}: {@link WinningStatus#WON}
+	 * to a sole best hand, {@link WinningStatus#TIED} to each of several equal best
+	 * hands, and {@link WinningStatus#LOSER} to everyone else.
+	 * 
+	 * @param players The {@link List} of {@link Player}s. This must never be null
+	 *                or contain null values.
+	 * @return The number of {@link Player}s with the best hand, which is zero only
+	 *         if there are no {@link Player}s.
+	 */
+	public int resolve(final List<Player> players) {
+
+		int bestHandStrength = -1;
+		int numberOfWinners = 0;
+		for (int index = 0; index < players.size(); index++) {
+			final int handStrength = players.get(index).getHandStrength();
+			if (handStrength > bestHandStrength) {
+				bestHandStrength = handStrength;
+				numberOfWinners = 1;
+			} else if (handStrength == bestHandStrength) {
+				numberOfWinners++;
+			}
+		}
+
+		final WinningStatus winningStatus = numberOfWinners == 1 ? WinningStatus.WON : WinningStatus.TIED;
+		for (int index = 0; index < players.size(); index++) {
+			final Player player = players.get(index);
+			player.setWinningStatus(player.getHandStrength() == bestHandStrength ? winningStatus
+					: WinningStatus.LOSER);
+		}
+
+		return numberOfWinners;
+	}
+
+	/**
+	 * Resolves the showdown as {@link #resolve(List)} does and ranks every
+	 * {@link Player}.
+	 * 
+	 * @param players The {@link List} of {@link Player}s. This must never be null
+	 *                or contain null values.
+	 * @return Non-null, possibly empty {@link List} of tie groups, best hand first.
+	 *         Each tie group is a non-empty {@link List} of the {@link Player}s
+	 *         with equal hands, in the order they were given.
+	 */
+	public List<List<Player>> rank(final List<Player> players) {
+
+		resolve(players);
+
+		final List<Player> sortedPlayers = new ArrayList<>(players);
+		sortedPlayers.sort(this.playerComparator);
+
+		final List<List<Player>> tieGroups = new ArrayList<>();
+		int groupStart = 0;
+		for (int index = 1; index <= sortedPlayers.size(); index++) {
+			if (index == sortedPlayers.size()
+					|| this.playerComparator.compare(sortedPlayers.get(groupStart), sortedPlayers.get(index)) != 0) {
+				tieGroups.add(Collections.unmodifiableList(sortedPlayers.subList(groupStart, index)));
+				groupStart = index;
+			}
+		}
+
+		return tieGroups;
+	}
+}
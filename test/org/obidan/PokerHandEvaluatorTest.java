@@ -0,0 +1,100 @@
+package org.obidan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.obidan.handrank.LookupTableHandRankEvaluator;
+import org.obidan.object.PlayerFactory;
+import org.obidan.object.ThreadLocalDeckProvider;
+import org.obidan.random.Xoroshiro128PlusPlusRandomSource;
+import org.obidan.simulation.GameSimulator;
+import org.obidan.table.TableGame;
+import org.obidan.table.TableResult;
+import org.obidan.table.TableRunner;
+import org.obidan.utility.ArgumentExtractor;
+import org.obidan.utility.CardFaceValueGrouper;
+import org.obidan.utility.PlayerComparator;
+import org.obidan.utility.PlayerNamesExtractor;
+import org.obidan.utility.SequentialCardFinder;
+import org.obidan.utility.ShowdownResolver;
+
+/**
+ * Unit tests for the {@link PokerHandEvaluator} class.
+ *
+ * @author Obi-Dan
+ */
+class PokerHandEvaluatorTest {
+
+	/**
+	 * Tests that {@link PokerHandEvaluator#evaluate(String[])} refuses the
+	 * {@value PokerHandEvaluator#TABLES_OPTION} option with the
+	 * {@value PokerHandEvaluator#SIMULATE_OPTION} option, without playing any
+	 * tables.
+	 *
+	 * @throws IOException If the file of players cannot be written.
+	 */
+	@Test
+	void test_evaluate_TablesWithSimulate() throws IOException {
+		final Path file = Files.createTempFile("players", ".txt");
+		try {
+			Files.write(file, Arrays.asList("Alice", "Bob", "Carol"), StandardCharsets.UTF_8);
+
+			final String output = evaluate(file.toString(), "--tables", "--simulate=1000", "--seed=1");
+
+			assertEquals("The --tables option is not supported with --simulate, which simulates the games of a single"
+					+ " table of players." + System.lineSeparator(), output);
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	/**
+	 * Evaluates the arguments with a {@link TableRunner} which fails if any table
+	 * is played.
+	 *
+	 * @param arguments The array of arguments. This must never be null.
+	 * @return Non-null text printed to standard output.
+	 * @throws UnsupportedEncodingException If UTF-8 is not supported.
+	 */
+	private static String evaluate(final String... arguments) throws UnsupportedEncodingException {
+		final ThreadLocalDeckProvider deckProvider = new ThreadLocalDeckProvider();
+		final TableRunner tableRunner = new TableRunner(ForkJoinPool.commonPool(), 1) {
+
+			@Override
+			public long run(final Iterator<String> playerNames, final int playersPerTable, final long seed,
+					final TableGame tableGame, final Consumer<TableResult> consumer) {
+				throw new AssertionError("A table was played.");
+			}
+		};
+		final PokerHandEvaluator pokerHandEvaluator = new PokerHandEvaluator(new ArgumentExtractor(),
+				new PlayerNamesExtractor(), new PlayerFactory(new SequentialCardFinder(), new CardFaceValueGrouper(),
+						new LookupTableHandRankEvaluator()),
+				new ShowdownResolver(new PlayerComparator()), Xoroshiro128PlusPlusRandomSource::create, deckProvider,
+				new GameSimulator(new LookupTableHandRankEvaluator(), Xoroshiro128PlusPlusRandomSource::create,
+						deckProvider, ForkJoinPool.commonPool()),
+				tableRunner);
+
+		final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		final PrintStream standardOutput = System.out;
+		System.setOut(new PrintStream(outputStream, true, StandardCharsets.UTF_8.name()));
+		try {
+			pokerHandEvaluator.evaluate(arguments);
+		} finally {
+			System.setOut(standardOutput);
+		}
+
+		return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,109 @@
+package org.obidan.batch;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+import org.obidan.handrank.HandStrength;
+import org.obidan.handrank.LookupTableHandRankEvaluator;
+import org.obidan.handrank.ScalarBatchHandStrengthEvaluator;
+import org.obidan.type.HandRank;
+
+/**
+ * Unit tests for the {@link HandFileEvaluator} class.
+ *
+ * @author Obi-Dan
+ */
+class HandFileEvaluatorTest {
+
+	private final HandFileEvaluator handFileEvaluator = new HandFileEvaluator(
+			new ScalarBatchHandStrengthEvaluator(new LookupTableHandRankEvaluator()), ForkJoinPool.commonPool(), 2);
+
+	/**
+	 * Tests that {@link HandFileEvaluator#evaluate(Path, HandFileFormat, Path)}
+	 * writes one line per line of a text file, in order, marking the lines which
+	 * are not valid hands.
+	 *
+	 * @throws IOException If a temporary file cannot be used.
+	 */
+	@Test
+	void test_evaluate_Text() throws IOException {
+		final Path input = Files.createTempFile("hands", ".txt");
+		final Path output = Files.createTempFile("strengths", ".txt");
+		try {
+			Files.write(input, asList("As Ks Qs Js 10s", "2c,2d,2h,9s,9c", "Ah Kh 7d 7c 2s 3s 4s", "As As Ks Qs Js",
+					"Xx 2c 3c 4c 5c", "3\u2666 3\u2663 3\u2665 3\u2660 K\u2660\r"), StandardCharsets.UTF_8);
+
+			final HandFileResult handFileResult = this.handFileEvaluator.evaluate(input, HandFileFormat.TEXT, output);
+
+			final List<String> lines = Files.readAllLines(output, StandardCharsets.US_ASCII);
+			assertEquals(asList(HandStrength.create(HandStrength.STRAIGHT_FLUSH, 12) + "\tSTRAIGHT_FLUSH",
+					HandStrength.create(HandStrength.FULL_HOUSE, 0, 7) + "\tFULL_HOUSE",
+					HandStrength.create(HandStrength.ONE_PAIR, 5, 12, 11, 2) + "\tONE_PAIR", "-1\tINVALID",
+					"-1\tINVALID", HandStrength.create(HandStrength.FOUR_OF_A_KIND, 1, 11) + "\tFOUR_OF_A_KIND"),
+					lines);
+			assertEquals(4, handFileResult.getHandCount());
+			assertEquals(2, handFileResult.getInvalidHandCount());
+			assertEquals(1, handFileResult.getHandCount(HandRank.FULL_HOUSE));
+		} finally {
+			Files.delete(input);
+			Files.delete(output);
+		}
+	}
+
+	/**
+	 * Tests that {@link HandFileEvaluator#evaluate(Path, HandFileFormat, Path)}
+	 * gives binary records of fewer than seven cards the same strengths as text.
+	 *
+	 * @throws IOException If a temporary file cannot be used.
+	 */
+	@Test
+	void test_evaluate_Binary() throws IOException {
+		final Path input = Files.createTempFile("hands", ".bin");
+		final Path output = Files.createTempFile("strengths", ".txt");
+		try {
+			Files.write(input, new byte[] { 12, 11, 10, 9, 8, (byte) 0xFF, (byte) 0xFF, 0, 13, 26, 39, 1, 14, 27, 0,
+					1, 2, 3, 4, 5, 5 });
+
+			this.handFileEvaluator.evaluate(input, HandFileFormat.BINARY, output);
+
+			assertEquals(asList(HandStrength.create(HandStrength.STRAIGHT_FLUSH, 12) + "\tSTRAIGHT_FLUSH",
+					HandStrength.create(HandStrength.FOUR_OF_A_KIND, 0, 1) + "\tFOUR_OF_A_KIND", "-1\tINVALID"),
+					Files.readAllLines(output, StandardCharsets.US_ASCII));
+		} finally {
+			Files.delete(input);
+			Files.delete(output);
+		}
+	}
+
+	/**
+	 * Tests that {@link HandFileEvaluator#evaluate(Path, HandFileFormat, Path)}
+	 * refuses to write the output over the file of hands and leaves the file of
+	 * hands as it was.
+	 *
+	 * @throws IOException If a temporary file cannot be used.
+	 */
+	@Test
+	void test_evaluate_OutputIsInput() throws IOException {
+		final Path input = Files.createTempFile("hands", ".txt");
+		try {
+			final List<String> hands = asList("As Ks Qs Js 10s", "2c 2d 2h 9s 9c");
+			Files.write(input, hands, StandardCharsets.US_ASCII);
+
+			assertThrows(IllegalArgumentException.class, () -> this.handFileEvaluator.evaluate(input,
+					HandFileFormat.TEXT, input.getParent().resolve(".").resolve(input.getFileName())));
+
+			assertEquals(hands, Files.readAllLines(input, StandardCharsets.US_ASCII));
+		} finally {
+			Files.delete(input);
+		}
+	}
+}
@@ -0,0 +1,98 @@
+package org.obidan.enumeration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+import org.obidan.handrank.LookupTableHandRankEvaluator;
+import org.obidan.type.HandRank;
+
+/**
+ * Unit tests for the {@link ExhaustiveEnumerator} class.
+ *
+ * @author Obi-Dan
+ */
+class ExhaustiveEnumeratorTest {
+
+	private static final long NUMBER_OF_FIVE_CARD_HANDS = 2_598_960;
+
+	private final ExhaustiveEnumerator exhaustiveEnumerator = new ExhaustiveEnumerator(ForkJoinPool.commonPool());
+	private final LookupTableHandRankEvaluator lookupTableHandRankEvaluator = new LookupTableHandRankEvaluator();
+	private final CardCodeEvaluator lookupTableEvaluator = (codes,
+			numberOfCards) -> this.lookupTableHandRankEvaluator.evaluateHandStrength(codes, 0, numberOfCards);
+
+	/**
+	 * Tests that {@link ExhaustiveEnumerator#enumerate(int, CardCodeEvaluator)}
+	 * visits every five card hand once and counts the well known number of hands
+	 * of each {@link HandRank}.
+	 */
+	@Test
+	void test_enumerate_FiveCards() {
+		final EnumerationResult enumerationResult = this.exhaustiveEnumerator.enumerate(5, this.lookupTableEvaluator);
+
+		assertEquals(5, enumerationResult.getNumberOfCards());
+		assertEquals(NUMBER_OF_FIVE_CARD_HANDS, enumerationResult.getHandCount());
+		assertEquals(0, enumerationResult.getHandCount(HandRank.FIVE_OF_A_KIND));
+		assertEquals(40, enumerationResult.getHandCount(HandRank.STRAIGHT_FLUSH));
+		assertEquals(624, enumerationResult.getHandCount(HandRank.FOUR_OF_A_KIND));
+		assertEquals(3_744, enumerationResult.getHandCount(HandRank.FULL_HOUSE));
+		assertEquals(5_108, enumerationResult.getHandCount(HandRank.FLUSH));
+		assertEquals(10_200, enumerationResult.getHandCount(HandRank.STRAIGHT));
+		assertEquals(54_912, enumerationResult.getHandCount(HandRank.THREE_OF_A_KIND));
+		assertEquals(123_552, enumerationResult.getHandCount(HandRank.TWO_PAIR));
+		assertEquals(1_098_240, enumerationResult.getHandCount(HandRank.ONE_PAIR));
+		assertEquals(1_302_540, enumerationResult.getHandCount(HandRank.HIGH_CARD));
+	}
+
+	/**
+	 * Tests that
+	 * {@link ExhaustiveEnumerator#verify(int, CardCodeEvaluator, CardCodeEvaluator)}
+	 * finds no mismatches between an evaluator and itself.
+	 */
+	@Test
+	void test_verify_SameEvaluator() {
+		final VerificationResult verificationResult = this.exhaustiveEnumerator.verify(5,
+				this.lookupTableEvaluator, this.lookupTableEvaluator);
+
+		assertEquals(NUMBER_OF_FIVE_CARD_HANDS, verificationResult.getHandCount());
+		assertEquals(0, verificationResult.getMismatchCount());
+		assertTrue(verificationResult.getSampleMismatches().isEmpty());
+		assertTrue(verificationResult.isVerified());
+	}
+
+	/**
+	 * Tests that
+	 * {@link ExhaustiveEnumerator#verify(int, CardCodeEvaluator, CardCodeEvaluator)}
+	 * counts every hand a candidate evaluator gets wrong, here every hand holding
+	 * the card with code zero, and keeps only a sample of them.
+	 */
+	@Test
+	void test_verify_DifferentEvaluator() {
+		final CardCodeEvaluator candidateEvaluator = (codes, numberOfCards) -> this.lookupTableEvaluator
+				.evaluateHandStrength(codes, numberOfCards) + (codes[0] == 0 ? 1 : 0);
+
+		final VerificationResult verificationResult = this.exhaustiveEnumerator.verify(5,
+				this.lookupTableEvaluator, candidateEvaluator);
+
+		assertEquals(NUMBER_OF_FIVE_CARD_HANDS, verificationResult.getHandCount());
+		assertEquals(51L * 50 * 49 * 48 / 24, verificationResult.getMismatchCount());
+		assertEquals(10, verificationResult.getSampleMismatches().size());
+		assertFalse(verificationResult.isVerified());
+	}
+
+	/**
+	 * Tests that {@link ExhaustiveEnumerator#enumerate(int, CardCodeEvaluator)}
+	 * refuses hands of fewer than five or more than seven cards.
+	 */
+	@Test
+	void test_enumerate_UnsupportedNumberOfCards() {
+		assertThrows(IllegalArgumentException.class,
+				() -> this.exhaustiveEnumerator.enumerate(4, this.lookupTableEvaluator));
+		assertThrows(IllegalArgumentException.class,
+				() -> this.exhaustiveEnumerator.verify(8, this.lookupTableEvaluator, this.lookupTableEvaluator));
+	}
+}
@@ -0,0 +1,105 @@
+package org.obidan.equity;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.obidan.object.Card.create;
+import static org.obidan.type.FaceValue.ACE;
+import static org.obidan.type.FaceValue.KING;
+import static org.obidan.type.FaceValue.NINE;
+import static org.obidan.type.FaceValue.SEVEN;
+import static org.obidan.type.FaceValue.THREE;
+import static org.obidan.type.FaceValue.TWO;
+import static org.obidan.type.Suit.CLUBS;
+import static org.obidan.type.Suit.DIAMONDS;
+import static org.obidan.type.Suit.HEARTS;
+import static org.obidan.type.Suit.SPADES;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+import org.obidan.handrank.LookupTableHandRankEvaluator;
+
+/**
+ * Unit tests for the {@link ExactEquityCalculator} class.
+ *
+ * @author Obi-Dan
+ */
+class ExactEquityCalculatorTest {
+
+	private final ExactEquityCalculator exactEquityCalculator = new ExactEquityCalculator(
+			new LookupTableHandRankEvaluator());
+
+	/**
+	 * Tests that when {@link ExactEquityCalculator#calculate(EquityQuery)} is
+	 * called with pocket aces against pocket kings before the flop that every one
+	 * of the 1,712,304 runouts is scored and the exact equities are returned.
+	 */
+	@Test
+	void test_calculate_AcesAgainstKingsBeforeTheFlop() {
+		final EquityQuery equityQuery = EquityQuery.create(
+				asList(asList(create(SPADES, ACE), create(HEARTS, ACE)),
+						asList(create(CLUBS, KING), create(DIAMONDS, KING))),
+				emptyList(), emptyList());
+
+		final EquityResult equityResult = this.exactEquityCalculator.calculate(equityQuery);
+
+		assertEquals(1_712_304, equityResult.getNumberOfRunouts());
+		assertEquals(0.8125549, equityResult.getPlayerEquity(0).getEquity(), 1e-7);
+		assertEquals(0.1874451, equityResult.getPlayerEquity(1).getEquity(), 1e-7);
+	}
+
+	/**
+	 * Tests that when {@link ExactEquityCalculator#calculate(EquityQuery)} is
+	 * called on the turn that the kings win only on the two remaining kings.
+	 */
+	@Test
+	void test_calculate_AcesAgainstKingsOnTheTurn() {
+		final EquityQuery equityQuery = EquityQuery.create(
+				asList(asList(create(SPADES, ACE), create(HEARTS, ACE)),
+						asList(create(CLUBS, KING), create(DIAMONDS, KING))),
+				asList(create(CLUBS, TWO), create(DIAMONDS, SEVEN), create(HEARTS, NINE), create(SPADES, TWO)),
+				emptyList());
+
+		final EquityResult equityResult = this.exactEquityCalculator.calculate(equityQuery);
+
+		assertEquals(44, equityResult.getNumberOfRunouts());
+		assertEquals(2, equityResult.getPlayerEquity(1).getWinCount());
+		assertEquals(42, equityResult.getPlayerEquity(0).getWinCount());
+	}
+
+	/**
+	 * Tests that when {@link ExactEquityCalculator#calculate(EquityQuery)} is
+	 * called several times with three players who often tie, split across many
+	 * threads, that every calculation gives exactly the same equities.
+	 */
+	@Test
+	void test_calculate_MultiwayTiesAreDeterministic() {
+		final EquityQuery equityQuery = EquityQuery.create(
+				asList(asList(create(CLUBS, TWO), create(DIAMONDS, THREE)),
+						asList(create(HEARTS, TWO), create(SPADES, THREE)),
+						asList(create(DIAMONDS, TWO), create(CLUBS, THREE))),
+				emptyList(), emptyList());
+		final ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+		try {
+			final ExactEquityCalculator parallelExactEquityCalculator = new ExactEquityCalculator(
+					new LookupTableHandRankEvaluator(), forkJoinPool);
+
+			final EquityResult equityResult = parallelExactEquityCalculator.calculate(equityQuery);
+			for (int repetition = 0; repetition < 4; repetition++) {
+				final EquityResult repeatedEquityResult = parallelExactEquityCalculator.calculate(equityQuery);
+				for (int playerIndex = 0; playerIndex < equityQuery.getNumberOfPlayers(); playerIndex++) {
+					final PlayerEquity playerEquity = equityResult.getPlayerEquity(playerIndex);
+					final PlayerEquity repeatedPlayerEquity = repeatedEquityResult.getPlayerEquity(playerIndex);
+					assertEquals(playerEquity.getTieCount(), repeatedPlayerEquity.getTieCount());
+					assertEquals(Double.doubleToLongBits(playerEquity.getEquity()),
+							Double.doubleToLongBits(repeatedPlayerEquity.getEquity()));
+				}
+			}
+			assertTrue(equityResult.getPlayerEquity(0).getTieCount() > 0);
+		} finally {
+			forkJoinPool.shutdown();
+		}
+	}
+}
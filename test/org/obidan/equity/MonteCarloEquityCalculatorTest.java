@@ -0,0 +1,134 @@
+package org.obidan.equity;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.obidan.object.Card.create;
+import static org.obidan.type.FaceValue.ACE;
+import static org.obidan.type.FaceValue.JACK;
+import static org.obidan.type.FaceValue.KING;
+import static org.obidan.type.FaceValue.NINE;
+import static org.obidan.type.FaceValue.QUEEN;
+import static org.obidan.type.FaceValue.SEVEN;
+import static org.obidan.type.FaceValue.TEN;
+import static org.obidan.type.FaceValue.THREE;
+import static org.obidan.type.FaceValue.TWO;
+import static org.obidan.type.Suit.CLUBS;
+import static org.obidan.type.Suit.DIAMONDS;
+import static org.obidan.type.Suit.HEARTS;
+import static org.obidan.type.Suit.SPADES;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+import org.obidan.handrank.LookupTableHandRankEvaluator;
+
+/**
+ * Unit tests for the {@link MonteCarloEquityCalculator} class.
+ *
+ * @author Obi-Dan
+ */
+class MonteCarloEquityCalculatorTest {
+
+	private final MonteCarloEquityCalculator monteCarloEquityCalculator = new MonteCarloEquityCalculator(
+			new LookupTableHandRankEvaluator());
+
+	/**
+	 * Tests that when
+	 * {@link MonteCarloEquityCalculator#calculate(EquityQuery, long, long)} is
+	 * called with a complete board that the player with the best hand wins every
+	 * trial.
+	 */
+	@Test
+	void test_calculate_CompleteBoard() {
+		final EquityQuery equityQuery = EquityQuery.create(
+				asList(asList(create(SPADES, ACE), create(HEARTS, ACE)),
+						asList(create(SPADES, KING), create(HEARTS, KING))),
+				asList(create(CLUBS, TWO), create(DIAMONDS, SEVEN), create(HEARTS, NINE), create(SPADES, JACK),
+						create(CLUBS, THREE)),
+				emptyList());
+
+		final EquityResult equityResult = this.monteCarloEquityCalculator.calculate(equityQuery, 10_000, 1);
+
+		assertEquals(10_000, equityResult.getPlayerEquity(0).getWinCount());
+		assertEquals(10_000, equityResult.getPlayerEquity(1).getLossCount());
+		assertEquals(1.0, equityResult.getPlayerEquity(0).getEquity());
+	}
+
+	/**
+	 * Tests that when
+	 * {@link MonteCarloEquityCalculator#calculate(EquityQuery, long, long)} is
+	 * called with a board both players play that every trial is shared equally.
+	 */
+	@Test
+	void test_calculate_BothPlayersPlayTheBoard() {
+		final EquityQuery equityQuery = EquityQuery.create(
+				asList(asList(create(SPADES, TWO), create(HEARTS, THREE)),
+						asList(create(CLUBS, TWO), create(DIAMONDS, THREE))),
+				asList(create(CLUBS, ACE), create(DIAMONDS, KING), create(HEARTS, QUEEN), create(SPADES, JACK)),
+				asList(create(CLUBS, NINE)));
+
+		final EquityResult equityResult = this.monteCarloEquityCalculator.calculate(equityQuery, 50_000, 1);
+
+		assertEquals(50_000, equityResult.getNumberOfRunouts());
+		assertEquals(0.5, equityResult.getPlayerEquity(0).getEquity(), 1e-9);
+		assertEquals(0.5, equityResult.getPlayerEquity(1).getEquity(), 1e-9);
+	}
+
+	/**
+	 * Tests that when
+	 * {@link MonteCarloEquityCalculator#calculate(EquityQuery, long, long)} is
+	 * called with pocket aces against pocket kings before the flop that the
+	 * estimated equity of the aces is close to the exact equity of 81.3% (the
+	 * suits share no flush draw).
+	 */
+	@Test
+	void test_calculate_AcesAgainstKings() {
+		final EquityQuery equityQuery = EquityQuery.create(
+				asList(asList(create(SPADES, ACE), create(HEARTS, ACE)),
+						asList(create(CLUBS, KING), create(DIAMONDS, KING))),
+				emptyList(), emptyList());
+
+		final EquityResult equityResult = this.monteCarloEquityCalculator.calculate(equityQuery, 200_000, 1);
+
+		assertEquals(0.8126, equityResult.getPlayerEquity(0).getEquity(), 0.005);
+		assertEquals(1.0, equityResult.getPlayerEquity(0).getEquity() + equityResult.getPlayerEquity(1).getEquity(),
+				1e-9);
+	}
+
+	/**
+	 * Tests that when
+	 * {@link MonteCarloEquityCalculator#calculate(EquityQuery, long, long)} is
+	 * called with the same seed on pools of different parallelism that every
+	 * player's counts are the same.
+	 */
+	@Test
+	void test_calculate_SameSeedAnyParallelism() {
+		final EquityQuery equityQuery = EquityQuery.create(
+				asList(asList(create(SPADES, ACE), create(HEARTS, KING)),
+						asList(create(CLUBS, QUEEN), create(DIAMONDS, QUEEN)),
+						asList(create(HEARTS, TWO), create(HEARTS, THREE))),
+				emptyList(), emptyList());
+
+		final EquityResult expectedEquityResult = this.monteCarloEquityCalculator.calculate(equityQuery, 100_000,
+				3);
+		for (final int parallelism : new int[] { 1, 3, 8 }) {
+			final ForkJoinPool forkJoinPool = new ForkJoinPool(parallelism);
+			try {
+				final EquityResult equityResult = new MonteCarloEquityCalculator(new LookupTableHandRankEvaluator(),
+						forkJoinPool).calculate(equityQuery, 100_000, 3);
+
+				for (int playerIndex = 0; playerIndex < 3; playerIndex++) {
+					final PlayerEquity expectedPlayerEquity = expectedEquityResult.getPlayerEquity(playerIndex);
+					final PlayerEquity playerEquity = equityResult.getPlayerEquity(playerIndex);
+					assertEquals(expectedPlayerEquity.getWinCount(), playerEquity.getWinCount());
+					assertEquals(expectedPlayerEquity.getTieCount(), playerEquity.getTieCount());
+					assertEquals(expectedPlayerEquity.getLossCount(), playerEquity.getLossCount());
+					assertEquals(expectedPlayerEquity.getEquity(), playerEquity.getEquity());
+				}
+			} finally {
+				forkJoinPool.shutdown();
+			}
+		}
+	}
+}
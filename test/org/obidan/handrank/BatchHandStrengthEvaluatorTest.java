@@ -0,0 +1,100 @@
+package org.obidan.handrank;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+import org.obidan.object.Card;
+
+/**
+ * Unit tests for the {@link ScalarBatchHandStrengthEvaluator} and
+ * {@link ParallelBatchHandStrengthEvaluator} classes.
+ *
+ * @author Obi-Dan
+ */
+class BatchHandStrengthEvaluatorTest {
+
+	private static final int UNSET_STRENGTH = -1;
+
+	private final LookupTableHandRankEvaluator lookupTableHandRankEvaluator = new LookupTableHandRankEvaluator();
+	private final ScalarBatchHandStrengthEvaluator scalarBatchHandStrengthEvaluator = new ScalarBatchHandStrengthEvaluator(
+			this.lookupTableHandRankEvaluator);
+
+	/**
+	 * Tests that {@link ScalarBatchHandStrengthEvaluator#evaluate(long[], int[], int, int)}
+	 * gives every hand of a range the strength of
+	 * {@link LookupTableHandRankEvaluator#evaluateHandStrength(List)} and leaves
+	 * the hands outside the range alone.
+	 */
+	@Test
+	void test_evaluate_Scalar() {
+		assertEvaluatesRange(this.scalarBatchHandStrengthEvaluator, 1_000, 7, 985);
+	}
+
+	/**
+	 * Tests that {@link ParallelBatchHandStrengthEvaluator#evaluate(long[], int[], int, int)}
+	 * gives every hand of a range split into uneven chunks the strength of
+	 * {@link LookupTableHandRankEvaluator#evaluateHandStrength(List)} and leaves
+	 * the hands outside the range alone.
+	 */
+	@Test
+	void test_evaluate_Parallel() {
+		final ForkJoinPool forkJoinPool = new ForkJoinPool(3);
+		try {
+			final ParallelBatchHandStrengthEvaluator parallelBatchHandStrengthEvaluator = new ParallelBatchHandStrengthEvaluator(
+					this.scalarBatchHandStrengthEvaluator, forkJoinPool);
+
+			assertEvaluatesRange(parallelBatchHandStrengthEvaluator, 100_003, 13, 99_971);
+			assertEvaluatesRange(parallelBatchHandStrengthEvaluator, 16_390, 1, 16_387);
+			assertEvaluatesRange(parallelBatchHandStrengthEvaluator, 500, 0, 500);
+		} finally {
+			forkJoinPool.shutdown();
+		}
+	}
+
+	/**
+	 * Evaluates a range of random hands of five to seven cards and checks every
+	 * hand against {@link LookupTableHandRankEvaluator#evaluateHandStrength(List)}.
+	 *
+	 * @param batchHandStrengthEvaluator The {@link BatchHandStrengthEvaluator}
+	 *                                   under test.
+	 * @param numberOfHands              The number of hands in the arrays.
+	 * @param offset                     The index of the first hand to evaluate.
+	 * @param length                     The number of hands to evaluate.
+	 */
+	private void assertEvaluatesRange(final BatchHandStrengthEvaluator batchHandStrengthEvaluator,
+			final int numberOfHands, final int offset, final int length) {
+
+		final Random random = new Random(numberOfHands);
+		final long[] cardMasks = new long[numberOfHands];
+		final int[] strengths = new int[numberOfHands];
+		for (int index = 0; index < numberOfHands; index++) {
+			final int numberOfCards = 5 + random.nextInt(3);
+			while (Long.bitCount(cardMasks[index]) < numberOfCards) {
+				cardMasks[index] |= 1L << random.nextInt(Card.NUMBER_OF_CARDS);
+			}
+			strengths[index] = UNSET_STRENGTH;
+		}
+
+		batchHandStrengthEvaluator.evaluate(cardMasks, strengths, offset, length);
+
+		for (int index = 0; index < numberOfHands; index++) {
+			if (index < offset || index >= offset + length) {
+				assertEquals(UNSET_STRENGTH, strengths[index]);
+				continue;
+			}
+
+			final List<Card> cards = new ArrayList<>();
+			for (int code = 0; code < Card.NUMBER_OF_CARDS; code++) {
+				if ((cardMasks[index] & 1L << code) != 0) {
+					cards.add(Card.create(code));
+				}
+			}
+			assertEquals(this.lookupTableHandRankEvaluator.evaluateHandStrength(cards), strengths[index]);
+		}
+	}
+}
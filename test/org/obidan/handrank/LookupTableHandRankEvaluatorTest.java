@@ -0,0 +1,145 @@
+package org.obidan.handrank;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.obidan.object.Card.create;
+import static org.obidan.type.FaceValue.ACE;
+import static org.obidan.type.FaceValue.EIGHT;
+import static org.obidan.type.FaceValue.FIVE;
+import static org.obidan.type.FaceValue.FOUR;
+import static org.obidan.type.FaceValue.JACK;
+import static org.obidan.type.FaceValue.KING;
+import static org.obidan.type.FaceValue.QUEEN;
+import static org.obidan.type.FaceValue.SIX;
+import static org.obidan.type.FaceValue.TEN;
+import static org.obidan.type.FaceValue.THREE;
+import static org.obidan.type.FaceValue.TWO;
+import static org.obidan.type.Suit.CLUBS;
+import static org.obidan.type.Suit.DIAMONDS;
+import static org.obidan.type.Suit.HEARTS;
+import static org.obidan.type.Suit.SPADES;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.obidan.PokerHandEvaluatorApplication;
+import org.obidan.object.Card;
+import org.obidan.object.HandOfCards;
+import org.obidan.type.HandRank;
+import org.obidan.utility.CardFaceValueGrouper;
+import org.obidan.utility.SequentialCardFinder;
+
+/**
+ * Unit tests for the {@link LookupTableHandRankEvaluator} class.
+ *
+ * @author Obi-Dan
+ */
+class LookupTableHandRankEvaluatorTest {
+
+	private final LookupTableHandRankEvaluator lookupTableHandRankEvaluator = new LookupTableHandRankEvaluator();
+
+	/**
+	 * Tests that {@link LookupTableHandRankEvaluator#evaluateHandStrength(List)}
+	 * supports an ace as low in a five-high straight flush.
+	 */
+	@Test
+	void test_evaluateHandStrength_FiveHighStraightFlush() {
+		final List<Card> cards = asList(create(CLUBS, TWO), create(CLUBS, FOUR), create(CLUBS, ACE),
+				create(CLUBS, FIVE), create(CLUBS, THREE));
+
+		assertEquals(HandStrength.create(HandStrength.STRAIGHT_FLUSH, FIVE.ordinal()),
+				this.lookupTableHandRankEvaluator.evaluateHandStrength(cards));
+	}
+
+	/**
+	 * Tests that {@link LookupTableHandRankEvaluator#evaluateHandStrength(List)}
+	 * encodes the pairs and the kicker of a two pair.
+	 */
+	@Test
+	void test_evaluateHandStrength_TwoPair() {
+		final List<Card> cards = asList(create(CLUBS, TWO), create(DIAMONDS, ACE), create(HEARTS, TWO),
+				create(SPADES, FIVE), create(CLUBS, ACE));
+
+		final int strength = this.lookupTableHandRankEvaluator.evaluateHandStrength(cards);
+
+		assertEquals(HandRank.TWO_PAIR, HandStrength.getHandRank(strength));
+		assertEquals(HandStrength.create(HandStrength.TWO_PAIR, ACE.ordinal(), TWO.ordinal(), FIVE.ordinal()),
+				strength);
+	}
+
+	/**
+	 * Tests that {@link LookupTableHandRankEvaluator#evaluateHandStrength(List)}
+	 * ranks a higher category above a lower category regardless of card ranks.
+	 */
+	@Test
+	void test_evaluateHandStrength_CategoryBeatsRanks() {
+		final List<Card> lowFlush = asList(create(HEARTS, TWO), create(HEARTS, THREE), create(HEARTS, FOUR),
+				create(HEARTS, FIVE), create(HEARTS, EIGHT));
+		final List<Card> highStraight = asList(create(CLUBS, ACE), create(DIAMONDS, KING), create(HEARTS, QUEEN),
+				create(SPADES, JACK), create(CLUBS, TEN));
+
+		assertTrue(this.lookupTableHandRankEvaluator.evaluateHandStrength(lowFlush) > this.lookupTableHandRankEvaluator
+				.evaluateHandStrength(highStraight));
+	}
+
+	/**
+	 * Tests that {@link LookupTableHandRankEvaluator#evaluateHandStrength(List)}
+	 * breaks ties within a category by the kickers.
+	 */
+	@Test
+	void test_evaluateHandStrength_KickerBreaksTie() {
+		final List<Card> sixKicker = asList(create(CLUBS, KING), create(DIAMONDS, KING), create(HEARTS, TEN),
+				create(SPADES, EIGHT), create(CLUBS, SIX));
+		final List<Card> fiveKicker = asList(create(HEARTS, KING), create(SPADES, KING), create(DIAMONDS, TEN),
+				create(CLUBS, EIGHT), create(DIAMONDS, FIVE));
+
+		assertTrue(this.lookupTableHandRankEvaluator.evaluateHandStrength(sixKicker) > this.lookupTableHandRankEvaluator
+				.evaluateHandStrength(fiveKicker));
+	}
+
+	/**
+	 * Tests that {@link LookupTableHandRankEvaluator#evaluateHandStrength(List, List)}
+	 * evaluates the best five card hand from two hole cards and five board cards,
+	 * ignoring the lowest of three pairs.
+	 */
+	@Test
+	void test_evaluateHandStrength_BestFiveOfSeven() {
+		final List<Card> holeCards = asList(create(CLUBS, KING), create(DIAMONDS, TWO));
+		final List<Card> boardCards = asList(create(HEARTS, KING), create(SPADES, TEN), create(CLUBS, TEN),
+				create(HEARTS, TWO), create(DIAMONDS, SIX));
+
+		assertEquals(HandStrength.create(HandStrength.TWO_PAIR, KING.ordinal(), TEN.ordinal(), SIX.ordinal()),
+				this.lookupTableHandRankEvaluator.evaluateHandStrength(holeCards, boardCards));
+	}
+
+	/**
+	 * Tests that {@link LookupTableHandRankEvaluator#evaluateHandStrength(List)}
+	 * evaluates hands dealt from a shoe holding the same card more than once: five
+	 * of a kind above a straight flush, and a flush holding a pair ranked by all
+	 * five cards, as the reference chain ranks them.
+	 */
+	@Test
+	void test_evaluateHandStrength_DuplicateCards() {
+		final List<Card> fiveOfAKind = asList(create(SPADES, SIX), create(HEARTS, SIX), create(SPADES, SIX),
+				create(CLUBS, SIX), create(DIAMONDS, SIX));
+		final List<Card> flush = asList(create(HEARTS, KING), create(HEARTS, EIGHT), create(HEARTS, KING),
+				create(HEARTS, FOUR), create(HEARTS, TWO));
+		final List<Card> sevenCards = asList(create(CLUBS, ACE), create(CLUBS, ACE), create(CLUBS, TWO),
+				create(CLUBS, THREE), create(CLUBS, FOUR), create(CLUBS, FIVE), create(HEARTS, JACK));
+		final PokerHandRankEvaluator referenceHandRankEvaluator = PokerHandEvaluatorApplication
+				.createReferenceHandRankEvaluator();
+
+		final int fiveOfAKindStrength = this.lookupTableHandRankEvaluator.evaluateHandStrength(fiveOfAKind);
+		final int flushStrength = this.lookupTableHandRankEvaluator.evaluateHandStrength(flush);
+
+		assertEquals(HandStrength.create(HandStrength.FIVE_OF_A_KIND, SIX.ordinal()), fiveOfAKindStrength);
+		assertTrue(fiveOfAKindStrength > HandStrength.create(HandStrength.STRAIGHT_FLUSH, ACE.ordinal()));
+		assertEquals(HandStrength.create(HandStrength.FLUSH, KING.ordinal(), KING.ordinal(), EIGHT.ordinal(),
+				FOUR.ordinal(), TWO.ordinal()), flushStrength);
+		assertEquals(referenceHandRankEvaluator.evaluateHandStrength(
+				HandOfCards.create(flush, new SequentialCardFinder(), new CardFaceValueGrouper())), flushStrength);
+		assertEquals(HandStrength.create(HandStrength.STRAIGHT_FLUSH, FIVE.ordinal()),
+				this.lookupTableHandRankEvaluator.evaluateHandStrength(sevenCards));
+	}
+}
@@ -0,0 +1,267 @@
+package org.obidan.history;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.obidan.handrank.LookupTableHandRankEvaluator;
+import org.obidan.io.PackedHand;
+import org.obidan.object.Card;
+import org.obidan.type.HandRank;
+import org.obidan.type.WinningStatus;
+
+/**
+ * Unit tests for the {@link HandHistoryStore} class.
+ *
+ * @author Obi-Dan
+ */
+class HandHistoryStoreTest {
+
+	private static final String[] PLAYER_NAMES = { "Obi-Dan", "Ana", "\u00C9mile", "Bob" };
+
+	/**
+	 * Tests that {@link HandHistoryStore#query(HandHistoryQuery)} finds the same
+	 * games as filtering every appended game, for games appended both before and
+	 * after the store is reopened.
+	 *
+	 * @throws IOException If the store cannot be used.
+	 */
+	@Test
+	void test_query_PlayerAndHandRank() throws IOException {
+		final Path directory = Files.createTempDirectory("history");
+		try {
+			final List<GameRecord> gameRecords = createGameRecords(3_000);
+			try (final HandHistoryStore handHistoryStore = HandHistoryStore.open(directory,
+					ForkJoinPool.commonPool())) {
+				for (final GameRecord gameRecord : gameRecords.subList(0, 2_000)) {
+					handHistoryStore.append(gameRecord);
+				}
+			}
+
+			try (final HandHistoryStore handHistoryStore = HandHistoryStore.open(directory,
+					ForkJoinPool.commonPool())) {
+				for (final GameRecord gameRecord : gameRecords.subList(2_000, gameRecords.size())) {
+					handHistoryStore.append(gameRecord);
+				}
+
+				for (final HandHistoryQuery handHistoryQuery : new HandHistoryQuery[] { HandHistoryQuery.create(),
+						HandHistoryQuery.create().withPlayerName("\u00C9mile").withHandRank(HandRank.FLUSH),
+						HandHistoryQuery.create().withHandRank(HandRank.FOUR_OF_A_KIND).withTimes(1_000_500,
+								1_002_500),
+						HandHistoryQuery.create().withPlayerName("Nobody") }) {
+					final List<GameRecord> expectedGameRecords = gameRecords.stream()
+							.filter(handHistoryQuery::matches).collect(Collectors.toList());
+					assertEquals(expectedGameRecords.toString(), handHistoryStore.query(handHistoryQuery).toString());
+				}
+				assertEquals(gameRecords.get(2_500).toString(), handHistoryStore.get(2_500).toString());
+			}
+		} finally {
+			delete(directory);
+		}
+	}
+
+	/**
+	 * Tests that {@link HandHistoryStore#query(HandHistoryQuery)} reads back games
+	 * of more seats than fit in a byte, as dealt from a shoe of many decks.
+	 *
+	 * @throws IOException If the store cannot be used.
+	 */
+	@Test
+	void test_query_ManySeats() throws IOException {
+		final Path directory = Files.createTempDirectory("history");
+		try {
+			final List<SeatRecord> seatRecords = createGameRecords(1).get(0).getSeatRecords();
+			final List<GameRecord> gameRecords = new ArrayList<>();
+			for (final int numberOfSeats : new int[] { 127, 128, 300, 16_384, 40_000 }) {
+				final List<SeatRecord> manySeatRecords = new ArrayList<>(numberOfSeats);
+				for (int seat = 0; seat < numberOfSeats; seat++) {
+					manySeatRecords.add(seatRecords.get(seat % seatRecords.size()));
+				}
+				gameRecords.add(GameRecord.create(gameRecords.size(), 1_000_000, manySeatRecords));
+			}
+
+			try (final HandHistoryStore handHistoryStore = HandHistoryStore.open(directory,
+					ForkJoinPool.commonPool())) {
+				for (final GameRecord gameRecord : gameRecords) {
+					handHistoryStore.append(gameRecord);
+				}
+			}
+
+			try (final HandHistoryStore handHistoryStore = HandHistoryStore.openReadOnly(directory,
+					ForkJoinPool.commonPool())) {
+				assertEquals(gameRecords.toString(), handHistoryStore.query(HandHistoryQuery.create()).toString());
+			}
+		} finally {
+			delete(directory);
+		}
+	}
+
+	/**
+	 * Tests that {@link HandHistoryStore#open(Path, ForkJoinPool)} drops a game
+	 * torn from the end of the last segment and appends after the last complete
+	 * game.
+	 *
+	 * @throws IOException If the store cannot be used.
+	 */
+	@Test
+	void test_open_TornGame() throws IOException {
+		final Path directory = Files.createTempDirectory("history");
+		try {
+			final List<GameRecord> gameRecords = createGameRecords(3);
+			try (final HandHistoryStore handHistoryStore = HandHistoryStore.open(directory,
+					ForkJoinPool.commonPool())) {
+				handHistoryStore.append(gameRecords.get(0));
+			}
+			Files.delete(directory.resolve("segment-000000.idx"));
+			final byte[] tornGame = GameRecordCodec.encode(gameRecords.get(1));
+			Files.write(directory.resolve("segment-000000.hist"), Arrays.copyOf(tornGame, 20),
+					StandardOpenOption.APPEND);
+
+			try (final HandHistoryStore handHistoryStore = HandHistoryStore.open(directory,
+					ForkJoinPool.commonPool())) {
+				handHistoryStore.append(gameRecords.get(2));
+
+				final List<GameRecord> storedGameRecords = handHistoryStore.query(HandHistoryQuery.create());
+				assertEquals(2, storedGameRecords.size());
+				assertEquals(gameRecords.get(0).toString(), storedGameRecords.get(0).toString());
+				assertEquals(gameRecords.get(2).toString(), storedGameRecords.get(1).toString());
+				assertNull(handHistoryStore.get(1));
+			}
+		} finally {
+			delete(directory);
+		}
+	}
+
+	/**
+	 * Tests that {@link HandHistoryStore#openReadOnly(Path, ForkJoinPool)} finds
+	 * the games flushed by a store still appending to the directory, skips a game
+	 * torn from the end of the last segment, refuses to append, and leaves every
+	 * file of the directory as it was.
+	 *
+	 * @throws IOException If the store cannot be used.
+	 */
+	@Test
+	void test_openReadOnly_FilesUnchanged() throws IOException {
+		final Path directory = Files.createTempDirectory("history");
+		try {
+			final List<GameRecord> gameRecords = createGameRecords(4);
+			try (final HandHistoryStore handHistoryStore = HandHistoryStore.open(directory,
+					ForkJoinPool.commonPool())) {
+				handHistoryStore.append(gameRecords.get(0));
+				handHistoryStore.append(gameRecords.get(1));
+				handHistoryStore.flush();
+
+				try (final HandHistoryStore readOnlyHandHistoryStore = HandHistoryStore.openReadOnly(directory,
+						ForkJoinPool.commonPool())) {
+					assertEquals(gameRecords.subList(0, 2).toString(),
+							readOnlyHandHistoryStore.query(HandHistoryQuery.create()).toString());
+					assertThrows(IllegalStateException.class,
+							() -> readOnlyHandHistoryStore.append(gameRecords.get(2)));
+				}
+
+				handHistoryStore.append(gameRecords.get(2));
+			}
+			Files.delete(directory.resolve("segment-000000.idx"));
+			Files.write(directory.resolve("segment-000000.hist"),
+					Arrays.copyOf(GameRecordCodec.encode(gameRecords.get(3)), 20), StandardOpenOption.APPEND);
+			final List<String> files = listFiles(directory);
+
+			try (final HandHistoryStore readOnlyHandHistoryStore = HandHistoryStore.openReadOnly(directory,
+					ForkJoinPool.commonPool())) {
+				assertEquals(gameRecords.subList(0, 3).toString(),
+						readOnlyHandHistoryStore.query(HandHistoryQuery.create()).toString());
+			}
+			assertEquals(files, listFiles(directory));
+
+			final Path missingDirectory = directory.resolve("missing");
+			assertThrows(NoSuchFileException.class,
+					() -> HandHistoryStore.openReadOnly(missingDirectory, ForkJoinPool.commonPool()));
+			assertFalse(Files.exists(missingDirectory));
+			Files.createDirectory(missingDirectory);
+			assertThrows(NoSuchFileException.class,
+					() -> HandHistoryStore.openReadOnly(missingDirectory, ForkJoinPool.commonPool()));
+		} finally {
+			delete(directory);
+		}
+	}
+
+	/**
+	 * @param directory The {@link Path} of a directory. This must never be null.
+	 * @return Non-null {@link List} of the name and size of each file of the
+	 *         directory, in order.
+	 * @throws IOException If the directory cannot be listed.
+	 */
+	private static List<String> listFiles(final Path directory) throws IOException {
+		final List<String> files = new ArrayList<>();
+		try (final Stream<Path> paths = Files.list(directory)) {
+			for (final Path path : paths.sorted().collect(Collectors.toList())) {
+				files.add(path.getFileName() + "=" + Files.size(path));
+			}
+		}
+
+		return files;
+	}
+
+	/**
+	 * @param numberOfGames The number of games.
+	 * @return Non-null {@link List} of random games of seven card hands, with ids
+	 *         counting from zero and a timestamp a millisecond apart.
+	 */
+	private static List<GameRecord> createGameRecords(final int numberOfGames) {
+		final LookupTableHandRankEvaluator lookupTableHandRankEvaluator = new LookupTableHandRankEvaluator();
+		final SplittableRandom random = new SplittableRandom(7);
+		final WinningStatus[] winningStatuses = { WinningStatus.WON, WinningStatus.LOSER, WinningStatus.TIED };
+		final List<GameRecord> gameRecords = new ArrayList<>();
+		final int[] codes = new int[PackedHand.MAXIMUM_NUMBER_OF_CARDS];
+		for (int gameId = 0; gameId < numberOfGames; gameId++) {
+			final List<SeatRecord> seatRecords = new ArrayList<>();
+			final int numberOfSeats = 2 + random.nextInt(3);
+			for (int seat = 0; seat < numberOfSeats; seat++) {
+				long cardMask = 0;
+				for (int index = 0; index < codes.length;) {
+					final int code = random.nextInt(Card.NUMBER_OF_CARDS);
+					if ((cardMask & (1L << code)) == 0) {
+						cardMask |= 1L << code;
+						codes[index++] = code;
+					}
+				}
+				final long packedHand = PackedHand.create(codes, 0, codes.length);
+				seatRecords.add(SeatRecord.create(PLAYER_NAMES[(gameId + seat) % PLAYER_NAMES.length], packedHand,
+						lookupTableHandRankEvaluator.evaluateHandStrength(PackedHand.getCards(packedHand)),
+						winningStatuses[random.nextInt(winningStatuses.length)]));
+			}
+			gameRecords.add(GameRecord.create(gameId, 1_000_000 + gameId, seatRecords));
+		}
+
+		return gameRecords;
+	}
+
+	/**
+	 * @param directory The {@link Path} of a directory to delete with its files.
+	 *                  This must never be null.
+	 * @throws IOException If a file cannot be deleted.
+	 */
+	private static void delete(final Path directory) throws IOException {
+		try (final Stream<Path> paths = Files.walk(directory)) {
+			for (final Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+				Files.delete(path);
+			}
+		}
+	}
+}
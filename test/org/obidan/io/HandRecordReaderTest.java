@@ -0,0 +1,146 @@
+package org.obidan.io;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.obidan.object.Card.create;
+import static org.obidan.type.FaceValue.ACE;
+import static org.obidan.type.FaceValue.KING;
+import static org.obidan.type.FaceValue.TEN;
+import static org.obidan.type.FaceValue.THREE;
+import static org.obidan.type.FaceValue.TWO;
+import static org.obidan.type.Suit.CLUBS;
+import static org.obidan.type.Suit.DIAMONDS;
+import static org.obidan.type.Suit.HEARTS;
+import static org.obidan.type.Suit.SPADES;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+import org.obidan.handrank.LookupTableHandRankEvaluator;
+import org.obidan.object.Card;
+import org.obidan.object.HandOfCards;
+import org.obidan.utility.CardFaceValueGrouper;
+import org.obidan.utility.SequentialCardFinder;
+
+/**
+ * Unit tests for the {@link HandRecordReader} class.
+ *
+ * @author Obi-Dan
+ */
+class HandRecordReaderTest {
+
+	/**
+	 * Tests that the records written by a {@link HandRecordWriter} are read back
+	 * by {@link HandRecordReader#next()} with the same cards and strengths, across
+	 * many buffers of records.
+	 *
+	 * @throws IOException If the records cannot be written or read.
+	 */
+	@Test
+	void test_next_WrittenRecords() throws IOException {
+		final LookupTableHandRankEvaluator lookupTableHandRankEvaluator = new LookupTableHandRankEvaluator();
+		final SplittableRandom random = new SplittableRandom(3);
+		final long[] packedHands = new long[20_000];
+		final int[] codes = new int[7];
+		for (int handIndex = 0; handIndex < packedHands.length; handIndex++) {
+			long cardMask = 0;
+			final int numberOfCards = 5 + random.nextInt(3);
+			for (int index = 0; index < numberOfCards;) {
+				final int code = random.nextInt(Card.NUMBER_OF_CARDS);
+				if ((cardMask & (1L << code)) == 0) {
+					cardMask |= 1L << code;
+					codes[index++] = code;
+				}
+			}
+			packedHands[handIndex] = PackedHand.create(codes, 0, numberOfCards);
+		}
+
+		final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		try (final HandRecordWriter handRecordWriter = HandRecordWriter.create(Channels.newChannel(outputStream),
+				HandRecordFormat.create(7, true))) {
+			for (final long packedHand : packedHands) {
+				handRecordWriter.write(packedHand, lookupTableHandRankEvaluator
+						.evaluateHandStrength(PackedHand.getCards(packedHand)));
+			}
+		}
+		assertEquals(HandRecordFormat.HEADER_LENGTH + packedHands.length * 9, outputStream.size());
+
+		try (final HandRecordReader handRecordReader = HandRecordReader
+				.open(Channels.newChannel(new ByteArrayInputStream(outputStream.toByteArray())))) {
+			for (final long packedHand : packedHands) {
+				assertTrue(handRecordReader.next());
+				assertEquals(packedHand, handRecordReader.getPackedHand());
+				assertEquals(lookupTableHandRankEvaluator.evaluateHandStrength(PackedHand.getCards(packedHand)),
+						handRecordReader.getStrength());
+			}
+			assertFalse(handRecordReader.next());
+		}
+	}
+
+	/**
+	 * Tests that a {@link HandOfCards} packed into a record of five cards is
+	 * unpacked with the same cards in the same order.
+	 *
+	 * @throws IOException If the record cannot be written or read.
+	 */
+	@Test
+	void test_getPackedHand_HandOfCards() throws IOException {
+		final HandOfCardsConverter handOfCardsConverter = new HandOfCardsConverter(new SequentialCardFinder(),
+				new CardFaceValueGrouper());
+		final List<Card> cards = asList(create(SPADES, ACE), create(HEARTS, KING), create(DIAMONDS, TEN),
+				create(CLUBS, TWO), create(CLUBS, THREE));
+
+		final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		try (final HandRecordWriter handRecordWriter = HandRecordWriter.create(Channels.newChannel(outputStream),
+				HandRecordFormat.create(5, false))) {
+			handRecordWriter.write(handOfCardsConverter.toPackedHand(HandOfCards.create(cards,
+					new SequentialCardFinder(), new CardFaceValueGrouper())));
+		}
+		assertEquals(HandRecordFormat.HEADER_LENGTH + 4, outputStream.size());
+
+		try (final HandRecordReader handRecordReader = HandRecordReader
+				.open(Channels.newChannel(new ByteArrayInputStream(outputStream.toByteArray())))) {
+			assertTrue(handRecordReader.next());
+			assertEquals(cards, handOfCardsConverter.toHandOfCards(handRecordReader.getPackedHand()).getCards());
+		}
+	}
+
+	/**
+	 * Tests that a record without a hand strength cannot be written to records
+	 * which hold the hand strength, and that the hand strength cannot be read
+	 * from records which do not hold it.
+	 *
+	 * @throws IOException If the records cannot be written or read.
+	 */
+	@Test
+	void test_getStrength_StrengthNotIncluded() throws IOException {
+		final long packedHand = PackedHand.create(new int[] { 12, 11, 10, 9, 8 }, 0, 5);
+
+		try (final HandRecordWriter handRecordWriter = HandRecordWriter
+				.create(Channels.newChannel(new ByteArrayOutputStream()), HandRecordFormat.create(5, true))) {
+			assertThrows(IllegalStateException.class, () -> handRecordWriter.write(packedHand));
+			assertEquals(0, handRecordWriter.getRecordCount());
+		}
+
+		final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		try (final HandRecordWriter handRecordWriter = HandRecordWriter.create(Channels.newChannel(outputStream),
+				HandRecordFormat.create(5, false))) {
+			handRecordWriter.write(packedHand);
+		}
+
+		try (final HandRecordReader handRecordReader = HandRecordReader
+				.open(Channels.newChannel(new ByteArrayInputStream(outputStream.toByteArray())))) {
+			assertTrue(handRecordReader.next());
+			assertEquals(packedHand, handRecordReader.getPackedHand());
+			assertThrows(IllegalStateException.class, handRecordReader::getStrength);
+		}
+	}
+}
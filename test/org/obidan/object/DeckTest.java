@@ -0,0 +1,202 @@
+package org.obidan.object;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.obidan.object.Card.create;
+import static org.obidan.type.FaceValue.ACE;
+import static org.obidan.type.FaceValue.KING;
+import static org.obidan.type.FaceValue.TWO;
+import static org.obidan.type.Suit.CLUBS;
+import static org.obidan.type.Suit.HEARTS;
+import static org.obidan.type.Suit.SPADES;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.obidan.random.Xoroshiro128PlusPlusRandomSource;
+
+/**
+ * Unit tests for the {@link Deck} class.
+ *
+ * @author Obi-Dan
+ */
+class DeckTest {
+
+	/**
+	 * Tests that when {@link Deck#removeAll(java.util.Collection)} is called with
+	 * dead cards that only those cards are removed and that
+	 * {@link Deck#contains(Object)} and {@link Deck#getCardMask()} reflect the
+	 * removal.
+	 */
+	@Test
+	void test_removeAll_DeadCards() {
+		final Deck deck = Deck.createSingleDeck();
+		deck.shuffle();
+
+		assertTrue(deck.removeAll(asList(create(SPADES, ACE), create(HEARTS, KING))));
+
+		assertEquals(50, deck.size());
+		assertFalse(deck.contains(create(SPADES, ACE)));
+		assertFalse(deck.contains(create(HEARTS, KING)));
+		assertTrue(deck.contains(create(CLUBS, TWO)));
+		assertEquals(0, deck.getCardMask() & (create(SPADES, ACE).getCardBit() | create(HEARTS, KING).getCardBit()));
+		assertFalse(deck.remove(create(SPADES, ACE)));
+	}
+
+	/**
+	 * Tests that after cards are removed by mask and dealt from the top every
+	 * remaining card is iterated exactly once.
+	 */
+	@Test
+	void test_iterator_AfterRemovals() {
+		final Deck deck = Deck.createSingleDeck();
+		deck.shuffle();
+		deck.removeAll(create(CLUBS, TWO).getCardBit() | create(SPADES, KING).getCardBit());
+		deck.remove(3);
+		deck.draw();
+
+		final Set<Card> iteratedCards = new HashSet<>();
+		for (final Card card : deck) {
+			assertTrue(iteratedCards.add(card));
+			assertTrue(deck.contains(card));
+		}
+
+		assertEquals(46, iteratedCards.size());
+		assertEquals(46, Long.bitCount(deck.getCardMask()));
+	}
+
+	/**
+	 * Tests that {@link Deck#containsAll(java.util.Collection)} is true only when
+	 * every given card is in the deck.
+	 */
+	@Test
+	void test_containsAll_SomeCardsRemoved() {
+		final Deck deck = Deck.createSingleDeck();
+		deck.remove(create(SPADES, ACE));
+
+		assertTrue(deck.containsAll(asList(create(CLUBS, TWO), create(HEARTS, KING))));
+		assertFalse(deck.containsAll(asList(create(CLUBS, TWO), create(SPADES, ACE))));
+	}
+
+	/**
+	 * Tests that two decks shuffled with sources created from the same seed are
+	 * dealt in the same order.
+	 */
+	@Test
+	void test_shuffle_SameSeed() {
+		final Deck deck = Deck.createSingleDeck();
+		final Deck sameSeedDeck = Deck.createSingleDeck();
+
+		deck.shuffle(Xoroshiro128PlusPlusRandomSource.create(2024));
+		sameSeedDeck.shuffle(Xoroshiro128PlusPlusRandomSource.create(2024));
+
+		assertEquals(deck.remove(52), sameSeedDeck.remove(52));
+	}
+
+	/**
+	 * Tests that a deck shuffled lazily deals exactly the same cards as a deck
+	 * fully shuffled with a source created from the same seed.
+	 */
+	@Test
+	void test_shuffleLazily_SameCardsAsFullShuffle() {
+		final Deck deck = Deck.createSingleDeck();
+		final Deck lazyDeck = Deck.createSingleDeck();
+
+		deck.shuffle(Xoroshiro128PlusPlusRandomSource.create(99));
+		lazyDeck.shuffleLazily(Xoroshiro128PlusPlusRandomSource.create(99));
+
+		for (int deal = 0; deal < 10; deal++) {
+			assertEquals(deck.remove(5), lazyDeck.remove(5));
+		}
+		assertEquals(deck.remove(2), lazyDeck.remove(2));
+	}
+
+	/**
+	 * Tests that {@link Deck#remove(Card[], int, int)} writes the same cards into
+	 * the buffer as {@link Deck#remove(int)} returns for a deck shuffled from the
+	 * same seed, and that the cards dealt earlier are unchanged by later deals.
+	 */
+	@Test
+	void test_remove_IntoBuffer() {
+		final Deck deck = Deck.createSingleDeck();
+		final Deck bufferDeck = Deck.createSingleDeck();
+		deck.shuffleLazily(Xoroshiro128PlusPlusRandomSource.create(5));
+		bufferDeck.shuffleLazily(Xoroshiro128PlusPlusRandomSource.create(5));
+
+		final List<Card> firstHand = deck.remove(5);
+		final List<Card> firstHandCopy = new ArrayList<>(firstHand);
+		final Card[] buffer = new Card[10];
+		bufferDeck.remove(buffer, 0, 5);
+		bufferDeck.remove(buffer, 5, 5);
+
+		assertEquals(firstHand, asList(buffer).subList(0, 5));
+		assertEquals(deck.remove(5), asList(buffer).subList(5, 10));
+		deck.remove(create(SPADES, ACE));
+		deck.shuffle();
+		assertEquals(firstHandCopy, firstHand);
+	}
+
+	/**
+	 * Tests that a deck which is reset after dealing deals exactly the same cards
+	 * as a new deck shuffled with a source created from the same seed.
+	 */
+	@Test
+	void test_reset_SameCardsAsNewDeck() {
+		final Deck reusedDeck = Deck.createSingleDeck();
+		reusedDeck.shuffle(Xoroshiro128PlusPlusRandomSource.create(1));
+		reusedDeck.remove(create(CLUBS, TWO));
+		reusedDeck.remove(20);
+
+		reusedDeck.reset(Xoroshiro128PlusPlusRandomSource.create(8));
+		final Deck newDeck = Deck.createSingleDeck();
+		newDeck.shuffleLazily(Xoroshiro128PlusPlusRandomSource.create(8));
+
+		assertEquals(52, reusedDeck.size());
+		assertEquals(newDeck.getCardMask(), reusedDeck.getCardMask());
+		assertEquals(newDeck.remove(52), reusedDeck.remove(52));
+	}
+
+	/**
+	 * Tests that a shoe of three decks holds three copies of each card, that a
+	 * card stays in the mask until its last copy is removed however its copies
+	 * are dealt or removed, and that a reset restores every copy.
+	 */
+	@Test
+	void test_createShoe_DuplicateCards() {
+		final Deck shoe = Deck.createShoe(3);
+		final Card aceOfSpades = create(SPADES, ACE);
+		shoe.shuffleLazily(Xoroshiro128PlusPlusRandomSource.create(17));
+
+		int acesOfSpadesLeft = 3;
+		for (final Card card : shoe.remove(100)) {
+			if (card == aceOfSpades) {
+				acesOfSpadesLeft--;
+			}
+		}
+		while (acesOfSpadesLeft > 0) {
+			assertTrue(shoe.contains(aceOfSpades));
+			assertTrue(shoe.remove(aceOfSpades));
+			acesOfSpadesLeft--;
+		}
+
+		assertFalse(shoe.contains(aceOfSpades));
+		assertFalse(shoe.remove(aceOfSpades));
+		for (final Card card : shoe) {
+			assertTrue(card != aceOfSpades);
+		}
+
+		shoe.reset();
+		assertEquals(3, shoe.getNumberOfDecks());
+		assertEquals(156, shoe.size());
+		assertEquals(Deck.createSingleDeck().getCardMask(), shoe.getCardMask());
+		for (int copy = 0; copy < 3; copy++) {
+			assertTrue(shoe.remove(aceOfSpades));
+		}
+		assertFalse(shoe.contains(aceOfSpades));
+	}
+}
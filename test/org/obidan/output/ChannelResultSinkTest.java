@@ -0,0 +1,51 @@
+package org.obidan.output;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link ChannelResultSink} class.
+ *
+ * @author Obi-Dan
+ */
+class ChannelResultSinkTest {
+
+	private static final String[] TEXTS = { "Player 1's cards: A\u2660 K\u2660 (high card)\n", "\u00C9mile,",
+			"\uD83C\uDCA1 - $ Winner $\n", "", "\uD83C", "x\n" };
+
+	/**
+	 * Tests that {@link ChannelResultSink#write(CharSequence)} writes the same
+	 * bytes as encoding the text as UTF-8, in order, through buffers much smaller
+	 * than the text, whether or not the sink is double-buffered.
+	 *
+	 * @throws IOException If the text cannot be written.
+	 */
+	@Test
+	void test_write_SmallBuffers() throws IOException {
+		for (final boolean doubleBuffered : new boolean[] { false, true }) {
+			final SplittableRandom random = new SplittableRandom(11);
+			final StringBuilder expected = new StringBuilder();
+			final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+			try (final ResultSink resultSink = ChannelResultSink.create(Channels.newChannel(outputStream), 7,
+					doubleBuffered)) {
+				for (int index = 0; index < 10_000; index++) {
+					final String text = TEXTS[random.nextInt(TEXTS.length - 2)];
+					expected.append(text);
+					resultSink.write(text);
+				}
+				resultSink.write(TEXTS[TEXTS.length - 2]);
+				resultSink.write(TEXTS[TEXTS.length - 1]);
+				expected.append('?').append(TEXTS[TEXTS.length - 1]);
+			}
+
+			assertEquals(expected.toString(), new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+		}
+	}
+}
@@ -0,0 +1,135 @@
+package org.obidan.output;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.obidan.handrank.LookupTableHandRankEvaluator;
+import org.obidan.object.Deck;
+import org.obidan.object.HandOfCards;
+import org.obidan.object.Player;
+import org.obidan.random.Xoroshiro128PlusPlusRandomSource;
+import org.obidan.type.WinningStatus;
+import org.obidan.utility.CardFaceValueGrouper;
+import org.obidan.utility.SequentialCardFinder;
+
+/**
+ * Unit tests for the {@link CsvResultFormatter} class.
+ *
+ * @author Obi-Dan
+ */
+class CsvResultFormatterTest {
+
+	private static final String[] NAMES = { "Smith, John", "Say \"hi\"", "Back\\slash", "Line\r\nbreak",
+			"Tab\tand\u0001bell", "\uD83C\uDCA1 Ace", "Plain" };
+
+	private final CsvResultFormatter csvResultFormatter = new CsvResultFormatter();
+
+	/**
+	 * Tests that {@link CsvResultFormatter#getHeader()} names every column.
+	 */
+	@Test
+	void test_getHeader() {
+		assertEquals("game_id,table,seed,player,cards,hand_rank,strength,winning_status\n",
+				this.csvResultFormatter.getHeader());
+	}
+
+	/**
+	 * Tests that {@link CsvResultFormatter#formatBytes(GameResult)} writes a row
+	 * of eight fields for every player, quoting only the names which need it, so
+	 * that every name is read back as it was.
+	 */
+	@Test
+	void test_formatBytes_QuotedNames() {
+		final Deck deck = Deck.createSingleDeck();
+		deck.reset(Xoroshiro128PlusPlusRandomSource.create(5));
+		final List<Player> players = createPlayers(deck);
+
+		final String text = new String(this.csvResultFormatter.formatBytes(GameResult.create(12, 3, -4, players)),
+				StandardCharsets.UTF_8);
+
+		final List<List<String>> rows = parseRows(text);
+		assertEquals(players.size(), rows.size());
+		for (int index = 0; index < players.size(); index++) {
+			final Player player = players.get(index);
+			final List<String> row = rows.get(index);
+			assertEquals(8, row.size());
+			assertEquals("12", row.get(0));
+			assertEquals("3", row.get(1));
+			assertEquals("-4", row.get(2));
+			assertEquals(NAMES[index], row.get(3));
+			assertEquals(5, row.get(4).split(" ").length);
+			assertEquals(player.getHandRank().name(), row.get(5));
+			assertEquals(Integer.toString(player.getHandStrength()), row.get(6));
+			assertEquals(player.getWinningStatus().name(), row.get(7));
+		}
+		assertTrue(text.contains(",\"Smith, John\","));
+		assertTrue(text.contains(",\"Say \"\"hi\"\"\","));
+		assertTrue(text.contains(",\"Line\r\nbreak\","));
+		assertTrue(text.contains(",Back\\slash,"));
+		assertTrue(text.contains(",\uD83C\uDCA1 Ace,"));
+	}
+
+	/**
+	 * Parses comma-separated values in which a quoted field may hold separators,
+	 * doubled quotes, and line breaks.
+	 *
+	 * @param text The text. This must never be null.
+	 * @return Non-null {@link List} of the fields of each row.
+	 */
+	private static List<List<String>> parseRows(final String text) {
+		final List<List<String>> rows = new ArrayList<>();
+		List<String> row = new ArrayList<>();
+		final StringBuilder field = new StringBuilder();
+		boolean quoted = false;
+		for (int index = 0; index < text.length(); index++) {
+			final char character = text.charAt(index);
+			if (quoted) {
+				if (character != '"') {
+					field.append(character);
+				} else if (index + 1 < text.length() && text.charAt(index + 1) == '"') {
+					field.append('"');
+					index++;
+				} else {
+					quoted = false;
+				}
+			} else if (character == '"') {
+				quoted = true;
+			} else if (character == ',') {
+				row.add(field.toString());
+				field.setLength(0);
+			} else if (character == '\n') {
+				row.add(field.toString());
+				field.setLength(0);
+				rows.add(row);
+				row = new ArrayList<>();
+			} else {
+				field.append(character);
+			}
+		}
+
+		return rows;
+	}
+
+	/**
+	 * @param deck The shuffled {@link Deck} the hands are dealt from. This must
+	 *             never be null.
+	 * @return Non-null {@link List} of a player for each name.
+	 */
+	private static List<Player> createPlayers(final Deck deck) {
+		final LookupTableHandRankEvaluator lookupTableHandRankEvaluator = new LookupTableHandRankEvaluator();
+		final List<Player> players = new ArrayList<>(NAMES.length);
+		for (int index = 0; index < NAMES.length; index++) {
+			final Player player = Player.create(NAMES[index], HandOfCards.create(deck.remove(5),
+					new SequentialCardFinder(), new CardFaceValueGrouper()), lookupTableHandRankEvaluator);
+			player.setWinningStatus(WinningStatus.values()[index % WinningStatus.values().length]);
+			players.add(player);
+		}
+
+		return players;
+	}
+}
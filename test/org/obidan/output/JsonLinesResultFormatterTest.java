@@ -0,0 +1,197 @@
+package org.obidan.output;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.obidan.handrank.LookupTableHandRankEvaluator;
+import org.obidan.object.Deck;
+import org.obidan.object.HandOfCards;
+import org.obidan.object.Player;
+import org.obidan.random.Xoroshiro128PlusPlusRandomSource;
+import org.obidan.type.WinningStatus;
+import org.obidan.utility.CardFaceValueGrouper;
+import org.obidan.utility.SequentialCardFinder;
+
+/**
+ * Unit tests for the {@link JsonLinesResultFormatter} class.
+ *
+ * @author Obi-Dan
+ */
+class JsonLinesResultFormatterTest {
+
+	private static final String[] NAMES = { "Smith, John", "Say \"hi\"", "Back\\slash", "Line\r\nbreak",
+			"Tab\tand\u0001bell\u001F", "\uD83C\uDCA1 Ace", "Plain" };
+
+	private final JsonLinesResultFormatter jsonLinesResultFormatter = new JsonLinesResultFormatter();
+
+	/**
+	 * Tests that {@link JsonLinesResultFormatter#formatBytes(GameResult)} writes
+	 * each game as a single line which parses to one game with every seat, and
+	 * that every name is read back as it was.
+	 */
+	@Test
+	void test_formatBytes_OneGamePerLine() {
+		final Deck deck = Deck.createSingleDeck();
+		for (int numberOfPlayers = 1; numberOfPlayers <= NAMES.length; numberOfPlayers++) {
+			deck.reset(Xoroshiro128PlusPlusRandomSource.create(numberOfPlayers));
+			final List<Player> players = createPlayers(deck, numberOfPlayers);
+
+			final String line = new String(this.jsonLinesResultFormatter
+					.formatBytes(GameResult.create(100 + numberOfPlayers, numberOfPlayers, -9, players)),
+					StandardCharsets.UTF_8);
+
+			assertTrue(line.endsWith("\n"));
+			assertEquals(line.length() - 1, line.indexOf('\n'));
+			final Map<?, ?> game = (Map<?, ?>) new JsonParser(line.substring(0, line.length() - 1)).parse();
+			assertEquals(100L + numberOfPlayers, game.get("gameId"));
+			assertEquals((long) numberOfPlayers, game.get("table"));
+			assertEquals(-9L, game.get("seed"));
+
+			final List<?> seats = (List<?>) game.get("players");
+			assertEquals(numberOfPlayers, seats.size());
+			for (int index = 0; index < numberOfPlayers; index++) {
+				final Player player = players.get(index);
+				final Map<?, ?> seat = (Map<?, ?>) seats.get(index);
+				assertEquals(NAMES[index], seat.get("name"));
+				assertEquals(5, ((List<?>) seat.get("cards")).size());
+				assertEquals(player.getHandRank().name(), seat.get("handRank"));
+				assertEquals((long) player.getHandStrength(), seat.get("strength"));
+				assertEquals(player.getWinningStatus().name(), seat.get("winningStatus"));
+			}
+		}
+	}
+
+	/**
+	 * @param deck            The shuffled {@link Deck} the hands are dealt from.
+	 *                        This must never be null.
+	 * @param numberOfPlayers The number of players.
+	 * @return Non-null {@link List} of players, each with a different
+	 *         {@link WinningStatus}.
+	 */
+	private static List<Player> createPlayers(final Deck deck, final int numberOfPlayers) {
+		final LookupTableHandRankEvaluator lookupTableHandRankEvaluator = new LookupTableHandRankEvaluator();
+		final List<Player> players = new ArrayList<>(numberOfPlayers);
+		for (int index = 0; index < numberOfPlayers; index++) {
+			final Player player = Player.create(NAMES[index], HandOfCards.create(deck.remove(5),
+					new SequentialCardFinder(), new CardFaceValueGrouper()), lookupTableHandRankEvaluator);
+			player.setWinningStatus(WinningStatus.values()[index % WinningStatus.values().length]);
+			players.add(player);
+		}
+
+		return players;
+	}
+
+	/**
+	 * Parser of the JSON the formatter writes: objects, arrays, strings, and whole
+	 * numbers, without whitespace between tokens.
+	 */
+	private static final class JsonParser {
+
+		private final String text;
+		private int index;
+
+		/**
+		 * @param text The JSON text. This must never be null.
+		 */
+		private JsonParser(final String text) {
+			this.text = text;
+		}
+
+		/**
+		 * @return The value of the whole text: a {@link Map}, {@link List},
+		 *         {@link String}, or {@link Long}.
+		 */
+		private Object parse() {
+			final Object value = parseValue();
+			assertEquals(this.text.length(), this.index);
+
+			return value;
+		}
+
+		/**
+		 * @return The value at the current index.
+		 */
+		private Object parseValue() {
+			final char character = this.text.charAt(this.index);
+			if (character == '{') {
+				final Map<String, Object> object = new LinkedHashMap<>();
+				this.index++;
+				while (this.text.charAt(this.index) != '}') {
+					final String key = parseString();
+					expect(':');
+					object.put(key, parseValue());
+					if (this.text.charAt(this.index) == ',') {
+						this.index++;
+					}
+				}
+				this.index++;
+				return object;
+			}
+
+			if (character == '[') {
+				final List<Object> array = new ArrayList<>();
+				this.index++;
+				while (this.text.charAt(this.index) != ']') {
+					array.add(parseValue());
+					if (this.text.charAt(this.index) == ',') {
+						this.index++;
+					}
+				}
+				this.index++;
+				return array;
+			}
+
+			if (character == '"') {
+				return parseString();
+			}
+
+			final int start = this.index;
+			while (this.index < this.text.length()
+					&& (this.text.charAt(this.index) == '-' || Character.isDigit(this.text.charAt(this.index)))) {
+				this.index++;
+			}
+			return Long.valueOf(this.text.substring(start, this.index));
+		}
+
+		/**
+		 * @return The string at the current index, unescaped.
+		 */
+		private String parseString() {
+			expect('"');
+			final StringBuilder value = new StringBuilder();
+			char character;
+			while ((character = this.text.charAt(this.index++)) != '"') {
+				assertTrue(character >= 0x20, "unescaped control character");
+				if (character != '\\') {
+					value.append(character);
+					continue;
+				}
+
+				final char escaped = this.text.charAt(this.index++);
+				if (escaped == 'u') {
+					value.append((char) Integer.parseInt(this.text.substring(this.index, this.index + 4), 16));
+					this.index += 4;
+				} else {
+					assertTrue(escaped == '"' || escaped == '\\', "unknown escape " + escaped);
+					value.append(escaped);
+				}
+			}
+
+			return value.toString();
+		}
+
+		/**
+		 * @param expected The character expected at the current index.
+		 */
+		private void expect(final char expected) {
+			assertEquals(expected, this.text.charAt(this.index++));
+		}
+	}
+}
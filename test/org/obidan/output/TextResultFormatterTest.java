@@ -0,0 +1,88 @@
+package org.obidan.output;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.obidan.handrank.LookupTableHandRankEvaluator;
+import org.obidan.object.Deck;
+import org.obidan.object.HandOfCards;
+import org.obidan.object.Player;
+import org.obidan.random.Xoroshiro128PlusPlusRandomSource;
+import org.obidan.type.WinningStatus;
+import org.obidan.utility.CardFaceValueGrouper;
+import org.obidan.utility.SequentialCardFinder;
+
+/**
+ * Unit tests for the {@link TextResultFormatter} class.
+ *
+ * @author Obi-Dan
+ */
+class TextResultFormatterTest {
+
+	private static final String[] NAMES = { "Alice", "\u00C9mile", "\u674E\u96F7", "\uD83C\uDCA1 Ace" };
+
+	private final TextResultFormatter textResultFormatter = new TextResultFormatter();
+	private final LookupTableHandRankEvaluator lookupTableHandRankEvaluator = new LookupTableHandRankEvaluator();
+
+	/**
+	 * Tests that {@link TextResultFormatter#formatBytes(GameResult)} renders the
+	 * same bytes as encoding {@link TextResultFormatter#format(GameResult)} as
+	 * UTF-8, for games at and away from tables, including seeds of every sign.
+	 */
+	@Test
+	void test_formatBytes_SameAsFormat() {
+		final Deck deck = Deck.createSingleDeck();
+		final long[] seeds = { 0, 7, -42, Long.MAX_VALUE, Long.MIN_VALUE };
+		for (int game = 0; game < 500; game++) {
+			deck.reset(Xoroshiro128PlusPlusRandomSource.create(game));
+			final List<Player> players = createPlayers(deck, 1 + game % NAMES.length);
+			final GameResult gameResult = GameResult.create(game, game % 3, seeds[game % seeds.length], players);
+
+			assertArrayEquals(this.textResultFormatter.format(gameResult).getBytes(StandardCharsets.UTF_8),
+					this.textResultFormatter.formatBytes(gameResult));
+		}
+	}
+
+	/**
+	 * Tests that {@link PlayerRenderer#render(ByteBuffer, Player)} leaves the
+	 * position of a buffer too small for the line unchanged.
+	 */
+	@Test
+	void test_render_BufferTooSmall() {
+		final Deck deck = Deck.createSingleDeck();
+		deck.reset(Xoroshiro128PlusPlusRandomSource.create(3));
+		final Player player = createPlayers(deck, 1).get(0);
+		final ByteBuffer buffer = ByteBuffer.allocate(24);
+		buffer.position(2);
+
+		assertFalse(new PlayerRenderer().render(buffer, player));
+		assertEquals(2, buffer.position());
+	}
+
+	/**
+	 * @param deck            The shuffled {@link Deck} the hands are dealt from.
+	 *                        This must never be null.
+	 * @param numberOfPlayers The number of players.
+	 * @return Non-null {@link List} of players, each with a different
+	 *         {@link WinningStatus}.
+	 */
+	private List<Player> createPlayers(final Deck deck, final int numberOfPlayers) {
+
+		final List<Player> players = new ArrayList<>(numberOfPlayers);
+		for (int index = 0; index < numberOfPlayers; index++) {
+			final Player player = Player.create(NAMES[index], HandOfCards.create(deck.remove(5),
+					new SequentialCardFinder(), new CardFaceValueGrouper()), this.lookupTableHandRankEvaluator);
+			player.setWinningStatus(WinningStatus.values()[index % WinningStatus.values().length]);
+			players.add(player);
+		}
+
+		return players;
+	}
+}
@@ -0,0 +1,50 @@
+package org.obidan.random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link Xoroshiro128PlusPlusRandomSource} class.
+ *
+ * @author Obi-Dan
+ */
+class Xoroshiro128PlusPlusRandomSourceTest {
+
+	/**
+	 * Tests that two sources created with the same seed produce the same numbers
+	 * and that a source created with a different seed does not.
+	 */
+	@Test
+	void test_nextLong_SameSeed() {
+		final RandomSource randomSource = Xoroshiro128PlusPlusRandomSource.create(42);
+		final RandomSource sameSeedRandomSource = Xoroshiro128PlusPlusRandomSource.create(42);
+		final RandomSource otherSeedRandomSource = Xoroshiro128PlusPlusRandomSource.create(43);
+
+		for (int index = 0; index < 1000; index++) {
+			final long value = randomSource.nextLong();
+			assertEquals(value, sameSeedRandomSource.nextLong());
+			assertNotEquals(value, otherSeedRandomSource.nextLong());
+		}
+	}
+
+	/**
+	 * Tests that {@link Xoroshiro128PlusPlusRandomSource#nextInt(int)} only
+	 * returns values below the bound and returns each of them about equally often.
+	 */
+	@Test
+	void test_nextInt_Uniform() {
+		final RandomSource randomSource = Xoroshiro128PlusPlusRandomSource.create(7);
+		final int[] counts = new int[52];
+
+		for (int index = 0; index < 520_000; index++) {
+			counts[randomSource.nextInt(counts.length)]++;
+		}
+
+		for (final int count : counts) {
+			assertTrue(Math.abs(count - 10_000) < 500, "count=" + count);
+		}
+	}
+}
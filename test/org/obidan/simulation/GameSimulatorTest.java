@@ -0,0 +1,53 @@
+package org.obidan.simulation;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+import org.obidan.handrank.LookupTableHandRankEvaluator;
+import org.obidan.object.ThreadLocalDeckProvider;
+import org.obidan.random.Xoroshiro128PlusPlusRandomSource;
+import org.obidan.type.HandRank;
+
+/**
+ * Unit tests for the {@link GameSimulator} class.
+ *
+ * @author Obi-Dan
+ */
+class GameSimulatorTest {
+
+	private final GameSimulator gameSimulator = new GameSimulator(new LookupTableHandRankEvaluator(),
+			Xoroshiro128PlusPlusRandomSource::create, new ThreadLocalDeckProvider(), ForkJoinPool.commonPool());
+
+	/**
+	 * Tests that {@link GameSimulator#simulate(List, int, long, long)} deals every
+	 * hand of every game, that every game has a winner, and that the same seed
+	 * gives the same result.
+	 */
+	@Test
+	void test_simulate_SameSeed() {
+		final List<String> playerNames = asList("Alice", "Bob", "Carol");
+
+		final SimulationResult simulationResult = this.gameSimulator.simulate(playerNames, 5, 50_000, 11);
+		final SimulationResult sameSeedSimulationResult = this.gameSimulator.simulate(playerNames, 5, 50_000, 11);
+
+		long numberOfHands = 0;
+		for (final HandRank handRank : HandRank.values()) {
+			numberOfHands += simulationResult.getHandCount(handRank);
+			assertEquals(sameSeedSimulationResult.getHandCount(handRank), simulationResult.getHandCount(handRank));
+		}
+		assertEquals(150_000, numberOfHands);
+
+		long numberOfWins = 0;
+		for (int playerIndex = 0; playerIndex < playerNames.size(); playerIndex++) {
+			numberOfWins += simulationResult.getWinCount(playerIndex);
+			assertEquals(sameSeedSimulationResult.getWinCount(playerIndex), simulationResult.getWinCount(playerIndex));
+			assertEquals(sameSeedSimulationResult.getTieCount(playerIndex), simulationResult.getTieCount(playerIndex));
+		}
+		assertTrue(numberOfWins <= 50_000 && numberOfWins > 49_000);
+	}
+}
@@ -0,0 +1,75 @@
+package org.obidan.table;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link TableRunner} class.
+ *
+ * @author Obi-Dan
+ */
+class TableRunnerTest {
+
+	/**
+	 * Tests that {@link TableRunner#run(java.util.Iterator, int, long, TableGame, java.util.function.Consumer)}
+	 * passes the results of tables which finish in random order to the consumer
+	 * in table order, numbers the tables from one with the seed plus the table
+	 * number minus one, seats the last partial table, and never has more tables
+	 * seated but not yet consumed than it allows.
+	 */
+	@Test
+	void test_run_TableOrder() {
+		final int maximumTablesInFlight = 3;
+		final List<String> playerNames = new ArrayList<>();
+		for (int playerIndex = 0; playerIndex < 53; playerIndex++) {
+			playerNames.add("Player " + playerIndex);
+		}
+
+		final AtomicInteger tablesInFlight = new AtomicInteger();
+		final AtomicInteger maximumObservedTablesInFlight = new AtomicInteger();
+		final TableGame tableGame = (tableNumber, tablePlayerNames, seed) -> {
+			maximumObservedTablesInFlight.accumulateAndGet(tablesInFlight.incrementAndGet(), Math::max);
+			try {
+				Thread.sleep(ThreadLocalRandom.current().nextInt(5));
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return String.join(",", tablePlayerNames).getBytes(StandardCharsets.UTF_8);
+		};
+
+		final List<TableResult> tableResults = new ArrayList<>();
+		final ExecutorService executorService = Executors.newFixedThreadPool(4);
+		final long numberOfTables;
+		try {
+			numberOfTables = new TableRunner(executorService, maximumTablesInFlight).run(playerNames.iterator(), 5,
+					100, tableGame, tableResult -> {
+						tablesInFlight.decrementAndGet();
+						tableResults.add(tableResult);
+					});
+		} finally {
+			executorService.shutdown();
+		}
+
+		assertEquals(11, numberOfTables);
+		assertEquals(11, tableResults.size());
+		for (int tableIndex = 0; tableIndex < tableResults.size(); tableIndex++) {
+			final TableResult tableResult = tableResults.get(tableIndex);
+			assertEquals(tableIndex + 1, tableResult.getTableNumber());
+			assertEquals(100 + tableIndex, tableResult.getSeed());
+			assertEquals(String.join(",", playerNames.subList(tableIndex * 5, Math.min(tableIndex * 5 + 5, 53))),
+					new String(tableResult.getOutput(), StandardCharsets.UTF_8));
+		}
+		assertTrue(maximumObservedTablesInFlight.get() <= maximumTablesInFlight,
+				"tables in flight: " + maximumObservedTablesInFlight.get());
+	}
+}
@@ -82,4 +82,46 @@ class ArgumentExtractorTest {
 		assertEquals("FirstArgument",
 				this.argumentExtractor.getFirstArgument(new String[] { "FirstArgument", "SecondArgument" }));
 	}
+
+	/**
+	 * Tests that when {@link ArgumentExtractor#getFirstOperand(String[])} is
+	 * called with an argument array beginning with an option that the first
+	 * argument which is not an option is returned.
+	 */
+	@Test
+	void test_getFirstOperand_OptionBeforeOperand() {
+		assertEquals("Input1.txt",
+				this.argumentExtractor.getFirstOperand(new String[] { "--seed=42", "Input1.txt" }));
+	}
+
+	/**
+	 * Tests that when {@link ArgumentExtractor#getOption(String[], String)} is
+	 * called for an option given with a value that the value is returned.
+	 */
+	@Test
+	void test_getOption_OptionWithValue() {
+		assertEquals("7", this.argumentExtractor.getOption(new String[] { "Input1.txt", "--enumerate=7" },
+				"enumerate"));
+	}
+
+	/**
+	 * Tests that when {@link ArgumentExtractor#getOption(String[], String)} is
+	 * called for an option given without a value that an empty string is
+	 * returned.
+	 */
+	@Test
+	void test_getOption_OptionWithoutValue() {
+		assertEquals("", this.argumentExtractor.getOption(new String[] { "--enumerate" }, "enumerate"));
+	}
+
+	/**
+	 * Tests that when {@link ArgumentExtractor#getOption(String[], String)} is
+	 * called for an option which is not given, including one which is only the
+	 * beginning of another option's name, that a null string is returned.
+	 */
+	@Test
+	void test_getOption_OptionNotGiven() {
+		assertEquals(null,
+				this.argumentExtractor.getOption(new String[] { "Input1.txt", "--enumerated=5" }, "enumerate"));
+	}
 }
\ No newline at end of file
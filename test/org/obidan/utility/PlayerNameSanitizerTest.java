@@ -0,0 +1,69 @@
+package org.obidan.utility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link PlayerNameSanitizer} class.
+ *
+ * @author Obi-Dan
+ */
+class PlayerNameSanitizerTest {
+
+	private static final String CHARACTERS_NOT_PERMITTED = "(?U)[^\\p{L}\\p{N}\\s.,-]+";
+	private static final String DUPLICATE_WHITESPACE = "(?U)(\\s)\\s+";
+	private static final char[] SAMPLE_CHARACTERS = { 'a', 'Z', '7', '.', ',', '-', '_', '!', ' ', '\t', '\u000B',
+			'\u001C', '\u0085', '\u00A0', '\u2028', '\u3000', '\u00E9', '\u0661', '\u00BD', '\u2167', '\u02B0',
+			'\u0301', '\uD835', '\uDC00', '\u0000' };
+
+	private final PlayerNameSanitizer playerNameSanitizer = new PlayerNameSanitizer();
+
+	/**
+	 * Tests that {@link PlayerNameSanitizer#sanitize(CharSequence)} removes the
+	 * characters not permitted, collapses whitespace, and trims.
+	 */
+	@Test
+	void test_sanitize_RemovesAndCollapses() {
+
+		assertEquals("Jean-Luc Picard, Jr.", this.playerNameSanitizer.sanitize("  Jean-Luc!! \t Picard,  Jr.  "));
+	}
+
+	/**
+	 * Tests that {@link PlayerNameSanitizer#sanitize(CharSequence)} limits a name
+	 * to fifty characters and trims the end of the limited name.
+	 */
+	@Test
+	void test_sanitize_LongName() {
+
+		final String name = this.playerNameSanitizer
+				.sanitize(" 0123456789012345678901234567890123456789012345678  9");
+
+		assertEquals("0123456789012345678901234567890123456789012345678", name);
+	}
+
+	/**
+	 * Tests that {@link PlayerNameSanitizer#sanitize(CharSequence)} gives the same
+	 * names as the regular expressions it replaces for random lines of letters,
+	 * numbers, punctuation, whitespace, control characters, and surrogates.
+	 */
+	@Test
+	void test_sanitize_MatchesRegularExpressions() {
+
+		final SplittableRandom random = new SplittableRandom(17);
+		for (int lineIndex = 0; lineIndex < 100_000; lineIndex++) {
+			final StringBuilder line = new StringBuilder();
+			for (int length = random.nextInt(80); length > 0; length--) {
+				line.append(SAMPLE_CHARACTERS[random.nextInt(SAMPLE_CHARACTERS.length)]);
+			}
+
+			final String expectedName = line.toString().replaceAll(CHARACTERS_NOT_PERMITTED, "")
+					.replaceAll(DUPLICATE_WHITESPACE, "$1").trim();
+			assertEquals(expectedName.length() <= PlayerNameSanitizer.MAXIMUM_NAME_LENGTH ? expectedName
+					: expectedName.substring(0, PlayerNameSanitizer.MAXIMUM_NAME_LENGTH).trim(),
+					this.playerNameSanitizer.sanitize(line), line.toString());
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package org.obidan.utility;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.obidan.object.Card.create;
+import static org.obidan.type.FaceValue.ACE;
+import static org.obidan.type.FaceValue.FIVE;
+import static org.obidan.type.FaceValue.FOUR;
+import static org.obidan.type.FaceValue.KING;
+import static org.obidan.type.FaceValue.THREE;
+import static org.obidan.type.FaceValue.TWO;
+import static org.obidan.type.Suit.CLUBS;
+import static org.obidan.type.Suit.DIAMONDS;
+import static org.obidan.type.Suit.HEARTS;
+import static org.obidan.type.Suit.SPADES;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.obidan.object.Card;
+
+/**
+ * Unit tests for the {@link RankHistogram} class.
+ * 
+ * @author Obi-Dan
+ */
+class RankHistogramTest {
+
+	/**
+	 * Tests that {@link RankHistogram#create(List)} orders the groups of a full
+	 * house with the three of a kind first.
+	 */
+	@Test
+	void test_create_FullHouse() {
+		final List<Card> cards = asList(create(CLUBS, TWO), create(DIAMONDS, FIVE), create(HEARTS, TWO),
+				create(SPADES, FIVE), create(CLUBS, FIVE));
+
+		final RankHistogram rankHistogram = RankHistogram.create(cards);
+
+		assertEquals(2, rankHistogram.getGroupCount());
+		assertEquals(FIVE.ordinal(), rankHistogram.getGroupRankIndex(0));
+		assertEquals(3, rankHistogram.getGroupSize(0));
+		assertEquals(TWO.ordinal(), rankHistogram.getGroupRankIndex(1));
+		assertEquals(2, rankHistogram.getGroupSize(1));
+		assertEquals(-1, rankHistogram.getHighestStraightRankIndex());
+	}
+
+	/**
+	 * Tests that {@link RankHistogram#create(List)} orders groups of the same
+	 * size from the highest rank to the lowest.
+	 */
+	@Test
+	void test_create_TwoPair() {
+		final List<Card> cards = asList(create(CLUBS, TWO), create(DIAMONDS, ACE), create(HEARTS, TWO),
+				create(SPADES, KING), create(CLUBS, ACE));
+
+		final RankHistogram rankHistogram = RankHistogram.create(cards);
+
+		assertEquals(3, rankHistogram.getGroupCount());
+		assertEquals(ACE.ordinal(), rankHistogram.getGroupRankIndex(0));
+		assertEquals(TWO.ordinal(), rankHistogram.getGroupRankIndex(1));
+		assertEquals(KING.ordinal(), rankHistogram.getGroupRankIndex(2));
+	}
+
+	/**
+	 * Tests that {@link RankHistogram#getHighestStraightRankIndex()} supports an
+	 * ace as low with a five-high straight.
+	 */
+	@Test
+	void test_getHighestStraightRankIndex_FiveHighStraight_AceLow() {
+		final List<Card> cards = asList(create(CLUBS, TWO), create(DIAMONDS, FOUR), create(HEARTS, ACE),
+				create(SPADES, FIVE), create(CLUBS, THREE));
+
+		final RankHistogram rankHistogram = RankHistogram.create(cards);
+
+		assertEquals(FIVE.ordinal(), rankHistogram.getHighestStraightRankIndex());
+		assertTrue(rankHistogram.isFiveHighStraight());
+	}
+}
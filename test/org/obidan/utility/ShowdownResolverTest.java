@@ -0,0 +1,95 @@
+package org.obidan.utility;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.obidan.object.Card.create;
+import static org.obidan.type.FaceValue.ACE;
+import static org.obidan.type.FaceValue.EIGHT;
+import static org.obidan.type.FaceValue.FIVE;
+import static org.obidan.type.FaceValue.FOUR;
+import static org.obidan.type.FaceValue.KING;
+import static org.obidan.type.FaceValue.NINE;
+import static org.obidan.type.FaceValue.SEVEN;
+import static org.obidan.type.FaceValue.SIX;
+import static org.obidan.type.FaceValue.THREE;
+import static org.obidan.type.FaceValue.TWO;
+import static org.obidan.type.Suit.CLUBS;
+import static org.obidan.type.Suit.DIAMONDS;
+import static org.obidan.type.Suit.HEARTS;
+import static org.obidan.type.Suit.SPADES;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.obidan.handrank.LookupTableHandRankEvaluator;
+import org.obidan.object.Card;
+import org.obidan.object.HandOfCards;
+import org.obidan.object.Player;
+import org.obidan.type.WinningStatus;
+
+/**
+ * Unit tests for the {@link ShowdownResolver} class.
+ * 
+ * @author Obi-Dan
+ */
+class ShowdownResolverTest {
+
+	private final ShowdownResolver showdownResolver = new ShowdownResolver(new PlayerComparator());
+	private final LookupTableHandRankEvaluator lookupTableHandRankEvaluator = new LookupTableHandRankEvaluator();
+
+	/**
+	 * Tests that {@link ShowdownResolver#resolve(List)} gives a sole best hand
+	 * {@link WinningStatus#WON} and everyone else {@link WinningStatus#LOSER}.
+	 */
+	@Test
+	void test_resolve_SoleWinner() {
+		final Player pair = createPlayer("Alice", create(CLUBS, TWO), create(DIAMONDS, TWO), create(HEARTS, NINE),
+				create(SPADES, SEVEN), create(CLUBS, FOUR));
+		final Player straight = createPlayer("Bob", create(CLUBS, FIVE), create(DIAMONDS, SIX), create(HEARTS, SEVEN),
+				create(SPADES, EIGHT), create(CLUBS, NINE));
+		final Player highCard = createPlayer("Carol", create(HEARTS, ACE), create(DIAMONDS, KING),
+				create(HEARTS, THREE), create(SPADES, FIVE), create(DIAMONDS, EIGHT));
+
+		assertEquals(1, this.showdownResolver.resolve(asList(pair, straight, highCard)));
+		assertEquals(WinningStatus.LOSER, pair.getWinningStatus());
+		assertEquals(WinningStatus.WON, straight.getWinningStatus());
+		assertEquals(WinningStatus.LOSER, highCard.getWinningStatus());
+	}
+
+	/**
+	 * Tests that {@link ShowdownResolver#rank(List)} gives equal best hands
+	 * {@link WinningStatus#TIED} and groups equal hands, best first and in seat
+	 * order within a group.
+	 */
+	@Test
+	void test_rank_TieGroups() {
+		final Player highCard = createPlayer("Alice", create(HEARTS, ACE), create(DIAMONDS, KING),
+				create(HEARTS, THREE), create(SPADES, FIVE), create(DIAMONDS, EIGHT));
+		final Player straight = createPlayer("Bob", create(CLUBS, FIVE), create(DIAMONDS, SIX), create(HEARTS, SEVEN),
+				create(SPADES, EIGHT), create(CLUBS, NINE));
+		final Player sameHighCard = createPlayer("Carol", create(SPADES, ACE), create(CLUBS, KING),
+				create(DIAMONDS, THREE), create(HEARTS, FIVE), create(CLUBS, EIGHT));
+		final Player sameStraight = createPlayer("Dave", create(HEARTS, FIVE), create(SPADES, SIX),
+				create(DIAMONDS, SEVEN), create(HEARTS, EIGHT), create(SPADES, NINE));
+
+		final List<List<Player>> tieGroups = this.showdownResolver
+				.rank(asList(highCard, straight, sameHighCard, sameStraight));
+
+		assertEquals(asList(asList(straight, sameStraight), asList(highCard, sameHighCard)), tieGroups);
+		assertEquals(WinningStatus.TIED, straight.getWinningStatus());
+		assertEquals(WinningStatus.TIED, sameStraight.getWinningStatus());
+		assertEquals(WinningStatus.LOSER, highCard.getWinningStatus());
+		assertEquals(WinningStatus.LOSER, sameHighCard.getWinningStatus());
+	}
+
+	/**
+	 * @param name  The player name. This must never be blank.
+	 * @param cards The player's five {@link Card}s. This must never be null.
+	 * @return Non-null {@link Player}.
+	 */
+	private Player createPlayer(final String name, final Card... cards) {
+
+		return Player.create(name, HandOfCards.create(asList(cards), new SequentialCardFinder(),
+				new CardFaceValueGrouper()), this.lookupTableHandRankEvaluator);
+	}
+}